@@ -30,8 +30,14 @@ import androidx.compose.material3.Text
 import androidx.compose.runtime.Composable
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
+import androidx.compose.ui.platform.testTag
+import androidx.compose.ui.semantics.semantics
+import androidx.compose.ui.semantics.testTagsAsResourceId
 import androidx.compose.ui.unit.dp
 
+/** The test tag of the scrolling list in [LandmarkList]. */
+const val LANDMARK_LIST_TAG = "landmark_list"
+
 /**
  * A composable that displays a list of landmarks.
  *
@@ -45,13 +51,18 @@ fun LandmarkList(
     onLandmarkClick: (Landmark) -> Unit,
     modifier: Modifier = Modifier
 ) {
-    Column(modifier = modifier) {
+    // Exposes the test tags as resource IDs, so :macrobenchmark can find the list.
+    Column(modifier = modifier.semantics { testTagsAsResourceId = true }) {
         Text(
             text = "Locations",
             style = MaterialTheme.typography.headlineSmall,
             modifier = Modifier.padding(16.dp)
         )
-        LazyColumn(modifier = Modifier.weight(1f)) {
+        LazyColumn(
+            modifier = Modifier
+                .weight(1f)
+                .testTag(LANDMARK_LIST_TAG)
+        ) {
             items(landmarks) { landmark ->
                 LandmarkItem(
                     landmark = landmark,
@@ -0,0 +1,73 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo
+
+import android.os.Bundle
+import android.widget.CheckBox
+import android.widget.TextView
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.platform.app.InstrumentationRegistry
+import com.google.android.libraries.places.api.model.Place.Field
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Microbenchmark of [FieldSelector.getSelectedFields], which the demo screens call to build every
+ * request.
+ */
+@RunWith(AndroidJUnit4::class)
+class FieldSelectorBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Test
+    fun getSelectedFields() {
+        val fieldSelector = fieldSelector(
+            Field.ID, Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS, Field.LOCATION,
+            Field.PHOTO_METADATAS, Field.BUSINESS_STATUS, Field.OPENING_HOURS
+        )
+        benchmarkRule.measureRepeated { fieldSelector.getSelectedFields() }
+    }
+
+    @Test
+    fun getSelectedFields_all() {
+        val fieldSelector = fieldSelector(*Field.values())
+        benchmarkRule.measureRepeated { fieldSelector.getSelectedFields() }
+    }
+
+    /** Returns a selector with [selected] chosen, as restored from saved state. */
+    private fun fieldSelector(vararg selected: Field): FieldSelector {
+        val savedState = Bundle().apply {
+            putLongArray(SELECTED_PLACE_FIELDS_KEY, FieldMask.of(*selected).toLongArray())
+        }
+        lateinit var fieldSelector: FieldSelector
+        val instrumentation = InstrumentationRegistry.getInstrumentation()
+        instrumentation.runOnMainSync {
+            val context = instrumentation.targetContext
+            fieldSelector = FieldSelector(CheckBox(context), TextView(context), savedState)
+        }
+        return fieldSelector
+    }
+
+    private companion object {
+        // The key FieldSelector.onSaveInstanceState saves the selection under.
+        const val SELECTED_PLACE_FIELDS_KEY = "selected_place_fields"
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo
+
+import android.graphics.Bitmap
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.maps.model.LatLng
+import com.google.android.libraries.places.api.model.AutocompletePrediction
+import com.google.android.libraries.places.api.model.Place
+import com.google.android.libraries.places.api.model.PlaceLikelihood
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse
+import com.google.android.libraries.places.api.net.FindCurrentPlaceResponse
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Microbenchmarks of the [StringUtil] helpers the demo screens call for every response and every
+ * edit of their location and country fields.
+ *
+ * Run with `./gradlew :benchmark:connectedBenchmarkAndroidTest`. The time and allocations per
+ * call of each benchmark are written to a JSON report under
+ * `benchmark/build/outputs/connected_android_test_additional_output`.
+ */
+@RunWith(AndroidJUnit4::class)
+class StringUtilBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Test
+    fun stringifyAutocompleteResponse() {
+        benchmarkRule.measureRepeated { StringUtil.stringify(PREDICTIONS, false) }
+    }
+
+    @Test
+    fun stringifyAutocompleteResponse_raw() {
+        benchmarkRule.measureRepeated { StringUtil.stringify(PREDICTIONS, true) }
+    }
+
+    @Test
+    fun stringifyCurrentPlaceResponse() {
+        val site = FieldUsageTracker(false).site("StringUtilBenchmark")
+        benchmarkRule.measureRepeated {
+            StringUtil.stringify(CURRENT_PLACES, site, StringUtil.STRINGIFY_FIELDS, false)
+        }
+    }
+
+    @Test
+    fun stringifyPlace() {
+        benchmarkRule.measureRepeated { StringUtil.stringify(PLACE) }
+    }
+
+    @Test
+    fun stringifyBitmap() {
+        val bitmap = Bitmap.createBitmap(400, 300, Bitmap.Config.ARGB_8888)
+        benchmarkRule.measureRepeated { StringUtil.stringify(bitmap) }
+    }
+
+    @Test
+    fun convertToLatLng() {
+        benchmarkRule.measureRepeated { StringUtil.convertToLatLng(SOUTH_WEST) }
+    }
+
+    @Test
+    fun convertToLatLngBounds() {
+        benchmarkRule.measureRepeated { StringUtil.convertToLatLngBounds(SOUTH_WEST, NORTH_EAST) }
+    }
+
+    @Test
+    fun countriesStringToArrayList() {
+        benchmarkRule.measureRepeated { StringUtil.countriesStringToArrayList(COUNTRIES) }
+    }
+
+    private companion object {
+        const val SOUTH_WEST = "40.0150,-105.2705"
+        const val NORTH_EAST = "40.0274,-105.2519"
+        const val COUNTRIES = "US, CA; MX|GB/AU"
+
+        val PLACE: Place = Place.builder()
+            .setId("ChIJ3S-JXmauEmsRUcIaWtf4MzE")
+            .setDisplayName("Pearl Street Mall")
+            .setFormattedAddress("1303 Pearl St, Boulder, CO 80302, USA")
+            .setLocation(LatLng(40.0181, -105.2783))
+            .build()
+
+        val PREDICTIONS: FindAutocompletePredictionsResponse =
+            FindAutocompletePredictionsResponse.newInstance(List(5) { i ->
+                AutocompletePrediction.builder("place$i")
+                    .setPrimaryText("Pearl Street $i")
+                    .setSecondaryText("Boulder, CO, USA")
+                    .setFullText("Pearl Street $i, Boulder, CO, USA")
+                    .build()
+            })
+
+        val CURRENT_PLACES: FindCurrentPlaceResponse =
+            FindCurrentPlaceResponse.newInstance(List(5) { i ->
+                PlaceLikelihood.newInstance(PLACE, 1.0 / (i + 2))
+            })
+    }
+}
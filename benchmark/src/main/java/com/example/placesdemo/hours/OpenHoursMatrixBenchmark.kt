@@ -0,0 +1,85 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.hours
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.Random
+import java.util.concurrent.TimeUnit
+
+/**
+ * Microbenchmark of [OpenHoursMatrix] for the product case: 500 places, hourly for the next 7
+ * days. Rows are filled by a parallel stream, so the time per matrix reflects every core of the
+ * device, not a single one.
+ */
+@RunWith(AndroidJUnit4::class)
+class OpenHoursMatrixBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Test
+    fun computeFromTables_500PlacesHourlyForAWeek() {
+        val tables = randomTables(500, Random(7))
+        benchmarkRule.measureRepeated {
+            OpenHoursMatrix.computeFromTables(tables, SUNDAY_UTC_MILLIS, HOUR_MILLIS, 7 * 24)
+        }
+    }
+
+    /**
+     * Creates tables shaped like real places: one to three periods a day, some overnight, some
+     * closed days, and an occasional holiday or unknown special day.
+     */
+    private fun randomTables(count: Int, random: Random): List<OpeningHoursTable> =
+        List(count) {
+            val builder = OpeningHoursTable.Builder()
+                .setUtcOffsetMinutes((random.nextInt(25) - 12) * 60)
+            for (day in 0 until 7) {
+                if (random.nextInt(7) == 0) {
+                    continue
+                }
+                var open = day * DAY + 6 * 60 + random.nextInt(4 * 60)
+                repeat(1 + random.nextInt(3)) {
+                    val close = open + 60 + random.nextInt(8 * 60)
+                    builder.addWeeklyPeriod(open, close % WEEK)
+                    open = close + 30
+                }
+            }
+            if (random.nextInt(5) == 0) {
+                val holiday = FIRST_EPOCH_DAY + random.nextInt(7)
+                builder.addExceptionDay(holiday)
+                    .addExceptionPeriod(holiday * DAY + 10 * 60, holiday * DAY + 14 * 60)
+            }
+            if (random.nextInt(10) == 0) {
+                builder.addUnknownDay(FIRST_EPOCH_DAY + random.nextInt(7))
+            }
+            builder.build()
+        }
+
+    private companion object {
+        const val DAY = 24 * 60
+        const val WEEK = 7 * DAY
+
+        /** 2026-03-01, a Sunday. */
+        const val FIRST_EPOCH_DAY = 20513L
+        const val SUNDAY_UTC_MILLIS = FIRST_EPOCH_DAY * DAY * 60_000L
+        val HOUR_MILLIS = TimeUnit.HOURS.toMillis(1)
+    }
+}
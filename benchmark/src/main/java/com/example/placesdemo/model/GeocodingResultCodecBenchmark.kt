@@ -0,0 +1,127 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.model
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.maps.model.LatLng
+import com.google.gson.Gson
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.ObjectInputStream
+import java.io.ObjectOutputStream
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+/**
+ * Microbenchmarks of persisting a [GeocodingResult] with [GeocodingResultCodec], Java
+ * serialization and reflective Gson.
+ *
+ * [LatLng] is not `Serializable`, so `ObjectOutputStream` cannot write a result that has a
+ * geometry at all. It is measured on the same result without one, which flatters it.
+ */
+@RunWith(AndroidJUnit4::class)
+class GeocodingResultCodecBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val result = sydneyOperaHouse()
+    private val withoutGeometry = sydneyOperaHouse().apply { geometry = null }
+    private val gson = Gson()
+
+    @Test
+    fun codecEncode() {
+        val buffer = ByteBuffer.allocate(GeocodingResultCodec.sizeOf(result))
+        benchmarkRule.measureRepeated {
+            buffer.clear()
+            GeocodingResultCodec.write(result, buffer)
+        }
+    }
+
+    @Test
+    fun codecDecode() {
+        val buffer = ByteBuffer.wrap(GeocodingResultCodec.encode(result))
+        benchmarkRule.measureRepeated {
+            buffer.rewind()
+            GeocodingResultCodec.read(buffer)
+        }
+    }
+
+    @Test
+    fun serializableEncode() {
+        benchmarkRule.measureRepeated { serialize(withoutGeometry) }
+    }
+
+    @Test
+    fun serializableDecode() {
+        val serialized = serialize(withoutGeometry)
+        benchmarkRule.measureRepeated {
+            ObjectInputStream(ByteArrayInputStream(serialized)).use { it.readObject() }
+        }
+    }
+
+    @Test
+    fun gsonEncode() {
+        benchmarkRule.measureRepeated { gson.toJson(result).toByteArray(StandardCharsets.UTF_8) }
+    }
+
+    @Test
+    fun gsonDecode() {
+        val json = gson.toJson(result).toByteArray(StandardCharsets.UTF_8)
+        benchmarkRule.measureRepeated {
+            gson.fromJson(String(json, StandardCharsets.UTF_8), GeocodingResult::class.java)
+        }
+    }
+
+    private fun serialize(result: GeocodingResult): ByteArray {
+        val bytes = ByteArrayOutputStream()
+        ObjectOutputStream(bytes).use { it.writeObject(result) }
+        return bytes.toByteArray()
+    }
+
+    private fun sydneyOperaHouse() = GeocodingResult().apply {
+        placeId = "ChIJ3S-JXmauEmsRUcIaWtf4MzE"
+        formattedAddress = "Bennelong Point, Sydney NSW 2000, Australia"
+        postcodeLocalities = arrayOf("Sydney", "The Rocks")
+        types = arrayOf(
+            AddressType.ESTABLISHMENT,
+            AddressType.POINT_OF_INTEREST,
+            AddressType.TOURIST_ATTRACTION,
+        )
+        partialMatch = true
+        geometry = Geometry().apply {
+            location = LatLng(-33.8567844, 151.2152967)
+            locationType = LocationType.ROOFTOP
+            viewport = Bounds().apply {
+                northeast = LatLng(-33.8554354, 151.2166456)
+                southwest = LatLng(-33.8581334, 151.2139477)
+            }
+            bounds = Bounds().apply {
+                northeast = LatLng(-33.8559, 151.2161)
+                southwest = LatLng(-33.8575, 151.2144)
+            }
+        }
+        plusCode = PlusCode().apply {
+            globalCode = "4RRH46R7+83"
+            compoundCode = "46R7+83 Sydney NSW, Australia"
+        }
+    }
+}
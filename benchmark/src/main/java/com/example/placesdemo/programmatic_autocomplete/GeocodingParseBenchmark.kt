@@ -0,0 +1,98 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.programmatic_autocomplete
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.example.placesdemo.model.GeocodingResult
+import com.google.android.gms.maps.model.LatLng
+import com.google.gson.FieldNamingPolicy
+import com.google.gson.GsonBuilder
+import com.google.gson.stream.JsonReader
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.io.StringReader
+import java.nio.charset.StandardCharsets
+
+/**
+ * Microbenchmarks of reading Geocoding API responses: a [LatLngAdapter] on its own, a result
+ * through Gson by reflection and through [GeocodingResultAdapter], and a whole response as
+ * [GeocodingRequest] parses it.
+ */
+@RunWith(AndroidJUnit4::class)
+class GeocodingParseBenchmark {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    @Test
+    fun latLngAdapterRead() {
+        val adapter = LatLngAdapter()
+        benchmarkRule.measureRepeated {
+            adapter.read(JsonReader(StringReader(LOCATION)))
+        }
+    }
+
+    @Test
+    fun gsonReflective() {
+        val gson = GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(LatLng::class.java, LatLngAdapter())
+            .create()
+        benchmarkRule.measureRepeated { gson.fromJson(RESULT, GeocodingResult::class.java) }
+    }
+
+    @Test
+    fun gsonWithGeocodingResultAdapter() {
+        val gson = GeocodingResultAdapter.registerTo(GsonBuilder()).create()
+        benchmarkRule.measureRepeated { gson.fromJson(RESULT, GeocodingResult::class.java) }
+    }
+
+    @Test
+    fun geocodingRequestParse() {
+        val response = RESPONSE.toByteArray(StandardCharsets.UTF_8)
+        benchmarkRule.measureRepeated { GeocodingRequest.parse(response, StandardCharsets.UTF_8) }
+    }
+
+    private companion object {
+        const val LOCATION = """{"lat":40.0181,"lng":-105.2783}"""
+
+        const val RESULT = """{
+            "address_components":[
+              {"long_name":"1303","short_name":"1303","types":["street_number"]},
+              {"long_name":"Pearl Street","short_name":"Pearl St","types":["route"]},
+              {"long_name":"Boulder","short_name":"Boulder","types":["locality","political"]},
+              {"long_name":"Colorado","short_name":"CO",
+                "types":["administrative_area_level_1","political"]},
+              {"long_name":"United States","short_name":"US","types":["country","political"]},
+              {"long_name":"80302","short_name":"80302","types":["postal_code"]}],
+            "formatted_address":"1303 Pearl St, Boulder, CO 80302, USA",
+            "geometry":{
+              "location":{"lat":40.0181,"lng":-105.2783},
+              "location_type":"ROOFTOP",
+              "viewport":{"northeast":{"lat":40.0194,"lng":-105.2769},
+                "southwest":{"lat":40.0167,"lng":-105.2796}}},
+            "place_id":"ChIJ3S-JXmauEmsRUcIaWtf4MzE",
+            "plus_code":{"compound_code":"2P9C+6M Boulder, CO, USA",
+              "global_code":"85GP2P9C+6M"},
+            "types":["street_address"]
+          }"""
+
+        val RESPONSE = """{"results":[$RESULT,$RESULT,$RESULT],"status":"OK"}"""
+    }
+}
@@ -42,6 +42,16 @@ android {
     buildFeatures {
         buildConfig = true
     }
+
+    buildTypes {
+        // A release-like build for :macrobenchmark, signed with the debug key so it installs.
+        create("benchmark") {
+            initWith(getByName("release"))
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+            isDebuggable = false
+        }
+    }
 }
 
 afterEvaluate {
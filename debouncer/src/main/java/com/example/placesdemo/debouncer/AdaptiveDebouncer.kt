@@ -0,0 +1,158 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.debouncer
+
+import java.util.Locale
+import kotlin.math.roundToLong
+
+/**
+ * Chooses how long to wait after a keystroke before sending an autocomplete request.
+ *
+ * Instead of a fixed delay, the delay follows the user's typing cadence: it waits a little
+ * longer than the typical gap between keystrokes, so fast typists send fewer requests for
+ * intermediate prefixes and slow typists do not wait on a delay tuned for someone else. The recent
+ * median request latency is added on top, because a slow backend makes every wasted request more
+ * expensive. A query that ends on a word boundary fires almost immediately, since the user has
+ * just finished a word.
+ *
+ * Every decision is kept in a bounded log, see [decisions] and [dumpDecisions], so delay policies
+ * can be compared offline. The demo screens log the CSV when they stop.
+ *
+ * demo-kotlin and kotlin-demos share this class. demo-java keeps a Java copy with the same
+ * constants, so that app stays free of Kotlin.
+ */
+class AdaptiveDebouncer {
+
+    /** Why a delay was chosen. */
+    enum class Reason {
+        /** Not enough keystrokes yet to estimate cadence. */
+        DEFAULT,
+        /** Derived from the typing cadence and request latency. */
+        CADENCE,
+        /** The query ends on a word boundary. */
+        WORD_BOUNDARY
+    }
+
+    /** One recorded delay decision. */
+    data class Decision(
+        val timeMillis: Long,
+        val queryLength: Int,
+        val keystrokeIntervalMillis: Long,
+        val p50LatencyMillis: Long,
+        val delayMillis: Long,
+        val reason: Reason
+    )
+
+    private val latencies = LongArray(LATENCY_WINDOW)
+    private val decisionLog = ArrayDeque<Decision>(MAX_DECISIONS)
+
+    private var latencyCount = 0
+    private var lastKeystrokeMillis = -1L
+    private var keystrokeIntervalMillis = -1.0
+
+    /**
+     * Records a change of the query text and returns how long to wait before requesting
+     * predictions for it.
+     *
+     * @param nowMillis a monotonic timestamp, e.g. `SystemClock.elapsedRealtime()`.
+     */
+    @Synchronized
+    fun onQueryChanged(query: String, nowMillis: Long): Long {
+        if (lastKeystrokeMillis >= 0) {
+            val gap = nowMillis - lastKeystrokeMillis
+            if (gap in 0..MAX_KEYSTROKE_GAP_MILLIS) {
+                keystrokeIntervalMillis = if (keystrokeIntervalMillis < 0) {
+                    gap.toDouble()
+                } else {
+                    CADENCE_SMOOTHING * gap + (1 - CADENCE_SMOOTHING) * keystrokeIntervalMillis
+                }
+            }
+        }
+        lastKeystrokeMillis = nowMillis
+
+        val p50 = p50LatencyMillis()
+        val (delay, reason) = when {
+            isWordBoundary(query) -> WORD_BOUNDARY_DELAY_MILLIS to Reason.WORD_BOUNDARY
+            keystrokeIntervalMillis < 0 -> DEFAULT_DELAY_MILLIS to Reason.DEFAULT
+            else -> {
+                val target = (CADENCE_MULTIPLIER * keystrokeIntervalMillis +
+                        LATENCY_WEIGHT * p50.coerceAtLeast(0)).roundToLong()
+                target.coerceIn(MIN_DELAY_MILLIS, MAX_DELAY_MILLIS) to Reason.CADENCE
+            }
+        }
+
+        if (decisionLog.size == MAX_DECISIONS) decisionLog.removeFirst()
+        decisionLog.addLast(
+            Decision(
+                nowMillis, query.length, keystrokeIntervalMillis.roundToLong(), p50, delay, reason
+            )
+        )
+        return delay
+    }
+
+    /** Records how long a `findAutocompletePredictions` call took. */
+    @Synchronized
+    fun recordLatency(latencyMillis: Long) {
+        latencies[latencyCount % LATENCY_WINDOW] = latencyMillis
+        latencyCount++
+    }
+
+    /** Returns the median of the recent request latencies, or -1 if none were recorded. */
+    @Synchronized
+    fun p50LatencyMillis(): Long {
+        val count = minOf(latencyCount, LATENCY_WINDOW)
+        if (count == 0) return -1
+        return latencies.copyOf(count).sorted()[count / 2]
+    }
+
+    /** The recorded decisions, oldest first. */
+    val decisions: List<Decision>
+        @Synchronized get() = decisionLog.toList()
+
+    /** Returns the recorded decisions as CSV, one line per decision with a header line. */
+    fun dumpDecisions(): String = buildString {
+        append("timeMillis,queryLength,keystrokeIntervalMillis,p50LatencyMillis,delayMillis,reason\n")
+        for (d in decisions) {
+            append(
+                String.format(
+                    Locale.US, "%d,%d,%d,%d,%d,%s\n",
+                    d.timeMillis, d.queryLength, d.keystrokeIntervalMillis,
+                    d.p50LatencyMillis, d.delayMillis, d.reason
+                )
+            )
+        }
+    }
+
+    private fun isWordBoundary(query: String): Boolean {
+        if (query.length < 2) return false
+        val last = query.last()
+        return last.isWhitespace() || last == ','
+    }
+
+    companion object {
+        const val MIN_DELAY_MILLIS = 100L
+        const val MAX_DELAY_MILLIS = 600L
+        const val DEFAULT_DELAY_MILLIS = 300L
+        const val WORD_BOUNDARY_DELAY_MILLIS = 50L
+
+        /** Keystroke gaps longer than this are pauses, not typing cadence. */
+        private const val MAX_KEYSTROKE_GAP_MILLIS = 1500L
+        private const val CADENCE_SMOOTHING = 0.3
+        private const val CADENCE_MULTIPLIER = 1.5
+        private const val LATENCY_WEIGHT = 0.25
+        private const val LATENCY_WINDOW = 16
+        private const val MAX_DECISIONS = 256
+    }
+}
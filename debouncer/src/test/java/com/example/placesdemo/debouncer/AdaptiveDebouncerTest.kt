@@ -0,0 +1,166 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.debouncer
+
+import com.example.placesdemo.debouncer.AdaptiveDebouncer.Reason
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/** Local unit tests of the delay policy of [AdaptiveDebouncer]. */
+class AdaptiveDebouncerTest {
+
+    @Test
+    fun firstKeystroke_usesDefaultDelay() {
+        val debouncer = AdaptiveDebouncer()
+
+        assertEquals(AdaptiveDebouncer.DEFAULT_DELAY_MILLIS, debouncer.onQueryChanged("p", 0))
+        assertEquals(Reason.DEFAULT, debouncer.decisions.last().reason)
+    }
+
+    @Test
+    fun steadyCadence_waitsOneAndAHalfKeystrokeGaps() {
+        val debouncer = AdaptiveDebouncer()
+
+        val delay = debouncer.type("pizzeria", gapMillis = 200)
+
+        assertEquals(300, delay)
+        assertEquals(Reason.CADENCE, debouncer.decisions.last().reason)
+        assertEquals(200, debouncer.decisions.last().keystrokeIntervalMillis)
+    }
+
+    @Test
+    fun cadence_followsTypingSpeed() {
+        assertEquals(120, AdaptiveDebouncer().type("pizzeria", gapMillis = 80))
+        assertEquals(450, AdaptiveDebouncer().type("pizzeria", gapMillis = 300))
+    }
+
+    @Test
+    fun cadence_isClampedToBounds() {
+        assertEquals(
+            AdaptiveDebouncer.MIN_DELAY_MILLIS,
+            AdaptiveDebouncer().type("pizzeria", gapMillis = 20)
+        )
+        assertEquals(
+            AdaptiveDebouncer.MAX_DELAY_MILLIS,
+            AdaptiveDebouncer().type("pizzeria", gapMillis = 1000)
+        )
+    }
+
+    @Test
+    fun pause_doesNotChangeCadence() {
+        val debouncer = AdaptiveDebouncer()
+        debouncer.type("pizzeria", gapMillis = 200)
+
+        val delay = debouncer.onQueryChanged("pizzerias", 7 * 200 + 10_000)
+
+        assertEquals(300, delay)
+        assertEquals(200, debouncer.decisions.last().keystrokeIntervalMillis)
+    }
+
+    @Test
+    fun p50Latency_isAddedToCadence() {
+        val debouncer = AdaptiveDebouncer()
+        debouncer.recordLatency(400)
+        debouncer.recordLatency(100)
+        debouncer.recordLatency(200)
+
+        val delay = debouncer.type("pizzeria", gapMillis = 200)
+
+        // 1.5 * 200 + 0.25 * 200
+        assertEquals(350, delay)
+        assertEquals(200, debouncer.decisions.last().p50LatencyMillis)
+    }
+
+    @Test
+    fun p50Latency_coversOnlyRecentRequests() {
+        val debouncer = AdaptiveDebouncer()
+        assertEquals(-1, debouncer.p50LatencyMillis())
+
+        repeat(16) { debouncer.recordLatency(1000) }
+        repeat(9) { debouncer.recordLatency(100) }
+
+        assertEquals(100, debouncer.p50LatencyMillis())
+    }
+
+    @Test
+    fun wordBoundary_firesEarly() {
+        val debouncer = AdaptiveDebouncer()
+        debouncer.type("pizza", gapMillis = 300)
+
+        assertEquals(
+            AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+            debouncer.onQueryChanged("pizza ", 5 * 300)
+        )
+        assertEquals(Reason.WORD_BOUNDARY, debouncer.decisions.last().reason)
+        assertEquals(
+            AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+            debouncer.onQueryChanged("pizza,", 6 * 300)
+        )
+    }
+
+    @Test
+    fun wordBoundary_firesEarlyBeforeCadenceIsKnown() {
+        assertEquals(
+            AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+            AdaptiveDebouncer().onQueryChanged("pizza ", 0)
+        )
+    }
+
+    @Test
+    fun leadingSpace_isNotAWordBoundary() {
+        assertEquals(
+            AdaptiveDebouncer.DEFAULT_DELAY_MILLIS,
+            AdaptiveDebouncer().onQueryChanged(" ", 0)
+        )
+    }
+
+    @Test
+    fun decisions_areKeptOldestFirstAndBounded() {
+        val debouncer = AdaptiveDebouncer()
+        for (i in 0 until 300) {
+            debouncer.onQueryChanged("p", i * 100L)
+        }
+
+        val decisions = debouncer.decisions
+
+        assertEquals(256, decisions.size)
+        assertEquals(44 * 100L, decisions.first().timeMillis)
+        assertEquals(299 * 100L, decisions.last().timeMillis)
+    }
+
+    @Test
+    fun dumpDecisions_writesOneCsvLinePerDecision() {
+        val debouncer = AdaptiveDebouncer()
+        debouncer.onQueryChanged("p", 0)
+        debouncer.onQueryChanged("pi", 200)
+
+        val lines = debouncer.dumpDecisions().lines().filter { it.isNotEmpty() }
+
+        assertEquals(3, lines.size)
+        assertTrue(lines[0].startsWith("timeMillis,"))
+        assertEquals("0,1,-1,-1,300,DEFAULT", lines[1])
+        assertEquals("200,2,200,-1,300,CADENCE", lines[2])
+    }
+
+    /** Types [text] one character every [gapMillis] and returns the last delay. */
+    private fun AdaptiveDebouncer.type(text: String, gapMillis: Long): Long {
+        var delay = -1L
+        for (i in 1..text.length) {
+            delay = onQueryChanged(text.substring(0, i), (i - 1) * gapMillis)
+        }
+        return delay
+    }
+}
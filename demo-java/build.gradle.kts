@@ -28,12 +28,48 @@ android {
         versionName = "1.0"
 
         multiDexEnabled = true
+
+        // Run against the :places-fixtures module instead of the Places API, for example
+        // ./gradlew :demo-java:installDebug -PfakePlacesClient=true -PfakePlacesLatencyMillis=300
+        buildConfigField("boolean", "FAKE_PLACES_CLIENT",
+            (findProperty("fakePlacesClient") ?: "false").toString())
+        buildConfigField("long", "FAKE_PLACES_LATENCY_MILLIS",
+            "${findProperty("fakePlacesLatencyMillis") ?: "150"}L")
+        buildConfigField("long", "FAKE_PLACES_JITTER_MILLIS",
+            "${findProperty("fakePlacesJitterMillis") ?: "50"}L")
+        buildConfigField("double", "FAKE_PLACES_FAILURE_RATE",
+            (findProperty("fakePlacesFailureRate") ?: "0").toString())
+
+        // Names the on-disk place store, whose records only the same Places SDK build can read.
+        buildConfigField("String", "PLACES_SDK_VERSION", "\"${libs.versions.places.get()}\"")
+    }
+
+    buildTypes {
+        // Benchmarks run against the bundled fixtures, so network latency does not skew them.
+        getByName("benchmark") {
+            buildConfigField("boolean", "FAKE_PLACES_CLIENT", "true")
+        }
+        // Release builds leave the fixtures out, so they always use the Places API.
+        release {
+            buildConfigField("boolean", "FAKE_PLACES_CLIENT", "false")
+        }
+    }
+
+    sourceSets {
+        // Debug and benchmark builds create the fake client from src/fake; release has a stub.
+        getByName("debug").java.srcDir("src/fake/java")
+        getByName("benchmark").java.srcDir("src/fake/java")
     }
 
     buildFeatures {
         viewBinding = true
         buildConfig = true
     }
+
+    testOptions {
+        // Lets JVM tests of the caches call Log and SystemClock, which android.jar only stubs.
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -55,5 +91,11 @@ dependencies {
     implementation(libs.places)
     implementation(libs.play.services.maps)
     implementation(libs.android.maps.utils)
+
+    debugImplementation(project(":places-fixtures"))
+    "benchmarkImplementation"(project(":places-fixtures"))
+
+    testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
 }
 
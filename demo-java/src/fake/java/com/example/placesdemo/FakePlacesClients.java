@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.example.placesdemo.fake.FakePlacesClient;
+import com.example.placesdemo.fake.PlaceFixtures;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import java.io.IOException;
+
+/**
+ * Creates the {@link FakePlacesClient} for debug and benchmark builds, which include the
+ * {@code :places-fixtures} module. Release builds have a copy of this class that throws instead.
+ */
+final class FakePlacesClients {
+
+    private FakePlacesClients() {
+    }
+
+    @NonNull
+    static PlacesClient create(@NonNull Context context) {
+        try {
+            return new FakePlacesClient(PlaceFixtures.fromAssets(context.getAssets()),
+                    new FakePlacesClient.Config()
+                            .setLatencyMillis(BuildConfig.FAKE_PLACES_LATENCY_MILLIS)
+                            .setJitterMillis(BuildConfig.FAKE_PLACES_JITTER_MILLIS)
+                            .setFailureRate(BuildConfig.FAKE_PLACES_FAILURE_RATE));
+        } catch (IOException e) {
+            throw new IllegalStateException("Places fixtures are missing from the assets", e);
+        }
+    }
+}
@@ -36,6 +36,8 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.content.ContextCompat;
 
+import com.example.placesdemo.address.AddressAssembler;
+import com.example.placesdemo.address.StructuredAddress;
 import com.example.placesdemo.databinding.AutocompleteAddressActivityBinding;
 import com.google.android.gms.location.FusedLocationProviderClient;
 import com.google.android.gms.location.LocationServices;
@@ -48,9 +50,6 @@ import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.MapStyleOptions;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
-import com.google.android.libraries.places.api.Places;
-import com.google.android.libraries.places.api.model.AddressComponent;
-import com.google.android.libraries.places.api.model.AddressComponents;
 import com.google.android.libraries.places.api.model.Place;
 import com.google.android.libraries.places.api.model.PlaceTypes;
 import com.google.android.libraries.places.api.net.PlacesClient;
@@ -125,8 +124,8 @@ public class AutocompleteAddressActivity extends AppCompatActivity implements On
         binding = AutocompleteAddressActivityBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
 
-        // Retrieve a PlacesClient (previously initialized - see MainActivity)
-        placesClient = Places.createClient(this);
+        // Retrieve the shared, instrumented PlacesClient (see PlacesDemoApplication)
+        placesClient = ((PlacesDemoApplication) getApplication()).getPlacesClient();
 
         // Attach an Autocomplete intent to the Address 1 EditText field
         binding.autocompleteAddress1.setOnClickListener(startAutocompleteIntentListener);
@@ -186,56 +185,18 @@ public class AutocompleteAddressActivity extends AppCompatActivity implements On
     // [END maps_solutions_android_autocomplete_map_ready]
 
     private void fillInAddress(Place place) {
-        AddressComponents components = place.getAddressComponents();
-        StringBuilder address1 = new StringBuilder();
-        StringBuilder postcode = new StringBuilder();
-
-        // Get each component of the address from the place details,
-        // and then fill-in the corresponding field on the form.
         // Possible AddressComponent types are documented at https://goo.gle/32SJPM1
-        if (components != null) {
-            for (AddressComponent component : components.asList()) {
-                String type = component.getTypes().get(0);
-                switch (type) {
-                    case "street_number": {
-                        address1.insert(0, component.getName());
-                        break;
-                    }
-
-                    case "route": {
-                        address1.append(" ");
-                        address1.append(component.getShortName());
-                        break;
-                    }
-
-                    case "postal_code": {
-                        postcode.insert(0, component.getName());
-                        break;
-                    }
-
-                    case "postal_code_suffix": {
-                        postcode.append("-").append(component.getName());
-                        break;
-                    }
-
-                    case "locality":
-                        binding.autocompleteCity.setText(component.getName());
-                        break;
-
-                    case "administrative_area_level_1": {
-                        binding.autocompleteState.setText(component.getShortName());
-                        break;
-                    }
-
-                    case "country":
-                        binding.autocompleteCountry.setText(component.getName());
-                        break;
-                }
-            }
+        StructuredAddress address = AddressAssembler.assemble(place.getAddressComponents());
+        if (!address.unmatched.isEmpty()) {
+            Log.d(TAG, "Unmatched address components: " + address.unmatched);
         }
 
-        binding.autocompleteAddress1.setText(address1.toString());
-        binding.autocompletePostal.setText(postcode.toString());
+        binding.autocompleteAddress1.setText(address.address1);
+        binding.autocompleteAddress2.setText(address.address2);
+        binding.autocompleteCity.setText(address.locality);
+        binding.autocompleteState.setText(address.adminArea);
+        binding.autocompletePostal.setText(address.postalCode);
+        binding.autocompleteCountry.setText(address.country);
 
         // After filling the form with address components from the Autocomplete
         // prediction, set cursor focus on the second address line to encourage
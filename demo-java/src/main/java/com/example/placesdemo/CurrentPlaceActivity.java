@@ -18,7 +18,6 @@ package com.example.placesdemo;
 
 import com.example.placesdemo.databinding.CurrentPlaceActivityBinding;
 import com.google.android.gms.tasks.Task;
-import com.google.android.libraries.places.api.Places;
 import com.google.android.libraries.places.api.model.Place.Field;
 import com.google.android.libraries.places.api.model.PlaceLikelihood;
 import com.google.android.libraries.places.api.net.FindCurrentPlaceRequest;
@@ -56,6 +55,7 @@ public class CurrentPlaceActivity extends AppCompatActivity {
 
     private PlacesClient placesClient;
     private FieldSelector fieldSelector;
+    private FieldUsageTracker.Site fieldUsage;
 
     private CurrentPlaceActivityBinding binding;
 
@@ -97,8 +97,10 @@ public class CurrentPlaceActivity extends AppCompatActivity {
         binding = CurrentPlaceActivityBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
 
-        // Retrieve a PlacesClient (previously initialized - see MainActivity)
-        placesClient = Places.createClient(this);
+        // Retrieve the shared, instrumented PlacesClient (see PlacesDemoApplication)
+        placesClient = ((PlacesDemoApplication) getApplication()).getPlacesClient();
+        fieldUsage = ((PlacesDemoApplication) getApplication()).getFieldUsageTracker()
+                .site("CurrentPlaceActivity");
 
         // Set view objects
         List<Field> placeFields = FieldSelector.allExcept(
@@ -140,6 +142,12 @@ public class CurrentPlaceActivity extends AppCompatActivity {
         fieldSelector.onSaveInstanceState(bundle);
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        fieldUsage.logReport();
+    }
+
     /**
      * Fetches a list of {@link PlaceLikelihood} instances that represent the Places the user is
      * most
@@ -149,14 +157,16 @@ public class CurrentPlaceActivity extends AppCompatActivity {
     private void findCurrentPlaceWithPermissions() {
         setLoading(true);
 
+        List<Field> placeFields = getPlaceFields();
         FindCurrentPlaceRequest currentPlaceRequest =
-                FindCurrentPlaceRequest.newInstance(getPlaceFields());
+                FindCurrentPlaceRequest.newInstance(placeFields);
         Task<FindCurrentPlaceResponse> currentPlaceTask =
                 placesClient.findCurrentPlace(currentPlaceRequest);
 
         currentPlaceTask.addOnSuccessListener(
                 (response) ->
-                        binding.response.setText(StringUtil.stringify(response, isDisplayRawResultsChecked())));
+                        binding.response.setText(StringUtil.stringify(response, fieldUsage,
+                                FieldMask.of(placeFields), isDisplayRawResultsChecked())));
 
         currentPlaceTask.addOnFailureListener(
                 (exception) -> {
@@ -171,11 +181,21 @@ public class CurrentPlaceActivity extends AppCompatActivity {
     // Helper methods below //
     //////////////////////////
 
+    /**
+     * Returns the fields this screen reads, unless the user selected custom fields, which are then
+     * checked against them by the {@link FieldCostPlanner}.
+     */
     private List<Field> getPlaceFields() {
+        // The raw output prints every field findCurrentPlace supports.
+        FieldMask usedFields = isDisplayRawResultsChecked()
+                ? FieldMask.of(fieldSelector.getAllFields())
+                : StringUtil.STRINGIFY_FIELDS;
         if (binding.useCustomFields.isChecked()) {
-            return fieldSelector.getSelectedFields();
+            return FieldCostPlanner.reviewAndLog(
+                    "CurrentPlaceActivity", fieldSelector.getSelectedMask(), usedFields)
+                    .toList();
         } else {
-            return fieldSelector.getAllFields();
+            return usedFields.toList();
         }
     }
 
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plans the {@link FieldMask} a screen requests from the billing tier and approximate payload size
+ * of each {@link Field}.
+ *
+ * <p>A request is billed at the tier of its most expensive field, so one extra field can move a
+ * whole request into a more expensive tier. Screens declare the fields they actually read, which
+ * is the smallest mask they can request; {@link #review} compares any wider request against it
+ * and warns about over-fetched fields and tier crossings. With
+ * {@link #setFailOnOverFetch(boolean)} enabled, as in tests, over-fetching throws instead.
+ *
+ * <p>Fields are looked up by name so the table keeps compiling as the SDK adds or removes fields;
+ * a field missing from the table is assumed to be in the most expensive tier.
+ */
+public final class FieldCostPlanner {
+
+    private static final String TAG = "FieldCostPlanner";
+
+    /** Place Details billing tiers, cheapest first. */
+    public enum Tier {
+        IDS_ONLY,
+        ESSENTIALS,
+        PRO,
+        ENTERPRISE,
+        ENTERPRISE_AND_ATMOSPHERE
+    }
+
+    private static final Tier UNKNOWN_TIER = Tier.ENTERPRISE_AND_ATMOSPHERE;
+    private static final int UNKNOWN_PAYLOAD_WEIGHT = 100;
+
+    private static final Map<String, Tier> TIERS = new HashMap<>();
+    private static final Map<String, Integer> PAYLOAD_WEIGHTS = new HashMap<>();
+
+    static {
+        // Approximate payload weights are in bytes of a typical JSON response.
+        cost(Tier.IDS_ONLY, 30, "ID", "RESOURCE_NAME");
+        cost(Tier.IDS_ONLY, 2000, "PHOTO_METADATAS");
+
+        cost(Tier.ESSENTIALS, 20, "LOCATION");
+        cost(Tier.ESSENTIALS, 40, "SHORT_FORMATTED_ADDRESS", "VIEWPORT", "PLUS_CODE");
+        cost(Tier.ESSENTIALS, 60, "FORMATTED_ADDRESS");
+        cost(Tier.ESSENTIALS, 80, "TYPES");
+        cost(Tier.ESSENTIALS, 200, "POSTAL_ADDRESS", "ADR_FORMAT_ADDRESS");
+        cost(Tier.ESSENTIALS, 600, "ADDRESS_COMPONENTS");
+
+        cost(Tier.PRO, 10, "BUSINESS_STATUS", "UTC_OFFSET", "ICON_BACKGROUND_COLOR",
+                "DISPLAY_NAME_LANGUAGE_CODE", "PRIMARY_TYPE_DISPLAY_NAME_LANGUAGE_CODE",
+                "PURE_SERVICE_AREA_BUSINESS");
+        cost(Tier.PRO, 30, "DISPLAY_NAME", "PRIMARY_TYPE", "PRIMARY_TYPE_DISPLAY_NAME", "TIME_ZONE");
+        cost(Tier.PRO, 60, "ACCESSIBILITY_OPTIONS", "ICON_MASK_URL", "GOOGLE_MAPS_URI",
+                "GOOGLE_MAPS_TYPE_URI");
+        cost(Tier.PRO, 300, "GOOGLE_MAPS_LINKS", "SUB_DESTINATIONS", "CONTAINING_PLACES");
+
+        cost(Tier.ENTERPRISE, 10, "PRICE_LEVEL", "RATING", "USER_RATING_COUNT");
+        cost(Tier.ENTERPRISE, 40, "INTERNATIONAL_PHONE_NUMBER", "NATIONAL_PHONE_NUMBER",
+                "PRICE_RANGE");
+        cost(Tier.ENTERPRISE, 60, "WEBSITE_URI");
+        cost(Tier.ENTERPRISE, 600, "OPENING_HOURS", "SECONDARY_OPENING_HOURS");
+        cost(Tier.ENTERPRISE, 800, "CURRENT_OPENING_HOURS", "CURRENT_SECONDARY_OPENING_HOURS");
+
+        cost(Tier.ENTERPRISE_AND_ATMOSPHERE, 8, "ALLOWS_DOGS", "CURBSIDE_PICKUP", "DELIVERY",
+                "DINE_IN", "GOOD_FOR_CHILDREN", "GOOD_FOR_GROUPS", "GOOD_FOR_WATCHING_SPORTS",
+                "LIVE_MUSIC", "MENU_FOR_CHILDREN", "OUTDOOR_SEATING", "RESERVABLE", "RESTROOM",
+                "SERVES_BEER", "SERVES_BREAKFAST", "SERVES_BRUNCH", "SERVES_COCKTAILS",
+                "SERVES_COFFEE", "SERVES_DESSERT", "SERVES_DINNER", "SERVES_LUNCH",
+                "SERVES_VEGETARIAN_FOOD", "SERVES_WINE", "TAKEOUT");
+        cost(Tier.ENTERPRISE_AND_ATMOSPHERE, 150, "PARKING_OPTIONS", "PAYMENT_OPTIONS",
+                "EDITORIAL_SUMMARY_LANGUAGE_CODE");
+        cost(Tier.ENTERPRISE_AND_ATMOSPHERE, 300, "EDITORIAL_SUMMARY", "CONSUMER_ALERT",
+                "EV_CHARGE_OPTIONS", "FUEL_OPTIONS");
+        cost(Tier.ENTERPRISE_AND_ATMOSPHERE, 1000, "GENERATIVE_SUMMARY", "REVIEW_SUMMARY",
+                "NEIGHBORHOOD_SUMMARY");
+        cost(Tier.ENTERPRISE_AND_ATMOSPHERE, 5000, "REVIEWS");
+    }
+
+    private static volatile boolean failOnOverFetch;
+
+    private FieldCostPlanner() {
+    }
+
+    /** The outcome of comparing a requested mask with the fields a screen reads. */
+    public static final class Review {
+        @NonNull
+        public final String screen;
+        @NonNull
+        public final FieldMask requested;
+        @NonNull
+        public final FieldMask used;
+        /** Requested fields the screen never reads. */
+        @NonNull
+        public final FieldMask overFetched;
+        @NonNull
+        public final Tier requestedTier;
+        @NonNull
+        public final Tier usedTier;
+        @NonNull
+        public final List<String> warnings;
+
+        Review(String screen, FieldMask requested, FieldMask used, List<String> warnings) {
+            this.screen = screen;
+            this.requested = requested;
+            this.used = used;
+            this.overFetched = requested.minus(used);
+            this.requestedTier = tierOf(requested);
+            this.usedTier = tierOf(used);
+            this.warnings = Collections.unmodifiableList(warnings);
+        }
+    }
+
+    /**
+     * Makes {@link #review} throw an {@link IllegalStateException} on over-fetching instead of
+     * only warning. Meant for tests.
+     */
+    public static void setFailOnOverFetch(boolean fail) {
+        failOnOverFetch = fail;
+    }
+
+    @NonNull
+    public static Tier tierOf(@NonNull Field field) {
+        Tier tier = TIERS.get(field.name());
+        return tier == null ? UNKNOWN_TIER : tier;
+    }
+
+    /** Returns the tier a request for {@code fields} is billed at. */
+    @NonNull
+    public static Tier tierOf(@NonNull FieldMask fields) {
+        Tier result = Tier.IDS_ONLY;
+        for (Field field : fields.toList()) {
+            Tier tier = tierOf(field);
+            if (tier.compareTo(result) > 0) {
+                result = tier;
+            }
+        }
+        return result;
+    }
+
+    public static int payloadWeightOf(@NonNull Field field) {
+        Integer weight = PAYLOAD_WEIGHTS.get(field.name());
+        return weight == null ? UNKNOWN_PAYLOAD_WEIGHT : weight;
+    }
+
+    /** Returns the approximate response size for {@code fields}, in bytes. */
+    public static int payloadWeightOf(@NonNull FieldMask fields) {
+        int weight = 0;
+        for (Field field : fields.toList()) {
+            weight += payloadWeightOf(field);
+        }
+        return weight;
+    }
+
+    /**
+     * Compares {@code requested} with the fields {@code screen} reads and logs a warning for every
+     * over-fetched field and for a request billed at a higher tier than the fields it needs.
+     *
+     * @throws IllegalStateException on over-fetching if {@link #setFailOnOverFetch} is enabled.
+     */
+    @NonNull
+    public static Review review(
+            @NonNull String screen, @NonNull FieldMask requested, @NonNull FieldMask used) {
+        List<String> warnings = new ArrayList<>();
+        FieldMask overFetched = requested.minus(used);
+        if (!overFetched.isEmpty()) {
+            warnings.add(screen + " requests " + overFetched.size() + " unused fields (~"
+                    + payloadWeightOf(overFetched) + " bytes): " + overFetched);
+        }
+
+        Tier requestedTier = tierOf(requested);
+        Tier usedTier = tierOf(used);
+        if (requestedTier.compareTo(usedTier) > 0) {
+            List<Field> culprits = new ArrayList<>();
+            for (Field field : overFetched.toList()) {
+                if (tierOf(field).compareTo(usedTier) > 0) {
+                    culprits.add(field);
+                }
+            }
+            warnings.add(screen + " is billed at " + requestedTier + " instead of " + usedTier
+                    + " because of " + culprits);
+        }
+
+        Review review = new Review(screen, requested, used, warnings);
+        if (failOnOverFetch && !overFetched.isEmpty()) {
+            throw new IllegalStateException(String.join("\n", warnings));
+        }
+        return review;
+    }
+
+    /** Logs the warnings of {@link #review} and returns {@code requested}. */
+    @NonNull
+    public static FieldMask reviewAndLog(
+            @NonNull String screen, @NonNull FieldMask requested, @NonNull FieldMask used) {
+        for (String warning : review(screen, requested, used).warnings) {
+            Log.w(TAG, warning);
+        }
+        return requested;
+    }
+
+    private static void cost(Tier tier, int payloadWeight, String... fieldNames) {
+        for (String name : fieldNames) {
+            TIERS.put(name, tier);
+            PAYLOAD_WEIGHTS.put(name, payloadWeight);
+        }
+    }
+}
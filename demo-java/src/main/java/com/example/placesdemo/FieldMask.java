@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable set of {@link Field} values stored as a bitmask over {@link Field#ordinal()}.
+ *
+ * <p>Union, intersection and subset checks are a few word operations, and equality and hashing are
+ * cheap, so a mask can be used directly as a cache key. The {@code List<Field>} the SDK expects is
+ * built once per mask and then reused. Masks are saved to a {@link Bundle} as a single
+ * {@code long[]}; like field ordinals, that form is only meaningful to the same SDK version.
+ */
+public final class FieldMask {
+
+    private static final Field[] FIELDS = Field.values();
+    private static final int WORDS = (FIELDS.length + 63) >>> 6;
+
+    /** The mask without any fields. */
+    public static final FieldMask EMPTY = new FieldMask(new long[WORDS]);
+
+    /** The mask with every {@link Field}. */
+    public static final FieldMask ALL = of(Arrays.asList(FIELDS));
+
+    private final long[] words;
+    private final int hashCode;
+    @Nullable
+    private volatile List<Field> list;
+
+    private FieldMask(long[] words) {
+        this.words = words;
+        this.hashCode = Arrays.hashCode(words);
+    }
+
+    @NonNull
+    public static FieldMask of(@NonNull Field... fields) {
+        return of(Arrays.asList(fields));
+    }
+
+    @NonNull
+    public static FieldMask of(@NonNull Collection<Field> fields) {
+        long[] words = new long[WORDS];
+        for (Field field : fields) {
+            words[field.ordinal() >>> 6] |= 1L << (field.ordinal() & 63);
+        }
+        return new FieldMask(words);
+    }
+
+    /**
+     * Returns the mask saved by {@link #toLongArray()}. Bits beyond the known fields are dropped.
+     */
+    @NonNull
+    public static FieldMask fromLongArray(@Nullable long[] savedWords) {
+        long[] words = new long[WORDS];
+        if (savedWords != null) {
+            System.arraycopy(savedWords, 0, words, 0, Math.min(WORDS, savedWords.length));
+        }
+        return new FieldMask(words).intersect(ALL);
+    }
+
+    public boolean contains(@NonNull Field field) {
+        return (words[field.ordinal() >>> 6] & (1L << (field.ordinal() & 63))) != 0;
+    }
+
+    /** Returns whether every field of {@code other} is in this mask. */
+    public boolean containsAll(@NonNull FieldMask other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((other.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NonNull
+    public FieldMask union(@NonNull FieldMask other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new FieldMask(result);
+    }
+
+    @NonNull
+    public FieldMask intersect(@NonNull FieldMask other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new FieldMask(result);
+    }
+
+    /** Returns the fields of this mask that are not in {@code other}. */
+    @NonNull
+    public FieldMask minus(@NonNull FieldMask other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new FieldMask(result);
+    }
+
+    @NonNull
+    public FieldMask with(@NonNull Field field) {
+        long[] result = words.clone();
+        result[field.ordinal() >>> 6] |= 1L << (field.ordinal() & 63);
+        return new FieldMask(result);
+    }
+
+    @NonNull
+    public FieldMask without(@NonNull Field field) {
+        long[] result = words.clone();
+        result[field.ordinal() >>> 6] &= ~(1L << (field.ordinal() & 63));
+        return new FieldMask(result);
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the fields in ordinal order as an unmodifiable list. The list is built on first use
+     * and shared by later calls.
+     */
+    @NonNull
+    public List<Field> toList() {
+        List<Field> result = list;
+        if (result == null) {
+            List<Field> fields = new ArrayList<>(size());
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    fields.add(FIELDS[(i << 6) + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+            result = Collections.unmodifiableList(fields);
+            list = result;
+        }
+        return result;
+    }
+
+    /** Returns a copy of the bitmask, e.g. for {@link Bundle#putLongArray(String, long[])}. */
+    @NonNull
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        return o == this || (o instanceof FieldMask && Arrays.equals(words, ((FieldMask) o).words));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -35,16 +35,14 @@ import com.google.android.libraries.places.api.model.Place.Field;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /** Helper class for selecting {@link Field} values. */
 public final class FieldSelector {
   private static final String SELECTED_PLACE_FIELDS_KEY = "selected_place_fields";
 
-  private final Map<Field, State> fieldStates;
+  private final FieldMask validFields;
+  private FieldMask selectedFields = FieldMask.EMPTY;
 
   private final TextView outputView;
 
@@ -71,15 +69,12 @@ public final class FieldSelector {
           TextView outputView,
           List<Field> validFields,
           @Nullable Bundle savedState) {
-    fieldStates = new HashMap<>();
-    for (Field field : validFields) {
-      fieldStates.put(field, new State(field));
-    }
+    this.validFields = FieldMask.of(validFields);
 
     if (savedState != null) {
-      List<Integer> selectedFields = savedState.getIntegerArrayList(SELECTED_PLACE_FIELDS_KEY);
-      if (selectedFields != null) {
-        restoreState(selectedFields);
+      long[] savedFields = savedState.getLongArray(SELECTED_PLACE_FIELDS_KEY);
+      if (savedFields != null) {
+        selectedFields = FieldMask.fromLongArray(savedFields).intersect(this.validFields);
       }
       outputView.setText(getSelectedString());
     }
@@ -99,9 +94,7 @@ public final class FieldSelector {
                 showDialog(view.getContext());
               } else {
                 outputView.setText("");
-                for (State state : fieldStates.values()) {
-                  state.checked = false;
-            }
+                selectedFields = FieldMask.EMPTY;
           }
         });
 
@@ -113,7 +106,7 @@ public final class FieldSelector {
    */
   public void showDialog(Context context) {
     ListView listView = new ListView(context);
-    PlaceFieldArrayAdapter adapter = new PlaceFieldArrayAdapter(context, fieldStates.values());
+    PlaceFieldArrayAdapter adapter = new PlaceFieldArrayAdapter(context, validFields.toList());
     listView.setAdapter(adapter);
     listView.setOnItemClickListener(adapter);
 
@@ -129,24 +122,24 @@ public final class FieldSelector {
   }
 
   /**
-   * Returns all {@link Field} that are selectable.
+   * Returns all {@link Field} that are selectable, as an unmodifiable list.
    */
   public List<Field> getAllFields() {
-    return new ArrayList<>(fieldStates.keySet());
+    return validFields.toList();
   }
 
   /**
-   * Returns all {@link Field} values the user selected.
+   * Returns all {@link Field} values the user selected, as an unmodifiable list.
    */
   public List<Field> getSelectedFields() {
-    List<Field> selectedList = new ArrayList<>();
-    for (Map.Entry<Field, State> entry : fieldStates.entrySet()) {
-      if (entry.getValue().checked) {
-        selectedList.add(entry.getKey());
-      }
-    }
+    return selectedFields.toList();
+  }
 
-    return selectedList;
+  /**
+   * Returns the {@link Field} values the user selected as a {@link FieldMask}.
+   */
+  public FieldMask getSelectedMask() {
+    return selectedFields;
   }
 
   /**
@@ -164,70 +157,44 @@ public final class FieldSelector {
 
 
   public void onSaveInstanceState(Bundle bundle) {
-    List<Field> fields = getSelectedFields();
-
-    ArrayList<Integer> serializedFields = new ArrayList<>();
-    for (Field field : fields) {
-      serializedFields.add(field.ordinal());
-    }
-    bundle.putIntegerArrayList(SELECTED_PLACE_FIELDS_KEY, serializedFields);
-  }
-
-  private void restoreState(List<Integer> selectedFields) {
-    for (Integer serializedField : selectedFields) {
-      Field field = Field.values()[serializedField];
-      State state = fieldStates.get(field);
-      if (state != null) {
-        state.checked = true;
-      }
-    }
+    bundle.putLongArray(SELECTED_PLACE_FIELDS_KEY, selectedFields.toLongArray());
   }
 
   //////////////////////////
   // Helper methods below //
   //////////////////////////
 
-  /**
-   * Holds selection state for a place field.
-   */
-  public static final class State {
-    public final Field field;
-    public boolean checked;
-
-    public State(Field field) {
-      this.field = field;
-    }
-  }
-
-  private static final class PlaceFieldArrayAdapter extends ArrayAdapter<State>
+  private final class PlaceFieldArrayAdapter extends ArrayAdapter<Field>
       implements OnItemClickListener {
 
-    public PlaceFieldArrayAdapter(Context context, Collection<State> states) {
-      super(context, android.R.layout.simple_list_item_multiple_choice, new ArrayList<>(states));
+    public PlaceFieldArrayAdapter(Context context, List<Field> fields) {
+      super(context, android.R.layout.simple_list_item_multiple_choice, new ArrayList<>(fields));
     }
 
-    private static void updateView(View view, State state) {
+    private void updateView(View view, Field field) {
       if (view instanceof CheckedTextView) {
         CheckedTextView checkedTextView = (CheckedTextView) view;
-        checkedTextView.setText(state.field.toString());
-        checkedTextView.setChecked(state.checked);
+        checkedTextView.setText(field.toString());
+        checkedTextView.setChecked(selectedFields.contains(field));
       }
     }
 
     @Override
     public View getView(int position, @Nullable View convertView, ViewGroup parent) {
       View view = super.getView(position, convertView, parent);
-      State state = getItem(position);
-      updateView(view, state);
+      Field field = getItem(position);
+      updateView(view, field);
 
       return view;
     }
 
     @Override
     public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
-      State state = getItem(position);
-      state.checked = !state.checked;
-      updateView(view, state);
+      Field field = getItem(position);
+      selectedFields = selectedFields.contains(field)
+          ? selectedFields.without(field)
+          : selectedFields.with(field);
+      updateView(view, field);
     }
   }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.places.api.model.AddressComponents;
+import com.google.android.libraries.places.api.model.OpeningHours;
+import com.google.android.libraries.places.api.model.PhotoMetadata;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records which {@link Place} fields each screen actually reads, to compare with the fields it
+ * requests.
+ *
+ * <p>A screen gets a {@link Site} and wraps every place it receives with
+ * {@link Site#track(FieldMask, Place)}. The returned {@link TrackedPlace} exposes the getters the
+ * demo reads and notes each {@link Field} as it is touched. {@link Site#getReport()} then lists the
+ * requested fields that were never read, which is what a smaller field mask can drop.
+ *
+ * <p>When the tracker is disabled, tracked places only delegate and nothing is recorded.
+ */
+public final class FieldUsageTracker {
+
+    private static final String TAG = "FieldUsageTracker";
+
+    private final boolean enabled;
+    private final Map<String, Site> sites = new LinkedHashMap<>();
+
+    public FieldUsageTracker(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Returns the site recording the reads of {@code screen}, creating it on first use. */
+    @NonNull
+    public synchronized Site site(@NonNull String screen) {
+        Site site = sites.get(screen);
+        if (site == null) {
+            site = new Site(screen);
+            sites.put(screen, site);
+        }
+        return site;
+    }
+
+    /** Returns the reports of every site that tracked at least one place. */
+    @NonNull
+    public synchronized List<Report> getReports() {
+        List<Report> reports = new ArrayList<>();
+        for (Site site : sites.values()) {
+            Report report = site.getReport();
+            if (report.placeCount > 0) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    /** Wraps {@code place} without recording any reads. */
+    @NonNull
+    public static TrackedPlace untracked(@NonNull Place place) {
+        return new TrackedPlace(null, FieldMask.EMPTY, place);
+    }
+
+    /** The fields requested and read by one screen. */
+    public final class Site {
+        private final String screen;
+        private int placeCount;
+        private FieldMask requested = FieldMask.EMPTY;
+        private FieldMask used = FieldMask.EMPTY;
+
+        Site(String screen) {
+            this.screen = screen;
+        }
+
+        /** Wraps {@code place}, which was fetched with {@code requested}. */
+        @NonNull
+        public TrackedPlace track(@NonNull FieldMask requested, @NonNull Place place) {
+            if (!enabled) {
+                return untracked(place);
+            }
+            synchronized (this) {
+                placeCount++;
+                this.requested = this.requested.union(requested);
+            }
+            return new TrackedPlace(this, requested, place);
+        }
+
+        /** See {@link #track(FieldMask, Place)}. */
+        @NonNull
+        public TrackedPlace track(@NonNull List<Field> requested, @NonNull Place place) {
+            return track(FieldMask.of(requested), place);
+        }
+
+        synchronized void recordRead(Field field) {
+            if (!used.contains(field)) {
+                used = used.with(field);
+            }
+        }
+
+        synchronized void recordReadAll(FieldMask fields) {
+            if (!used.containsAll(fields)) {
+                used = used.union(fields);
+            }
+        }
+
+        @NonNull
+        public synchronized Report getReport() {
+            return new Report(screen, placeCount, requested, used);
+        }
+
+        /** Logs {@link #getReport()} if the tracker is enabled and this site tracked a place. */
+        public void logReport() {
+            Report report = getReport();
+            if (enabled && report.placeCount > 0) {
+                Log.d(TAG, report.toString());
+            }
+        }
+    }
+
+    /** What one screen requested and read, over every place it tracked. */
+    public static final class Report {
+        @NonNull
+        public final String screen;
+        public final int placeCount;
+        /** The union of the fields of every tracked request. */
+        @NonNull
+        public final FieldMask requested;
+        /** Every field read from at least one tracked place. */
+        @NonNull
+        public final FieldMask used;
+        /** Requested fields that were never read, which the screen can stop requesting. */
+        @NonNull
+        public final FieldMask unused;
+        /** Fields read without being requested, which always come back empty. */
+        @NonNull
+        public final FieldMask unrequested;
+
+        Report(String screen, int placeCount, FieldMask requested, FieldMask used) {
+            this.screen = screen;
+            this.placeCount = placeCount;
+            this.requested = requested;
+            this.used = used;
+            this.unused = requested.minus(used);
+            this.unrequested = used.minus(requested);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            FieldMask needed = requested.intersect(used);
+            return screen + ": " + placeCount + " places"
+                    + ", requested " + requested.size() + " fields at "
+                    + FieldCostPlanner.tierOf(requested)
+                    + " (~" + FieldCostPlanner.payloadWeightOf(requested) + " bytes)"
+                    + ", read " + needed.size() + " at " + FieldCostPlanner.tierOf(needed)
+                    + " (~" + FieldCostPlanner.payloadWeightOf(needed) + " bytes)"
+                    + ", unused " + unused
+                    + (unrequested.isEmpty() ? "" : ", read but not requested " + unrequested);
+        }
+    }
+
+    /**
+     * A {@link Place} whose getters record the {@link Field} they read. Only the getters the demo
+     * uses are exposed; {@link #readAll()} hands out the place itself for anything else.
+     */
+    public static final class TrackedPlace {
+        @Nullable
+        private final Site site;
+        private final FieldMask requested;
+        private final Place place;
+
+        TrackedPlace(@Nullable Site site, FieldMask requested, Place place) {
+            this.site = site;
+            this.requested = requested;
+            this.place = place;
+        }
+
+        @Nullable
+        public String getId() {
+            read(Field.ID);
+            return place.getId();
+        }
+
+        @Nullable
+        public String getDisplayName() {
+            read(Field.DISPLAY_NAME);
+            return place.getDisplayName();
+        }
+
+        @Nullable
+        public String getFormattedAddress() {
+            read(Field.FORMATTED_ADDRESS);
+            return place.getFormattedAddress();
+        }
+
+        @Nullable
+        public AddressComponents getAddressComponents() {
+            read(Field.ADDRESS_COMPONENTS);
+            return place.getAddressComponents();
+        }
+
+        @Nullable
+        public LatLng getLocation() {
+            read(Field.LOCATION);
+            return place.getLocation();
+        }
+
+        @Nullable
+        public List<PhotoMetadata> getPhotoMetadatas() {
+            read(Field.PHOTO_METADATAS);
+            return place.getPhotoMetadatas();
+        }
+
+        @Nullable
+        public Integer getIconBackgroundColor() {
+            read(Field.ICON_BACKGROUND_COLOR);
+            return place.getIconBackgroundColor();
+        }
+
+        @Nullable
+        public String getIconMaskUrl() {
+            read(Field.ICON_MASK_URL);
+            return place.getIconMaskUrl();
+        }
+
+        @Nullable
+        public Place.BusinessStatus getBusinessStatus() {
+            read(Field.BUSINESS_STATUS);
+            return place.getBusinessStatus();
+        }
+
+        @Nullable
+        public OpeningHours getOpeningHours() {
+            read(Field.OPENING_HOURS);
+            return place.getOpeningHours();
+        }
+
+        @Nullable
+        public OpeningHours getCurrentOpeningHours() {
+            read(Field.CURRENT_OPENING_HOURS);
+            return place.getCurrentOpeningHours();
+        }
+
+        @Nullable
+        public Integer getUtcOffsetMinutes() {
+            read(Field.UTC_OFFSET);
+            return place.getUtcOffsetMinutes();
+        }
+
+        /**
+         * Returns the wrapped place. Its reads cannot be followed, so every requested field counts
+         * as read.
+         */
+        @NonNull
+        public Place readAll() {
+            if (site != null) {
+                site.recordReadAll(requested);
+            }
+            return place;
+        }
+
+        /** Returns the full description of the place, which reads every requested field. */
+        @NonNull
+        @Override
+        public String toString() {
+            return readAll().toString();
+        }
+
+        private void read(Field field) {
+            if (site != null) {
+                site.recordRead(field);
+            }
+        }
+    }
+}
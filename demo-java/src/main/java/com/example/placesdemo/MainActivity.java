@@ -18,11 +18,13 @@ package com.example.placesdemo;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.view.View;
 import android.widget.Toast;
 
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.placesdemo.metrics.PlacesMetricsActivity;
 import com.example.placesdemo.programmatic_autocomplete.ProgrammaticAutocompleteToolbarActivity;
 import com.google.android.libraries.places.api.Places;
 
@@ -44,6 +46,12 @@ public class MainActivity extends AppCompatActivity {
         setLaunchActivityClickListener(R.id.place_and_photo_button, PlaceDetailsAndPhotosActivity.class);
         setLaunchActivityClickListener(R.id.is_open_button, PlaceIsOpenActivity.class);
         setLaunchActivityClickListener(R.id.current_place_button, CurrentPlaceActivity.class);
+
+        // The metrics screen is a debugging aid, so release builds leave it out of the list.
+        if (BuildConfig.DEBUG) {
+            findViewById(R.id.places_metrics_button).setVisibility(View.VISIBLE);
+            setLaunchActivityClickListener(R.id.places_metrics_button, PlacesMetricsActivity.class);
+        }
     }
 
     private void setLaunchActivityClickListener(
@@ -36,7 +36,6 @@ import com.google.android.gms.common.api.Status;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.tasks.Task;
-import com.google.android.libraries.places.api.Places;
 import com.google.android.libraries.places.api.model.AutocompleteSessionToken;
 import com.google.android.libraries.places.api.model.LocationBias;
 import com.google.android.libraries.places.api.model.LocationRestriction;
@@ -66,6 +65,11 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
     private static final int AUTOCOMPLETE_REQUEST_CODE = 23487;
     private PlacesClient placesClient;
     private FieldSelector fieldSelector;
+    private FieldUsageTracker.Site fieldUsage;
+    // The fields last requested by the support fragment and by the autocomplete activity.
+    private FieldMask fragmentPlaceFields;
+    @Nullable
+    private FieldMask activityPlaceFields;
     private PlaceAutocompleteActivityBinding binding;
 
     @Override
@@ -79,8 +83,10 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
         binding = PlaceAutocompleteActivityBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
 
-        // Retrieve a PlacesClient (previously initialized - see MainActivity)
-        placesClient = Places.createClient(this);
+        // Retrieve the shared, instrumented PlacesClient (see PlacesDemoApplication)
+        placesClient = ((PlacesDemoApplication) getApplication()).getPlacesClient();
+        fieldUsage = ((PlacesDemoApplication) getApplication()).getFieldUsageTracker()
+                .site("PlaceAutocompleteActivity");
 
         // Set up view objects
         binding.autocompleteUseTypesFilterCheckbox.setOnCheckedChangeListener(
@@ -110,35 +116,44 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
         fieldSelector.onSaveInstanceState(bundle);
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        fieldUsage.logReport();
+    }
+
     private void setupAutocompleteSupportFragment() {
         final AutocompleteSupportFragment autocompleteSupportFragment =
                 (AutocompleteSupportFragment)
                         getSupportFragmentManager().findFragmentById(R.id.autocomplete_support_fragment);
         if (autocompleteSupportFragment != null) {
-            autocompleteSupportFragment.setPlaceFields(getPlaceFields());
+            fragmentPlaceFields = FieldMask.of(getPlaceFields());
+            autocompleteSupportFragment.setPlaceFields(fragmentPlaceFields.toList());
             autocompleteSupportFragment.setOnPlaceSelectedListener(getPlaceSelectionListener());
         }
 
         binding.autocompleteSupportFragmentUpdateButton
                 .setOnClickListener(
-                        view ->
-                                autocompleteSupportFragment
-                                        .setPlaceFields(getPlaceFields())
-                                        .setText(getQuery())
-                                        .setHint(getHint())
-                                        .setCountries(getCountries())
-                                        .setLocationBias(getLocationBias())
-                                        .setLocationRestriction(getLocationRestriction())
-                                        .setTypesFilter(getTypesFilter())
-                                        .setActivityMode(getMode()));
+                        view -> {
+                            fragmentPlaceFields = FieldMask.of(getPlaceFields());
+                            autocompleteSupportFragment
+                                    .setPlaceFields(fragmentPlaceFields.toList())
+                                    .setText(getQuery())
+                                    .setHint(getHint())
+                                    .setCountries(getCountries())
+                                    .setLocationBias(getLocationBias())
+                                    .setLocationRestriction(getLocationRestriction())
+                                    .setTypesFilter(getTypesFilter())
+                                    .setActivityMode(getMode());
+                        });
     }
 
     private PlaceSelectionListener getPlaceSelectionListener() {
         return new PlaceSelectionListener() {
             @Override
             public void onPlaceSelected(@NonNull Place place) {
-                binding.response.setText(
-                        StringUtil.stringifyAutocompleteWidget(place, isDisplayRawResultsChecked()));
+                binding.response.setText(StringUtil.stringifyAutocompleteWidget(
+                        fieldUsage.track(fragmentPlaceFields, place), isDisplayRawResultsChecked()));
             }
 
             @Override
@@ -156,8 +171,12 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
         if (requestCode == AUTOCOMPLETE_REQUEST_CODE) {
             if (resultCode == AutocompleteActivity.RESULT_OK) {
                 Place place = Autocomplete.getPlaceFromIntent(intent);
-                binding.response.setText(
-                        StringUtil.stringifyAutocompleteWidget(place, isDisplayRawResultsChecked()));
+                // The requested fields are lost if this activity was recreated in the meantime.
+                FieldMask requested = activityPlaceFields != null
+                        ? activityPlaceFields
+                        : FieldMask.of(getPlaceFields());
+                binding.response.setText(StringUtil.stringifyAutocompleteWidget(
+                        fieldUsage.track(requested, place), isDisplayRawResultsChecked()));
             } else if (resultCode == AutocompleteActivity.RESULT_ERROR) {
                 Status status = Autocomplete.getStatusFromIntent(intent);
                 binding.response.setText(status.getStatusMessage());
@@ -172,8 +191,9 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
     }
 
     private void startAutocompleteActivity() {
+        activityPlaceFields = FieldMask.of(getPlaceFields());
         Intent autocompleteIntent =
-                new Autocomplete.IntentBuilder(getMode(), getPlaceFields())
+                new Autocomplete.IntentBuilder(getMode(), activityPlaceFields.toList())
                         .setInitialQuery(getQuery())
                         .setHint(getHint())
                         .setCountries(getCountries())
@@ -220,11 +240,21 @@ public class PlaceAutocompleteActivity extends AppCompatActivity {
     // Helper methods below //
     //////////////////////////
 
+    /**
+     * Returns the fields this screen reads, unless the user selected custom fields, which are then
+     * checked against them by the {@link FieldCostPlanner}.
+     */
     private List<Place.Field> getPlaceFields() {
+        // The raw output prints every field of the place.
+        FieldMask usedFields = isDisplayRawResultsChecked()
+                ? FieldMask.of(fieldSelector.getAllFields())
+                : StringUtil.STRINGIFY_FIELDS;
         if (((CheckBox) findViewById(R.id.use_custom_fields)).isChecked()) {
-            return fieldSelector.getSelectedFields();
+            return FieldCostPlanner.reviewAndLog(
+                    "PlaceAutocompleteActivity", fieldSelector.getSelectedMask(), usedFields)
+                    .toList();
         } else {
-            return fieldSelector.getAllFields();
+            return usedFields.toList();
         }
     }
 
@@ -17,14 +17,12 @@
 package com.example.placesdemo;
 
 import com.bumptech.glide.Glide;
+import com.example.placesdemo.FieldUsageTracker.TrackedPlace;
 import com.example.placesdemo.databinding.PlaceDetailsAndPhotosActivityBinding;
 import com.google.android.gms.tasks.Task;
-import com.google.android.libraries.places.api.Places;
 import com.google.android.libraries.places.api.model.PhotoMetadata;
 import com.google.android.libraries.places.api.model.Place;
 import com.google.android.libraries.places.api.model.Place.Field;
-import com.google.android.libraries.places.api.net.FetchPhotoRequest;
-import com.google.android.libraries.places.api.net.FetchPhotoResponse;
 import com.google.android.libraries.places.api.net.FetchPlaceRequest;
 import com.google.android.libraries.places.api.net.FetchPlaceResponse;
 import com.google.android.libraries.places.api.net.PlacesClient;
@@ -59,7 +57,9 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
     private static final String FETCHED_PHOTO_KEY = "photo_image";
     private PlacesClient placesClient;
     private PhotoMetadata photo;
+    private Bitmap displayedPhoto;
     private FieldSelector fieldSelector;
+    private FieldUsageTracker.Site fieldUsage;
 
     private PlaceDetailsAndPhotosActivityBinding binding;
 
@@ -72,8 +72,10 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         binding = PlaceDetailsAndPhotosActivityBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
 
-        // Retrieve a PlacesClient (previously initialized - see MainActivity)
-        placesClient = Places.createClient(this);
+        // Retrieve the shared, instrumented PlacesClient (see PlacesDemoApplication)
+        placesClient = ((PlacesDemoApplication) getApplication()).getPlacesClient();
+        fieldUsage = ((PlacesDemoApplication) getApplication()).getFieldUsageTracker()
+                .site("PlaceDetailsAndPhotosActivity");
         if (savedInstanceState != null) {
             photo = savedInstanceState.getParcelable(FETCHED_PHOTO_KEY);
         }
@@ -107,6 +109,19 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         bundle.putParcelable(FETCHED_PHOTO_KEY, photo);
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        fieldUsage.logReport();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        // The view is gone, so the photo cache may reuse the displayed bitmap.
+        setDisplayedPhoto(null);
+    }
+
     /**
      * Fetches the {@link Place} specified via the UI and displays it. May also trigger {@link
      * #fetchPhoto(PhotoMetadata)} if set in the UI.
@@ -128,17 +143,21 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         setLoading(true);
 
         FetchPlaceRequest request = FetchPlaceRequest.newInstance(getPlaceId(), placeFields);
-        Task<FetchPlaceResponse> placeTask = placesClient.fetchPlace(request);
+        Task<FetchPlaceResponse> placeTask =
+                ((PlacesDemoApplication) getApplication()).getPlaceDetailsCache()
+                        .fetchPlace(placesClient, request);
 
         placeTask.addOnSuccessListener(
 
                 (response) -> {
-                    binding.response.setText(StringUtil.stringify(response, isDisplayRawResultsChecked()));
+                    TrackedPlace place = fieldUsage.track(placeFields, response.getPlace());
+                    binding.response.setText(
+                            StringUtil.stringifyFetchPlace(place, isDisplayRawResultsChecked()));
                     if (isFetchPhotoChecked) {
-                        attemptFetchPhoto(response.getPlace());
+                        attemptFetchPhoto(place);
                     }
                     if (isFetchIconChecked) {
-                        attemptFetchIcon(response.getPlace());
+                        attemptFetchIcon(place);
                     }
                 });
 
@@ -151,14 +170,14 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         placeTask.addOnCompleteListener(response -> setLoading(false));
     }
 
-    private void attemptFetchPhoto(Place place) {
+    private void attemptFetchPhoto(TrackedPlace place) {
         List<PhotoMetadata> photoMetadatas = place.getPhotoMetadatas();
         if (photoMetadatas != null && !photoMetadatas.isEmpty()) {
             fetchPhoto(photoMetadatas.get(0));
         }
     }
 
-    private void attemptFetchIcon(Place place) {
+    private void attemptFetchIcon(TrackedPlace place) {
         binding.icon.setImageBitmap(null);
         Integer bc = place.getIconBackgroundColor();
         binding.icon.setBackgroundColor(bc == null ? Color.TRANSPARENT : bc);
@@ -174,7 +193,7 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
     private void fetchPhoto(PhotoMetadata photoMetadata) {
         photo = photoMetadata;
 
-        binding.photo.setImageBitmap(null);
+        setDisplayedPhoto(null);
         setLoading(true);
 
         String customPhotoReference = getCustomPhotoReference();
@@ -182,34 +201,36 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
             photoMetadata = PhotoMetadata.builder(customPhotoReference).build();
         }
 
-        FetchPhotoRequest.Builder photoRequestBuilder = FetchPhotoRequest.builder(photoMetadata);
-
         Integer maxWidth = readIntFromTextView(R.id.photo_max_width);
-        if (maxWidth != null) {
-            photoRequestBuilder.setMaxWidth(maxWidth);
-        }
-
         Integer maxHeight = readIntFromTextView(R.id.photo_max_height);
-        if (maxHeight != null) {
-            photoRequestBuilder.setMaxHeight(maxHeight);
-        }
 
-        Task<FetchPhotoResponse> photoTask = placesClient.fetchPhoto(photoRequestBuilder.build());
-
-        photoTask.addOnSuccessListener(
-                response -> {
-                    Bitmap bitmap = response.getBitmap();
-                    binding.photo.setImageBitmap(bitmap);
-                    StringUtil.prepend(binding.photoMetadata, StringUtil.stringify(bitmap));
-                });
-
-        photoTask.addOnFailureListener(
-                exception -> {
-                    exception.printStackTrace();
-                    StringUtil.prepend(binding.response, "Photo: " + exception.getMessage());
+        // Served from memory after a rotation, from disk after a restart.
+        Task<Bitmap> photoTask =
+                ((PlacesDemoApplication) getApplication()).getPhotoCache()
+                        .fetchPhoto(placesClient, photoMetadata, maxWidth, maxHeight);
+
+        // A photo that arrives after the activity is finishing is handed straight back, or the
+        // cache would count it as in use forever; a displayed one is released by onDestroy.
+        photoTask.addOnCompleteListener(
+                task -> {
+                    if (isFinishing() || isDestroyed()) {
+                        if (task.isSuccessful()) {
+                            ((PlacesDemoApplication) getApplication()).getPhotoCache()
+                                    .release(task.getResult());
+                        }
+                        return;
+                    }
+                    setLoading(false);
+                    if (task.isSuccessful()) {
+                        Bitmap bitmap = task.getResult();
+                        setDisplayedPhoto(bitmap);
+                        StringUtil.prepend(binding.photoMetadata, StringUtil.stringify(bitmap));
+                    } else {
+                        Exception exception = task.getException();
+                        exception.printStackTrace();
+                        StringUtil.prepend(binding.response, "Photo: " + exception.getMessage());
+                    }
                 });
-
-        photoTask.addOnCompleteListener(response -> setLoading(false));
     }
 
     //////////////////////////
@@ -248,12 +269,34 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         return ((TextView) findViewById(R.id.place_id_field)).getText().toString();
     }
 
+    /**
+     * Returns the fields this screen reads, unless the user selected custom fields, which are then
+     * checked against them by the {@link FieldCostPlanner}.
+     */
     private List<Field> getPlaceFields() {
+        FieldMask usedFields = getUsedFields();
         if (((CheckBox) findViewById(R.id.use_custom_fields)).isChecked()) {
-            return fieldSelector.getSelectedFields();
+            return FieldCostPlanner.reviewAndLog(
+                    "PlaceDetailsAndPhotosActivity", fieldSelector.getSelectedMask(), usedFields)
+                    .toList();
         } else {
-            return fieldSelector.getAllFields();
+            return usedFields.toList();
+        }
+    }
+
+    private FieldMask getUsedFields() {
+        if (isDisplayRawResultsChecked()) {
+            // The raw output prints every field of the place.
+            return FieldMask.of(fieldSelector.getAllFields());
         }
+        FieldMask usedFields = StringUtil.STRINGIFY_FIELDS;
+        if (isFetchPhotoChecked()) {
+            usedFields = usedFields.with(Field.PHOTO_METADATAS);
+        }
+        if (isFetchIconChecked()) {
+            usedFields = usedFields.with(Field.ICON_MASK_URL).with(Field.ICON_BACKGROUND_COLOR);
+        }
+        return usedFields;
     }
 
     private boolean isDisplayRawResultsChecked() {
@@ -317,9 +360,20 @@ public class PlaceDetailsAndPhotosActivity extends AppCompatActivity {
         findViewById(R.id.loading).setVisibility(loading ? View.VISIBLE : View.INVISIBLE);
     }
 
+    /**
+     * Shows {@code bitmap} in the photo view and hands the previously shown one back to the cache.
+     */
+    private void setDisplayedPhoto(@Nullable Bitmap bitmap) {
+        binding.photo.setImageBitmap(bitmap);
+        if (displayedPhoto != null) {
+            ((PlacesDemoApplication) getApplication()).getPhotoCache().release(displayedPhoto);
+        }
+        displayedPhoto = bitmap;
+    }
+
     private void clearViews() {
         binding.response.setText(null);
-        binding.photo.setImageBitmap(null);
+        setDisplayedPhoto(null);
         binding.photoMetadata.setText(null);
         binding.icon.setImageBitmap(null);
     }
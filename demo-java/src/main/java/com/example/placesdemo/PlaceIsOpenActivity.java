@@ -35,8 +35,9 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.example.placesdemo.databinding.PlaceIsOpenActivityBinding;
+import com.example.placesdemo.hours.OpeningHoursDecoder;
+import com.example.placesdemo.hours.OpeningHoursTable;
 import com.google.android.gms.tasks.Task;
-import com.google.android.libraries.places.api.Places;
 import com.google.android.libraries.places.api.model.Place;
 import com.google.android.libraries.places.api.model.Place.Field;
 import com.google.android.libraries.places.api.net.FetchPlaceRequest;
@@ -78,8 +79,8 @@ public class PlaceIsOpenActivity extends AppCompatActivity {
         View rootView = binding.getRoot();
         setContentView(rootView);
 
-        // Retrieve a PlacesClient (previously initialized - see MainActivity)
-        placesClient = Places.createClient(/* context= */ this);
+        // Retrieve the shared, instrumented PlacesClient (see PlacesDemoApplication)
+        placesClient = ((PlacesDemoApplication) getApplication()).getPlacesClient();
 
         fieldSelector =
                 new FieldSelector(
@@ -118,7 +119,9 @@ public class PlaceIsOpenActivity extends AppCompatActivity {
 
         List<Field> placeFields = getPlaceFields();
         FetchPlaceRequest request = FetchPlaceRequest.newInstance(getPlaceId(), placeFields);
-        Task<FetchPlaceResponse> placeTask = placesClient.fetchPlace(request);
+        Task<FetchPlaceResponse> placeTask =
+                ((PlacesDemoApplication) getApplication()).getPlaceDetailsCache()
+                        .fetchPlace(placesClient, request);
 
         placeTask.addOnSuccessListener(
                 (response) -> {
@@ -138,11 +141,28 @@ public class PlaceIsOpenActivity extends AppCompatActivity {
     /**
      * Check if the place is open at the time specified in the input fields.
      * Requires a Place object that includes Place.Field.ID
+     *
+     * <p>The place's opening hours are evaluated locally when they are complete; the
+     * {@link IsOpenRequest} is only sent when they are not.
      */
     @SuppressLint("SetTextI18n")
     private void isOpenByPlaceObject(Place place) {
         clearViews();
         dismissKeyboard(binding.editTextPlaceId);
+
+        OpeningHoursTable openingHours = OpeningHoursDecoder.decode(place);
+        Boolean isOpen = openingHours == null
+                ? null
+                : openingHours.isOpen(isOpenCalendar.getTimeInMillis());
+        if (isOpen != null) {
+            binding.textViewResponse.setText("Is place open? "
+                                             + isOpen
+                                             + " (evaluated locally)"
+                                             + "\nExtra place details: \n"
+                                             + StringUtil.stringify(place));
+            return;
+        }
+
         setLoading(true);
 
         IsOpenRequest request;
@@ -156,7 +176,9 @@ public class PlaceIsOpenActivity extends AppCompatActivity {
             return;
         }
 
-        Task<IsOpenResponse> placeTask = placesClient.isOpen(request);
+        Task<IsOpenResponse> placeTask =
+                ((PlacesDemoApplication) getApplication()).getRequestCoalescer()
+                        .isOpen(placesClient, request);
 
         placeTask.addOnSuccessListener(
                 (response) -> binding.textViewResponse.setText("Is place open? "
@@ -194,7 +216,9 @@ public class PlaceIsOpenActivity extends AppCompatActivity {
             return;
         }
 
-        Task<IsOpenResponse> placeTask = placesClient.isOpen(request);
+        Task<IsOpenResponse> placeTask =
+                ((PlacesDemoApplication) getApplication()).getRequestCoalescer()
+                        .isOpen(placesClient, request);
 
         placeTask.addOnSuccessListener(
                 (response) -> binding.textViewResponse.setText("Is place open? " + response.isOpen()));
@@ -17,22 +17,177 @@
 package com.example.placesdemo;
 
 import android.app.Application;
+import android.util.Log;
 import android.widget.Toast;
 
+import com.example.placesdemo.cache.GeocodingResultCache;
+import com.example.placesdemo.cache.PhotoCache;
+import com.example.placesdemo.cache.PlaceDetailsCache;
+import com.example.placesdemo.cache.RecordStore;
+import com.example.placesdemo.cache.PlacesRequestCoalescer;
+import com.example.placesdemo.metrics.InstrumentedPlacesClient;
+import com.example.placesdemo.metrics.PlacesClientMetrics;
+import com.example.placesdemo.programmatic_autocomplete.GeocodingQueue;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
 import com.google.android.libraries.places.api.Places;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class PlacesDemoApplication extends Application {
+
+    private static final String TAG = "PlacesDemoApplication";
+    private static final int PLACE_DETAILS_CACHE_SIZE = 100;
+    private static final long PLACE_DETAILS_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long PHOTO_DISK_CACHE_BYTES = 20L * 1024 * 1024;
+    private static final int GEOCODING_DISK_CACHE_BYTES = 5 * 1024 * 1024;
+    private static final int GEOCODING_THREAD_POOL_SIZE = 2;
+    private static final long GEOCODING_CACHE_TTL_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int GEOCODING_RESULT_CACHE_SIZE = 100;
+
+    private final ExecutorService diskExecutor = Executors.newSingleThreadExecutor();
+    private final PlacesRequestCoalescer requestCoalescer = new PlacesRequestCoalescer();
+    private PlaceDetailsCache placeDetailsCache;
+    private PhotoCache photoCache;
+    private GeocodingQueue geocodingQueue;
+    private GeocodingResultCache geocodingResultCache;
+    private final FieldUsageTracker fieldUsageTracker = new FieldUsageTracker(BuildConfig.DEBUG);
+    private final PlacesClientMetrics placesClientMetrics = new PlacesClientMetrics();
+    private PlacesClient placesClient;
+
     @Override
     public void onCreate() {
         super.onCreate();
 
+        // An eighth of the heap for decoded photos, the usual budget for an in-memory image cache.
+        int photoMemoryBytes = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 8);
+        photoCache = new PhotoCache(requestCoalescer, photoMemoryBytes,
+                new File(getCacheDir(), "photos"), PHOTO_DISK_CACHE_BYTES, diskExecutor);
+        geocodingQueue = new GeocodingQueue(new File(getCacheDir(), "geocoding"),
+                GEOCODING_DISK_CACHE_BYTES, GEOCODING_THREAD_POOL_SIZE, GEOCODING_CACHE_TTL_MILLIS);
+
         final String apiKey = BuildConfig.PLACES_API_KEY;
 
+        if (BuildConfig.FAKE_PLACES_CLIENT) {
+            // getPlacesClient() needs no key. The SDK's autocomplete widgets still call the API
+            // themselves, so they only work if a key is configured as well.
+            Log.i(TAG, "Answering PlacesClient calls from the bundled fixtures");
+        }
+
         if (apiKey.equals("")) {
-            Toast.makeText(this, getString(R.string.error_api_key), Toast.LENGTH_LONG).show();
+            if (!BuildConfig.FAKE_PLACES_CLIENT) {
+                Toast.makeText(this, getString(R.string.error_api_key), Toast.LENGTH_LONG).show();
+            }
             return;
         }
 
         Places.initialize(getApplicationContext(), apiKey);
     }
+
+    /**
+     * Opens the disk tier of the place details cache. The directory is versioned by both the app
+     * and the Places SDK, because stored places are only readable by the same SDK build.
+     */
+    private Task<RecordStore> openPlaceDetailsStore() {
+        return openStore(
+                "places-" + BuildConfig.VERSION_CODE + "-" + BuildConfig.PLACES_SDK_VERSION);
+    }
+
+    /**
+     * Opens a {@link RecordStore} in the named cache subdirectory on the disk executor, since
+     * opening maps its index and may rebuild it. The task yields {@code null} to run with the
+     * memory cache only.
+     */
+    private Task<RecordStore> openStore(String name) {
+        File directory = new File(getCacheDir(), name);
+        return Tasks.call(diskExecutor, () -> {
+            try {
+                return new RecordStore(directory, diskExecutor);
+            } catch (IOException e) {
+                Log.w(TAG, "Store " + name + " unavailable, using memory cache only", e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the {@link PlacesClient} shared by all activities in this app. It records every call
+     * in {@link #getPlacesClientMetrics()}. Unless the build answers from the Places fixtures, the
+     * Places SDK must have been initialized.
+     */
+    public synchronized PlacesClient getPlacesClient() {
+        if (placesClient == null) {
+            PlacesClient client = BuildConfig.FAKE_PLACES_CLIENT
+                    ? FakePlacesClients.create(this) : Places.createClient(this);
+            placesClient = new InstrumentedPlacesClient(client, placesClientMetrics);
+        }
+        return placesClient;
+    }
+
+    /**
+     * Returns the latency and error statistics of the calls made with {@link #getPlacesClient()}.
+     */
+    public PlacesClientMetrics getPlacesClientMetrics() {
+        return placesClientMetrics;
+    }
+
+    /**
+     * Returns the {@link PlaceDetailsCache} shared by all activities in this app. Its disk tier is
+     * opened in the background on first use.
+     */
+    public synchronized PlaceDetailsCache getPlaceDetailsCache() {
+        if (placeDetailsCache == null) {
+            placeDetailsCache = new PlaceDetailsCache(PLACE_DETAILS_CACHE_SIZE,
+                    PLACE_DETAILS_CACHE_TTL_MILLIS, openPlaceDetailsStore(), diskExecutor,
+                    requestCoalescer);
+        }
+        return placeDetailsCache;
+    }
+
+    /**
+     * Returns the {@link PhotoCache} shared by all activities in this app.
+     */
+    public PhotoCache getPhotoCache() {
+        return photoCache;
+    }
+
+    /**
+     * Returns the {@link GeocodingQueue} shared by all activities in this app.
+     */
+    public GeocodingQueue getGeocodingQueue() {
+        return geocodingQueue;
+    }
+
+    /**
+     * Returns the {@link GeocodingResultCache} shared by all activities in this app. Its disk tier
+     * is opened in the background on first use, and is the only place geocoding results persist:
+     * requests it sends bypass the {@link GeocodingQueue} disk cache.
+     */
+    public synchronized GeocodingResultCache getGeocodingResultCache() {
+        if (geocodingResultCache == null) {
+            geocodingResultCache = new GeocodingResultCache(GEOCODING_RESULT_CACHE_SIZE,
+                    GEOCODING_CACHE_TTL_MILLIS, openStore("geocoding-results"), diskExecutor);
+        }
+        return geocodingResultCache;
+    }
+
+    /**
+     * Returns the {@link FieldUsageTracker} shared by all activities in this app. It only records
+     * reads in debug builds.
+     */
+    public FieldUsageTracker getFieldUsageTracker() {
+        return fieldUsageTracker;
+    }
+
+    /**
+     * Returns the {@link PlacesRequestCoalescer} shared by all activities in this app.
+     */
+    public PlacesRequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
 }
@@ -22,10 +22,12 @@ import android.widget.TextView;
 
 import androidx.annotation.Nullable;
 
+import com.example.placesdemo.FieldUsageTracker.TrackedPlace;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.libraries.places.api.model.AutocompletePrediction;
 import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
 import com.google.android.libraries.places.api.model.PlaceLikelihood;
 import com.google.android.libraries.places.api.net.FetchPlaceResponse;
 import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse;
@@ -42,6 +44,10 @@ public final class StringUtil {
   private static final String FIELD_SEPARATOR = "\n\t";
   private static final String RESULT_SEPARATOR = "\n---\n\t";
 
+  /** The {@link Field} values read by {@link #stringify(TrackedPlace)}. */
+  static final FieldMask STRINGIFY_FIELDS =
+      FieldMask.of(Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS);
+
   static void prepend(TextView textView, String prefix) {
     textView.setText(prefix + "\n\n" + textView.getText());
   }
@@ -105,26 +111,35 @@ public final class StringUtil {
     return builder.toString();
   }
 
-  static String stringify(FetchPlaceResponse response, boolean raw) {
+  /** Describes the place of a {@link FetchPlaceResponse}. */
+  static String stringifyFetchPlace(TrackedPlace place, boolean raw) {
     StringBuilder builder = new StringBuilder();
 
     builder.append("Fetch Place Result:").append(RESULT_SEPARATOR);
     if (raw) {
-      builder.append(response.getPlace());
+      builder.append(place);
     } else {
-      builder.append(stringify(response.getPlace()));
+      builder.append(stringify(place));
     }
 
     return builder.toString();
   }
 
-  static String stringify(FindCurrentPlaceResponse response, boolean raw) {
+  /**
+   * Describes the places of a {@link FindCurrentPlaceResponse} requested with {@code requested},
+   * tracking their reads with {@code site}.
+   */
+  static String stringify(FindCurrentPlaceResponse response, FieldUsageTracker.Site site,
+      FieldMask requested, boolean raw) {
     StringBuilder builder = new StringBuilder();
 
     builder.append(response.getPlaceLikelihoods().size()).append(" Current Place Results:");
 
     if (raw) {
       builder.append(RESULT_SEPARATOR);
+      for (PlaceLikelihood placeLikelihood : response.getPlaceLikelihoods()) {
+        site.track(requested, placeLikelihood.getPlace()).readAll();
+      }
       appendListToStringBuilder(builder, response.getPlaceLikelihoods());
     } else {
       for (PlaceLikelihood placeLikelihood : response.getPlaceLikelihoods()) {
@@ -134,7 +149,7 @@ public final class StringUtil {
             .append(placeLikelihood.getLikelihood())
             .append(FIELD_SEPARATOR)
             .append("Place: ")
-            .append(stringify(placeLikelihood.getPlace()));
+            .append(stringify(site.track(requested, placeLikelihood.getPlace())));
       }
     }
 
@@ -142,6 +157,10 @@ public final class StringUtil {
   }
 
   static String stringify(Place place) {
+    return stringify(FieldUsageTracker.untracked(place));
+  }
+
+  static String stringify(TrackedPlace place) {
     return place.getDisplayName()
             + " ("
             + place.getFormattedAddress()
@@ -161,7 +180,7 @@ public final class StringUtil {
     return builder.toString();
   }
 
-  public static String stringifyAutocompleteWidget(Place place, boolean raw) {
+  public static String stringifyAutocompleteWidget(TrackedPlace place, boolean raw) {
     StringBuilder builder = new StringBuilder();
 
     builder.append("Autocomplete Widget Result:").append(RESULT_SEPARATOR);
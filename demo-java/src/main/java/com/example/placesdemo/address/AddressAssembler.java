@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.address;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.placesdemo.address.AddressFormat.Part;
+import com.example.placesdemo.model.AddressType;
+import com.google.android.libraries.places.api.model.AddressComponent;
+import com.google.android.libraries.places.api.model.AddressComponents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns the {@link AddressComponents} of a place into a {@link StructuredAddress}, using the
+ * {@link AddressFormat} of the place's country.
+ *
+ * <p>Components are matched on every one of their types, not only the first, so a component typed
+ * {@code ["subpremise", "establishment"]} still fills the second address line. The components are
+ * read in a single pass that indexes them by type; each line is then appended front to back from
+ * that index.
+ */
+public final class AddressAssembler {
+
+    private AddressAssembler() {
+    }
+
+    @NonNull
+    public static StructuredAddress assemble(@Nullable AddressComponents components) {
+        List<AddressComponent> list =
+                components == null ? Collections.emptyList() : components.asList();
+
+        // The first component of each type, since components are ordered most specific first.
+        Map<AddressType, AddressComponent> byType = new EnumMap<>(AddressType.class);
+        for (AddressComponent component : list) {
+            for (String wireName : component.getTypes()) {
+                AddressType type = AddressType.fromWireName(wireName);
+                if (!byType.containsKey(type)) {
+                    byType.put(type, component);
+                }
+            }
+        }
+
+        Set<AddressComponent> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        AddressComponent country = use(byType.get(AddressType.COUNTRY), used);
+        String countryCode = country == null ? "" : nonNull(country.getShortName());
+        AddressFormat format = AddressFormat.forCountry(countryCode);
+
+        StringBuilder builder = new StringBuilder();
+        String address1 = joinAll(format.address1, byType, used, builder);
+        String address2 = joinAll(format.address2, byType, used, builder);
+        String locality = first(format.locality, byType, used);
+        String adminArea = first(format.adminArea, byType, used);
+
+        builder.setLength(0);
+        AddressComponent postalCode = use(byType.get(AddressType.POSTAL_CODE), used);
+        if (postalCode != null) {
+            builder.append(postalCode.getName());
+            AddressComponent suffix = use(byType.get(AddressType.POSTAL_CODE_SUFFIX), used);
+            if (suffix != null) {
+                builder.append('-').append(suffix.getName());
+            }
+        }
+
+        List<String> unmatched = new ArrayList<>();
+        for (AddressComponent component : list) {
+            if (!used.contains(component)) {
+                unmatched.add(component.getName());
+            }
+        }
+
+        return new StructuredAddress(address1, address2, locality, adminArea, builder.toString(),
+                country == null ? "" : country.getName(), countryCode,
+                Collections.unmodifiableList(unmatched));
+    }
+
+    /** Joins the name of every present part with a space. */
+    private static String joinAll(Part[] parts, Map<AddressType, AddressComponent> byType,
+                                  Set<AddressComponent> used, StringBuilder builder) {
+        builder.setLength(0);
+        for (Part part : parts) {
+            AddressComponent component = byType.get(part.type);
+            // A component with several types, like a premise that is also a subpremise, is only
+            // written once per line.
+            if (component == null || used.contains(component)) {
+                continue;
+            }
+            used.add(component);
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(name(component, part));
+        }
+        return builder.toString();
+    }
+
+    /** Returns the name of the first present part. */
+    private static String first(Part[] parts, Map<AddressType, AddressComponent> byType,
+                                Set<AddressComponent> used) {
+        for (Part part : parts) {
+            AddressComponent component = byType.get(part.type);
+            if (component != null) {
+                used.add(component);
+                return name(component, part);
+            }
+        }
+        return "";
+    }
+
+    @Nullable
+    private static AddressComponent use(@Nullable AddressComponent component,
+                                        Set<AddressComponent> used) {
+        if (component != null) {
+            used.add(component);
+        }
+        return component;
+    }
+
+    private static String name(AddressComponent component, Part part) {
+        String shortName = component.getShortName();
+        return part.shortName && shortName != null ? shortName : component.getName();
+    }
+
+    private static String nonNull(@Nullable String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.address;
+
+import static com.example.placesdemo.model.AddressType.ADMINISTRATIVE_AREA_LEVEL_1;
+import static com.example.placesdemo.model.AddressType.ADMINISTRATIVE_AREA_LEVEL_2;
+import static com.example.placesdemo.model.AddressType.LOCALITY;
+import static com.example.placesdemo.model.AddressType.POSTAL_TOWN;
+import static com.example.placesdemo.model.AddressType.PREMISE;
+import static com.example.placesdemo.model.AddressType.ROUTE;
+import static com.example.placesdemo.model.AddressType.STREET_NUMBER;
+import static com.example.placesdemo.model.AddressType.SUBLOCALITY_LEVEL_1;
+import static com.example.placesdemo.model.AddressType.SUBPREMISE;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.placesdemo.model.AddressType;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How the address components of one country map onto the lines of a {@link StructuredAddress}.
+ *
+ * <p>Each line lists the component types it is built from. For {@link #address1} and
+ * {@link #address2} every listed type that is present is used, in order, separated by a space.
+ * For the other lines the first listed type that is present wins.
+ */
+final class AddressFormat {
+
+    /** A component type, and whether its short name is used instead of its long name. */
+    static final class Part {
+        final AddressType type;
+        final boolean shortName;
+
+        private Part(AddressType type, boolean shortName) {
+            this.type = type;
+            this.shortName = shortName;
+        }
+    }
+
+    private static final AddressFormat DEFAULT = new AddressFormat(
+            parts(longName(STREET_NUMBER), shortName(ROUTE)),
+            parts(longName(SUBPREMISE), longName(PREMISE)),
+            parts(longName(LOCALITY), longName(POSTAL_TOWN), longName(SUBLOCALITY_LEVEL_1)),
+            parts(shortName(ADMINISTRATIVE_AREA_LEVEL_1)));
+
+    /** Countries that write the route before the street number. */
+    private static final AddressFormat ROUTE_FIRST = new AddressFormat(
+            parts(longName(ROUTE), longName(STREET_NUMBER)),
+            DEFAULT.address2,
+            DEFAULT.locality,
+            DEFAULT.adminArea);
+
+    private static final Map<String, AddressFormat> BY_COUNTRY = new HashMap<>();
+
+    static {
+        BY_COUNTRY.put("GB", new AddressFormat(
+                DEFAULT.address1,
+                DEFAULT.address2,
+                // Royal Mail addresses use the post town rather than the locality.
+                parts(longName(POSTAL_TOWN), longName(LOCALITY)),
+                parts(longName(ADMINISTRATIVE_AREA_LEVEL_2))));
+        BY_COUNTRY.put("IE", new AddressFormat(
+                DEFAULT.address1,
+                DEFAULT.address2,
+                DEFAULT.locality,
+                parts(longName(ADMINISTRATIVE_AREA_LEVEL_1))));
+        BY_COUNTRY.put("IN", new AddressFormat(
+                DEFAULT.address1,
+                parts(longName(PREMISE), longName(SUBLOCALITY_LEVEL_1)),
+                parts(longName(LOCALITY)),
+                parts(longName(ADMINISTRATIVE_AREA_LEVEL_1))));
+        for (String country : new String[]{"AT", "BE", "BR", "CH", "CZ", "DE", "DK", "ES", "FI",
+                "IT", "MX", "NL", "NO", "PL", "PT", "SE"}) {
+            BY_COUNTRY.put(country, ROUTE_FIRST);
+        }
+    }
+
+    final Part[] address1;
+    final Part[] address2;
+    final Part[] locality;
+    final Part[] adminArea;
+
+    private AddressFormat(Part[] address1, Part[] address2, Part[] locality, Part[] adminArea) {
+        this.address1 = address1;
+        this.address2 = address2;
+        this.locality = locality;
+        this.adminArea = adminArea;
+    }
+
+    /** Returns the format for an ISO 3166-1 alpha-2 country code, or the default format. */
+    @NonNull
+    static AddressFormat forCountry(@Nullable String countryCode) {
+        AddressFormat format =
+                countryCode == null ? null : BY_COUNTRY.get(countryCode.toUpperCase(Locale.ROOT));
+        return format == null ? DEFAULT : format;
+    }
+
+    private static Part longName(AddressType type) {
+        return new Part(type, false);
+    }
+
+    private static Part shortName(AddressType type) {
+        return new Part(type, true);
+    }
+
+    private static Part[] parts(Part... parts) {
+        return parts;
+    }
+}
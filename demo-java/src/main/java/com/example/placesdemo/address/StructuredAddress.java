@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.address;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The lines of an address form, as filled in by {@link AddressAssembler}. Lines without a matching
+ * address component are empty strings.
+ */
+public final class StructuredAddress {
+
+    /** The street address, such as "1600 Amphitheatre Pkwy". */
+    @NonNull
+    public final String address1;
+    /** The unit or building, such as "Suite 100". */
+    @NonNull
+    public final String address2;
+    @NonNull
+    public final String locality;
+    /** The state, province or county. */
+    @NonNull
+    public final String adminArea;
+    @NonNull
+    public final String postalCode;
+    @NonNull
+    public final String country;
+    /** The ISO 3166-1 alpha-2 country code, such as "US". */
+    @NonNull
+    public final String countryCode;
+    /** The names of the components that did not fill any line. */
+    @NonNull
+    public final List<String> unmatched;
+
+    StructuredAddress(String address1, String address2, String locality, String adminArea,
+                      String postalCode, String country, String countryCode,
+                      List<String> unmatched) {
+        this.address1 = address1;
+        this.address2 = address2;
+        this.locality = locality;
+        this.adminArea = adminArea;
+        this.postalCode = postalCode;
+        this.country = country;
+        this.countryCode = countryCode;
+        this.unmatched = unmatched;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StructuredAddress)) {
+            return false;
+        }
+        StructuredAddress other = (StructuredAddress) o;
+        return address1.equals(other.address1)
+                && address2.equals(other.address2)
+                && locality.equals(other.locality)
+                && adminArea.equals(other.adminArea)
+                && postalCode.equals(other.postalCode)
+                && country.equals(other.country)
+                && countryCode.equals(other.countryCode)
+                && unmatched.equals(other.unmatched);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(address1, address2, locality, adminArea, postalCode, country,
+                countryCode, unmatched);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StructuredAddress{address1=" + address1
+                + ", address2=" + address2
+                + ", locality=" + locality
+                + ", adminArea=" + adminArea
+                + ", postalCode=" + postalCode
+                + ", country=" + country
+                + ", countryCode=" + countryCode
+                + ", unmatched=" + unmatched
+                + "}";
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.example.placesdemo.model.GeocodingResult;
+import com.example.placesdemo.model.GeocodingResultCodec;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * A size-bounded, in-memory LRU cache of parsed Geocoding API results, keyed by place ID.
+ *
+ * <p>A hit is a map lookup, so geocoding a place a second time costs microseconds instead of a
+ * network round trip. An optional {@link RecordStore} adds a disk tier that survives process death,
+ * holding results in the compact binary encoding of {@link GeocodingResultCodec} rather than JSON,
+ * behind the wall clock time they were fetched at.
+ * It is consulted on the disk executor after a memory miss and before the network, and every
+ * network result is written back to it. The store is passed as a task so that it can be opened on
+ * the disk executor; a store that fails to open leaves the cache memory only.
+ *
+ * <p>When there is a disk tier, it owns persistence and its TTL is the only one that applies, so
+ * {@link Loader}s should not also keep responses in an HTTP cache.
+ */
+public final class GeocodingResultCache {
+
+    private static final String TAG = "GeocodingResultCache";
+
+    /** Loads a result from the network after a cache miss. */
+    public interface Loader {
+        /** Returns a task for the first Geocoding result for {@code placeId}, or {@code null}. */
+        @NonNull
+        Task<GeocodingResult> load(@NonNull String placeId);
+    }
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    @Nullable
+    private final Task<RecordStore> store;
+    @Nullable
+    private final Executor diskExecutor;
+
+    private long hitCount;
+    private long missCount;
+    private long diskHitCount;
+
+    /**
+     * @param maxEntries   the maximum number of results to keep in memory before evicting the
+     *                     least recently used one.
+     * @param ttlMillis    how long a result stays valid, in milliseconds.
+     * @param store        opens the disk tier consulted after a memory miss, or {@code null} for
+     *                     memory only. A {@code null} result also means memory only.
+     * @param diskExecutor background executor used for all {@code store} reads and writes.
+     */
+    public GeocodingResultCache(int maxEntries, long ttlMillis, @Nullable Task<RecordStore> store,
+                                @Nullable Executor diskExecutor) {
+        if (store != null && diskExecutor == null) {
+            throw new IllegalArgumentException("A disk executor is required with a RecordStore");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.store = store;
+        this.diskExecutor = diskExecutor;
+        // An access-ordered LinkedHashMap keeps the least recently used entry at the head.
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > GeocodingResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result for {@code placeId} if there is one, otherwise loads it with
+     * {@code network} and caches it.
+     */
+    @NonNull
+    public Task<GeocodingResult> geocode(@NonNull String placeId, @NonNull Loader network) {
+        GeocodingResult cached = get(placeId);
+        if (cached != null) {
+            return Tasks.forResult(cached);
+        }
+        if (store == null) {
+            return loadFromNetwork(placeId, network);
+        }
+
+        // Chained on the store so that the first lookup waits for it to open.
+        return store.continueWith(diskExecutor, storeTask -> getFromDisk(placeId))
+                .continueWithTask(diskTask -> {
+                    GeocodingResult stored = diskTask.isSuccessful() ? diskTask.getResult() : null;
+                    if (stored != null) {
+                        return Tasks.forResult(stored);
+                    }
+                    return loadFromNetwork(placeId, network);
+                });
+    }
+
+    private Task<GeocodingResult> loadFromNetwork(String placeId, Loader network) {
+        Task<GeocodingResult> task = network.load(placeId);
+        task.addOnSuccessListener(result -> {
+            if (result != null) {
+                put(placeId, result);
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Returns the cached result for {@code placeId} if it is still fresh, or {@code null}
+     * otherwise. Only memory is consulted.
+     */
+    @Nullable
+    public synchronized GeocodingResult get(@NonNull String placeId) {
+        Entry entry = entries.get(placeId);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(placeId);
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.result;
+    }
+
+    /**
+     * Reads the result for {@code placeId} from the disk tier and keeps it in memory, or returns
+     * {@code null} if there is no open store, no record or the record has expired.
+     */
+    @WorkerThread
+    @Nullable
+    public GeocodingResult getFromDisk(@NonNull String placeId) {
+        RecordStore opened = store != null && store.isSuccessful() ? store.getResult() : null;
+        if (opened == null) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = opened.get(placeId);
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to read " + placeId, e);
+            return null;
+        }
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer record = ByteBuffer.wrap(bytes);
+        GeocodingResult result;
+        long ageMillis;
+        try {
+            ageMillis = System.currentTimeMillis() - record.getLong();
+            if (ageMillis < 0 || ageMillis > ttlMillis) {
+                return null;
+            }
+            result = GeocodingResultCodec.read(record);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // Written by a build with a different schema, or cut short; the network replaces it.
+            return null;
+        }
+
+        synchronized (this) {
+            diskHitCount++;
+            // Keep the original fetch time so the memory entry expires with the disk record.
+            entries.put(placeId, new Entry(result, SystemClock.elapsedRealtime() - ageMillis));
+        }
+        return result;
+    }
+
+    /** Caches {@code result} for {@code placeId}, and writes it to the disk tier if there is one. */
+    public void put(@NonNull String placeId, @NonNull GeocodingResult result) {
+        synchronized (this) {
+            entries.put(placeId, new Entry(result, SystemClock.elapsedRealtime()));
+        }
+        if (store == null) {
+            return;
+        }
+        long fetchedAtMillis = System.currentTimeMillis();
+        store.addOnSuccessListener(diskExecutor, opened -> {
+            if (opened == null) {
+                return;
+            }
+            try {
+                ByteBuffer record = ByteBuffer.allocate(8 + GeocodingResultCodec.sizeOf(result));
+                record.putLong(fetchedAtMillis);
+                GeocodingResultCodec.write(result, record);
+                opened.put(placeId, record.array());
+            } catch (IOException e) {
+                Log.w(TAG, "Unable to write " + placeId, e);
+            }
+        });
+    }
+
+    /** Removes all memory entries and resets the hit and miss counters. */
+    public synchronized void clear() {
+        entries.clear();
+        hitCount = 0;
+        missCount = 0;
+        diskHitCount = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /** Returns how many memory misses were answered by the disk tier instead of the network. */
+    public synchronized long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "GeocodingResultCache{size=" + entries.size()
+                + ", maxEntries=" + maxEntries
+                + ", hits=" + hitCount
+                + ", misses=" + missCount
+                + ", diskHits=" + diskHitCount
+                + "}";
+    }
+
+    private boolean isExpired(Entry entry) {
+        return SystemClock.elapsedRealtime() - entry.fetchedAtMillis > ttlMillis;
+    }
+
+    private static final class Entry {
+        final GeocodingResult result;
+        final long fetchedAtMillis;
+
+        Entry(GeocodingResult result, long fetchedAtMillis) {
+            this.result = result;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+}
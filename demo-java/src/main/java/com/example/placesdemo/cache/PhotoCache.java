@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Log;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.android.libraries.places.api.model.PhotoMetadata;
+import com.google.android.libraries.places.api.net.FetchPhotoRequest;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A two-tier cache for {@link PlacesClient#fetchPhoto(FetchPhotoRequest)} results.
+ *
+ * <p>Requested sizes are normalized to a fixed ladder of size buckets, and photos are fetched at
+ * the bucket size. A request can be served by any cached entry of the same photo whose bucket is at
+ * least as large in both dimensions, downscaled to fit, because the Places API only ever shrinks a
+ * photo to fit the requested box. The memory tier is bounded by bitmap bytes; the disk tier keeps
+ * JPEG files bounded by total file size.
+ *
+ * <p>Bitmaps evicted from memory are reused as {@link BitmapFactory.Options#inBitmap} targets for
+ * later disk decodes. Because a reused bitmap is overwritten, a bitmap returned by
+ * {@link #fetchPhoto} is considered in use until the caller passes it to {@link #release(Bitmap)},
+ * for example when the view showing it gets a new image.
+ */
+public final class PhotoCache {
+
+    private static final String TAG = "PhotoCache";
+
+    /** The largest size the Places API accepts for either dimension. */
+    private static final int MAX_PHOTO_SIZE = 4800;
+    private static final int[] BUCKETS = {128, 256, 512, 1024, 2048, MAX_PHOTO_SIZE};
+    private static final int DISK_QUALITY = 90;
+
+    private final PlacesRequestCoalescer coalescer;
+    private final File diskDirectory;
+    private final long maxDiskBytes;
+    private final Executor diskExecutor;
+    private final LruCache<String, Bitmap> memory;
+    private final ReusePool<Bitmap> reusePool;
+
+    private long memoryHitCount;
+    private long diskHitCount;
+    private long missCount;
+
+    /**
+     * @param maxMemoryBytes upper bound for the bytes of all bitmaps in the memory tier.
+     * @param diskDirectory  directory for the disk tier; created if missing.
+     * @param maxDiskBytes   upper bound for the total size of files in {@code diskDirectory}.
+     * @param diskExecutor   background executor used for all disk reads and writes.
+     */
+    public PhotoCache(
+            @NonNull PlacesRequestCoalescer coalescer,
+            int maxMemoryBytes,
+            @NonNull File diskDirectory,
+            long maxDiskBytes,
+            @NonNull Executor diskExecutor) {
+        this.coalescer = coalescer;
+        this.diskDirectory = diskDirectory;
+        this.maxDiskBytes = maxDiskBytes;
+        this.diskExecutor = diskExecutor;
+        this.reusePool = new ReusePool<>(maxMemoryBytes / 4,
+                Bitmap::getAllocationByteCount,
+                bitmap -> bitmap.isMutable() && !bitmap.isRecycled());
+        this.memory = new LruCache<String, Bitmap>(maxMemoryBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap value) {
+                return value.getAllocationByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(
+                    boolean evicted, String key, Bitmap oldValue, @Nullable Bitmap newValue) {
+                reusePool.onUncached(oldValue);
+            }
+        };
+    }
+
+    /**
+     * Returns the photo scaled to fit within {@code maxWidth} x {@code maxHeight}, from memory,
+     * disk, or the network in that order. {@code null} dimensions mean no limit.
+     */
+    @NonNull
+    public Task<Bitmap> fetchPhoto(
+            @NonNull PlacesClient placesClient,
+            @NonNull PhotoMetadata photoMetadata,
+            @Nullable Integer maxWidth,
+            @Nullable Integer maxHeight) {
+        String reference = photoMetadata.getPhotoReference();
+        int width = maxWidth == null ? MAX_PHOTO_SIZE : maxWidth;
+        int height = maxHeight == null ? MAX_PHOTO_SIZE : maxHeight;
+        int widthBucket = bucketIndex(width);
+        int heightBucket = bucketIndex(height);
+
+        Bitmap cached = getFromMemory(reference, widthBucket, heightBucket);
+        if (cached != null) {
+            return Tasks.forResult(checkOut(fit(cached, width, height)));
+        }
+
+        return Tasks.call(diskExecutor,
+                        () -> getFromDisk(reference, widthBucket, heightBucket, width, height))
+                .continueWithTask(diskTask -> {
+                    Bitmap stored = diskTask.isSuccessful() ? diskTask.getResult() : null;
+                    if (stored != null) {
+                        return Tasks.forResult(checkOut(fit(stored, width, height)));
+                    }
+                    synchronized (this) {
+                        missCount++;
+                    }
+                    FetchPhotoRequest request = FetchPhotoRequest.builder(photoMetadata)
+                            .setMaxWidth(BUCKETS[widthBucket])
+                            .setMaxHeight(BUCKETS[heightBucket])
+                            .build();
+                    return coalescer.fetchPhoto(placesClient, request)
+                            .onSuccessTask(response -> {
+                                Bitmap bitmap = response.getBitmap();
+                                String key = key(reference, widthBucket, heightBucket);
+                                putInMemory(key, bitmap);
+                                diskExecutor.execute(() -> writeToDisk(key, bitmap));
+                                return Tasks.forResult(checkOut(fit(bitmap, width, height)));
+                            });
+                });
+    }
+
+    /**
+     * Marks a bitmap returned by {@link #fetchPhoto} as no longer displayed, so its memory can be
+     * reused once the cache no longer holds it either.
+     */
+    public void release(@Nullable Bitmap bitmap) {
+        if (bitmap != null) {
+            reusePool.release(bitmap);
+        }
+    }
+
+    public synchronized long getMemoryHitCount() {
+        return memoryHitCount;
+    }
+
+    public synchronized long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /** The number of bitmaps returned by {@link #fetchPhoto} and not yet released. */
+    int getInUseCount() {
+        return reusePool.getInUseCount();
+    }
+
+    /** The number of bitmaps waiting to be decoded into again. */
+    int getPooledCount() {
+        return reusePool.getPooledCount();
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "PhotoCache{memoryBytes=" + memory.size()
+                + ", memoryHits=" + memoryHitCount
+                + ", diskHits=" + diskHitCount
+                + ", misses=" + missCount
+                + ", inUse=" + reusePool.getInUseCount()
+                + ", pooled=" + reusePool.getPooledCount()
+                + "}";
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    @Nullable
+    private Bitmap getFromMemory(String reference, int widthBucket, int heightBucket) {
+        for (String key : candidateKeys(reference, widthBucket, heightBucket)) {
+            Bitmap bitmap = memory.get(key);
+            if (bitmap != null) {
+                synchronized (this) {
+                    memoryHitCount++;
+                }
+                return bitmap;
+            }
+        }
+        return null;
+    }
+
+    /** Inserts {@code bitmap} so that it is not pooled while the memory tier still holds it. */
+    private void putInMemory(String key, Bitmap bitmap) {
+        reusePool.onCached(bitmap);
+        memory.put(key, bitmap);
+    }
+
+    /** Runs on the disk executor. */
+    @Nullable
+    private Bitmap getFromDisk(
+            String reference, int widthBucket, int heightBucket, int width, int height) {
+        List<String> keys = candidateKeys(reference, widthBucket, heightBucket);
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            File file = new File(diskDirectory, key + ".jpg");
+            if (!file.isFile()) {
+                continue;
+            }
+            Bitmap bitmap = decode(file, width, height);
+            if (bitmap == null) {
+                continue;
+            }
+            //noinspection ResultOfMethodCallIgnored
+            file.setLastModified(System.currentTimeMillis());
+            synchronized (this) {
+                diskHitCount++;
+            }
+            // Only a full-size decode of the requested bucket is a faithful copy of its entry.
+            if (i == 0) {
+                putInMemory(key, bitmap);
+            }
+            return bitmap;
+        }
+        return null;
+    }
+
+    /**
+     * Decodes {@code file} with the largest power-of-two subsampling that still covers
+     * {@code width} x {@code height}, into a pooled bitmap when a large enough one is available.
+     */
+    @Nullable
+    private Bitmap decode(File file, int width, int height) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(file.getPath(), options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+
+        int sampleSize = 1;
+        while (options.outWidth / (sampleSize * 2) >= width
+                && options.outHeight / (sampleSize * 2) >= height) {
+            sampleSize *= 2;
+        }
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        options.inMutable = true;
+        int bytes = (options.outWidth / sampleSize) * (options.outHeight / sampleSize) * 4;
+        options.inBitmap = reusePool.take(bytes);
+        try {
+            return BitmapFactory.decodeFile(file.getPath(), options);
+        } catch (IllegalArgumentException e) {
+            // The pooled bitmap could not be reused; decode into a fresh one.
+            options.inBitmap = null;
+            return BitmapFactory.decodeFile(file.getPath(), options);
+        }
+    }
+
+    /** Runs on the disk executor. */
+    private void writeToDisk(String key, Bitmap bitmap) {
+        if (!diskDirectory.isDirectory() && !diskDirectory.mkdirs()) {
+            return;
+        }
+        File file = new File(diskDirectory, key + ".jpg");
+        File temp = new File(diskDirectory, key + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, DISK_QUALITY, out);
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to write " + file, e);
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return;
+        }
+        trimDisk();
+    }
+
+    /** Deletes the least recently used files until the disk tier fits in its budget. */
+    private void trimDisk() {
+        File[] files = diskDirectory.listFiles((dir, name) -> name.endsWith(".jpg"));
+        if (files == null) {
+            return;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        if (total <= maxDiskBytes) {
+            return;
+        }
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File file : files) {
+            if (total <= maxDiskBytes) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            }
+        }
+    }
+
+    private Bitmap fit(Bitmap bitmap, int width, int height) {
+        int[] size = fitSize(bitmap.getWidth(), bitmap.getHeight(), width, height);
+        if (size == null) {
+            return bitmap;
+        }
+        return Bitmap.createScaledBitmap(bitmap, size[0], size[1], true);
+    }
+
+    private Bitmap checkOut(Bitmap bitmap) {
+        return reusePool.checkOut(bitmap);
+    }
+
+    /**
+     * Returns {@code width} x {@code height} scaled down to fit within {@code maxWidth} x
+     * {@code maxHeight} keeping the aspect ratio, or {@code null} if it already fits.
+     */
+    @Nullable
+    static int[] fitSize(int width, int height, int maxWidth, int maxHeight) {
+        if (width <= maxWidth && height <= maxHeight) {
+            return null;
+        }
+        float scale = Math.min((float) maxWidth / width, (float) maxHeight / height);
+        return new int[]{
+                Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale))};
+    }
+
+    /**
+     * Returns the keys whose entries can serve a request in the given buckets, requested bucket
+     * first, then every bucket at least as large in both dimensions.
+     */
+    static List<String> candidateKeys(String reference, int widthBucket, int heightBucket) {
+        String prefix = sha1(reference) + "_";
+        List<String> keys = new ArrayList<>();
+        for (int w = widthBucket; w < BUCKETS.length; w++) {
+            for (int h = heightBucket; h < BUCKETS.length; h++) {
+                keys.add(prefix + BUCKETS[w] + "x" + BUCKETS[h]);
+            }
+        }
+        return keys;
+    }
+
+    /** Returns the index of the smallest bucket that holds {@code size}, or the largest bucket. */
+    static int bucketIndex(int size) {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            if (size <= BUCKETS[i]) {
+                return i;
+            }
+        }
+        return BUCKETS.length - 1;
+    }
+
+    private static String key(String reference, int widthBucket, int heightBucket) {
+        return sha1(reference) + "_" + BUCKETS[widthBucket] + "x" + BUCKETS[heightBucket];
+    }
+
+    private static String sha1(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
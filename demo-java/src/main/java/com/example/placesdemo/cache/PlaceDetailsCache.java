@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.placesdemo.FieldMask;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * A size-bounded, in-memory LRU cache in front of
+ * {@link PlacesClient#fetchPlace(FetchPlaceRequest)}.
+ *
+ * <p>Entries are keyed by place ID and remember the {@link FieldMask} they were fetched with. A
+ * lookup is a hit when the cached entry has not expired and its fields are a superset of the
+ * requested fields, so asking for fewer fields than were previously fetched never goes back to the
+ * network.
+ *
+ * <p>An optional {@link RecordStore} adds a disk tier that survives process death. It is consulted
+ * on the disk executor after a memory miss and before the network, and every network result is
+ * written back to it. The store is passed as a task so that it can be opened on the disk executor;
+ * reads and writes wait for it, and a store that fails to open leaves the cache memory only.
+ */
+public final class PlaceDetailsCache {
+
+    private static final String TAG = "PlaceDetailsCache";
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    @Nullable
+    private final Task<RecordStore> store;
+    @Nullable
+    private final Executor diskExecutor;
+    private final PlacesRequestCoalescer coalescer;
+
+    private long hitCount;
+    private long missCount;
+    private long diskHitCount;
+
+    /**
+     * @param maxEntries the maximum number of places to keep before evicting the least recently
+     *                   used one.
+     * @param ttlMillis  how long a fetched place stays valid, in milliseconds.
+     */
+    public PlaceDetailsCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, null, null, new PlacesRequestCoalescer());
+    }
+
+    /**
+     * @param store        opens the disk tier consulted after a memory miss, or {@code null} for
+     *                     memory only. A {@code null} result also means memory only.
+     * @param diskExecutor background executor used for all {@code store} reads and writes.
+     * @param coalescer    shares network fetches between concurrent misses for the same place.
+     */
+    public PlaceDetailsCache(
+            int maxEntries,
+            long ttlMillis,
+            @Nullable Task<RecordStore> store,
+            @Nullable Executor diskExecutor,
+            @NonNull PlacesRequestCoalescer coalescer) {
+        if (store != null && diskExecutor == null) {
+            throw new IllegalArgumentException("A disk executor is required with a RecordStore");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.store = store;
+        this.diskExecutor = diskExecutor;
+        this.coalescer = coalescer;
+        // An access-ordered LinkedHashMap keeps the least recently used entry at the head.
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PlaceDetailsCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached response for the request if there is one, otherwise forwards the request
+     * to {@code placesClient} and caches a successful result.
+     */
+    @NonNull
+    public Task<FetchPlaceResponse> fetchPlace(
+            @NonNull PlacesClient placesClient, @NonNull FetchPlaceRequest request) {
+        Place cached = get(request.getPlaceId(), request.getPlaceFields());
+        if (cached != null) {
+            return Tasks.forResult(FetchPlaceResponse.newInstance(cached));
+        }
+        if (store == null) {
+            return fetchFromNetwork(placesClient, request);
+        }
+
+        return store.continueWith(diskExecutor, storeTask -> readFromDisk(storeTask, request))
+                .continueWithTask(diskTask -> {
+                    Place stored = diskTask.isSuccessful() ? diskTask.getResult() : null;
+                    if (stored != null) {
+                        return Tasks.forResult(FetchPlaceResponse.newInstance(stored));
+                    }
+                    return fetchFromNetwork(placesClient, request);
+                });
+    }
+
+    private Task<FetchPlaceResponse> fetchFromNetwork(
+            PlacesClient placesClient, FetchPlaceRequest request) {
+        Task<FetchPlaceResponse> task = coalescer.fetchPlace(placesClient, request);
+        task.addOnSuccessListener(response -> {
+            put(request.getPlaceId(), request.getPlaceFields(), response.getPlace());
+            writeToDisk(request, response.getPlace());
+        });
+        return task;
+    }
+
+    @Nullable
+    private Place readFromDisk(Task<RecordStore> storeTask, FetchPlaceRequest request) {
+        RecordStore opened = storeTask.isSuccessful() ? storeTask.getResult() : null;
+        if (opened == null) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = opened.get(request.getPlaceId());
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to read " + request.getPlaceId(), e);
+            return null;
+        }
+        if (bytes == null) {
+            return null;
+        }
+        PlaceRecordCodec.Record record = PlaceRecordCodec.decode(bytes);
+        long ageMillis = record == null ? 0 : System.currentTimeMillis() - record.fetchedAtMillis;
+        FieldMask requested = FieldMask.of(request.getPlaceFields());
+        if (record == null
+                || ageMillis < 0
+                || ageMillis > ttlMillis
+                || !FieldMask.of(record.fields).containsAll(requested)) {
+            return null;
+        }
+
+        synchronized (this) {
+            diskHitCount++;
+            // Keep the original fetch time so the memory entry expires with the disk record.
+            entries.put(request.getPlaceId(), new Entry(record.place, FieldMask.of(record.fields),
+                    SystemClock.elapsedRealtime() - ageMillis));
+        }
+        return record.place;
+    }
+
+    private void writeToDisk(FetchPlaceRequest request, Place place) {
+        if (store == null) {
+            return;
+        }
+        long fetchedAtMillis = System.currentTimeMillis();
+        store.addOnSuccessListener(diskExecutor, opened -> {
+            if (opened == null) {
+                return;
+            }
+            try {
+                opened.put(request.getPlaceId(),
+                        PlaceRecordCodec.encode(place, request.getPlaceFields(), fetchedAtMillis));
+            } catch (IOException e) {
+                Log.w(TAG, "Unable to write " + request.getPlaceId(), e);
+            }
+        });
+    }
+
+    /** See {@link #get(String, FieldMask)}. */
+    @Nullable
+    public Place get(@NonNull String placeId, @NonNull Collection<Field> fields) {
+        return get(placeId, FieldMask.of(fields));
+    }
+
+    /**
+     * Returns the cached {@link Place} for {@code placeId} if it is still fresh and was fetched
+     * with at least {@code fields}, or {@code null} otherwise.
+     */
+    @Nullable
+    public synchronized Place get(@NonNull String placeId, @NonNull FieldMask fields) {
+        Entry entry = entries.get(placeId);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(placeId);
+            missCount++;
+            return null;
+        }
+        if (!entry.fields.containsAll(fields)) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.place;
+    }
+
+    /**
+     * Caches {@code place} as fetched with {@code fields}. A fresh entry that already covers
+     * {@code fields} is kept so that a narrower fetch does not shrink what is cached.
+     */
+    public synchronized void put(
+            @NonNull String placeId, @NonNull Collection<Field> fields, @NonNull Place place) {
+        FieldMask fieldSet = FieldMask.of(fields);
+        Entry existing = entries.get(placeId);
+        if (existing != null && !isExpired(existing) && existing.fields.containsAll(fieldSet)) {
+            return;
+        }
+        entries.put(placeId, new Entry(place, fieldSet, SystemClock.elapsedRealtime()));
+    }
+
+    /** Removes the entry for {@code placeId}, if any. */
+    public synchronized void invalidate(@NonNull String placeId) {
+        entries.remove(placeId);
+    }
+
+    /** Removes all entries and resets the hit and miss counters. */
+    public synchronized void clear() {
+        entries.clear();
+        hitCount = 0;
+        missCount = 0;
+        diskHitCount = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /** Returns how many memory misses were answered by the disk tier instead of the network. */
+    public synchronized long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "PlaceDetailsCache{size=" + entries.size()
+                + ", maxEntries=" + maxEntries
+                + ", hits=" + hitCount
+                + ", misses=" + missCount
+                + ", diskHits=" + diskHitCount
+                + "}";
+    }
+
+    private boolean isExpired(Entry entry) {
+        return SystemClock.elapsedRealtime() - entry.fetchedAtMillis > ttlMillis;
+    }
+
+    private static final class Entry {
+        final Place place;
+        final FieldMask fields;
+        final long fetchedAtMillis;
+
+        Entry(Place place, FieldMask fields, long fetchedAtMillis) {
+            this.place = place;
+            this.fields = fields;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+}
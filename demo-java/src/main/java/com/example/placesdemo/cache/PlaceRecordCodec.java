@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Converts a fetched {@link Place} to and from the bytes kept in a {@link RecordStore}.
+ *
+ * <p>The place itself is written with its {@link android.os.Parcelable} implementation, and the
+ * requested {@link Field} values are written by name. Parcel bytes are only readable by the same
+ * build of the Places SDK, so callers should keep stores in a directory tied to the app and SDK
+ * versions. Anything that still fails to read back is treated as a cache miss.
+ */
+final class PlaceRecordCodec {
+
+    private PlaceRecordCodec() {
+    }
+
+    /** A decoded store record. */
+    static final class Record {
+        final Place place;
+        final Set<Field> fields;
+        final long fetchedAtMillis;
+
+        Record(Place place, Set<Field> fields, long fetchedAtMillis) {
+            this.place = place;
+            this.fields = fields;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+
+    /**
+     * @param fetchedAtMillis wall clock time of the fetch, see {@link System#currentTimeMillis()}.
+     */
+    @NonNull
+    static byte[] encode(
+            @NonNull Place place, @NonNull Collection<Field> fields, long fetchedAtMillis) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.writeLong(fetchedAtMillis);
+            parcel.writeInt(fields.size());
+            for (Field field : fields) {
+                parcel.writeString(field.name());
+            }
+            parcel.writeParcelable(place, 0);
+            return parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /** Returns the decoded record, or {@code null} if {@code bytes} cannot be read back. */
+    @Nullable
+    static Record decode(@NonNull byte[] bytes) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(bytes, 0, bytes.length);
+            parcel.setDataPosition(0);
+            long fetchedAtMillis = parcel.readLong();
+            int fieldCount = parcel.readInt();
+            EnumSet<Field> fields = EnumSet.noneOf(Field.class);
+            for (int i = 0; i < fieldCount; i++) {
+                fields.add(Field.valueOf(parcel.readString()));
+            }
+            Place place = parcel.readParcelable(Place.class.getClassLoader());
+            return place == null ? null : new Record(place, fields, fetchedAtMillis);
+        } catch (RuntimeException e) {
+            // Written by a different SDK version, or truncated. Parcel reports such bytes with
+            // several unchecked exceptions, none of which should escape a cache lookup.
+            return null;
+        } finally {
+            parcel.recycle();
+        }
+    }
+}
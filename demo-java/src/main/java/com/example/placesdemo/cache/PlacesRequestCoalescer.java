@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import androidx.annotation.NonNull;
+
+import com.example.placesdemo.FieldMask;
+import com.google.android.gms.tasks.Task;
+import com.google.android.libraries.places.api.net.FetchPhotoRequest;
+import com.google.android.libraries.places.api.net.FetchPhotoResponse;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriRequest;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse;
+import com.google.android.libraries.places.api.net.IsOpenRequest;
+import com.google.android.libraries.places.api.net.IsOpenResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import java.util.Arrays;
+
+/**
+ * A single-flight layer around {@link PlacesClient}: concurrent identical requests share one
+ * {@link Task}, so two screens or two fast taps asking for the same data cost one network call.
+ *
+ * <p>Requests are identical when they ask for the same data. Session tokens are not part of the
+ * comparison; the call is billed to the session of the request that started it. A request that
+ * carries a cancellation token is always sent on its own, because the shared call is sent with the
+ * token of whichever request started it, and cancelling that would cancel it for every caller.
+ */
+public final class PlacesRequestCoalescer {
+
+    private final TaskCoalescer<FetchPlaceResponse> fetchPlaceCalls = new TaskCoalescer<>();
+    private final TaskCoalescer<FetchPhotoResponse> fetchPhotoCalls = new TaskCoalescer<>();
+    private final TaskCoalescer<FetchResolvedPhotoUriResponse> fetchResolvedPhotoUriCalls =
+            new TaskCoalescer<>();
+    private final TaskCoalescer<IsOpenResponse> isOpenCalls = new TaskCoalescer<>();
+
+    @NonNull
+    public Task<FetchPlaceResponse> fetchPlace(
+            @NonNull PlacesClient placesClient, @NonNull FetchPlaceRequest request) {
+        // The caller may cancel this request, so it must not be shared
+        if (request.getCancellationToken() != null) {
+            return placesClient.fetchPlace(request);
+        }
+        Object key = Arrays.asList(
+                request.getPlaceId(), FieldMask.of(request.getPlaceFields()), request.getRegionCode());
+        return fetchPlaceCalls.coalesce(key, () -> placesClient.fetchPlace(request));
+    }
+
+    @NonNull
+    public Task<FetchPhotoResponse> fetchPhoto(
+            @NonNull PlacesClient placesClient, @NonNull FetchPhotoRequest request) {
+        if (request.getCancellationToken() != null) {
+            return placesClient.fetchPhoto(request);
+        }
+        Object key = Arrays.asList(
+                request.getPhotoMetadata(), request.getMaxWidth(), request.getMaxHeight());
+        return fetchPhotoCalls.coalesce(key, () -> placesClient.fetchPhoto(request));
+    }
+
+    @NonNull
+    public Task<FetchResolvedPhotoUriResponse> fetchResolvedPhotoUri(
+            @NonNull PlacesClient placesClient, @NonNull FetchResolvedPhotoUriRequest request) {
+        if (request.getCancellationToken() != null) {
+            return placesClient.fetchResolvedPhotoUri(request);
+        }
+        Object key = Arrays.asList(
+                request.getPhotoMetadata(), request.getMaxWidth(), request.getMaxHeight());
+        return fetchResolvedPhotoUriCalls.coalesce(
+                key, () -> placesClient.fetchResolvedPhotoUri(request));
+    }
+
+    @NonNull
+    public Task<IsOpenResponse> isOpen(
+            @NonNull PlacesClient placesClient, @NonNull IsOpenRequest request) {
+        if (request.getCancellationToken() != null) {
+            return placesClient.isOpen(request);
+        }
+        Object key = Arrays.asList(
+                request.getPlaceId(), request.getPlace(), request.getUtcTimeMillis());
+        return isOpenCalls.coalesce(key, () -> placesClient.isOpen(request));
+    }
+
+    /** Returns how many requests were answered by an identical request already in flight. */
+    public long getCollapsedCount() {
+        return fetchPlaceCalls.getCollapsedCount()
+                + fetchPhotoCalls.getCollapsedCount()
+                + fetchResolvedPhotoUriCalls.getCollapsedCount()
+                + isOpenCalls.getCollapsedCount();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "PlacesRequestCoalescer{collapsed=" + getCollapsedCount() + "}";
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * A disk-backed key/value store for byte records that survives process death. The place details
+ * and Geocoding caches each keep their disk tier in one, in its own directory.
+ *
+ * <p>Values are appended to a record file and never rewritten in place. A memory-mapped,
+ * open-addressing hash index maps each key to the offset of its latest record, so a lookup is
+ * one probe sequence in the mapped index plus a single positional read from the record file.
+ * Overwritten and removed records become garbage that is reclaimed by {@link #compact()}, which is
+ * scheduled on the compaction executor once garbage makes up more than half of the record file.
+ *
+ * <p>Record layout: {@code [int keyLength][int valueLength][key][value]}, where a value length of
+ * {@code -1} marks a removal. The index is derived data: if it is missing or does not match the
+ * record file it is rebuilt by scanning the records.
+ *
+ * <p>The only Android dependency is {@link Log}, which local unit tests stub out, so this class can
+ * be exercised on the JVM.
+ */
+public final class RecordStore implements Closeable {
+
+    private static final String TAG = "RecordStore";
+
+    static final String DATA_FILE_NAME = "records.dat";
+    static final String INDEX_FILE_NAME = "records.idx";
+
+    private static final int INDEX_MAGIC = 0x52434958; // "RCIX"
+    private static final int INDEX_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 16;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int REMOVED = -1;
+    private static final long TOMBSTONE = -1;
+    private static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    // Header field offsets inside the index file.
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_CAPACITY = 8;
+    private static final int HEADER_LIVE_COUNT = 12;
+    private static final int HEADER_DATA_LENGTH = 16;
+    private static final int HEADER_GARBAGE_BYTES = 24;
+
+    private final File directory;
+    @Nullable
+    private final Executor compactionExecutor;
+
+    private RandomAccessFile dataFile;
+    private FileChannel dataChannel;
+    private RandomAccessFile indexFile;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int usedSlots;
+    private boolean compactionScheduled;
+
+    /**
+     * Opens, or creates, a store in {@code directory}.
+     *
+     * @param compactionExecutor where {@link #compact()} is run once enough garbage accumulates, or
+     *                           {@code null} to only compact when asked to.
+     */
+    public RecordStore(@NonNull File directory, @Nullable Executor compactionExecutor)
+            throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        this.directory = directory;
+        this.compactionExecutor = compactionExecutor;
+
+        dataFile = new RandomAccessFile(new File(directory, DATA_FILE_NAME), "rw");
+        dataChannel = dataFile.getChannel();
+        indexFile = new RandomAccessFile(new File(directory, INDEX_FILE_NAME), "rw");
+
+        if (!openIndex()) {
+            rebuildIndex(INITIAL_CAPACITY);
+        }
+    }
+
+    /**
+     * Returns the latest value stored for {@code key}, or {@code null} if there is none.
+     */
+    @Nullable
+    public synchronized byte[] get(@NonNull String key) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(keyBytes, hash(keyBytes));
+        if (slot < 0) {
+            return null;
+        }
+        long offset = slotOffset(slot);
+        int valueLength = readInt(offset + 4);
+        byte[] value = new byte[valueLength];
+        readFully(ByteBuffer.wrap(value), offset + RECORD_HEADER_SIZE + keyBytes.length);
+        return value;
+    }
+
+    /** Stores {@code value} as the latest value for {@code key}. */
+    public synchronized void put(@NonNull String key, @NonNull byte[] value) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long offset = append(keyBytes, value);
+        long hash = hash(keyBytes);
+
+        int slot = findSlot(keyBytes, hash);
+        if (slot >= 0) {
+            addGarbage(recordLength(slotOffset(slot)));
+            index.putLong(slotPosition(slot) + 8, offset + 1);
+        } else {
+            // Count first: if inserting grows the index, the rebuild recounts from the records.
+            index.putInt(HEADER_LIVE_COUNT, index.getInt(HEADER_LIVE_COUNT) + 1);
+            insertSlot(hash, offset);
+        }
+        maybeScheduleCompaction();
+    }
+
+    /** Removes any value stored for {@code key}. */
+    public synchronized void remove(@NonNull String key) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(keyBytes, hash(keyBytes));
+        if (slot < 0) {
+            return;
+        }
+        long removedLength = recordLength(slotOffset(slot));
+        long markerOffset = append(keyBytes, null);
+        index.putLong(slotPosition(slot) + 8, TOMBSTONE);
+        index.putInt(HEADER_LIVE_COUNT, index.getInt(HEADER_LIVE_COUNT) - 1);
+        addGarbage(removedLength + (index.getLong(HEADER_DATA_LENGTH) - markerOffset));
+        maybeScheduleCompaction();
+    }
+
+    /** Returns the number of keys that currently have a value. */
+    public synchronized int size() {
+        return index.getInt(HEADER_LIVE_COUNT);
+    }
+
+    /** Returns the length of the record file in bytes, including garbage. */
+    public synchronized long getDataLength() {
+        return index.getLong(HEADER_DATA_LENGTH);
+    }
+
+    /** Returns how many bytes of the record file belong to overwritten or removed records. */
+    public synchronized long getGarbageBytes() {
+        return index.getLong(HEADER_GARBAGE_BYTES);
+    }
+
+    /**
+     * Rewrites the record file so that it only holds the latest value of each key, then rebuilds
+     * the index against it.
+     */
+    public synchronized void compact() throws IOException {
+        compactionScheduled = false;
+        File compacted = new File(directory, DATA_FILE_NAME + ".compact");
+        try (RandomAccessFile out = new RandomAccessFile(compacted, "rw")) {
+            out.setLength(0);
+            FileChannel outChannel = out.getChannel();
+            for (int slot = 0; slot < capacity; slot++) {
+                long offsetPlusOne = index.getLong(slotPosition(slot) + 8);
+                if (offsetPlusOne <= 0) {
+                    continue;
+                }
+                long offset = offsetPlusOne - 1;
+                ByteBuffer record = ByteBuffer.allocate((int) recordLength(offset));
+                readFully(record, offset);
+                record.flip();
+                while (record.hasRemaining()) {
+                    outChannel.write(record);
+                }
+            }
+            outChannel.force(false);
+        }
+
+        dataChannel.close();
+        File data = new File(directory, DATA_FILE_NAME);
+        if (!compacted.renameTo(data)) {
+            throw new IOException("Unable to replace " + data);
+        }
+        dataFile = new RandomAccessFile(data, "rw");
+        dataChannel = dataFile.getChannel();
+        rebuildIndex(capacity);
+    }
+
+    /** Flushes the index and record file to disk. */
+    public synchronized void flush() throws IOException {
+        dataChannel.force(false);
+        index.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        dataChannel.close();
+        indexFile.close();
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    /**
+     * Maps an existing index and checks that it describes the current record file. Any trailing
+     * bytes past the committed length (for example a record cut short by process death) are
+     * dropped.
+     */
+    private boolean openIndex() throws IOException {
+        if (indexFile.length() < HEADER_SIZE) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        indexFile.getChannel().read(header, 0);
+        int storedCapacity = header.getInt(HEADER_CAPACITY);
+        long committedLength = header.getLong(HEADER_DATA_LENGTH);
+        if (header.getInt(HEADER_MAGIC) != INDEX_MAGIC
+                || header.getInt(HEADER_VERSION) != INDEX_VERSION
+                || Integer.bitCount(storedCapacity) != 1
+                || indexFile.length() != HEADER_SIZE + (long) storedCapacity * SLOT_SIZE
+                || committedLength > dataChannel.size()) {
+            return false;
+        }
+        if (committedLength < dataChannel.size()) {
+            dataChannel.truncate(committedLength);
+        }
+        mapIndex(storedCapacity);
+        usedSlots = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (index.getLong(slotPosition(slot) + 8) != 0) {
+                usedSlots++;
+            }
+        }
+        return true;
+    }
+
+    private void mapIndex(int newCapacity) throws IOException {
+        long length = HEADER_SIZE + (long) newCapacity * SLOT_SIZE;
+        indexFile.setLength(length);
+        index = indexFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+        capacity = newCapacity;
+    }
+
+    /** Recreates the index with {@code newCapacity} slots by replaying the record file. */
+    private void rebuildIndex(int newCapacity) throws IOException {
+        long dataLength = dataChannel.size();
+        int liveCount = 0;
+        long garbage = 0;
+
+        // Collect the latest offset of each key first so the index can be sized up front.
+        Map<String, Long> latest = new HashMap<>();
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        long offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= dataLength) {
+            recordHeader.clear();
+            readFully(recordHeader, offset);
+            int keyLength = recordHeader.getInt(0);
+            int valueLength = recordHeader.getInt(4);
+            long length = RECORD_HEADER_SIZE + keyLength + Math.max(valueLength, 0);
+            if (keyLength < 0 || valueLength < REMOVED || offset + length > dataLength) {
+                break;
+            }
+            byte[] keyBytes = new byte[keyLength];
+            readFully(ByteBuffer.wrap(keyBytes), offset + RECORD_HEADER_SIZE);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            Long previous = valueLength == REMOVED ? latest.remove(key) : latest.put(key, offset);
+            if (previous != null) {
+                garbage += recordLength(previous);
+            }
+            if (valueLength == REMOVED) {
+                garbage += length;
+            }
+            offset += length;
+        }
+        if (offset < dataLength) {
+            dataChannel.truncate(offset);
+        }
+
+        while (latest.size() * 2 > newCapacity) {
+            newCapacity *= 2;
+        }
+        mapIndex(newCapacity);
+        for (int i = 0; i < HEADER_SIZE + capacity * SLOT_SIZE; i += 8) {
+            index.putLong(i, 0);
+        }
+        index.putInt(HEADER_MAGIC, INDEX_MAGIC);
+        index.putInt(HEADER_VERSION, INDEX_VERSION);
+        index.putInt(HEADER_CAPACITY, capacity);
+        usedSlots = 0;
+        for (Map.Entry<String, Long> entry : latest.entrySet()) {
+            insertSlot(hash(entry.getKey().getBytes(StandardCharsets.UTF_8)), entry.getValue());
+            liveCount++;
+        }
+        index.putInt(HEADER_LIVE_COUNT, liveCount);
+        index.putLong(HEADER_DATA_LENGTH, offset);
+        index.putLong(HEADER_GARBAGE_BYTES, garbage);
+    }
+
+    /** Appends a record and returns its offset. A {@code null} value writes a removal marker. */
+    private long append(byte[] keyBytes, @Nullable byte[] value) throws IOException {
+        long offset = index.getLong(HEADER_DATA_LENGTH);
+        int valueLength = value == null ? 0 : value.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + keyBytes.length + valueLength);
+        record.putInt(keyBytes.length);
+        record.putInt(value == null ? REMOVED : value.length);
+        record.put(keyBytes);
+        if (value != null) {
+            record.put(value);
+        }
+        record.flip();
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += dataChannel.write(record, position);
+        }
+        // Only commit the new length once the whole record is written.
+        index.putLong(HEADER_DATA_LENGTH, position);
+        return offset;
+    }
+
+    /** Returns the slot holding {@code keyBytes}, or -1 if the key is not indexed. */
+    private int findSlot(byte[] keyBytes, long hash) throws IOException {
+        int mask = capacity - 1;
+        for (int i = 0, slot = (int) (hash & mask); i < capacity; i++, slot = (slot + 1) & mask) {
+            long offsetPlusOne = index.getLong(slotPosition(slot) + 8);
+            if (offsetPlusOne == 0) {
+                return -1;
+            }
+            if (offsetPlusOne != TOMBSTONE
+                    && index.getLong(slotPosition(slot)) == hash
+                    && keyMatches(offsetPlusOne - 1, keyBytes)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSlot(long hash, long offset) throws IOException {
+        if ((usedSlots + 1) * 2 > capacity) {
+            // Rebuilding also drops tombstones, which would otherwise lengthen probe sequences.
+            rebuildIndex(capacity * 2);
+            return;
+        }
+        int mask = capacity - 1;
+        int slot = (int) (hash & mask);
+        while (index.getLong(slotPosition(slot) + 8) > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (index.getLong(slotPosition(slot) + 8) == 0) {
+            usedSlots++;
+        }
+        index.putLong(slotPosition(slot), hash);
+        index.putLong(slotPosition(slot) + 8, offset + 1);
+    }
+
+    private boolean keyMatches(long offset, byte[] keyBytes) throws IOException {
+        if (readInt(offset) != keyBytes.length) {
+            return false;
+        }
+        byte[] stored = new byte[keyBytes.length];
+        readFully(ByteBuffer.wrap(stored), offset + RECORD_HEADER_SIZE);
+        return Arrays.equals(stored, keyBytes);
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong(slotPosition(slot) + 8) - 1;
+    }
+
+    private long recordLength(long offset) throws IOException {
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(recordHeader, offset);
+        return RECORD_HEADER_SIZE + recordHeader.getInt(0) + Math.max(recordHeader.getInt(4), 0);
+    }
+
+    private int readInt(long offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        readFully(buffer, offset);
+        return buffer.getInt(0);
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = dataChannel.read(buffer, offset + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + DATA_FILE_NAME);
+            }
+        }
+    }
+
+    private void addGarbage(long bytes) {
+        index.putLong(HEADER_GARBAGE_BYTES, index.getLong(HEADER_GARBAGE_BYTES) + bytes);
+    }
+
+    private void maybeScheduleCompaction() {
+        long dataLength = index.getLong(HEADER_DATA_LENGTH);
+        if (compactionExecutor == null
+                || compactionScheduled
+                || dataLength < MIN_COMPACTION_BYTES
+                || index.getLong(HEADER_GARBAGE_BYTES) * 2 < dataLength) {
+            return;
+        }
+        compactionScheduled = true;
+        compactionExecutor.execute(() -> {
+            try {
+                compact();
+            } catch (IOException e) {
+                Log.w(TAG, "Unable to compact " + directory, e);
+            }
+        });
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /** 64-bit FNV-1a. */
+    private static long hash(byte[] keyBytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : keyBytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
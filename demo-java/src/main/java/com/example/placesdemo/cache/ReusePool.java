@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decides when a buffer held by {@link PhotoCache} may be overwritten, and keeps the ones that may
+ * in a pool bounded by total bytes.
+ *
+ * <p>A buffer is referenced by the memory tier (once per cache entry) and by callers (once per
+ * {@link #checkOut}). It joins the pool only when both counts drop to zero. Buffers are compared by
+ * identity, so two equal bitmaps are still tracked separately.
+ */
+final class ReusePool<T> {
+
+    private final long maxPoolBytes;
+    private final ToIntFunction<T> sizeOf;
+    private final Predicate<T> reusable;
+
+    private final Map<T, Integer> inUse = new IdentityHashMap<>();
+    private final Map<T, Integer> cached = new IdentityHashMap<>();
+    private final List<T> pool = new ArrayList<>();
+    private long poolBytes;
+
+    /**
+     * @param maxPoolBytes upper bound for the bytes of all pooled buffers; the oldest are dropped
+     *                     first.
+     * @param sizeOf       the number of bytes a buffer can hold.
+     * @param reusable     whether a buffer can be overwritten at all, e.g. is mutable.
+     */
+    ReusePool(long maxPoolBytes, @NonNull ToIntFunction<T> sizeOf, @NonNull Predicate<T> reusable) {
+        this.maxPoolBytes = maxPoolBytes;
+        this.sizeOf = sizeOf;
+        this.reusable = reusable;
+    }
+
+    /** Records that a caller now displays {@code value}. */
+    synchronized T checkOut(@NonNull T value) {
+        increment(inUse, value);
+        return value;
+    }
+
+    /** Undoes one {@link #checkOut}; unknown values are ignored. */
+    synchronized void release(@NonNull T value) {
+        if (decrement(inUse, value) && !cached.containsKey(value)) {
+            addToPool(value);
+        }
+    }
+
+    /** Records that a memory-tier entry now holds {@code value}. Call before inserting it. */
+    synchronized void onCached(@NonNull T value) {
+        increment(cached, value);
+    }
+
+    /** Records that a memory-tier entry holding {@code value} was removed or replaced. */
+    synchronized void onUncached(@NonNull T value) {
+        if (decrement(cached, value) && !inUse.containsKey(value)) {
+            addToPool(value);
+        }
+    }
+
+    /** Removes and returns the smallest pooled buffer of at least {@code bytes}, if any. */
+    @Nullable
+    synchronized T take(int bytes) {
+        int best = -1;
+        int bestSize = 0;
+        for (int i = 0; i < pool.size(); i++) {
+            int size = sizeOf.applyAsInt(pool.get(i));
+            if (size >= bytes && (best < 0 || size < bestSize)) {
+                best = i;
+                bestSize = size;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+        poolBytes -= bestSize;
+        return pool.remove(best);
+    }
+
+    synchronized int getInUseCount() {
+        return inUse.size();
+    }
+
+    synchronized int getPooledCount() {
+        return pool.size();
+    }
+
+    synchronized long getPooledBytes() {
+        return poolBytes;
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    private void addToPool(T value) {
+        if (!reusable.test(value)) {
+            return;
+        }
+        pool.add(value);
+        poolBytes += sizeOf.applyAsInt(value);
+        // Drop the oldest pooled buffers first.
+        Iterator<T> iterator = pool.iterator();
+        while (poolBytes > maxPoolBytes && iterator.hasNext()) {
+            poolBytes -= sizeOf.applyAsInt(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static <T> void increment(Map<T, Integer> counts, T value) {
+        Integer count = counts.get(value);
+        counts.put(value, count == null ? 1 : count + 1);
+    }
+
+    /** Returns whether the last reference was dropped. */
+    private static <T> boolean decrement(Map<T, Integer> counts, T value) {
+        Integer count = counts.get(value);
+        if (count == null) {
+            return false;
+        }
+        if (count > 1) {
+            counts.put(value, count - 1);
+            return false;
+        }
+        counts.remove(value);
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.gms.tasks.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight {@link Task} between concurrent callers that ask for the same key.
+ *
+ * <p>The first caller for a key starts the call; callers that arrive while it is still running get
+ * the same {@link Task} back instead of starting their own. Once the task completes the key is
+ * forgotten, so later callers start a fresh call.
+ *
+ * @param <T> the task result type.
+ */
+final class TaskCoalescer<T> {
+
+    private final Map<Object, Task<T>> inFlight = new HashMap<>();
+    private long collapsedCount;
+
+    /**
+     * Returns the in-flight task for {@code key}, or starts one with {@code call}.
+     *
+     * @param key identifies requests that are interchangeable; must implement {@code equals} and
+     *            {@code hashCode}.
+     */
+    @NonNull
+    Task<T> coalesce(@NonNull Object key, @NonNull Supplier<Task<T>> call) {
+        Task<T> task;
+        synchronized (this) {
+            task = inFlight.get(key);
+            if (task != null) {
+                collapsedCount++;
+                return task;
+            }
+            task = call.get();
+            if (task.isComplete()) {
+                return task;
+            }
+            inFlight.put(key, task);
+        }
+        Task<T> started = task;
+        // Forget the key on whichever thread completes the task rather than waiting for the main
+        // thread, so callers that arrive after completion always start a fresh call.
+        started.addOnCompleteListener(Runnable::run, completed -> {
+            synchronized (TaskCoalescer.this) {
+                if (inFlight.get(key) == started) {
+                    inFlight.remove(key);
+                }
+            }
+        });
+        return started;
+    }
+
+    /** Returns how many calls were answered by an already in-flight task. */
+    synchronized long getCollapsedCount() {
+        return collapsedCount;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.model.Place;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Which of a set of places are open at each instant of a regular time grid, for example "which of
+ * these 500 places are open at each hour of the next 7 days".
+ *
+ * <p>Each place is a row of bits, one per instant. Rows are computed in parallel from
+ * {@link OpeningHoursTable}s, without any network calls. Cells that cannot be answered locally are
+ * reported as closed and flagged by {@link #isKnown(int, int)}.
+ */
+public final class OpenHoursMatrix {
+
+    private final int placeCount;
+    private final int instantCount;
+    private final long startUtcMillis;
+    private final long stepMillis;
+    private final int wordsPerRow;
+    private final long[] open;
+    private final long[] unknown;
+
+    private OpenHoursMatrix(int placeCount, long startUtcMillis, long stepMillis, int instantCount) {
+        this.placeCount = placeCount;
+        this.instantCount = instantCount;
+        this.startUtcMillis = startUtcMillis;
+        this.stepMillis = stepMillis;
+        this.wordsPerRow = (instantCount + 63) >>> 6;
+        this.open = new long[placeCount * wordsPerRow];
+        this.unknown = new long[placeCount * wordsPerRow];
+    }
+
+    /**
+     * Decodes the opening hours of {@code places} and evaluates them on the grid
+     * {@code startUtcMillis + i * stepMillis} for {@code i} in {@code [0, instantCount)}. Rows are in
+     * the iteration order of {@code places}.
+     */
+    @NonNull
+    public static OpenHoursMatrix compute(@NonNull Collection<Place> places,
+                                          long startUtcMillis, long stepMillis, int instantCount) {
+        List<OpeningHoursTable> tables = new ArrayList<>(places.size());
+        for (Place place : places) {
+            tables.add(OpeningHoursDecoder.decode(place));
+        }
+        return computeFromTables(tables, startUtcMillis, stepMillis, instantCount);
+    }
+
+    /**
+     * Evaluates {@code tables} on the grid. A {@code null} table leaves its whole row unknown.
+     */
+    @NonNull
+    public static OpenHoursMatrix computeFromTables(@NonNull List<OpeningHoursTable> tables,
+                                                    long startUtcMillis, long stepMillis,
+                                                    int instantCount) {
+        if (stepMillis <= 0 || instantCount < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid grid: step " + stepMillis + " ms, " + instantCount + " instants");
+        }
+        OpenHoursMatrix matrix =
+                new OpenHoursMatrix(tables.size(), startUtcMillis, stepMillis, instantCount);
+        // Every row has its own words, so the rows can be filled without synchronization.
+        IntStream.range(0, tables.size())
+                .parallel()
+                .forEach(row -> matrix.fillRow(row, tables.get(row)));
+        return matrix;
+    }
+
+    public int getPlaceCount() {
+        return placeCount;
+    }
+
+    public int getInstantCount() {
+        return instantCount;
+    }
+
+    /** Returns the UTC time of the instant at {@code instantIndex}. */
+    public long getInstantMillis(int instantIndex) {
+        return startUtcMillis + instantIndex * stepMillis;
+    }
+
+    /** Returns whether place {@code placeIndex} is known to be open at {@code instantIndex}. */
+    public boolean isOpen(int placeIndex, int instantIndex) {
+        return bit(open, placeIndex, instantIndex);
+    }
+
+    /** Returns whether the cell could be evaluated locally. */
+    public boolean isKnown(int placeIndex, int instantIndex) {
+        return !bit(unknown, placeIndex, instantIndex);
+    }
+
+    /** Returns the instants at which place {@code placeIndex} is open. */
+    @NonNull
+    public BitSet getOpenInstants(int placeIndex) {
+        int from = placeIndex * wordsPerRow;
+        return BitSet.valueOf(Arrays.copyOfRange(open, from, from + wordsPerRow));
+    }
+
+    /** Returns the places that are open at {@code instantIndex}. */
+    @NonNull
+    public BitSet getOpenPlaces(int instantIndex) {
+        BitSet result = new BitSet(placeCount);
+        for (int place = 0; place < placeCount; place++) {
+            if (bit(open, place, instantIndex)) {
+                result.set(place);
+            }
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "OpenHoursMatrix{places=" + placeCount + ", instants=" + instantCount + "}";
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    private void fillRow(int row, @Nullable OpeningHoursTable table) {
+        int base = row * wordsPerRow;
+        for (int instant = 0; instant < instantCount; instant++) {
+            Boolean isOpen = table == null ? null : table.isOpen(getInstantMillis(instant));
+            long mask = 1L << (instant & 63);
+            int word = base + (instant >>> 6);
+            if (isOpen == null) {
+                unknown[word] |= mask;
+            } else if (isOpen) {
+                open[word] |= mask;
+            }
+        }
+    }
+
+    private boolean bit(long[] bits, int placeIndex, int instantIndex) {
+        if (placeIndex < 0 || placeIndex >= placeCount
+                || instantIndex < 0 || instantIndex >= instantCount) {
+            throw new IndexOutOfBoundsException(
+                    "Cell (" + placeIndex + ", " + instantIndex + ") outside " + this);
+        }
+        return (bits[placeIndex * wordsPerRow + (instantIndex >>> 6)] & (1L << (instantIndex & 63))) != 0;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.model.DayOfWeek;
+import com.google.android.libraries.places.api.model.LocalDate;
+import com.google.android.libraries.places.api.model.OpeningHours;
+import com.google.android.libraries.places.api.model.Period;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.SpecialDay;
+import com.google.android.libraries.places.api.model.TimeOfWeek;
+
+import java.util.List;
+
+/**
+ * Turns the {@link Place.Field#OPENING_HOURS}, {@link Place.Field#CURRENT_OPENING_HOURS},
+ * {@link Place.Field#UTC_OFFSET} and {@link Place.Field#BUSINESS_STATUS} of a {@link Place} into an
+ * {@link OpeningHoursTable}.
+ */
+public final class OpeningHoursDecoder {
+
+    private OpeningHoursDecoder() {
+    }
+
+    /**
+     * Returns the opening hours table for {@code place}, or {@code null} if the place does not
+     * carry enough data to evaluate its hours locally.
+     */
+    @Nullable
+    public static OpeningHoursTable decode(@NonNull Place place) {
+        OpeningHoursTable.Builder builder =
+                new OpeningHoursTable.Builder().setUtcOffsetMinutes(place.getUtcOffsetMinutes());
+
+        Place.BusinessStatus status = place.getBusinessStatus();
+        if (status == Place.BusinessStatus.CLOSED_PERMANENTLY
+                || status == Place.BusinessStatus.CLOSED_TEMPORARILY) {
+            // No periods: closed at every instant.
+            return builder.build();
+        }
+
+        OpeningHours regular = place.getOpeningHours();
+        if (regular == null || regular.getPeriods().isEmpty()) {
+            return null;
+        }
+        if (!addWeeklyPeriods(builder, regular.getPeriods())) {
+            return null;
+        }
+
+        OpeningHours current = place.getCurrentOpeningHours();
+        if (current != null) {
+            addSpecialDays(builder, current);
+        } else {
+            // Special days without current hours: known to be different, but not how.
+            for (SpecialDay specialDay : regular.getSpecialDays()) {
+                builder.addUnknownDay(epochDay(specialDay.getDate()));
+            }
+        }
+        return builder.build();
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    private static boolean addWeeklyPeriods(OpeningHoursTable.Builder builder, List<Period> periods) {
+        for (Period period : periods) {
+            TimeOfWeek open = period.getOpen();
+            TimeOfWeek close = period.getClose();
+            if (open == null) {
+                return false;
+            }
+            if (close == null) {
+                // The Places API reports "open 24 hours" as a single period that opens Sunday
+                // 00:00 without a close. Any other period without a close cannot be evaluated.
+                if (minuteOfWeek(open) != 0 || periods.size() != 1) {
+                    return false;
+                }
+                builder.setAlwaysOpen();
+                continue;
+            }
+            builder.addWeeklyPeriod(minuteOfWeek(open), minuteOfWeek(close));
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the regular hours of every exceptional day in {@code current} with the current
+     * periods that open on that day.
+     */
+    private static void addSpecialDays(OpeningHoursTable.Builder builder, OpeningHours current) {
+        for (SpecialDay specialDay : current.getSpecialDays()) {
+            if (!specialDay.isExceptional()) {
+                continue;
+            }
+            long day = epochDay(specialDay.getDate());
+            boolean known = true;
+            for (Period period : current.getPeriods()) {
+                TimeOfWeek open = period.getOpen();
+                if (open == null || open.getDate() == null) {
+                    known = false;
+                    continue;
+                }
+                if (epochDay(open.getDate()) != day) {
+                    continue;
+                }
+                long openMinute = day * OpeningHoursTable.MINUTES_PER_DAY + minuteOfDay(open);
+                builder.addExceptionPeriod(openMinute, closeLocalMinute(open, period.getClose(), openMinute));
+            }
+            if (known) {
+                builder.addExceptionDay(day);
+            } else {
+                builder.addUnknownDay(day);
+            }
+        }
+    }
+
+    private static long closeLocalMinute(TimeOfWeek open, @Nullable TimeOfWeek close, long openMinute) {
+        if (close == null) {
+            return openMinute + OpeningHoursTable.MINUTES_PER_DAY;
+        }
+        if (close.getDate() != null) {
+            return epochDay(close.getDate()) * OpeningHoursTable.MINUTES_PER_DAY + minuteOfDay(close);
+        }
+        int length = minuteOfWeek(close) - minuteOfWeek(open);
+        return openMinute + (length > 0 ? length : length + OpeningHoursTable.MINUTES_PER_WEEK);
+    }
+
+    private static int minuteOfWeek(TimeOfWeek timeOfWeek) {
+        return dayIndex(timeOfWeek.getDay()) * OpeningHoursTable.MINUTES_PER_DAY + minuteOfDay(timeOfWeek);
+    }
+
+    private static int minuteOfDay(TimeOfWeek timeOfWeek) {
+        return timeOfWeek.getTime().getHours() * 60 + timeOfWeek.getTime().getMinutes();
+    }
+
+    /** Returns the day index used by {@link OpeningHoursTable}, Sunday being 0. */
+    private static int dayIndex(DayOfWeek day) {
+        switch (day) {
+            case SUNDAY:
+                return 0;
+            case MONDAY:
+                return 1;
+            case TUESDAY:
+                return 2;
+            case WEDNESDAY:
+                return 3;
+            case THURSDAY:
+                return 4;
+            case FRIDAY:
+                return 5;
+            case SATURDAY:
+                return 6;
+            default:
+                throw new IllegalArgumentException("Unknown day " + day);
+        }
+    }
+
+    private static long epochDay(LocalDate date) {
+        return OpeningHoursTable.epochDay(date.getYear(), date.getMonth(), date.getDay());
+    }
+}
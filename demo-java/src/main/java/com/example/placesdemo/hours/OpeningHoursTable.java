@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * A place's opening hours as a compact table that answers "is it open at this instant?" locally.
+ *
+ * <p>Regular hours are sorted arrays of disjoint {@code [open, close)} ranges in minutes of the
+ * week, starting Sunday 00:00 local time. Special days (holidays and other exceptions) replace the
+ * regular hours of their whole date with ranges in local minutes since the epoch. Both lookups are
+ * binary searches, so evaluating thousands of places or instants costs no network calls.
+ *
+ * <p>The part of a regular period that runs past midnight is kept apart from the part on the day
+ * it opened. It belongs to the opening day's hours, so it still applies when the next day is a
+ * special day, and it does not apply when the opening day itself is one.
+ *
+ * <p>{@link #isOpen} returns {@code null} when the table cannot answer, for example for a special
+ * day whose hours are not known or a place whose UTC offset is missing. Callers should then fall
+ * back to {@code PlacesClient.isOpen}.
+ */
+public final class OpeningHoursTable {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final long MILLIS_PER_MINUTE = 60_000;
+
+    /**
+     * Flattened {@code [open, close)} pairs in minutes of the week, sorted and disjoint, each within
+     * the day its period opened on.
+     */
+    private final int[] weekly;
+    /** Like {@link #weekly}, for the parts of periods that run past the midnight after opening. */
+    private final int[] overnight;
+    /** Flattened {@code [open, close)} pairs in local minutes since the epoch, sorted and disjoint. */
+    private final long[] exceptions;
+    /** Sorted epoch days whose regular hours are replaced by {@link #exceptions}. */
+    private final long[] exceptionDays;
+    /** Sorted epoch days with special hours that were not provided. */
+    private final long[] unknownDays;
+    @Nullable
+    private final Integer utcOffsetMinutes;
+
+    private OpeningHoursTable(Builder builder) {
+        this.weekly = toIntArray(merge(builder.weekly));
+        this.overnight = toIntArray(merge(builder.overnight));
+        this.exceptions = toLongArray(merge(builder.exceptions));
+        this.exceptionDays = sortedUnique(builder.exceptionDays);
+        this.unknownDays = sortedUnique(builder.unknownDays);
+        this.utcOffsetMinutes = builder.utcOffsetMinutes;
+    }
+
+    /**
+     * Returns whether the place is open at {@code utcMillis}, using the place's own UTC offset, or
+     * {@code null} if that cannot be determined locally.
+     */
+    @Nullable
+    public Boolean isOpen(long utcMillis) {
+        if (utcOffsetMinutes == null) {
+            return null;
+        }
+        return isOpenAtLocalMinute(Math.floorDiv(utcMillis, MILLIS_PER_MINUTE) + utcOffsetMinutes);
+    }
+
+    /**
+     * Returns whether the place is open at {@code utcMillis} in {@code placeTimeZone}, or
+     * {@code null} if that cannot be determined locally. Prefer this over {@link #isOpen(long)}
+     * when the place's time zone is known, since it follows daylight saving changes.
+     */
+    @Nullable
+    public Boolean isOpen(long utcMillis, @NonNull TimeZone placeTimeZone) {
+        long offsetMillis = placeTimeZone.getOffset(utcMillis);
+        return isOpenAtLocalMinute(Math.floorDiv(utcMillis + offsetMillis, MILLIS_PER_MINUTE));
+    }
+
+    /**
+     * Returns whether the place is open at a local wall-clock time given in minutes since
+     * 1970-01-01T00:00, or {@code null} if that cannot be determined locally.
+     */
+    @Nullable
+    public Boolean isOpenAtLocalMinute(long localMinute) {
+        long epochDay = Math.floorDiv(localMinute, MINUTES_PER_DAY);
+        if (Arrays.binarySearch(unknownDays, epochDay) >= 0) {
+            return null;
+        }
+        // An exceptional range that started on the previous day can run past midnight, so it is
+        // checked on every day, not only on exception days.
+        if (containsLong(exceptions, localMinute)) {
+            return true;
+        }
+        int minuteOfWeek = minuteOfWeek(localMinute);
+        if (Arrays.binarySearch(exceptionDays, epochDay) < 0 && containsInt(weekly, minuteOfWeek)) {
+            return true;
+        }
+        if (containsInt(overnight, minuteOfWeek)) {
+            // A regular period from the previous day, which only counts if that day kept them.
+            if (Arrays.binarySearch(unknownDays, epochDay - 1) >= 0) {
+                return null;
+            }
+            return Arrays.binarySearch(exceptionDays, epochDay - 1) < 0;
+        }
+        return false;
+    }
+
+    /** Returns whether the place has no regular opening hours at all. */
+    public boolean isAlwaysClosed() {
+        return weekly.length == 0 && overnight.length == 0 && exceptions.length == 0;
+    }
+
+    /** Returns the minute of the week, Sunday 00:00 being 0, of a local minute since the epoch. */
+    static int minuteOfWeek(long localMinute) {
+        // 1970-01-01 was a Thursday, four days after a Sunday.
+        return (int) Math.floorMod(localMinute + 4L * MINUTES_PER_DAY, MINUTES_PER_WEEK);
+    }
+
+    /** Returns the days since 1970-01-01 of a date in the proleptic Gregorian calendar. */
+    static long epochDay(int year, int month, int day) {
+        // Howard Hinnant's days_from_civil, with March as the first month of the year.
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "OpeningHoursTable{weeklyRanges=" + weekly.length / 2
+                + ", overnightRanges=" + overnight.length / 2
+                + ", exceptionRanges=" + exceptions.length / 2
+                + ", exceptionDays=" + exceptionDays.length
+                + ", unknownDays=" + unknownDays.length
+                + ", utcOffsetMinutes=" + utcOffsetMinutes
+                + "}";
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    private static boolean containsInt(int[] ranges, int value) {
+        // Find the last range that opens at or before value.
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ranges[2 * mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && value < ranges[2 * high + 1];
+    }
+
+    private static boolean containsLong(long[] ranges, long value) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ranges[2 * mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && value < ranges[2 * high + 1];
+    }
+
+    /** Sorts ranges by their start and joins overlapping or touching ones. */
+    private static List<long[]> merge(List<long[]> ranges) {
+        List<long[]> sorted = new ArrayList<>(ranges);
+        sorted.sort((a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>(sorted.size());
+        for (long[] range : sorted) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(new long[]{range[0], range[1]});
+            }
+        }
+        return merged;
+    }
+
+    private static int[] toIntArray(List<long[]> ranges) {
+        int[] result = new int[ranges.size() * 2];
+        for (int i = 0; i < ranges.size(); i++) {
+            result[2 * i] = (int) ranges.get(i)[0];
+            result[2 * i + 1] = (int) ranges.get(i)[1];
+        }
+        return result;
+    }
+
+    private static long[] toLongArray(List<long[]> ranges) {
+        long[] result = new long[ranges.size() * 2];
+        for (int i = 0; i < ranges.size(); i++) {
+            result[2 * i] = ranges.get(i)[0];
+            result[2 * i + 1] = ranges.get(i)[1];
+        }
+        return result;
+    }
+
+    private static long[] sortedUnique(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * Builds an {@link OpeningHoursTable}. Ranges may be added in any order and may overlap.
+     */
+    public static final class Builder {
+        private final List<long[]> weekly = new ArrayList<>();
+        private final List<long[]> overnight = new ArrayList<>();
+        private final List<long[]> exceptions = new ArrayList<>();
+        private final List<Long> exceptionDays = new ArrayList<>();
+        private final List<Long> unknownDays = new ArrayList<>();
+        @Nullable
+        private Integer utcOffsetMinutes;
+
+        /**
+         * Adds a regular weekly period. A {@code close} at or before {@code open} wraps past the
+         * end of the week, e.g. Saturday 22:00 to Sunday 02:00.
+         */
+        @NonNull
+        public Builder addWeeklyPeriod(int openMinuteOfWeek, int closeMinuteOfWeek) {
+            int close = closeMinuteOfWeek > openMinuteOfWeek
+                    ? closeMinuteOfWeek : closeMinuteOfWeek + MINUTES_PER_WEEK;
+            int midnight = (openMinuteOfWeek / MINUTES_PER_DAY + 1) * MINUTES_PER_DAY;
+            addWrapped(weekly, openMinuteOfWeek, Math.min(close, midnight));
+            if (close > midnight) {
+                addWrapped(overnight, midnight, close);
+            }
+            return this;
+        }
+
+        /** Marks the place as open around the clock on regular days. */
+        @NonNull
+        public Builder setAlwaysOpen() {
+            weekly.add(new long[]{0, MINUTES_PER_WEEK});
+            return this;
+        }
+
+        /** Replaces the regular hours of {@code epochDay} with the exception periods. */
+        @NonNull
+        public Builder addExceptionDay(long epochDay) {
+            exceptionDays.add(epochDay);
+            return this;
+        }
+
+        /** Adds an exceptional period in local minutes since the epoch. */
+        @NonNull
+        public Builder addExceptionPeriod(long openLocalMinute, long closeLocalMinute) {
+            if (closeLocalMinute > openLocalMinute) {
+                exceptions.add(new long[]{openLocalMinute, closeLocalMinute});
+            }
+            return this;
+        }
+
+        /** Marks {@code epochDay} as having special hours that are not known. */
+        @NonNull
+        public Builder addUnknownDay(long epochDay) {
+            unknownDays.add(epochDay);
+            return this;
+        }
+
+        @NonNull
+        public Builder setUtcOffsetMinutes(@Nullable Integer utcOffsetMinutes) {
+            this.utcOffsetMinutes = utcOffsetMinutes;
+            return this;
+        }
+
+        @NonNull
+        public OpeningHoursTable build() {
+            return new OpeningHoursTable(this);
+        }
+
+        /** Adds {@code [open, close)}, split where it runs past the end of the week. */
+        private static void addWrapped(List<long[]> ranges, int open, int close) {
+            if (close <= MINUTES_PER_WEEK) {
+                ranges.add(new long[]{open, close});
+            } else if (open >= MINUTES_PER_WEEK) {
+                ranges.add(new long[]{open - MINUTES_PER_WEEK, close - MINUTES_PER_WEEK});
+            } else {
+                ranges.add(new long[]{open, MINUTES_PER_WEEK});
+                ranges.add(new long[]{0, close - MINUTES_PER_WEEK});
+            }
+        }
+    }
+}
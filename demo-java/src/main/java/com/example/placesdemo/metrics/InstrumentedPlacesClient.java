@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import android.annotation.SuppressLint;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.common.api.ApiException;
+import com.google.android.gms.common.api.CommonStatusCodes;
+import com.google.android.gms.tasks.Task;
+import com.google.android.libraries.places.api.net.FetchPhotoRequest;
+import com.google.android.libraries.places.api.net.FetchPhotoResponse;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriRequest;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse;
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest;
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse;
+import com.google.android.libraries.places.api.net.FindCurrentPlaceRequest;
+import com.google.android.libraries.places.api.net.FindCurrentPlaceResponse;
+import com.google.android.libraries.places.api.net.IsOpenRequest;
+import com.google.android.libraries.places.api.net.IsOpenResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+import com.google.android.libraries.places.api.net.SearchByTextRequest;
+import com.google.android.libraries.places.api.net.SearchByTextResponse;
+import com.google.android.libraries.places.api.net.SearchNearbyRequest;
+import com.google.android.libraries.places.api.net.SearchNearbyResponse;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link PlacesClient} that forwards every call to another client and records how it went in
+ * {@link PlacesClientMetrics}: the time until the returned task completed, the
+ * {@link ApiException} status code of failures, the number of place fields requested and the number
+ * of results returned.
+ *
+ * <p>Completion is observed on the thread that completes the task, so the latency does not include
+ * the wait for the main thread, and listeners added by the caller run as before.
+ */
+public final class InstrumentedPlacesClient implements PlacesClient {
+
+    // Records completion where it happens, rather than after a hop to the main thread.
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final PlacesClient delegate;
+    private final PlacesClientMetrics metrics;
+
+    public InstrumentedPlacesClient(@NonNull PlacesClient delegate,
+                                    @NonNull PlacesClientMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @NonNull
+    public PlacesClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchPhotoResponse> fetchPhoto(@NonNull FetchPhotoRequest request) {
+        long startNanos = System.nanoTime();
+        try {
+            return track("fetchPhoto", startNanos, 0, delegate.fetchPhoto(request),
+                    response -> response.getBitmap() == null ? 0 : 1);
+        } catch (RuntimeException e) {
+            throw recordThrown("fetchPhoto", startNanos, 0, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchPlaceResponse> fetchPlace(@NonNull FetchPlaceRequest request) {
+        long startNanos = System.nanoTime();
+        int fields = count(request.getPlaceFields());
+        try {
+            return track("fetchPlace", startNanos, fields, delegate.fetchPlace(request),
+                    response -> 1);
+        } catch (RuntimeException e) {
+            throw recordThrown("fetchPlace", startNanos, fields, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchResolvedPhotoUriResponse> fetchResolvedPhotoUri(
+            @NonNull FetchResolvedPhotoUriRequest request) {
+        long startNanos = System.nanoTime();
+        try {
+            return track("fetchResolvedPhotoUri", startNanos, 0,
+                    delegate.fetchResolvedPhotoUri(request),
+                    response -> response.getUri() == null ? 0 : 1);
+        } catch (RuntimeException e) {
+            throw recordThrown("fetchResolvedPhotoUri", startNanos, 0, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<FindAutocompletePredictionsResponse> findAutocompletePredictions(
+            @NonNull FindAutocompletePredictionsRequest request) {
+        long startNanos = System.nanoTime();
+        try {
+            return track("findAutocompletePredictions", startNanos, 0,
+                    delegate.findAutocompletePredictions(request),
+                    response -> count(response.getAutocompletePredictions()));
+        } catch (RuntimeException e) {
+            throw recordThrown("findAutocompletePredictions", startNanos, 0, e);
+        }
+    }
+
+    // Callers check the location permission, as the PlacesClient method they call requires.
+    @SuppressLint("MissingPermission")
+    @NonNull
+    @Override
+    public Task<FindCurrentPlaceResponse> findCurrentPlace(
+            @NonNull FindCurrentPlaceRequest request) {
+        long startNanos = System.nanoTime();
+        int fields = count(request.getPlaceFields());
+        try {
+            return track("findCurrentPlace", startNanos, fields,
+                    delegate.findCurrentPlace(request),
+                    response -> count(response.getPlaceLikelihoods()));
+        } catch (RuntimeException e) {
+            throw recordThrown("findCurrentPlace", startNanos, fields, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<IsOpenResponse> isOpen(@NonNull IsOpenRequest request) {
+        long startNanos = System.nanoTime();
+        try {
+            return track("isOpen", startNanos, 0, delegate.isOpen(request),
+                    response -> response.isOpen() == null ? 0 : 1);
+        } catch (RuntimeException e) {
+            throw recordThrown("isOpen", startNanos, 0, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<SearchByTextResponse> searchByText(@NonNull SearchByTextRequest request) {
+        long startNanos = System.nanoTime();
+        int fields = count(request.getPlaceFields());
+        try {
+            return track("searchByText", startNanos, fields, delegate.searchByText(request),
+                    response -> count(response.getPlaces()));
+        } catch (RuntimeException e) {
+            throw recordThrown("searchByText", startNanos, fields, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Task<SearchNearbyResponse> searchNearby(@NonNull SearchNearbyRequest request) {
+        long startNanos = System.nanoTime();
+        int fields = count(request.getPlaceFields());
+        try {
+            return track("searchNearby", startNanos, fields, delegate.searchNearby(request),
+                    response -> count(response.getPlaces()));
+        } catch (RuntimeException e) {
+            throw recordThrown("searchNearby", startNanos, fields, e);
+        }
+    }
+
+    /** Counts the results in a response. */
+    private interface ResultCounter<R> {
+        int count(R response);
+    }
+
+    private <R> Task<R> track(String method, long startNanos, int fields, Task<R> task,
+                              ResultCounter<R> counter) {
+        task.addOnCompleteListener(DIRECT_EXECUTOR, completed -> {
+            long latencyNanos = System.nanoTime() - startNanos;
+            if (completed.isSuccessful()) {
+                R response = completed.getResult();
+                metrics.recordSuccess(method, latencyNanos, fields,
+                        response == null ? 0 : counter.count(response));
+            } else {
+                metrics.recordFailure(method, latencyNanos, fields,
+                        completed.isCanceled()
+                                ? CommonStatusCodes.CANCELED
+                                : statusCode(completed.getException()));
+            }
+        });
+        return task;
+    }
+
+    /** Records a call that threw instead of returning a task, and returns the exception. */
+    private RuntimeException recordThrown(String method, long startNanos, int fields,
+                                          RuntimeException e) {
+        metrics.recordFailure(method, System.nanoTime() - startNanos, fields, statusCode(e));
+        return e;
+    }
+
+    static int statusCode(@Nullable Exception exception) {
+        return exception instanceof ApiException
+                ? ((ApiException) exception).getStatusCode()
+                : PlacesClientMetrics.STATUS_OTHER;
+    }
+
+    private static int count(@Nullable List<?> values) {
+        return values == null ? 0 : values.size();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import java.util.Arrays;
+
+/**
+ * A latency histogram in the style of HdrHistogram: fixed memory, constant-time recording, and
+ * percentiles within two percent of the true value at any magnitude.
+ *
+ * <p>Values are recorded in microseconds. Those below {@code 128} get a bucket each. Above that,
+ * every power of two is split into {@code 64} equal buckets, so a bucket is never wider than
+ * {@code 1/64} of the values it holds. Values above {@link #MAX_VALUE_MICROS} are recorded as that
+ * value.
+ *
+ * <p>Not thread-safe; {@link PlacesClientMetrics} guards each histogram with its own lock.
+ */
+public final class LatencyHistogram {
+
+    /** The largest value recorded exactly, about an hour. */
+    public static final long MAX_VALUE_MICROS = (1L << 32) - 1;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts = new long[indexOf(MAX_VALUE_MICROS) + 1];
+    private long totalCount;
+    private long totalMicros;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+
+    /** Records one value, in microseconds. Negative values are recorded as zero. */
+    public void record(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_VALUE_MICROS));
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalMicros += value;
+        minMicros = Math.min(minMicros, value);
+        maxMicros = Math.max(maxMicros, value);
+    }
+
+    /** Adds every value recorded by {@code other} to this histogram. */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalMicros += other.totalMicros;
+        minMicros = Math.min(minMicros, other.minMicros);
+        maxMicros = Math.max(maxMicros, other.maxMicros);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalMicros = 0;
+        minMicros = Long.MAX_VALUE;
+        maxMicros = 0;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /** Returns the smallest value recorded, or {@code 0} if there are none. */
+    public long getMinMicros() {
+        return totalCount == 0 ? 0 : minMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public long getMeanMicros() {
+        return totalCount == 0 ? 0 : totalMicros / totalCount;
+    }
+
+    /**
+     * Returns the value at or below which {@code percentile} percent of the recorded values fall,
+     * as the highest value of its bucket, or {@code 0} if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double clamped = Math.max(0, Math.min(percentile, 100));
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(Math.max(highestValueAt(i), minMicros), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    /** Returns the bucket of {@code value}, which is between zero and {@link #MAX_VALUE_MICROS}. */
+    static int indexOf(long value) {
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift <= 0) {
+            return (int) value;
+        }
+        // The top seven bits of the value, between 64 and 127, select the sub-bucket.
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    /** Returns the highest value that falls into bucket {@code index}. */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
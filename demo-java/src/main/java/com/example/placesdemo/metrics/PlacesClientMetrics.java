@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.net.PlacesStatusCodes;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency, error and payload statistics of {@code PlacesClient} calls, per method, as recorded by
+ * {@link InstrumentedPlacesClient}.
+ *
+ * <p>{@link #getSnapshots()} returns a consistent copy for display, and {@link #dump(PrintWriter)}
+ * writes them as a table, for example from {@link PlacesMetricsActivity} or {@code dumpsys}.
+ */
+public final class PlacesClientMetrics {
+
+    /** The status code recorded for failures that are not an {@code ApiException}. */
+    public static final int STATUS_OTHER = -1;
+
+    private final Map<String, MethodStats> methods = new LinkedHashMap<>();
+
+    /** Records a call of {@code method} that succeeded. */
+    public synchronized void recordSuccess(@NonNull String method, long latencyNanos,
+                                           int fieldsRequested, int resultsReturned) {
+        MethodStats stats = stats(method, latencyNanos, fieldsRequested);
+        stats.resultsReturned += resultsReturned;
+    }
+
+    /**
+     * Records a call of {@code method} that failed with {@code statusCode}, or
+     * {@link #STATUS_OTHER}.
+     */
+    public synchronized void recordFailure(@NonNull String method, long latencyNanos,
+                                           int fieldsRequested, int statusCode) {
+        MethodStats stats = stats(method, latencyNanos, fieldsRequested);
+        Long errors = stats.errorsByStatus.get(statusCode);
+        stats.errorsByStatus.put(statusCode, errors == null ? 1 : errors + 1);
+        stats.errorCount++;
+    }
+
+    private MethodStats stats(String method, long latencyNanos, int fieldsRequested) {
+        MethodStats stats = methods.get(method);
+        if (stats == null) {
+            stats = new MethodStats();
+            methods.put(method, stats);
+        }
+        stats.latency.record(latencyNanos / 1000);
+        stats.fieldsRequested += fieldsRequested;
+        return stats;
+    }
+
+    /** Returns the statistics of every method called so far, in order of first call. */
+    @NonNull
+    public synchronized List<MethodSnapshot> getSnapshots() {
+        List<MethodSnapshot> snapshots = new ArrayList<>(methods.size());
+        for (Map.Entry<String, MethodStats> entry : methods.entrySet()) {
+            snapshots.add(new MethodSnapshot(entry.getKey(), entry.getValue()));
+        }
+        return snapshots;
+    }
+
+    /** Returns the statistics of {@code method}, or {@code null} if it was never called. */
+    @Nullable
+    public synchronized MethodSnapshot getSnapshot(@NonNull String method) {
+        MethodStats stats = methods.get(method);
+        return stats == null ? null : new MethodSnapshot(method, stats);
+    }
+
+    /** Forgets everything recorded so far. */
+    public synchronized void reset() {
+        methods.clear();
+    }
+
+    /** Writes the statistics of every method, one line per method and per error status. */
+    public void dump(@NonNull PrintWriter writer) {
+        List<MethodSnapshot> snapshots = getSnapshots();
+        if (snapshots.isEmpty()) {
+            writer.println("No PlacesClient calls recorded.");
+            return;
+        }
+        writer.println(String.format(Locale.US, "%-28s %6s %6s %8s %8s %8s %8s %7s %7s",
+                "method", "calls", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms", "fields",
+                "results"));
+        for (MethodSnapshot snapshot : snapshots) {
+            writer.println(String.format(Locale.US,
+                    "%-28s %6d %6d %8.1f %8.1f %8.1f %8.1f %7.1f %7.1f",
+                    snapshot.method, snapshot.count, snapshot.errorCount,
+                    snapshot.p50Micros / 1e3, snapshot.p95Micros / 1e3, snapshot.p99Micros / 1e3,
+                    snapshot.maxMicros / 1e3,
+                    (double) snapshot.fieldsRequested / snapshot.count,
+                    snapshot.successCount() == 0
+                            ? 0 : (double) snapshot.resultsReturned / snapshot.successCount()));
+            for (Map.Entry<Integer, Long> error : snapshot.errorsByStatus.entrySet()) {
+                writer.println(String.format(Locale.US, "    %s (%d): %d",
+                        statusName(error.getKey()), error.getKey(), error.getValue()));
+            }
+        }
+        writer.flush();
+    }
+
+    private static String statusName(int statusCode) {
+        return statusCode == STATUS_OTHER
+                ? "OTHER" : PlacesStatusCodes.getStatusCodeString(statusCode);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringWriter out = new StringWriter();
+        dump(new PrintWriter(out));
+        return out.toString();
+    }
+
+    private static final class MethodStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final Map<Integer, Long> errorsByStatus = new TreeMap<>();
+        long errorCount;
+        long fieldsRequested;
+        long resultsReturned;
+    }
+
+    /** The statistics of one {@code PlacesClient} method at the time they were read. */
+    public static final class MethodSnapshot {
+        public final String method;
+        /** Calls that completed, successfully or not. */
+        public final long count;
+        public final long errorCount;
+        /** Failed calls by {@code ApiException} status code, or {@link #STATUS_OTHER}. */
+        public final Map<Integer, Long> errorsByStatus;
+        public final long p50Micros;
+        public final long p95Micros;
+        public final long p99Micros;
+        public final long maxMicros;
+        public final long meanMicros;
+        /** Place fields requested, summed over all calls. */
+        public final long fieldsRequested;
+        /** Places, predictions or other results returned, summed over successful calls. */
+        public final long resultsReturned;
+
+        MethodSnapshot(String method, MethodStats stats) {
+            this.method = method;
+            this.count = stats.latency.getTotalCount();
+            this.errorCount = stats.errorCount;
+            this.errorsByStatus =
+                    Collections.unmodifiableMap(new TreeMap<>(stats.errorsByStatus));
+            this.p50Micros = stats.latency.getValueAtPercentile(50);
+            this.p95Micros = stats.latency.getValueAtPercentile(95);
+            this.p99Micros = stats.latency.getValueAtPercentile(99);
+            this.maxMicros = stats.latency.getMaxMicros();
+            this.meanMicros = stats.latency.getMeanMicros();
+            this.fieldsRequested = stats.fieldsRequested;
+            this.resultsReturned = stats.resultsReturned;
+        }
+
+        public long successCount() {
+            return count - errorCount;
+        }
+    }
+}
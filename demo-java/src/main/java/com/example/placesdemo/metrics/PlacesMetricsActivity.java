@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import android.os.Bundle;
+
+import androidx.activity.EdgeToEdge;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+
+import com.example.placesdemo.PlacesDemoApplication;
+import com.example.placesdemo.cache.PlacesRequestCoalescer;
+import com.example.placesdemo.databinding.PlacesMetricsActivityBinding;
+
+import java.io.FileDescriptor;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * A debug screen that shows the latency percentiles, errors and payload sizes of every
+ * {@code PlacesClient} method the app has called, and how many requests never reached the client
+ * because an identical one was already in flight.
+ *
+ * <p>While it is open, the same table can be read from a host with
+ * {@code adb shell dumpsys activity com.example.placesdemo/.metrics.PlacesMetricsActivity}.
+ */
+public class PlacesMetricsActivity extends AppCompatActivity {
+
+    private PlacesMetricsActivityBinding binding;
+    private PlacesClientMetrics metrics;
+    private PlacesRequestCoalescer coalescer;
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        // Enable edge-to-edge display. This must be called before calling super.onCreate().
+        EdgeToEdge.enable(this);
+        super.onCreate(savedInstanceState);
+
+        binding = PlacesMetricsActivityBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        PlacesDemoApplication application = (PlacesDemoApplication) getApplication();
+        metrics = application.getPlacesClientMetrics();
+        coalescer = application.getRequestCoalescer();
+
+        binding.buttonRefresh.setOnClickListener(view -> showMetrics());
+        binding.buttonReset.setOnClickListener(view -> {
+            metrics.reset();
+            showMetrics();
+        });
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        showMetrics();
+    }
+
+    private void showMetrics() {
+        StringWriter out = new StringWriter();
+        printMetrics(new PrintWriter(out));
+        binding.textViewMetrics.setText(out.toString());
+    }
+
+    private void printMetrics(PrintWriter writer) {
+        metrics.dump(writer);
+        writer.println("Requests joined to one in flight: " + coalescer.getCollapsedCount());
+        writer.flush();
+    }
+
+    @Override
+    public void dump(@NonNull String prefix, @Nullable FileDescriptor fd,
+                     @NonNull PrintWriter writer, @Nullable String[] args) {
+        super.dump(prefix, fd, writer, args);
+        printMetrics(writer);
+    }
+}
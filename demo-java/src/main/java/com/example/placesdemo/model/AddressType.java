@@ -14,6 +14,13 @@
 
 package com.example.placesdemo.model;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * The Address types. Please see <a
  * href="https://developers.google.com/maps/documentation/geocoding/intro#Types">Address Types and
@@ -464,12 +471,48 @@ public enum AddressType {
    */
   UNKNOWN("unknown");
 
+  private static final Map<String, AddressType> BY_WIRE_NAME;
+
+  static {
+    AddressType[] values = values();
+    // Sized so the map never rehashes at the default load factor.
+    BY_WIRE_NAME = new HashMap<>(values.length * 4 / 3 + 1);
+    for (AddressType type : values) {
+      BY_WIRE_NAME.put(type.addressType, type);
+    }
+  }
+
   private final String addressType;
 
   AddressType(final String addressType) {
     this.addressType = addressType;
   }
 
+  /**
+   * Returns the type for a wire string such as {@code "street_address"}, or {@link #UNKNOWN} for a
+   * string this version does not know.
+   */
+  @NonNull
+  public static AddressType fromWireName(@Nullable String wireName) {
+    AddressType type = wireName == null ? null : BY_WIRE_NAME.get(wireName);
+    return type == null ? UNKNOWN : type;
+  }
+
+  /**
+   * Returns the types of {@code wireNames}, such as the types of an address component. Unknown
+   * strings are collected as {@link #UNKNOWN}.
+   */
+  @NonNull
+  public static EnumSet<AddressType> setOf(@Nullable Iterable<String> wireNames) {
+    EnumSet<AddressType> types = EnumSet.noneOf(AddressType.class);
+    if (wireNames != null) {
+      for (String wireName : wireNames) {
+        types.add(fromWireName(wireName));
+      }
+    }
+    return types;
+  }
+
   @Override
   public String toString() {
     return addressType;
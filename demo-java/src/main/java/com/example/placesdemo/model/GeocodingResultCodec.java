@@ -0,0 +1,398 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.model;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.maps.model.LatLng;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A compact binary encoding of {@link GeocodingResult} and the {@link Geometry}, {@link Bounds}
+ * and {@link PlusCode} it holds, for persisting results or passing them in a {@code Bundle}
+ * without {@link java.io.Serializable}.
+ *
+ * <p>Results are read from and written to {@link ByteBuffer}s at their current position, so many
+ * results can be streamed back to back through one buffer. {@link #sizeOf(GeocodingResult)} gives
+ * the exact encoded length up front.
+ *
+ * <p>Layout, in order: a 4 byte schema fingerprint, a flags byte, the place ID, the formatted
+ * address, the postcode localities, the types, the geometry and the plus code, each optional part
+ * only present when its flag is set. Lengths, counts and enum ordinals are unsigned LEB128
+ * varints; strings are a varint of the UTF-8 length plus one, with zero for {@code null}; doubles
+ * are the 8 bytes of {@link Double#doubleToRawLongBits(double)}.
+ *
+ * <p>Enums are written by ordinal, so the fingerprint covers the names of every
+ * {@link AddressType} and {@link LocationType}: bytes written by a build with different enums are
+ * rejected instead of read back as the wrong types.
+ */
+public final class GeocodingResultCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int SCHEMA = schemaFingerprint();
+
+    // GeocodingResult flags.
+    private static final int HAS_POSTCODE_LOCALITIES = 1;
+    private static final int HAS_TYPES = 1 << 1;
+    private static final int HAS_GEOMETRY = 1 << 2;
+    private static final int HAS_PLUS_CODE = 1 << 3;
+    private static final int PARTIAL_MATCH = 1 << 4;
+
+    // Geometry flags.
+    private static final int HAS_LOCATION = 1;
+    private static final int HAS_LOCATION_TYPE = 1 << 1;
+    private static final int HAS_VIEWPORT = 1 << 2;
+    private static final int HAS_BOUNDS = 1 << 3;
+
+    // Bounds flags.
+    private static final int HAS_NORTHEAST = 1;
+    private static final int HAS_SOUTHWEST = 1 << 1;
+
+    private static final AddressType[] ADDRESS_TYPES = AddressType.values();
+    private static final LocationType[] LOCATION_TYPES = LocationType.values();
+    private static final int LAT_LNG_SIZE = 16;
+
+    private GeocodingResultCodec() {
+    }
+
+    /** Returns {@code result} encoded in a new array of exactly {@link #sizeOf} bytes. */
+    @NonNull
+    public static byte[] encode(@NonNull GeocodingResult result) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(result));
+        write(result, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Returns the result encoded in {@code bytes}.
+     *
+     * @throws IllegalArgumentException if {@code bytes} are not a complete result of this schema.
+     */
+    @NonNull
+    public static GeocodingResult decode(@NonNull byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /** Returns the number of bytes {@link #write} takes for {@code result}. */
+    public static int sizeOf(@NonNull GeocodingResult result) {
+        int size = 4 + 1 + sizeOf(result.placeId) + sizeOf(result.formattedAddress);
+        if (result.postcodeLocalities != null) {
+            size += varintSize(result.postcodeLocalities.length);
+            for (String locality : result.postcodeLocalities) {
+                size += sizeOf(locality);
+            }
+        }
+        if (result.types != null) {
+            size += varintSize(result.types.length);
+            for (AddressType type : result.types) {
+                size += varintSize(type.ordinal());
+            }
+        }
+        Geometry geometry = result.geometry;
+        if (geometry != null) {
+            size += 1;
+            size += geometry.location == null ? 0 : LAT_LNG_SIZE;
+            size += geometry.locationType == null ? 0 : varintSize(geometry.locationType.ordinal());
+            size += sizeOf(geometry.viewport) + sizeOf(geometry.bounds);
+        }
+        if (result.plusCode != null) {
+            size += sizeOf(result.plusCode.globalCode) + sizeOf(result.plusCode.compoundCode);
+        }
+        return size;
+    }
+
+    /**
+     * Writes {@code result} at the position of {@code out} and advances it past the result.
+     *
+     * @throws java.nio.BufferOverflowException if fewer than {@link #sizeOf} bytes remain.
+     */
+    public static void write(@NonNull GeocodingResult result, @NonNull ByteBuffer out) {
+        out.putInt(SCHEMA);
+        int flags = (result.postcodeLocalities != null ? HAS_POSTCODE_LOCALITIES : 0)
+                | (result.types != null ? HAS_TYPES : 0)
+                | (result.geometry != null ? HAS_GEOMETRY : 0)
+                | (result.plusCode != null ? HAS_PLUS_CODE : 0)
+                | (result.partialMatch ? PARTIAL_MATCH : 0);
+        out.put((byte) flags);
+        writeString(out, result.placeId);
+        writeString(out, result.formattedAddress);
+        if (result.postcodeLocalities != null) {
+            writeVarint(out, result.postcodeLocalities.length);
+            for (String locality : result.postcodeLocalities) {
+                writeString(out, locality);
+            }
+        }
+        if (result.types != null) {
+            writeVarint(out, result.types.length);
+            for (AddressType type : result.types) {
+                writeVarint(out, type.ordinal());
+            }
+        }
+        if (result.geometry != null) {
+            writeGeometry(out, result.geometry);
+        }
+        if (result.plusCode != null) {
+            writeString(out, result.plusCode.globalCode);
+            writeString(out, result.plusCode.compoundCode);
+        }
+    }
+
+    /**
+     * Reads a result at the position of {@code in} and advances it past the result.
+     *
+     * @throws IllegalArgumentException if the bytes are not a complete result of this schema.
+     */
+    @NonNull
+    public static GeocodingResult read(@NonNull ByteBuffer in) {
+        try {
+            if (in.getInt() != SCHEMA) {
+                throw new IllegalArgumentException("Written with a different schema");
+            }
+            int flags = in.get();
+            GeocodingResult result = new GeocodingResult();
+            result.placeId = readString(in);
+            result.formattedAddress = readString(in);
+            if ((flags & HAS_POSTCODE_LOCALITIES) != 0) {
+                String[] localities = new String[readCount(in)];
+                for (int i = 0; i < localities.length; i++) {
+                    localities[i] = readString(in);
+                }
+                result.postcodeLocalities = localities;
+            }
+            if ((flags & HAS_TYPES) != 0) {
+                AddressType[] types = new AddressType[readCount(in)];
+                for (int i = 0; i < types.length; i++) {
+                    types[i] = ADDRESS_TYPES[readVarint(in)];
+                }
+                result.types = types;
+            }
+            if ((flags & HAS_GEOMETRY) != 0) {
+                result.geometry = readGeometry(in);
+            }
+            if ((flags & HAS_PLUS_CODE) != 0) {
+                PlusCode plusCode = new PlusCode();
+                plusCode.globalCode = readString(in);
+                plusCode.compoundCode = readString(in);
+                result.plusCode = plusCode;
+            }
+            result.partialMatch = (flags & PARTIAL_MATCH) != 0;
+            return result;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt result", e);
+        }
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    private static void writeGeometry(ByteBuffer out, Geometry geometry) {
+        int flags = (geometry.location != null ? HAS_LOCATION : 0)
+                | (geometry.locationType != null ? HAS_LOCATION_TYPE : 0)
+                | (geometry.viewport != null ? HAS_VIEWPORT : 0)
+                | (geometry.bounds != null ? HAS_BOUNDS : 0);
+        out.put((byte) flags);
+        if (geometry.location != null) {
+            writeLatLng(out, geometry.location);
+        }
+        if (geometry.locationType != null) {
+            writeVarint(out, geometry.locationType.ordinal());
+        }
+        if (geometry.viewport != null) {
+            writeBounds(out, geometry.viewport);
+        }
+        if (geometry.bounds != null) {
+            writeBounds(out, geometry.bounds);
+        }
+    }
+
+    private static Geometry readGeometry(ByteBuffer in) {
+        int flags = in.get();
+        Geometry geometry = new Geometry();
+        if ((flags & HAS_LOCATION) != 0) {
+            geometry.location = readLatLng(in);
+        }
+        if ((flags & HAS_LOCATION_TYPE) != 0) {
+            geometry.locationType = LOCATION_TYPES[readVarint(in)];
+        }
+        if ((flags & HAS_VIEWPORT) != 0) {
+            geometry.viewport = readBounds(in);
+        }
+        if ((flags & HAS_BOUNDS) != 0) {
+            geometry.bounds = readBounds(in);
+        }
+        return geometry;
+    }
+
+    private static int sizeOf(@Nullable Bounds bounds) {
+        if (bounds == null) {
+            return 0;
+        }
+        return 1 + (bounds.northeast == null ? 0 : LAT_LNG_SIZE)
+                + (bounds.southwest == null ? 0 : LAT_LNG_SIZE);
+    }
+
+    private static void writeBounds(ByteBuffer out, Bounds bounds) {
+        out.put((byte) ((bounds.northeast != null ? HAS_NORTHEAST : 0)
+                | (bounds.southwest != null ? HAS_SOUTHWEST : 0)));
+        if (bounds.northeast != null) {
+            writeLatLng(out, bounds.northeast);
+        }
+        if (bounds.southwest != null) {
+            writeLatLng(out, bounds.southwest);
+        }
+    }
+
+    private static Bounds readBounds(ByteBuffer in) {
+        int flags = in.get();
+        Bounds bounds = new Bounds();
+        if ((flags & HAS_NORTHEAST) != 0) {
+            bounds.northeast = readLatLng(in);
+        }
+        if ((flags & HAS_SOUTHWEST) != 0) {
+            bounds.southwest = readLatLng(in);
+        }
+        return bounds;
+    }
+
+    private static void writeLatLng(ByteBuffer out, LatLng latLng) {
+        out.putLong(Double.doubleToRawLongBits(latLng.latitude));
+        out.putLong(Double.doubleToRawLongBits(latLng.longitude));
+    }
+
+    private static LatLng readLatLng(ByteBuffer in) {
+        double latitude = Double.longBitsToDouble(in.getLong());
+        return new LatLng(latitude, Double.longBitsToDouble(in.getLong()));
+    }
+
+    private static int sizeOf(@Nullable String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return varintSize(length + 1) + length;
+    }
+
+    private static void writeString(ByteBuffer out, @Nullable String value) {
+        if (value == null) {
+            out.put((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length + 1);
+        out.put(bytes);
+    }
+
+    @Nullable
+    private static String readString(ByteBuffer in) {
+        int lengthPlusOne = readVarint(in);
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = lengthPlusOne - 1;
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            // Decode in place rather than copying out of a heap buffer first.
+            value = new String(in.array(), in.arrayOffset() + in.position(), length,
+                    StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /** Returns a count that fits in what is left of {@code in}, one byte or more per element. */
+    private static int readCount(ByteBuffer in) {
+        int count = readVarint(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static void writeVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7f) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /** Returns the length of {@code value} in UTF-8 without encoding it. */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate is encoded as '?'.
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /** Changes whenever the format version or the name or order of any enum constant changes. */
+    private static int schemaFingerprint() {
+        int hash = FORMAT_VERSION;
+        for (AddressType type : AddressType.values()) {
+            hash = 31 * hash + type.name().hashCode();
+        }
+        for (LocationType type : LocationType.values()) {
+            hash = 31 * hash + type.name().hashCode();
+        }
+        return hash;
+    }
+}
@@ -14,6 +14,12 @@
 
 package com.example.placesdemo.model;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Location types for a reverse geocoding request. Please see <a
  * href="https://developers.google.com/maps/documentation/geocoding/start#reverse">Reverse
@@ -47,4 +53,22 @@ public enum LocationType {
    * Services should be updated to support the new value.
    */
   UNKNOWN;
+
+  private static final Map<String, LocationType> BY_WIRE_NAME = new HashMap<>();
+
+  static {
+    for (LocationType type : values()) {
+      BY_WIRE_NAME.put(type.name(), type);
+    }
+  }
+
+  /**
+   * Returns the type for a wire string such as {@code "ROOFTOP"}, or {@link #UNKNOWN} for a string
+   * this version does not know.
+   */
+  @NonNull
+  public static LocationType fromWireName(@Nullable String wireName) {
+    LocationType type = wireName == null ? null : BY_WIRE_NAME.get(wireName);
+    return type == null ? UNKNOWN : type;
+  }
 }
@@ -0,0 +1,185 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Chooses how long to wait after a keystroke before sending an autocomplete request.
+ *
+ * <p>Instead of a fixed delay, the delay follows the user's typing cadence: it waits a little
+ * longer than the typical gap between keystrokes, so fast typists send fewer requests for
+ * intermediate prefixes and slow typists do not wait on a delay tuned for someone else. The recent
+ * median request latency is added on top, because a slow backend makes every wasted request more
+ * expensive. A query that ends on a word boundary fires almost immediately, since the user has
+ * just finished a word.
+ *
+ * <p>Every decision is kept in a bounded log, see {@link #getDecisions()} and
+ * {@link #dumpDecisions()}, so delay policies can be compared offline. The demo screens log the
+ * CSV when they stop.
+ *
+ * <p>The Kotlin apps share the same policy from the {@code :debouncer} module. This copy keeps
+ * demo-java free of Kotlin; change the constants in both.
+ */
+public final class AdaptiveDebouncer {
+
+    static final long MIN_DELAY_MILLIS = 100;
+    static final long MAX_DELAY_MILLIS = 600;
+    static final long DEFAULT_DELAY_MILLIS = 300;
+    static final long WORD_BOUNDARY_DELAY_MILLIS = 50;
+
+    /** Keystroke gaps longer than this are pauses, not typing cadence. */
+    private static final long MAX_KEYSTROKE_GAP_MILLIS = 1500;
+    private static final double CADENCE_SMOOTHING = 0.3;
+    private static final double CADENCE_MULTIPLIER = 1.5;
+    private static final double LATENCY_WEIGHT = 0.25;
+    private static final int LATENCY_WINDOW = 16;
+    private static final int MAX_DECISIONS = 256;
+
+    /** Why a delay was chosen. */
+    public enum Reason {
+        /** Not enough keystrokes yet to estimate cadence. */
+        DEFAULT,
+        /** Derived from the typing cadence and request latency. */
+        CADENCE,
+        /** The query ends on a word boundary. */
+        WORD_BOUNDARY
+    }
+
+    /** One recorded delay decision. */
+    public static final class Decision {
+        public final long timeMillis;
+        public final int queryLength;
+        public final long keystrokeIntervalMillis;
+        public final long p50LatencyMillis;
+        public final long delayMillis;
+        public final Reason reason;
+
+        Decision(long timeMillis, int queryLength, long keystrokeIntervalMillis,
+                 long p50LatencyMillis, long delayMillis, Reason reason) {
+            this.timeMillis = timeMillis;
+            this.queryLength = queryLength;
+            this.keystrokeIntervalMillis = keystrokeIntervalMillis;
+            this.p50LatencyMillis = p50LatencyMillis;
+            this.delayMillis = delayMillis;
+            this.reason = reason;
+        }
+    }
+
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private final Decision[] decisions = new Decision[MAX_DECISIONS];
+
+    private int latencyCount;
+    private int decisionCount;
+    private long lastKeystrokeMillis = -1;
+    private double keystrokeIntervalMillis = -1;
+
+    /**
+     * Records a change of the query text and returns how long to wait before requesting
+     * predictions for it.
+     *
+     * @param nowMillis a monotonic timestamp, e.g. {@code SystemClock.elapsedRealtime()}.
+     */
+    public synchronized long onQueryChanged(@NonNull String query, long nowMillis) {
+        if (lastKeystrokeMillis >= 0) {
+            long gap = nowMillis - lastKeystrokeMillis;
+            if (gap >= 0 && gap <= MAX_KEYSTROKE_GAP_MILLIS) {
+                keystrokeIntervalMillis = keystrokeIntervalMillis < 0
+                        ? gap
+                        : CADENCE_SMOOTHING * gap + (1 - CADENCE_SMOOTHING) * keystrokeIntervalMillis;
+            }
+        }
+        lastKeystrokeMillis = nowMillis;
+
+        long p50 = p50LatencyMillis();
+        long delay;
+        Reason reason;
+        if (isWordBoundary(query)) {
+            delay = WORD_BOUNDARY_DELAY_MILLIS;
+            reason = Reason.WORD_BOUNDARY;
+        } else if (keystrokeIntervalMillis < 0) {
+            delay = DEFAULT_DELAY_MILLIS;
+            reason = Reason.DEFAULT;
+        } else {
+            long target = Math.round(CADENCE_MULTIPLIER * keystrokeIntervalMillis
+                    + LATENCY_WEIGHT * Math.max(p50, 0));
+            delay = Math.max(MIN_DELAY_MILLIS, Math.min(MAX_DELAY_MILLIS, target));
+            reason = Reason.CADENCE;
+        }
+
+        decisions[decisionCount % MAX_DECISIONS] = new Decision(nowMillis, query.length(),
+                Math.round(keystrokeIntervalMillis), p50, delay, reason);
+        decisionCount++;
+        return delay;
+    }
+
+    /** Records how long a {@code findAutocompletePredictions} call took. */
+    public synchronized void recordLatency(long latencyMillis) {
+        latencies[latencyCount % LATENCY_WINDOW] = latencyMillis;
+        latencyCount++;
+    }
+
+    /** Returns the median of the recent request latencies, or -1 if none were recorded. */
+    public synchronized long p50LatencyMillis() {
+        int count = Math.min(latencyCount, LATENCY_WINDOW);
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted[count / 2];
+    }
+
+    /** Returns the recorded decisions, oldest first. */
+    @NonNull
+    public synchronized List<Decision> getDecisions() {
+        int count = Math.min(decisionCount, MAX_DECISIONS);
+        List<Decision> result = new ArrayList<>(count);
+        for (int i = decisionCount - count; i < decisionCount; i++) {
+            result.add(decisions[i % MAX_DECISIONS]);
+        }
+        return result;
+    }
+
+    /** Returns the recorded decisions as CSV, one line per decision with a header line. */
+    @NonNull
+    public String dumpDecisions() {
+        StringBuilder builder = new StringBuilder(
+                "timeMillis,queryLength,keystrokeIntervalMillis,p50LatencyMillis,delayMillis,reason\n");
+        for (Decision decision : getDecisions()) {
+            builder.append(String.format(Locale.US, "%d,%d,%d,%d,%d,%s\n",
+                    decision.timeMillis,
+                    decision.queryLength,
+                    decision.keystrokeIntervalMillis,
+                    decision.p50LatencyMillis,
+                    decision.delayMillis,
+                    decision.reason));
+        }
+        return builder.toString();
+    }
+
+    private static boolean isWordBoundary(String query) {
+        if (query.length() < 2) {
+            return false;
+        }
+        char last = query.charAt(query.length() - 1);
+        return Character.isWhitespace(last) || last == ',';
+    }
+}
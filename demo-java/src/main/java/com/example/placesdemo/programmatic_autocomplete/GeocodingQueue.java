@@ -0,0 +1,183 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import android.os.SystemClock;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.android.volley.Request;
+import com.android.volley.RequestQueue;
+import com.android.volley.toolbox.BasicNetwork;
+import com.android.volley.toolbox.DiskBasedCache;
+import com.android.volley.toolbox.HurlStack;
+
+import java.io.File;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An application-scoped Volley {@link RequestQueue} for Geocoding API requests.
+ *
+ * <p>All activities share one set of network dispatcher threads and one size-bounded disk cache,
+ * in which {@link GeocodingRequest} keys responses by place ID. Requests answered through a
+ * {@code GeocodingResultCache} opt out of the disk cache, since that cache persists results
+ * itself. Requests added for a {@link LifecycleOwner} are cancelled when it is destroyed. The queue also tracks how many
+ * requests are in flight and how long they wait before a dispatcher picks them up.
+ */
+public final class GeocodingQueue {
+
+    private final RequestQueue queue;
+    private final long cacheTtlMillis;
+    private final Map<LifecycleOwner, LifecycleEventObserver> observers = new WeakHashMap<>();
+    private final Map<Request<?>, Long> queuedAtMillis = new IdentityHashMap<>();
+
+    private int depth;
+    private int maxDepth;
+    private long requestCount;
+    private long cacheHitCount;
+    private long networkCount;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+
+    /**
+     * @param cacheDirectory  directory of the shared disk cache.
+     * @param maxCacheBytes   size of the disk cache before least recently used entries are evicted.
+     * @param threadPoolSize  number of network dispatcher threads.
+     * @param cacheTtlMillis  how long a geocoding result is served from the cache.
+     */
+    public GeocodingQueue(@NonNull File cacheDirectory, int maxCacheBytes, int threadPoolSize,
+                          long cacheTtlMillis) {
+        this.cacheTtlMillis = cacheTtlMillis;
+        queue = new RequestQueue(new DiskBasedCache(cacheDirectory, maxCacheBytes),
+                new BasicNetwork(new HurlStack()), threadPoolSize);
+        queue.addRequestEventListener(this::onRequestEvent);
+        queue.start();
+    }
+
+    /**
+     * Adds {@code request} at {@code priority}. It is cancelled, and its listeners are not called,
+     * once {@code owner} is destroyed.
+     */
+    @MainThread
+    public void add(@NonNull LifecycleOwner owner, @NonNull GeocodingRequest request,
+                    @NonNull Request.Priority priority) {
+        if (owner.getLifecycle().getCurrentState() == Lifecycle.State.DESTROYED) {
+            return;
+        }
+        if (!observers.containsKey(owner)) {
+            LifecycleEventObserver observer = (source, event) -> {
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    observers.remove(source);
+                    queue.cancelAll(source);
+                }
+            };
+            observers.put(owner, observer);
+            owner.getLifecycle().addObserver(observer);
+        }
+        request.setPriority(priority).setCacheTtlMillis(cacheTtlMillis).setTag(owner);
+        queue.add(request);
+    }
+
+    /** Cancels every request added for {@code owner}. */
+    public void cancelAll(@NonNull LifecycleOwner owner) {
+        queue.cancelAll(owner);
+    }
+
+    /** Stops the dispatcher threads. Requests already added are not delivered. */
+    public void stop() {
+        queue.stop();
+    }
+
+    private void onRequestEvent(Request<?> request, int event) {
+        long now = SystemClock.elapsedRealtime();
+        synchronized (this) {
+            switch (event) {
+                case RequestQueue.RequestEvent.REQUEST_QUEUED:
+                    queuedAtMillis.put(request, now);
+                    requestCount++;
+                    depth++;
+                    maxDepth = Math.max(maxDepth, depth);
+                    break;
+                case RequestQueue.RequestEvent.REQUEST_NETWORK_DISPATCH_STARTED:
+                    Long queuedAt = queuedAtMillis.remove(request);
+                    if (queuedAt != null) {
+                        networkCount++;
+                        long waitMillis = now - queuedAt;
+                        totalWaitMillis += waitMillis;
+                        maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+                    }
+                    break;
+                case RequestQueue.RequestEvent.REQUEST_FINISHED:
+                    // A request that never reached a network dispatcher was answered by the cache,
+                    // unless it was cancelled first.
+                    if (queuedAtMillis.remove(request) != null && !request.isCanceled()) {
+                        cacheHitCount++;
+                    }
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /** Returns the number of requests added and not yet finished. */
+    public synchronized int getDepth() {
+        return depth;
+    }
+
+    public synchronized int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /** Returns how many requests were answered from the disk cache without the network. */
+    public synchronized long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /**
+     * Returns the mean time requests that went to the network waited for a dispatcher, in
+     * milliseconds.
+     */
+    public synchronized long getMeanWaitMillis() {
+        return networkCount == 0 ? 0 : totalWaitMillis / networkCount;
+    }
+
+    public synchronized long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "GeocodingQueue{depth=" + depth
+                + ", maxDepth=" + maxDepth
+                + ", requests=" + requestCount
+                + ", cacheHits=" + cacheHitCount
+                + ", meanWaitMillis=" + getMeanWaitMillis()
+                + ", maxWaitMillis=" + maxWaitMillis
+                + "}";
+    }
+}
@@ -0,0 +1,142 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import androidx.annotation.Nullable;
+
+import com.android.volley.Cache;
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.VolleyError;
+import com.android.volley.toolbox.HttpHeaderParser;
+import com.example.placesdemo.model.GeocodingResult;
+import com.google.gson.stream.JsonReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * A Volley request for the Geocoding API that parses the first result straight from the response
+ * bytes with {@link GeocodingResultAdapter}. It delivers {@code null} when there are no results,
+ * and an error when the response status is neither {@code OK} nor {@code ZERO_RESULTS}.
+ *
+ * <p>Responses are cached by place ID rather than by URL, so the API key and other query
+ * parameters do not split the cache. {@code OK} responses are kept for at least
+ * {@link #setCacheTtlMillis(long)} whatever the response headers say.
+ */
+public class GeocodingRequest extends Request<GeocodingResult> {
+
+    private static final GeocodingResultAdapter ADAPTER = new GeocodingResultAdapter();
+
+    private final String placeId;
+    private final Response.Listener<GeocodingResult> listener;
+    private Priority priority = Priority.NORMAL;
+    private long cacheTtlMillis;
+
+    public GeocodingRequest(String placeId, String url,
+                            Response.Listener<GeocodingResult> listener,
+                            @Nullable Response.ErrorListener errorListener) {
+        super(Method.GET, url, errorListener);
+        this.placeId = placeId;
+        this.listener = listener;
+    }
+
+    public String getPlaceId() {
+        return placeId;
+    }
+
+    @Override
+    public String getCacheKey() {
+        return "geocode:" + placeId;
+    }
+
+    @Override
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public GeocodingRequest setPriority(Priority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    /** Sets how long a response is served from the cache without going back to the network. */
+    public GeocodingRequest setCacheTtlMillis(long cacheTtlMillis) {
+        this.cacheTtlMillis = cacheTtlMillis;
+        return this;
+    }
+
+    /** Parses the status and first result of a Geocoding API response. */
+    static GeocodingResultAdapter.FirstResult parse(byte[] data, Charset charset)
+            throws IOException {
+        try (JsonReader reader =
+                     new JsonReader(new InputStreamReader(new ByteArrayInputStream(data), charset))) {
+            return ADAPTER.readFirstResultAndStatus(reader);
+        }
+    }
+
+    /**
+     * Delivers the first result of an {@code OK} response, kept for at least the cache TTL, and
+     * {@code null} for a {@code ZERO_RESULTS} response, cached only as its headers allow. Any other
+     * status, such as {@code OVER_QUERY_LIMIT} or {@code REQUEST_DENIED}, arrives as HTTP 200 but
+     * is delivered as an error, so it is never cached.
+     */
+    @Override
+    protected Response<GeocodingResult> parseNetworkResponse(NetworkResponse response) {
+        GeocodingResultAdapter.FirstResult parsed;
+        try {
+            Charset charset = Charset.forName(HttpHeaderParser.parseCharset(response.headers, "UTF-8"));
+            parsed = parse(response.data, charset);
+        } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+            return Response.error(new ParseError(e));
+        }
+        if (GeocodingResultAdapter.STATUS_OK.equals(parsed.status)) {
+            return Response.success(parsed.result, cacheEntry(response));
+        }
+        if (GeocodingResultAdapter.STATUS_ZERO_RESULTS.equals(parsed.status)) {
+            return Response.success(null, HttpHeaderParser.parseCacheHeaders(response));
+        }
+        return Response.error(new VolleyError("Geocoding API status " + parsed.status));
+    }
+
+    /** Returns the cache entry for {@code response}, fresh for at least the cache TTL. */
+    @Nullable
+    private Cache.Entry cacheEntry(NetworkResponse response) {
+        Cache.Entry entry = HttpHeaderParser.parseCacheHeaders(response);
+        if (cacheTtlMillis <= 0) {
+            return entry;
+        }
+        long expiresAtMillis = System.currentTimeMillis() + cacheTtlMillis;
+        if (entry == null) {
+            // The server asked not to cache; geocoding results for a place ID rarely change.
+            entry = new Cache.Entry();
+            entry.data = response.data;
+            entry.responseHeaders = response.headers;
+            entry.allResponseHeaders = response.allHeaders;
+        }
+        entry.softTtl = Math.max(entry.softTtl, expiresAtMillis);
+        entry.ttl = Math.max(entry.ttl, expiresAtMillis);
+        return entry;
+    }
+
+    @Override
+    protected void deliverResponse(GeocodingResult response) {
+        listener.onResponse(response);
+    }
+}
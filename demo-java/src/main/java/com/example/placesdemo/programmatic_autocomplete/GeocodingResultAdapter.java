@@ -0,0 +1,349 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import androidx.annotation.Nullable;
+
+import com.example.placesdemo.model.AddressType;
+import com.example.placesdemo.model.Bounds;
+import com.example.placesdemo.model.GeocodingResult;
+import com.example.placesdemo.model.Geometry;
+import com.example.placesdemo.model.LocationType;
+import com.example.placesdemo.model.PlusCode;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a Geocoding API result straight from a {@link JsonReader}, using the wire names of the
+ * fields, without building an intermediate JSON tree. Fields the model does not keep, such as
+ * {@code address_components}, are skipped. Writing produces the same wire format, so a result
+ * survives a round trip through JSON.
+ */
+public class GeocodingResultAdapter extends TypeAdapter<GeocodingResult> {
+
+    /** The status of a Geocoding API response with results. */
+    public static final String STATUS_OK = "OK";
+    /** The status of a successful Geocoding API response that matched nothing. */
+    public static final String STATUS_ZERO_RESULTS = "ZERO_RESULTS";
+
+    private final LatLngAdapter latLngAdapter = new LatLngAdapter();
+    private final AddressTypeAdapter addressTypeAdapter = new AddressTypeAdapter();
+    private final LocationTypeAdapter locationTypeAdapter = new LocationTypeAdapter();
+
+    /**
+     * Registers this adapter and the adapters it reads with, so a {@link Gson} built from
+     * {@code builder} parses Geocoding results, and their types, without reflection.
+     */
+    public static GsonBuilder registerTo(GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(GeocodingResult.class, new GeocodingResultAdapter())
+                .registerTypeAdapter(LatLng.class, new LatLngAdapter())
+                .registerTypeAdapter(AddressType.class, new AddressTypeAdapter())
+                .registerTypeAdapter(LocationType.class, new LocationTypeAdapter());
+    }
+
+    /**
+     * Reads a Geocoding API response and returns its first result, or {@code null} if it has none.
+     * Reading stops at the end of the first result, so the rest of the response is never parsed.
+     *
+     * <pre>{
+     *   "results" : [ { "place_id" : "ChIJ...", ... }, ... ],
+     *   "status" : "OK"
+     * }</pre>
+     */
+    @Nullable
+    public GeocodingResult readFirstResult(JsonReader reader) throws IOException {
+        return readFirstResultAndStatus(reader).result;
+    }
+
+    /**
+     * Reads a Geocoding API response like {@link #readFirstResult(JsonReader)}, and also its
+     * {@code status}. A response only has results when its status is {@link #STATUS_OK}, so once
+     * the first result is read the status is taken to be OK; otherwise the whole response is read
+     * to find it.
+     */
+    public FirstResult readFirstResultAndStatus(JsonReader reader) throws IOException {
+        String status = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("status".equals(name) && reader.peek() == JsonToken.STRING) {
+                status = reader.nextString();
+            } else if ("results".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                if (reader.hasNext()) {
+                    return new FirstResult(STATUS_OK, read(reader));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new FirstResult(status, null);
+    }
+
+    /** The first result of a Geocoding API response and the status of the response. */
+    public static final class FirstResult {
+        /** The {@code status} of the response, or {@code null} if it has none. */
+        @Nullable
+        public final String status;
+        @Nullable
+        public final GeocodingResult result;
+
+        FirstResult(@Nullable String status, @Nullable GeocodingResult result) {
+            this.status = status;
+            this.result = result;
+        }
+    }
+
+    @Override
+    public GeocodingResult read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        GeocodingResult result = new GeocodingResult();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "formatted_address":
+                    result.formattedAddress = reader.nextString();
+                    break;
+                case "postcode_localities":
+                    result.postcodeLocalities = readStrings(reader);
+                    break;
+                case "geometry":
+                    result.geometry = readGeometry(reader);
+                    break;
+                case "types":
+                    result.types = readAddressTypes(reader);
+                    break;
+                case "partial_match":
+                    result.partialMatch = reader.nextBoolean();
+                    break;
+                case "place_id":
+                    result.placeId = reader.nextString();
+                    break;
+                case "plus_code":
+                    result.plusCode = readPlusCode(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private Geometry readGeometry(JsonReader reader) throws IOException {
+        Geometry geometry = new Geometry();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "bounds":
+                    geometry.bounds = readBounds(reader);
+                    break;
+                case "location":
+                    geometry.location = latLngAdapter.read(reader);
+                    break;
+                case "location_type":
+                    geometry.locationType = locationTypeAdapter.read(reader);
+                    break;
+                case "viewport":
+                    geometry.viewport = readBounds(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return geometry;
+    }
+
+    private Bounds readBounds(JsonReader reader) throws IOException {
+        Bounds bounds = new Bounds();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("northeast".equals(name)) {
+                bounds.northeast = latLngAdapter.read(reader);
+            } else if ("southwest".equals(name)) {
+                bounds.southwest = latLngAdapter.read(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return bounds;
+    }
+
+    private static PlusCode readPlusCode(JsonReader reader) throws IOException {
+        PlusCode plusCode = new PlusCode();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("global_code".equals(name)) {
+                plusCode.globalCode = reader.nextString();
+            } else if ("compound_code".equals(name)) {
+                plusCode.compoundCode = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return plusCode;
+    }
+
+    private static String[] readStrings(JsonReader reader) throws IOException {
+        List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(reader.nextString());
+        }
+        reader.endArray();
+        return values.toArray(new String[0]);
+    }
+
+    private AddressType[] readAddressTypes(JsonReader reader) throws IOException {
+        List<AddressType> types = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            types.add(addressTypeAdapter.read(reader));
+        }
+        reader.endArray();
+        return types.toArray(new AddressType[0]);
+    }
+
+    /**
+     * Writes {@code value} with the same wire names {@link #read(JsonReader)} reads, leaving out
+     * {@code null} fields and a {@code false} {@code partial_match} as the Geocoding API does.
+     */
+    @Override
+    public void write(JsonWriter out, GeocodingResult value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        if (value.formattedAddress != null) {
+            out.name("formatted_address").value(value.formattedAddress);
+        }
+        if (value.postcodeLocalities != null) {
+            out.name("postcode_localities");
+            writeStrings(out, value.postcodeLocalities);
+        }
+        if (value.geometry != null) {
+            out.name("geometry");
+            writeGeometry(out, value.geometry);
+        }
+        if (value.types != null) {
+            out.name("types");
+            writeAddressTypes(out, value.types);
+        }
+        if (value.partialMatch) {
+            out.name("partial_match").value(true);
+        }
+        if (value.placeId != null) {
+            out.name("place_id").value(value.placeId);
+        }
+        if (value.plusCode != null) {
+            out.name("plus_code");
+            writePlusCode(out, value.plusCode);
+        }
+        out.endObject();
+    }
+
+    private void writeGeometry(JsonWriter out, Geometry geometry) throws IOException {
+        out.beginObject();
+        if (geometry.bounds != null) {
+            out.name("bounds");
+            writeBounds(out, geometry.bounds);
+        }
+        if (geometry.location != null) {
+            out.name("location");
+            latLngAdapter.write(out, geometry.location);
+        }
+        if (geometry.locationType != null) {
+            out.name("location_type");
+            locationTypeAdapter.write(out, geometry.locationType);
+        }
+        if (geometry.viewport != null) {
+            out.name("viewport");
+            writeBounds(out, geometry.viewport);
+        }
+        out.endObject();
+    }
+
+    private void writeBounds(JsonWriter out, Bounds bounds) throws IOException {
+        out.beginObject();
+        if (bounds.northeast != null) {
+            out.name("northeast");
+            latLngAdapter.write(out, bounds.northeast);
+        }
+        if (bounds.southwest != null) {
+            out.name("southwest");
+            latLngAdapter.write(out, bounds.southwest);
+        }
+        out.endObject();
+    }
+
+    private static void writePlusCode(JsonWriter out, PlusCode plusCode) throws IOException {
+        out.beginObject();
+        if (plusCode.globalCode != null) {
+            out.name("global_code").value(plusCode.globalCode);
+        }
+        if (plusCode.compoundCode != null) {
+            out.name("compound_code").value(plusCode.compoundCode);
+        }
+        out.endObject();
+    }
+
+    private static void writeStrings(JsonWriter out, String[] values) throws IOException {
+        out.beginArray();
+        for (String value : values) {
+            out.value(value);
+        }
+        out.endArray();
+    }
+
+    private void writeAddressTypes(JsonWriter out, AddressType[] types) throws IOException {
+        out.beginArray();
+        for (AddressType type : types) {
+            addressTypeAdapter.write(out, type);
+        }
+        out.endArray();
+    }
+}
@@ -69,9 +69,16 @@ public class LatLngAdapter extends TypeAdapter<LatLng> {
         }
     }
 
-    /** Not supported. */
+    /** Writes {@code value} in the first format {@link #read(JsonReader)} accepts. */
     @Override
     public void write(JsonWriter out, LatLng value) throws IOException {
-        throw new UnsupportedOperationException("Unimplemented method.");
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("lat").value(value.latitude);
+        out.name("lng").value(value.longitude);
+        out.endObject();
     }
 }
@@ -0,0 +1,47 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import com.example.placesdemo.model.LocationType;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Converts between {@link LocationType} and its wire string, such as {@code "ROOFTOP"}, with a map lookup
+ * instead of reflection. Strings this version does not know are read as {@link LocationType#UNKNOWN}.
+ */
+public class LocationTypeAdapter extends TypeAdapter<LocationType> {
+    @Override
+    public LocationType read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return LocationType.fromWireName(reader.nextString());
+    }
+
+    @Override
+    public void write(JsonWriter out, LocationType value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.name());
+        }
+    }
+}
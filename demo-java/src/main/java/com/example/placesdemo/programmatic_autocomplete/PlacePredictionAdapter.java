@@ -14,61 +14,149 @@
 
 package com.example.placesdemo.programmatic_autocomplete;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.text.style.CharacterStyle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.placesdemo.R;
 import com.example.placesdemo.programmatic_autocomplete.PlacePredictionAdapter.PlacePredictionViewHolder;
 import com.google.android.libraries.places.api.model.AutocompletePrediction;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * A {@link RecyclerView.Adapter} for a {@link com.google.android.libraries.places.api.model.AutocompletePrediction}.
+ *
+ * <p>Each new list of predictions is turned into {@link PredictionItem}s, whose highlighted text is
+ * built once per place and cached, and then diffed against the current list, keyed by place ID.
+ * Both steps run on a background thread, and only the rows that changed are bound again. Work for
+ * a list that was replaced by a newer one before it finished is dropped. Rows also have stable
+ * IDs, so a prediction that survives from one keystroke to the next keeps its view holder.
  */
-public class PlacePredictionAdapter extends RecyclerView.Adapter<PlacePredictionViewHolder> {
+public class PlacePredictionAdapter extends ListAdapter<PredictionItem, PlacePredictionViewHolder> {
 
-    private final List<AutocompletePrediction> predictions = new ArrayList<>();
+    private static final int ITEM_CACHE_SIZE = 100;
+
+    /** Shared by every adapter, like the default {@link AsyncDifferConfig} diff executor. */
+    private static final Executor BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private static final DiffUtil.ItemCallback<PredictionItem> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<PredictionItem>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull PredictionItem oldItem,
+                                               @NonNull PredictionItem newItem) {
+                    return oldItem.getPlaceId().equals(newItem.getPlaceId());
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull PredictionItem oldItem,
+                                                  @NonNull PredictionItem newItem) {
+                    // The item cache hands back the same instance until the text or its
+                    // highlighting changes.
+                    return oldItem == newItem;
+                }
+            };
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final PredictionItemCache itemCache;
+    private int generation;
+
+    // Place IDs are strings, so stable IDs are handed out in order of first appearance. Only the
+    // places in the current list keep theirs; the counter never repeats an ID.
+    private final Map<String, Long> itemIds = new HashMap<>();
+    private long nextItemId;
 
     private OnPlaceClickListener onPlaceClickListener;
 
+    /**
+     * @param matchStyle the style applied to the parts of each prediction that match the query.
+     */
+    public PlacePredictionAdapter(@NonNull CharacterStyle matchStyle) {
+        super(new AsyncDifferConfig.Builder<>(DIFF_CALLBACK)
+                .setBackgroundThreadExecutor(BACKGROUND_EXECUTOR)
+                .build());
+        itemCache = new PredictionItemCache(ITEM_CACHE_SIZE, matchStyle);
+        setHasStableIds(true);
+    }
+
     @NonNull
     @Override
     public PlacePredictionViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         final LayoutInflater inflater = LayoutInflater.from(parent.getContext());
-        return new PlacePredictionViewHolder(
+        final PlacePredictionViewHolder holder = new PlacePredictionViewHolder(
             inflater.inflate(R.layout.place_prediction_item, parent, false));
+        // Look the prediction up on click: a holder that was not bound again after a diff still
+        // shows the same place, but the list holds the latest prediction for it.
+        holder.itemView.setOnClickListener(v -> {
+            int position = holder.getBindingAdapterPosition();
+            if (onPlaceClickListener != null && position != RecyclerView.NO_POSITION) {
+                onPlaceClickListener.onPlaceClicked(getItem(position).prediction);
+            }
+        });
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull PlacePredictionViewHolder holder, int position) {
-        final AutocompletePrediction prediction = predictions.get(position);
-        holder.setPrediction(prediction);
-        holder.itemView.setOnClickListener(v -> {
-            if (onPlaceClickListener != null) {
-                onPlaceClickListener.onPlaceClicked(prediction);
-            }
-        });
+        holder.setPrediction(getItem(position));
+    }
+
+    @Override
+    public long getItemId(int position) {
+        String placeId = getItem(position).getPlaceId();
+        Long id = itemIds.get(placeId);
+        if (id == null) {
+            id = nextItemId++;
+            itemIds.put(placeId, id);
+        }
+        return id;
     }
 
     @Override
-    public int getItemCount() {
-        return predictions.size();
+    public void onCurrentListChanged(@NonNull List<PredictionItem> previousList,
+                                     @NonNull List<PredictionItem> currentList) {
+        // Forget the IDs of places that left the list, so the map stays as small as the list.
+        Set<String> placeIds = new HashSet<>();
+        for (PredictionItem item : currentList) {
+            placeIds.add(item.getPlaceId());
+        }
+        itemIds.keySet().retainAll(placeIds);
     }
 
+    /**
+     * Shows {@code predictions}. Their text is built and diffed against the current list off the
+     * main thread, so the list shown changes once that completes.
+     */
+    @MainThread
     public void setPredictions(List<AutocompletePrediction> predictions) {
-        this.predictions.clear();
-        this.predictions.addAll(predictions);
-        notifyDataSetChanged();
+        int submitted = ++generation;
+        BACKGROUND_EXECUTOR.execute(() -> {
+            List<PredictionItem> items = itemCache.getAll(predictions);
+            mainHandler.post(() -> {
+                if (submitted == generation) {
+                    submitList(items);
+                }
+            });
+        });
     }
 
     public void setPlaceClickListener(OnPlaceClickListener onPlaceClickListener) {
         this.onPlaceClickListener = onPlaceClickListener;
     }
-
     public static class PlacePredictionViewHolder extends RecyclerView.ViewHolder {
 
         private final TextView title;
@@ -80,9 +168,9 @@ public class PlacePredictionAdapter extends RecyclerView.Adapter<PlacePrediction
             address = itemView.findViewById(R.id.text_view_address);
         }
 
-        public void setPrediction(AutocompletePrediction prediction) {
-            title.setText(prediction.getPrimaryText(null));
-            address.setText(prediction.getSecondaryText(null));
+        public void setPrediction(PredictionItem item) {
+            title.setText(item.primaryText);
+            address.setText(item.secondaryText);
         }
     }
 
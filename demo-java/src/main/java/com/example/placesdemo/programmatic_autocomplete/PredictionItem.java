@@ -0,0 +1,48 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import android.text.SpannedString;
+import android.text.style.CharacterStyle;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+
+/**
+ * The text of an {@link AutocompletePrediction} as it is shown in the prediction list, with the
+ * parts that match the query highlighted.
+ *
+ * <p>The text is built once, off the main thread, by {@link PredictionItemCache}. It is held as
+ * {@link SpannedString}, which {@link android.widget.TextView#setText(CharSequence)} keeps without
+ * copying its spans, so binding a row allocates nothing.
+ */
+public final class PredictionItem {
+
+    public final AutocompletePrediction prediction;
+    public final CharSequence primaryText;
+    public final CharSequence secondaryText;
+
+    PredictionItem(@NonNull AutocompletePrediction prediction, @NonNull CharacterStyle matchStyle) {
+        this.prediction = prediction;
+        this.primaryText = new SpannedString(prediction.getPrimaryText(matchStyle));
+        this.secondaryText = new SpannedString(prediction.getSecondaryText(matchStyle));
+    }
+
+    @NonNull
+    public String getPlaceId() {
+        return prediction.getPlaceId();
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import android.text.style.CharacterStyle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A size-bounded LRU cache of {@link PredictionItem}s, keyed by place ID.
+ *
+ * <p>As the query grows, the same places keep coming back. An item is reused as long as its
+ * prediction is equal to the new one, which includes the matched parts of the text, so only places
+ * that are new or matched differently have their text and spans built again. Reusing the instance
+ * also lets the list diff see that the row has not changed.
+ */
+final class PredictionItemCache {
+
+    private final int maxEntries;
+    private final CharacterStyle matchStyle;
+    private final Map<String, PredictionItem> items;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * @param maxEntries the maximum number of places to keep before evicting the least recently
+     *                   used one.
+     * @param matchStyle the style applied to the parts of the text that match the query.
+     */
+    PredictionItemCache(int maxEntries, @NonNull CharacterStyle matchStyle) {
+        this.maxEntries = maxEntries;
+        this.matchStyle = matchStyle;
+        // An access-ordered LinkedHashMap keeps the least recently used entry at the head.
+        this.items = new LinkedHashMap<String, PredictionItem>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PredictionItem> eldest) {
+                return size() > PredictionItemCache.this.maxEntries;
+            }
+        };
+    }
+
+    /** Returns the items for {@code predictions}, in order, building those not cached. */
+    @WorkerThread
+    @NonNull
+    synchronized List<PredictionItem> getAll(@NonNull List<AutocompletePrediction> predictions) {
+        List<PredictionItem> result = new ArrayList<>(predictions.size());
+        for (AutocompletePrediction prediction : predictions) {
+            PredictionItem item = items.get(prediction.getPlaceId());
+            if (item == null || !item.prediction.equals(prediction)) {
+                missCount++;
+                item = new PredictionItem(prediction, matchStyle);
+                items.put(prediction.getPlaceId(), item);
+            } else {
+                hitCount++;
+            }
+            result.add(item);
+        }
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "PredictionItemCache{size=" + items.size()
+                + ", hits=" + hitCount
+                + ", misses=" + missCount
+                + "}";
+    }
+}
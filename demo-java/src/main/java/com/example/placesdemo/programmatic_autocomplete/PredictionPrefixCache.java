@@ -0,0 +1,190 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A per-session prefix trie of {@link AutocompletePrediction} results.
+ *
+ * <p>Every network response is stored at the trie node for its query. A later, longer query is
+ * answered by walking down to the deepest stored ancestor and filtering that ancestor's predictions
+ * on {@link AutocompletePrediction#getFullText}, so typing "star", "starb", "starbu" costs one
+ * request as long as the predictions for "star" still contain matches. A lookup only misses when
+ * no ancestor is stored, or when filtering leaves nothing and the ancestor's result list was
+ * truncated by the server (so there may be matches it did not return).
+ *
+ * <p>The request parameters other than the query (location bias, countries, types) must not change
+ * for the lifetime of a cache; call {@link #clear()} when a new session starts.
+ */
+public final class PredictionPrefixCache {
+
+    /** The most predictions the Places API returns for one request. */
+    static final int MAX_RESULTS_PER_REQUEST = 5;
+
+    private final Node root = new Node();
+
+    private long lookupCount;
+    private long hitCount;
+
+    /**
+     * Returns predictions for {@code query} derived from earlier responses, or {@code null} if the
+     * query has to be sent to the network.
+     */
+    @Nullable
+    public synchronized List<AutocompletePrediction> get(@NonNull String query) {
+        String key = normalize(query);
+        lookupCount++;
+
+        Node node = root;
+        Node deepest = null;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            if (node != null && node.predictions != null) {
+                deepest = node;
+            }
+        }
+        if (deepest == null) {
+            return null;
+        }
+        if (deepest == node) {
+            hitCount++;
+            return deepest.predictions;
+        }
+
+        List<AutocompletePrediction> matches = filter(deepest.predictions, key);
+        if (matches.isEmpty() && !deepest.complete) {
+            return null;
+        }
+        hitCount++;
+        return matches;
+    }
+
+    /** Stores the network response for {@code query}. */
+    public synchronized void put(
+            @NonNull String query, @NonNull List<AutocompletePrediction> predictions) {
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                child = new Node();
+                node.children.put(c, child);
+            }
+            node = child;
+        }
+        node.predictions = Collections.unmodifiableList(new ArrayList<>(predictions));
+        node.complete = predictions.size() < MAX_RESULTS_PER_REQUEST;
+    }
+
+    /** Drops all stored predictions and resets the metrics, e.g. when a new session starts. */
+    public synchronized void clear() {
+        root.children.clear();
+        lookupCount = 0;
+        hitCount = 0;
+    }
+
+    /** Returns the number of lookups since the last {@link #clear()}. */
+    public synchronized long getLookupCount() {
+        return lookupCount;
+    }
+
+    /** Returns the number of lookups that were answered without a network request. */
+    public synchronized long getAvoidedRequestCount() {
+        return hitCount;
+    }
+
+    /** Returns the fraction of lookups answered locally, or 0 if there were none. */
+    public synchronized double getHitRate() {
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.US, "PredictionPrefixCache{lookups=%d, avoided=%d, hitRate=%.2f}",
+                lookupCount, hitCount, getHitRate());
+    }
+
+    //////////////////////////
+    // Helper methods below //
+    //////////////////////////
+
+    /**
+     * Keeps the predictions whose full text contains every word of {@code key} at the start of one
+     * of its own words, the same loose matching the server applies to the shorter query.
+     */
+    private static List<AutocompletePrediction> filter(
+            List<AutocompletePrediction> predictions, String key) {
+        String[] queryWords = key.split(" ");
+        List<AutocompletePrediction> matches = new ArrayList<>(predictions.size());
+        for (AutocompletePrediction prediction : predictions) {
+            String fullText = normalize(prediction.getFullText(null).toString());
+            if (containsWordPrefixes(fullText, queryWords)) {
+                matches.add(prediction);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsWordPrefixes(String text, String[] queryWords) {
+        for (String queryWord : queryWords) {
+            if (!text.startsWith(queryWord) && !text.contains(" " + queryWord)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Lower-cases and collapses punctuation and whitespace runs to single spaces. */
+    private static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                pendingSpace = false;
+                builder.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return builder.toString();
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        @Nullable
+        List<AutocompletePrediction> predictions;
+        boolean complete;
+    }
+}
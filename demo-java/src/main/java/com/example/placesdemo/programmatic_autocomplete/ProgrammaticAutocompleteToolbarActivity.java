@@ -14,8 +14,11 @@
 
 package com.example.placesdemo.programmatic_autocomplete;
 
+import android.graphics.Typeface;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.SystemClock;
+import android.text.style.StyleSpan;
 import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
@@ -32,16 +35,16 @@ import androidx.recyclerview.widget.DividerItemDecoration;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.android.volley.Request.Method;
-import com.android.volley.RequestQueue;
-import com.android.volley.toolbox.JsonObjectRequest;
-import com.android.volley.toolbox.Volley;
+import com.android.volley.Request;
 import com.example.placesdemo.BuildConfig;
+import com.example.placesdemo.PlacesDemoApplication;
 import com.example.placesdemo.R;
+import com.example.placesdemo.cache.GeocodingResultCache;
 import com.example.placesdemo.model.GeocodingResult;
 import com.google.android.gms.common.api.ApiException;
 import com.google.android.gms.maps.model.LatLng;
-import com.google.android.libraries.places.api.Places;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
 import com.google.android.libraries.places.api.model.AutocompletePrediction;
 import com.google.android.libraries.places.api.model.AutocompleteSessionToken;
 import com.google.android.libraries.places.api.model.LocationBias;
@@ -49,11 +52,6 @@ import com.google.android.libraries.places.api.model.PlaceTypes;
 import com.google.android.libraries.places.api.model.RectangularBounds;
 import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest;
 import com.google.android.libraries.places.api.net.PlacesClient;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
-import org.json.JSONArray;
-import org.json.JSONException;
 
 import java.util.List;
 
@@ -70,11 +68,12 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
 
     private static final String TAG = ProgrammaticAutocompleteToolbarActivity.class.getSimpleName();
     private final Handler handler = new Handler();
-    private final PlacePredictionAdapter adapter = new PlacePredictionAdapter();
-    private final Gson gson = new GsonBuilder().registerTypeAdapter(LatLng.class, new LatLngAdapter())
-            .create();
+    private final PlacePredictionAdapter adapter = new PlacePredictionAdapter(new StyleSpan(Typeface.BOLD));
+    private final PredictionPrefixCache predictionCache = new PredictionPrefixCache();
+    private final AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
 
-    private RequestQueue queue;
+    private GeocodingQueue queue;
+    private GeocodingResultCache geocodingCache;
     private PlacesClient placesClient;
     private AutocompleteSessionToken sessionToken;
 
@@ -93,11 +92,26 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
         // Initialize members
         progressBar = findViewById(R.id.progress_bar);
         viewAnimator = findViewById(R.id.view_animator);
-        placesClient = Places.createClient(this);
-        queue = Volley.newRequestQueue(this);
+        PlacesDemoApplication application = (PlacesDemoApplication) getApplication();
+        placesClient = application.getPlacesClient();
+        queue = application.getGeocodingQueue();
+        geocodingCache = application.getGeocodingResultCache();
         initRecyclerView();
     }
 
+    @Override
+    protected void onStop() {
+        super.onStop();
+        // The session may never be ended from the menu, so report its prediction reuse here too
+        Log.d(TAG, "Stopping during autocomplete session: " + predictionCache);
+
+        // Export the delay decisions so debounce policies can be compared offline. One line per
+        // log call, since logcat truncates long messages.
+        for (String line : debouncer.dumpDecisions().split("\n")) {
+            Log.d(TAG, line);
+        }
+    }
+
     @Override
     public boolean onCreateOptionsMenu(Menu menu) {
         getMenuInflater().inflate(R.menu.menu, menu);
@@ -112,6 +126,9 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
     public boolean onOptionsItemSelected(@NonNull MenuItem item) {
         if (item.getItemId() == R.id.search) {
             sessionToken = AutocompleteSessionToken.newInstance();
+            // Predictions are only reused within a session
+            Log.d(TAG, "Ending autocomplete session: " + predictionCache);
+            predictionCache.clear();
             return false;
         }
         return super.onOptionsItemSelected(item);
@@ -136,8 +153,9 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
                 // Cancel any previous place prediction requests
                 handler.removeCallbacksAndMessages(null);
 
-                // Start a new place prediction request in 300 ms
-                handler.postDelayed(() -> getPlacePredictions(newText), 300);
+                // Start a new place prediction request after a delay adapted to the typing speed
+                long delayMillis = debouncer.onQueryChanged(newText, SystemClock.elapsedRealtime());
+                handler.postDelayed(() -> getPlacePredictions(newText), delayMillis);
                 return true;
             }
         });
@@ -160,6 +178,12 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
      * @param query the plus code query string (e.g. "85GP2Q2X+2R")
      */
     private void getPlacePredictions(String query) {
+        // Answer longer prefixes from predictions already fetched in this session
+        final List<AutocompletePrediction> cachedPredictions = predictionCache.get(query);
+        if (cachedPredictions != null) {
+            displayPredictions(cachedPredictions);
+            return;
+        }
 
         // The value of 'bias' biases prediction results to the rectangular region provided
         // (currently Kolkata). Modify these values to get results for another area. Make sure to
@@ -181,12 +205,12 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
                 .build();
 
         // Perform autocomplete predictions request
+        final long requestStartMillis = SystemClock.elapsedRealtime();
         placesClient.findAutocompletePredictions(newRequest).addOnSuccessListener((response) -> {
+            debouncer.recordLatency(SystemClock.elapsedRealtime() - requestStartMillis);
             List<AutocompletePrediction> predictions = response.getAutocompletePredictions();
-            adapter.setPredictions(predictions);
-
-            progressBar.setIndeterminate(false);
-            viewAnimator.setDisplayedChild(predictions.isEmpty() ? 0 : 1);
+            predictionCache.put(query, predictions);
+            displayPredictions(predictions);
         }).addOnFailureListener((exception) -> {
             progressBar.setIndeterminate(false);
             if (exception instanceof ApiException apiException) {
@@ -195,39 +219,50 @@ public class ProgrammaticAutocompleteToolbarActivity extends AppCompatActivity {
         });
     }
 
+    private void displayPredictions(List<AutocompletePrediction> predictions) {
+        adapter.setPredictions(predictions);
+
+        progressBar.setIndeterminate(false);
+        viewAnimator.setDisplayedChild(predictions.isEmpty() ? 0 : 1);
+    }
+
     /**
      * Performs a Geocoding API request and displays the result in a dialog.
      *
      * @see <a href="https://developers.google.com/maps/documentation/geocoding/intro">documentation</a>
      */
     private void geocodePlaceAndDisplay(AutocompletePrediction placePrediction) {
+        // A place that was geocoded before is answered from memory, or from disk after a restart,
+        // without a network round trip.
+        geocodingCache.geocode(placePrediction.getPlaceId(), this::requestGeocoding)
+                .addOnSuccessListener(this, result -> {
+                    if (result == null) {
+                        Log.w(TAG, "No results from geocoding request.");
+                        return;
+                    }
+                    displayDialog(placePrediction, result);
+                })
+                .addOnFailureListener(this, error -> Log.e(TAG, "Request failed"));
+    }
+
+    private Task<GeocodingResult> requestGeocoding(String placeId) {
         // Construct the request URL
         final String apiKey = BuildConfig.PLACES_API_KEY;
         final String url = "https://maps.googleapis.com/maps/api/geocode/json?place_id=%s&key=%s";
-        final String requestURL = String.format(url, placePrediction.getPlaceId(), apiKey);
-
-        // Use the HTTP request URL for Geocoding API to get geographic coordinates for the place
-        JsonObjectRequest request = new JsonObjectRequest(Method.GET, requestURL, null,
-                                                          response -> {
-                                                              try {
-                                                                  // Inspect the value of "results" and make sure it's not empty
-                                                                  JSONArray results = response.getJSONArray("results");
-                                                                  if (results.length() == 0) {
-                                                                      Log.w(TAG, "No results from geocoding request.");
-                                                                      return;
-                                                                  }
-
-                                                                  // Use Gson to convert the response JSON object to a POJO
-                                                                  GeocodingResult result = gson.fromJson(
-                                                                          results.getString(0), GeocodingResult.class);
-                                                                  displayDialog(placePrediction, result);
-                                                              } catch (JSONException e) {
-                                                                  e.printStackTrace();
-                                                              }
-                                                          }, error -> Log.e(TAG, "Request failed"));
-
-        // Add the request to the Request queue.
-        queue.add(request);
+        final String requestURL = String.format(url, placeId, apiKey);
+
+        // Use the HTTP request URL for Geocoding API to get geographic coordinates for the place.
+        // The response is parsed as it is read, and only up to the end of the first result.
+        TaskCompletionSource<GeocodingResult> source = new TaskCompletionSource<>();
+        GeocodingRequest request = new GeocodingRequest(placeId, requestURL,
+                source::setResult, source::setException);
+        // The geocoding cache keeps the result on disk, so Volley does not store a second copy.
+        request.setShouldCache(false);
+
+        // Add the request to the shared queue. The user is waiting on it, so it goes ahead of any
+        // background work, and it is cancelled if this activity is destroyed first.
+        queue.add(this, request, Request.Priority.HIGH);
+        return source.getTask();
     }
 
     private void displayDialog(AutocompletePrediction place, GeocodingResult result) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.example.placesdemo.FieldCostPlanner.Review;
+import com.example.placesdemo.FieldCostPlanner.Tier;
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import org.junit.After;
+import org.junit.Test;
+
+/** Local unit tests for {@link FieldCostPlanner}. */
+public class FieldCostPlannerTest {
+
+    private static final FieldMask NAME_AND_ADDRESS =
+            FieldMask.of(Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS);
+
+    @After
+    public void tearDown() {
+        FieldCostPlanner.setFailOnOverFetch(false);
+    }
+
+    @Test
+    public void tierOf_isTheMostExpensiveField() {
+        assertEquals(Tier.IDS_ONLY, FieldCostPlanner.tierOf(FieldMask.EMPTY));
+        assertEquals(Tier.ESSENTIALS, FieldCostPlanner.tierOf(FieldMask.of(Field.ID, Field.LOCATION)));
+        assertEquals(Tier.ENTERPRISE_AND_ATMOSPHERE,
+                FieldCostPlanner.tierOf(FieldMask.of(Field.ID, Field.REVIEWS)));
+        assertEquals(Tier.ENTERPRISE_AND_ATMOSPHERE, FieldCostPlanner.tierOf(FieldMask.ALL));
+    }
+
+    @Test
+    public void payloadWeight_addsUpFields() {
+        assertEquals(
+                FieldCostPlanner.payloadWeightOf(Field.ID)
+                        + FieldCostPlanner.payloadWeightOf(Field.REVIEWS),
+                FieldCostPlanner.payloadWeightOf(FieldMask.of(Field.ID, Field.REVIEWS)));
+        assertEquals(0, FieldCostPlanner.payloadWeightOf(FieldMask.EMPTY));
+    }
+
+    @Test
+    public void review_exactRequest_hasNoWarnings() {
+        Review review = FieldCostPlanner.review("screen", NAME_AND_ADDRESS, NAME_AND_ADDRESS);
+
+        assertTrue(review.warnings.isEmpty());
+        assertTrue(review.overFetched.isEmpty());
+        assertEquals(Tier.PRO, review.usedTier);
+    }
+
+    @Test
+    public void review_overFetch_warnsAboutTierCrossing() {
+        FieldMask used = FieldMask.of(Field.DISPLAY_NAME);
+        FieldMask requested = used.with(Field.FORMATTED_ADDRESS).with(Field.RATING);
+
+        Review review = FieldCostPlanner.review("screen", requested, used);
+
+        assertEquals(FieldMask.of(Field.FORMATTED_ADDRESS, Field.RATING), review.overFetched);
+        assertEquals(Tier.ENTERPRISE, review.requestedTier);
+        assertEquals(Tier.PRO, review.usedTier);
+        assertEquals(2, review.warnings.size());
+        assertTrue(review.warnings.get(1).contains("RATING"));
+        assertFalse(review.warnings.get(1).contains("FORMATTED_ADDRESS"));
+    }
+
+    @Test
+    public void review_failOnOverFetch_throws() {
+        FieldCostPlanner.setFailOnOverFetch(true);
+        FieldCostPlanner.review("screen", NAME_AND_ADDRESS, NAME_AND_ADDRESS);
+
+        try {
+            FieldCostPlanner.review("screen", FieldMask.ALL, NAME_AND_ADDRESS);
+            fail("Expected the over-fetching screen to fail");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().startsWith("screen requests"));
+        }
+    }
+}
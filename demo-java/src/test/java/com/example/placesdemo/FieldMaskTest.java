@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/** Local unit tests for {@link FieldMask}. */
+public class FieldMaskTest {
+
+    @Test
+    public void toList_isInOrdinalOrderAndShared() {
+        FieldMask mask = FieldMask.of(Field.OPENING_HOURS, Field.DISPLAY_NAME, Field.ID);
+
+        assertEquals(Arrays.asList(Field.DISPLAY_NAME, Field.ID, Field.OPENING_HOURS), mask.toList());
+        assertSame(mask.toList(), mask.toList());
+        assertEquals(3, mask.size());
+    }
+
+    @Test
+    public void all_containsEveryField() {
+        assertEquals(Arrays.asList(Field.values()), FieldMask.ALL.toList());
+        assertTrue(FieldMask.ALL.containsAll(FieldMask.of(Field.values()[Field.values().length - 1])));
+        assertTrue(FieldMask.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void unionAndSubset() {
+        FieldMask a = FieldMask.of(Field.ID, Field.DISPLAY_NAME);
+        FieldMask b = FieldMask.of(Field.ID, Field.UTC_OFFSET);
+        FieldMask union = a.union(b);
+
+        assertTrue(union.containsAll(a));
+        assertTrue(union.containsAll(b));
+        assertFalse(a.containsAll(b));
+        assertEquals(FieldMask.of(Field.ID), a.intersect(b));
+        assertTrue(a.containsAll(FieldMask.EMPTY));
+    }
+
+    @Test
+    public void withAndWithout() {
+        FieldMask mask = FieldMask.EMPTY.with(Field.RATING);
+
+        assertTrue(mask.contains(Field.RATING));
+        assertFalse(mask.without(Field.RATING).contains(Field.RATING));
+        assertEquals(FieldMask.EMPTY, mask.without(Field.RATING));
+    }
+
+    @Test
+    public void equalMasks_areEqualKeys() {
+        FieldMask a = FieldMask.of(Field.ID, Field.WEBSITE_URI);
+        FieldMask b = FieldMask.of(Arrays.asList(Field.WEBSITE_URI, Field.ID));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, FieldMask.of(Field.ID));
+    }
+
+    @Test
+    public void longArray_roundTrips() {
+        FieldMask mask = FieldMask.of(Field.ID, Field.WEBSITE_URI, Field.ACCESSIBILITY_OPTIONS);
+
+        assertEquals(mask, FieldMask.fromLongArray(mask.toLongArray()));
+        assertEquals(FieldMask.EMPTY, FieldMask.fromLongArray(null));
+        assertEquals(FieldMask.ALL, FieldMask.fromLongArray(new long[]{-1L, -1L, -1L, -1L}));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.placesdemo.FieldUsageTracker.Report;
+import com.example.placesdemo.FieldUsageTracker.Site;
+import com.example.placesdemo.FieldUsageTracker.TrackedPlace;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import org.junit.Test;
+
+/** Local unit tests for {@link FieldUsageTracker}. */
+public class FieldUsageTrackerTest {
+
+    private static final FieldMask REQUESTED =
+            FieldMask.of(Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS, Field.RATING, Field.REVIEWS);
+
+    private final Place place = Place.builder()
+            .setDisplayName("Sydney Opera House")
+            .setFormattedAddress("Bennelong Point, Sydney NSW 2000, Australia")
+            .build();
+
+    @Test
+    public void report_listsRequestedFieldsThatWereNeverRead() {
+        Site site = new FieldUsageTracker(true).site("screen");
+
+        TrackedPlace tracked = site.track(REQUESTED, place);
+        assertEquals("Sydney Opera House", tracked.getDisplayName());
+        tracked.getFormattedAddress();
+        site.track(REQUESTED, place).getPhotoMetadatas();
+
+        Report report = site.getReport();
+        assertEquals(2, report.placeCount);
+        assertEquals(REQUESTED, report.requested);
+        assertEquals(FieldMask.of(Field.RATING, Field.REVIEWS), report.unused);
+        assertEquals(FieldMask.of(Field.PHOTO_METADATAS), report.unrequested);
+    }
+
+    @Test
+    public void readAll_marksEveryRequestedFieldAsRead() {
+        Site site = new FieldUsageTracker(true).site("screen");
+
+        site.track(REQUESTED, place).toString();
+
+        assertEquals(REQUESTED, site.getReport().used);
+        assertTrue(site.getReport().unused.isEmpty());
+    }
+
+    @Test
+    public void disabledTracker_recordsNothing() {
+        FieldUsageTracker tracker = new FieldUsageTracker(false);
+
+        tracker.site("screen").track(REQUESTED, place).getDisplayName();
+
+        assertEquals(0, tracker.site("screen").getReport().placeCount);
+        assertTrue(tracker.getReports().isEmpty());
+    }
+
+    @Test
+    public void sites_areSharedPerScreen() {
+        FieldUsageTracker tracker = new FieldUsageTracker(true);
+
+        tracker.site("a").track(REQUESTED, place).getDisplayName();
+        tracker.site("b").track(REQUESTED, place).getFormattedAddress();
+        tracker.site("a").track(REQUESTED, place).getFormattedAddress();
+
+        assertEquals(2, tracker.getReports().size());
+        assertEquals(2, tracker.site("a").getReport().placeCount);
+        assertEquals(FieldMask.of(Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS),
+                tracker.site("a").getReport().used);
+    }
+}
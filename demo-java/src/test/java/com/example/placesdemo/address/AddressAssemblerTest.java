@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.libraries.places.api.model.AddressComponent;
+import com.google.android.libraries.places.api.model.AddressComponents;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/** Local unit tests for {@link AddressAssembler}. */
+public class AddressAssemblerTest {
+
+    @Test
+    public void assemble_usAddress() {
+        StructuredAddress address = AddressAssembler.assemble(components(
+                component("1600", "1600", "street_number"),
+                component("Amphitheatre Parkway", "Amphitheatre Pkwy", "route"),
+                component("Mountain View", "Mountain View", "locality", "political"),
+                component("Santa Clara County", "Santa Clara County",
+                        "administrative_area_level_2", "political"),
+                component("California", "CA", "administrative_area_level_1", "political"),
+                component("United States", "US", "country", "political"),
+                component("94043", "94043", "postal_code"),
+                component("1351", "1351", "postal_code_suffix")));
+
+        assertEquals("1600 Amphitheatre Pkwy", address.address1);
+        assertEquals("", address.address2);
+        assertEquals("Mountain View", address.locality);
+        assertEquals("CA", address.adminArea);
+        assertEquals("94043-1351", address.postalCode);
+        assertEquals("United States", address.country);
+        assertEquals("US", address.countryCode);
+        assertEquals(Collections.singletonList("Santa Clara County"), address.unmatched);
+    }
+
+    @Test
+    public void assemble_germanAddress_putsRouteFirst() {
+        StructuredAddress address = AddressAssembler.assemble(components(
+                component("3", "3", "street_number"),
+                component("Erika-Mann-Straße", "Erika-Mann-Straße", "route"),
+                component("München", "München", "locality", "political"),
+                component("Bayern", "BY", "administrative_area_level_1", "political"),
+                component("Deutschland", "DE", "country", "political"),
+                component("80636", "80636", "postal_code")));
+
+        assertEquals("Erika-Mann-Straße 3", address.address1);
+        assertEquals("80636", address.postalCode);
+        assertEquals("BY", address.adminArea);
+    }
+
+    @Test
+    public void assemble_ukAddress_usesPostTownAndCounty() {
+        StructuredAddress address = AddressAssembler.assemble(components(
+                component("6", "6", "street_number"),
+                component("Pancras Square", "Pancras Sq", "route"),
+                component("London", "London", "postal_town"),
+                component("Greater London", "Greater London",
+                        "administrative_area_level_2", "political"),
+                component("England", "England", "administrative_area_level_1", "political"),
+                component("United Kingdom", "GB", "country", "political"),
+                component("N1C 4AG", "N1C 4AG", "postal_code")));
+
+        assertEquals("6 Pancras Sq", address.address1);
+        assertEquals("London", address.locality);
+        assertEquals("Greater London", address.adminArea);
+        assertEquals(Collections.singletonList("England"), address.unmatched);
+    }
+
+    @Test
+    public void assemble_matchesEveryTypeOfAComponent() {
+        // The subpremise is not the first type, which the previous switch ignored.
+        StructuredAddress address = AddressAssembler.assemble(components(
+                component("Suite 100", "Suite 100", "establishment", "subpremise"),
+                component("48", "48", "street_number"),
+                component("Pirrama Road", "Pirrama Rd", "route"),
+                component("Pyrmont", "Pyrmont", "political", "locality"),
+                component("New South Wales", "NSW", "administrative_area_level_1", "political"),
+                component("Australia", "AU", "country", "political"),
+                component("2009", "2009", "postal_code")));
+
+        assertEquals("Suite 100", address.address2);
+        assertEquals("48 Pirrama Rd", address.address1);
+        assertEquals("Pyrmont", address.locality);
+        assertEquals("NSW", address.adminArea);
+        assertTrue(address.unmatched.isEmpty());
+    }
+
+    @Test
+    public void assemble_withoutComponents_isEmpty() {
+        StructuredAddress address = AddressAssembler.assemble(null);
+
+        assertEquals("", address.address1);
+        assertEquals("", address.countryCode);
+        assertTrue(address.unmatched.isEmpty());
+    }
+
+    private static AddressComponents components(AddressComponent... components) {
+        return AddressComponents.newInstance(Arrays.asList(components));
+    }
+
+    private static AddressComponent component(String name, String shortName, String... types) {
+        return AddressComponent.builder(name, Arrays.asList(types)).setShortName(shortName).build();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.placesdemo.model.GeocodingResult;
+import com.example.placesdemo.programmatic_autocomplete.GeocodingResultAdapter;
+import com.google.android.gms.tasks.Tasks;
+import com.google.gson.stream.JsonReader;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local unit tests for {@link GeocodingResultCache}. Misses go to a local HTTP server standing in
+ * for the Geocoding API.
+ */
+public class GeocodingResultCacheTest {
+
+    private static final String PLACE_ID = "ChIJ3S-JXmauEmsRUcIaWtf4MzE";
+    private static final long TTL_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private static final String RESPONSE = "{\"results\":[{"
+            + "\"address_components\":[{\"long_name\":\"Sydney\",\"short_name\":\"Sydney\","
+            + "\"types\":[\"locality\",\"political\"]}],"
+            + "\"formatted_address\":\"Bennelong Point, Sydney NSW 2000, Australia\","
+            + "\"geometry\":{"
+            + "\"location\":{\"lat\":-33.8567844,\"lng\":151.2152967},"
+            + "\"location_type\":\"ROOFTOP\","
+            + "\"viewport\":{\"northeast\":{\"lat\":-33.8554354,\"lng\":151.2166456},"
+            + "\"southwest\":{\"lat\":-33.8581334,\"lng\":151.2139477}}},"
+            + "\"place_id\":\"" + PLACE_ID + "\","
+            + "\"plus_code\":{\"compound_code\":\"46R7+83 Sydney NSW, Australia\","
+            + "\"global_code\":\"4RRH46R7+83\"},"
+            + "\"types\":[\"establishment\",\"point_of_interest\",\"tourist_attraction\"]"
+            + "}],\"status\":\"OK\"}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final AtomicInteger serverRequests = new AtomicInteger();
+    private HttpServer server;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/maps/api/geocode/json", exchange -> {
+            serverRequests.incrementAndGet();
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void repeatedLookup_isServedFromMemory() throws IOException {
+        GeocodingResultCache cache = new GeocodingResultCache(10, TTL_MILLIS, null, null);
+
+        GeocodingResult first = geocode(cache, PLACE_ID);
+        long start = System.nanoTime();
+        GeocodingResult second = geocode(cache, PLACE_ID);
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        assertSame(first, second);
+        assertEquals(1, serverRequests.get());
+        assertEquals(1, cache.getHitCount());
+        assertTrue("Cached lookup took " + elapsedMicros + " us", elapsedMicros < 10_000);
+    }
+
+    @Test
+    public void diskTier_answersAfterMemoryIsLost() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            GeocodingResultCache cache = new GeocodingResultCache(
+                    10, TTL_MILLIS, Tasks.forResult(store), Runnable::run);
+            geocode(cache, PLACE_ID);
+        }
+
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            GeocodingResultCache cache = new GeocodingResultCache(
+                    10, TTL_MILLIS, Tasks.forResult(store), Runnable::run);
+            GeocodingResult result = geocode(cache, PLACE_ID);
+
+            assertEquals(PLACE_ID, result.placeId);
+            assertEquals(1, serverRequests.get());
+            assertEquals(1, cache.getDiskHitCount());
+            assertSame(result, cache.get(PLACE_ID));
+        }
+    }
+
+    @Test
+    public void unreadableDiskRecord_isAMiss() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            store.put(PLACE_ID, new byte[]{0, 0, 1});
+            GeocodingResultCache cache = new GeocodingResultCache(
+                    10, TTL_MILLIS, Tasks.forResult(store), Runnable::run);
+
+            assertNull(cache.getFromDisk(PLACE_ID));
+            assertEquals(PLACE_ID, geocode(cache, PLACE_ID).placeId);
+            assertEquals(1, serverRequests.get());
+        }
+    }
+
+    @Test
+    public void maxEntries_evictsLeastRecentlyUsed() {
+        GeocodingResultCache cache = new GeocodingResultCache(2, TTL_MILLIS, null, null);
+        cache.put("a", new GeocodingResult());
+        cache.put("b", new GeocodingResult());
+        cache.get("a");
+        cache.put("c", new GeocodingResult());
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    /** Looks up {@code placeId} the way the app does: memory, then disk, then the network. */
+    private GeocodingResult geocode(GeocodingResultCache cache, String placeId) throws IOException {
+        GeocodingResult result = cache.get(placeId);
+        if (result == null) {
+            result = cache.getFromDisk(placeId);
+        }
+        if (result == null) {
+            result = fetch(placeId);
+            cache.put(placeId, result);
+        }
+        return result;
+    }
+
+    private GeocodingResult fetch(String placeId) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort()
+                + "/maps/api/geocode/json?place_id=" + placeId + "&key=test");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            return parse(readAll(connection));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static byte[] readAll(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static GeocodingResult parse(byte[] response) throws IOException {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                new ByteArrayInputStream(response), StandardCharsets.UTF_8))) {
+            return new GeocodingResultAdapter().readFirstResult(reader);
+        }
+    }
+}
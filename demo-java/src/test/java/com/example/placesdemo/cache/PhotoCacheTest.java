@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.graphics.Bitmap;
+import android.os.Looper;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.android.libraries.places.api.model.PhotoMetadata;
+import com.google.android.libraries.places.api.net.FetchPhotoRequest;
+import com.google.android.libraries.places.api.net.FetchPhotoResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Local unit tests for {@link PhotoCache}. Robolectric's native graphics provide real bitmaps, so
+ * the disk tier encodes and decodes actual JPEG files.
+ */
+@RunWith(RobolectricTestRunner.class)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class PhotoCacheTest {
+
+    private static final String REFERENCE = "AUc7tXW9ewN_photo_reference";
+    /** The bytes of the 256x192 photo that the fake API returns for the 256x256 bucket. */
+    private static final int SMALL_PHOTO_BYTES = 256 * 192 * 4;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private int networkCalls;
+    /** Answers like the Places API: a 4:3 photo as wide as the requested bucket. */
+    private final PlacesClient placesClient = (PlacesClient) Proxy.newProxyInstance(
+            PlacesClient.class.getClassLoader(),
+            new Class<?>[]{PlacesClient.class},
+            (proxy, method, args) -> {
+                networkCalls++;
+                FetchPhotoRequest request = (FetchPhotoRequest) args[0];
+                int width = request.getMaxWidth();
+                Bitmap bitmap = Bitmap.createBitmap(width, width * 3 / 4, Bitmap.Config.ARGB_8888);
+                return Tasks.forResult(FetchPhotoResponse.newInstance(bitmap));
+            });
+
+    @Test
+    public void fetchPhoto_sameSizeAgain_servedFromMemory() {
+        PhotoCache cache = newCache(temporaryFolder.getRoot(), 8 * SMALL_PHOTO_BYTES);
+        Bitmap first = fetch(cache, REFERENCE, 256);
+
+        Bitmap second = fetch(cache, REFERENCE, 256);
+
+        assertSame(first, second);
+        assertEquals(1, networkCalls);
+        assertEquals(1, cache.getMemoryHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void fetchPhoto_smallerSize_downscalesLargerCachedBucket() {
+        PhotoCache cache = newCache(temporaryFolder.getRoot(), 64 * SMALL_PHOTO_BYTES);
+        Bitmap large = fetch(cache, REFERENCE, 1024);
+
+        Bitmap small = fetch(cache, REFERENCE, 300);
+
+        assertEquals(1024, large.getWidth());
+        assertEquals(300, small.getWidth());
+        assertEquals(225, small.getHeight());
+        assertEquals(1, networkCalls);
+        assertEquals(1, cache.getMemoryHitCount());
+    }
+
+    @Test
+    public void fetchPhoto_afterRestart_servedFromDisk() {
+        File directory = temporaryFolder.getRoot();
+        fetch(newCache(directory, 8 * SMALL_PHOTO_BYTES), REFERENCE, 256);
+        // A new cache stands in for the next process: its memory tier is empty.
+        PhotoCache restarted = newCache(directory, 8 * SMALL_PHOTO_BYTES);
+
+        Bitmap photo = fetch(restarted, REFERENCE, 256);
+
+        assertEquals(256, photo.getWidth());
+        assertEquals(192, photo.getHeight());
+        assertEquals(1, networkCalls);
+        assertEquals(1, restarted.getDiskHitCount());
+        assertEquals(0, restarted.getMissCount());
+    }
+
+    @Test
+    public void release_evictedPhoto_isPooledOnlyOnceReleased() {
+        // The memory tier holds four small photos.
+        PhotoCache cache = newCache(temporaryFolder.getRoot(), 4 * SMALL_PHOTO_BYTES);
+        Bitmap displayed = fetch(cache, "photo 0", 256);
+        assertEquals(1, cache.getInUseCount());
+
+        fetchAndRelease(cache, "photo 1", "photo 2", "photo 3", "photo 4");
+
+        // Evicted from memory, but still displayed.
+        assertEquals(0, cache.getPooledCount());
+        cache.release(displayed);
+        assertEquals(0, cache.getInUseCount());
+        assertEquals(1, cache.getPooledCount());
+    }
+
+    @Test
+    public void fetchPhoto_diskHit_decodesIntoPooledBitmap() {
+        PhotoCache cache = newCache(temporaryFolder.getRoot(), 4 * SMALL_PHOTO_BYTES);
+        Bitmap first = fetch(cache, "photo 0", 256);
+        cache.release(first);
+        // Evicts "photo 0", which nothing displays any more, into the pool.
+        fetchAndRelease(cache, "photo 1", "photo 2", "photo 3", "photo 4");
+        assertEquals(1, cache.getPooledCount());
+
+        Bitmap reread = fetch(cache, "photo 0", 256);
+
+        assertSame(first, reread);
+        assertEquals(1, cache.getDiskHitCount());
+        assertEquals(5, networkCalls);
+    }
+
+    @Test
+    public void bucketIndex_picksSmallestBucketThatHoldsSize() {
+        assertEquals(0, PhotoCache.bucketIndex(1));
+        assertEquals(0, PhotoCache.bucketIndex(128));
+        assertEquals(1, PhotoCache.bucketIndex(129));
+        assertEquals(2, PhotoCache.bucketIndex(300));
+        assertEquals(4, PhotoCache.bucketIndex(2048));
+        assertEquals(5, PhotoCache.bucketIndex(4800));
+        // Larger than the API allows: clamped to the largest bucket.
+        assertEquals(5, PhotoCache.bucketIndex(10_000));
+    }
+
+    @Test
+    public void candidateKeys_startWithRequestedBucketThenLargerOnes() {
+        List<String> keys = PhotoCache.candidateKeys(REFERENCE, 3, 4);
+
+        // Widths 1024, 2048 and 4800 by heights 2048 and 4800.
+        assertEquals(6, keys.size());
+        assertTrue(keys.get(0).endsWith("_1024x2048"));
+        assertTrue(keys.get(1).endsWith("_1024x4800"));
+        assertTrue(keys.get(2).endsWith("_2048x2048"));
+        assertTrue(keys.get(5).endsWith("_4800x4800"));
+        for (String key : keys) {
+            assertTrue(key, key.startsWith(keys.get(0).substring(0, keys.get(0).indexOf('_'))));
+        }
+    }
+
+    @Test
+    public void candidateKeys_neverIncludeSmallerBuckets() {
+        for (String key : PhotoCache.candidateKeys(REFERENCE, 2, 2)) {
+            assertTrue(key, !key.contains("_128x") && !key.contains("_256x"));
+            assertTrue(key, !key.endsWith("x128") && !key.endsWith("x256"));
+        }
+    }
+
+    @Test
+    public void candidateKeys_differPerReference() {
+        String first = PhotoCache.candidateKeys(REFERENCE, 0, 0).get(0);
+        String second = PhotoCache.candidateKeys(REFERENCE + "2", 0, 0).get(0);
+
+        assertTrue(!first.equals(second));
+    }
+
+    @Test
+    public void fitSize_returnsNullWhenAlreadyFits() {
+        assertNull(PhotoCache.fitSize(512, 384, 512, 512));
+        assertNull(PhotoCache.fitSize(300, 200, 300, 200));
+    }
+
+    @Test
+    public void fitSize_downscalesLargerBucketKeepingAspectRatio() {
+        // A 1024 bucket entry serving a 300x300 request.
+        assertArrayEquals(new int[]{300, 225}, PhotoCache.fitSize(1024, 768, 300, 300));
+        // Height bound.
+        assertArrayEquals(new int[]{150, 200}, PhotoCache.fitSize(768, 1024, 300, 200));
+    }
+
+    @Test
+    public void fitSize_neverReturnsEmptyDimension() {
+        assertArrayEquals(new int[]{100, 1}, PhotoCache.fitSize(4000, 10, 100, 100));
+    }
+
+    private PhotoCache newCache(File directory, int maxMemoryBytes) {
+        return new PhotoCache(new PlacesRequestCoalescer(), maxMemoryBytes, directory,
+                Long.MAX_VALUE, Runnable::run);
+    }
+
+    /**
+     * Fetches {@code reference} to fit a {@code size} x {@code size} box and runs the listeners it
+     * queued.
+     */
+    private Bitmap fetch(PhotoCache cache, String reference, int size) {
+        Task<Bitmap> task = cache.fetchPhoto(
+                placesClient, PhotoMetadata.builder(reference).build(), size, size);
+        shadowOf(Looper.getMainLooper()).idle();
+        return task.getResult();
+    }
+
+    private void fetchAndRelease(PhotoCache cache, String... references) {
+        for (String reference : references) {
+            cache.release(fetch(cache, reference, 256));
+        }
+    }
+}
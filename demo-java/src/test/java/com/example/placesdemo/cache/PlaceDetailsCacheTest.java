@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowSystemClock;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Local unit tests for {@link PlaceDetailsCache}. Robolectric provides the main looper the task
+ * listeners run on, a clock the tests can advance, and the {@link android.os.Parcel} that disk
+ * records are written with.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class PlaceDetailsCacheTest {
+
+    private static final long TTL_MILLIS = 60_000;
+    private static final String PLACE_ID = "ChIJAQAAAAAAAAAR";
+    private static final List<Field> NAME = Arrays.asList(Field.ID, Field.DISPLAY_NAME);
+    private static final List<Field> NAME_AND_ADDRESS =
+            Arrays.asList(Field.ID, Field.DISPLAY_NAME, Field.FORMATTED_ADDRESS);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Place place = Place.builder()
+            .setId(PLACE_ID)
+            .setDisplayName("Pizzeria Locale")
+            .setFormattedAddress("1730 Pearl St, Boulder, CO 80302, USA")
+            .build();
+    private int networkCalls;
+    private final PlacesClient placesClient = (PlacesClient) Proxy.newProxyInstance(
+            PlacesClient.class.getClassLoader(),
+            new Class<?>[]{PlacesClient.class},
+            (proxy, method, args) -> {
+                networkCalls++;
+                return Tasks.forResult(FetchPlaceResponse.newInstance(place));
+            });
+    private RecordStore store;
+
+    @Before
+    public void openStore() throws IOException {
+        store = new RecordStore(temporaryFolder.getRoot(), null);
+    }
+
+    @After
+    public void closeStore() throws IOException {
+        store.close();
+    }
+
+    @Test
+    public void get_subsetOfCachedFields_hits() {
+        PlaceDetailsCache cache = new PlaceDetailsCache(10, TTL_MILLIS);
+        cache.put(PLACE_ID, NAME_AND_ADDRESS, place);
+
+        assertSame(place, cache.get(PLACE_ID, NAME));
+        assertNull(cache.get(PLACE_ID, Arrays.asList(Field.ID, Field.RATING)));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void fetchPlace_subsetOfFetchedFields_skipsNetwork() {
+        PlaceDetailsCache cache = new PlaceDetailsCache(10, TTL_MILLIS);
+        fetch(cache, NAME_AND_ADDRESS);
+
+        FetchPlaceResponse response = fetch(cache, NAME);
+
+        assertSame(place, response.getPlace());
+        assertEquals(1, networkCalls);
+    }
+
+    @Test
+    public void put_narrowerFields_keepsWiderEntry() {
+        PlaceDetailsCache cache = new PlaceDetailsCache(10, TTL_MILLIS);
+        cache.put(PLACE_ID, NAME_AND_ADDRESS, place);
+
+        cache.put(PLACE_ID, NAME, Place.builder().setId(PLACE_ID).build());
+
+        assertSame(place, cache.get(PLACE_ID, NAME_AND_ADDRESS));
+    }
+
+    @Test
+    public void get_afterTtl_misses() {
+        PlaceDetailsCache cache = new PlaceDetailsCache(10, TTL_MILLIS);
+        cache.put(PLACE_ID, NAME, place);
+
+        ShadowSystemClock.advanceBy(Duration.ofMillis(TTL_MILLIS));
+        assertNotNull(cache.get(PLACE_ID, NAME));
+
+        ShadowSystemClock.advanceBy(Duration.ofMillis(1));
+        assertNull(cache.get(PLACE_ID, NAME));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        PlaceDetailsCache cache = new PlaceDetailsCache(2, TTL_MILLIS);
+        cache.put("first", NAME, place);
+        cache.put("second", NAME, place);
+        // Reading "first" makes "second" the least recently used entry.
+        cache.get("first", NAME);
+
+        cache.put("third", NAME, place);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("first", NAME));
+        assertNull(cache.get("second", NAME));
+        assertNotNull(cache.get("third", NAME));
+    }
+
+    @Test
+    public void fetchPlace_memoryMiss_readsDiskBeforeNetwork() {
+        fetch(newCacheWithStore(), NAME_AND_ADDRESS);
+        // A new cache stands in for the next process: its memory tier is empty.
+        PlaceDetailsCache restarted = newCacheWithStore();
+
+        FetchPlaceResponse response = fetch(restarted, NAME);
+
+        assertEquals("Pizzeria Locale", response.getPlace().getDisplayName());
+        assertEquals(1, networkCalls);
+        assertEquals(1, restarted.getDiskHitCount());
+        // The disk hit was promoted to the memory tier.
+        assertNotNull(restarted.get(PLACE_ID, NAME_AND_ADDRESS));
+    }
+
+    @Test
+    public void fetchPlace_diskRecordWithFewerFields_fallsThroughToNetwork() {
+        fetch(newCacheWithStore(), NAME);
+        PlaceDetailsCache restarted = newCacheWithStore();
+
+        fetch(restarted, NAME_AND_ADDRESS);
+
+        assertEquals(2, networkCalls);
+        assertEquals(0, restarted.getDiskHitCount());
+    }
+
+    @Test
+    public void fetchPlace_unreadableDiskRecord_fallsThroughToNetwork() throws IOException {
+        store.put(PLACE_ID, new byte[]{1, 2, 3});
+        PlaceDetailsCache cache = newCacheWithStore();
+
+        FetchPlaceResponse response = fetch(cache, NAME);
+
+        assertSame(place, response.getPlace());
+        assertEquals(1, networkCalls);
+        assertEquals(0, cache.getDiskHitCount());
+    }
+
+    private PlaceDetailsCache newCacheWithStore() {
+        return new PlaceDetailsCache(10, TTL_MILLIS, Tasks.forResult(store), Runnable::run,
+                new PlacesRequestCoalescer());
+    }
+
+    /** Fetches {@link #PLACE_ID} through {@code cache} and runs the listeners it queued. */
+    private FetchPlaceResponse fetch(PlaceDetailsCache cache, List<Field> fields) {
+        Task<FetchPlaceResponse> task =
+                cache.fetchPlace(placesClient, FetchPlaceRequest.newInstance(PLACE_ID, fields));
+        shadowOf(Looper.getMainLooper()).idle();
+        return task.getResult();
+    }
+}
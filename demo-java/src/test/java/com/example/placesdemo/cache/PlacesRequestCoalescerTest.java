@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.android.gms.tasks.CancellationTokenSource;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.IsOpenRequest;
+import com.google.android.libraries.places.api.net.IsOpenResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Local unit tests for {@link PlacesRequestCoalescer}, against a {@link PlacesClient} whose calls
+ * stay in flight until the test completes them.
+ */
+public class PlacesRequestCoalescerTest {
+
+    private static final List<Place.Field> FIELDS =
+            Arrays.asList(Place.Field.ID, Place.Field.DISPLAY_NAME);
+
+    private final List<TaskCompletionSource<Object>> calls = new ArrayList<>();
+    private final PlacesClient placesClient = pendingPlacesClient();
+    private final PlacesRequestCoalescer coalescer = new PlacesRequestCoalescer();
+
+    @Test
+    public void fetchPlace_identicalRequests_shareOneCall() {
+        Task<FetchPlaceResponse> first = fetchPlace(FetchPlaceRequest.newInstance("ChIJ1", FIELDS));
+        // The same fields in another order ask for the same data.
+        Task<FetchPlaceResponse> second = fetchPlace(FetchPlaceRequest.newInstance(
+                "ChIJ1", Arrays.asList(Place.Field.DISPLAY_NAME, Place.Field.ID)));
+
+        assertSame(first, second);
+        assertEquals(1, calls.size());
+        assertEquals(1, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void fetchPlace_otherFieldsOrRegion_areSentSeparately() {
+        fetchPlace(FetchPlaceRequest.newInstance("ChIJ1", FIELDS));
+        fetchPlace(FetchPlaceRequest.newInstance("ChIJ1", Arrays.asList(Place.Field.ID)));
+        fetchPlace(FetchPlaceRequest.builder("ChIJ1", FIELDS).setRegionCode("de").build());
+
+        assertEquals(3, calls.size());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void fetchPlace_withCancellationToken_isNeverShared() {
+        FetchPlaceRequest plain = FetchPlaceRequest.newInstance("ChIJ1", FIELDS);
+        FetchPlaceRequest cancellable = FetchPlaceRequest.builder("ChIJ1", FIELDS)
+                .setCancellationToken(new CancellationTokenSource().getToken())
+                .build();
+
+        Task<FetchPlaceResponse> first = fetchPlace(plain);
+        Task<FetchPlaceResponse> second = fetchPlace(cancellable);
+        Task<FetchPlaceResponse> third = fetchPlace(cancellable);
+
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        assertEquals(3, calls.size());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void fetchPlace_afterCompletion_startsNewCall() {
+        FetchPlaceRequest request = FetchPlaceRequest.newInstance("ChIJ1", FIELDS);
+        fetchPlace(request);
+        calls.get(0).setResult(null);
+
+        fetchPlace(request);
+
+        assertEquals(2, calls.size());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void fetchPlace_afterFailure_startsNewCall() {
+        FetchPlaceRequest request = FetchPlaceRequest.newInstance("ChIJ1", FIELDS);
+        fetchPlace(request);
+        calls.get(0).setException(new IOException("timeout"));
+
+        fetchPlace(request);
+
+        assertEquals(2, calls.size());
+    }
+
+    @Test
+    public void isOpen_sameTimeIsShared_otherTimeIsNot() {
+        Task<IsOpenResponse> first =
+                coalescer.isOpen(placesClient, IsOpenRequest.newInstance("ChIJ1", 1_000));
+        Task<IsOpenResponse> second =
+                coalescer.isOpen(placesClient, IsOpenRequest.newInstance("ChIJ1", 1_000));
+        Task<IsOpenResponse> later =
+                coalescer.isOpen(placesClient, IsOpenRequest.newInstance("ChIJ1", 2_000));
+
+        assertSame(first, second);
+        assertNotSame(first, later);
+        assertEquals(2, calls.size());
+        assertEquals(1, coalescer.getCollapsedCount());
+    }
+
+    private Task<FetchPlaceResponse> fetchPlace(FetchPlaceRequest request) {
+        return coalescer.fetchPlace(placesClient, request);
+    }
+
+    /** Returns a client that answers every call with a task completed through {@link #calls}. */
+    private PlacesClient pendingPlacesClient() {
+        return (PlacesClient) Proxy.newProxyInstance(
+                PlacesClient.class.getClassLoader(),
+                new Class<?>[]{PlacesClient.class},
+                (proxy, method, args) -> {
+                    TaskCompletionSource<Object> source = new TaskCompletionSource<>();
+                    calls.add(source);
+                    return source.getTask();
+                });
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/** Local unit tests for {@link RecordStore}, run against a temporary directory. */
+public class RecordStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void putThenGet_returnsLatestValue() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            store.put("ChIJ1", bytes("first"));
+            store.put("ChIJ2", bytes("second"));
+            store.put("ChIJ1", bytes("updated"));
+
+            assertArrayEquals(bytes("updated"), store.get("ChIJ1"));
+            assertArrayEquals(bytes("second"), store.get("ChIJ2"));
+            assertNull(store.get("ChIJ3"));
+            assertEquals(2, store.size());
+        }
+    }
+
+    @Test
+    public void remove_hidesValue() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            store.put("ChIJ1", bytes("first"));
+            store.remove("ChIJ1");
+
+            assertNull(store.get("ChIJ1"));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    public void reopen_keepsValues() throws IOException {
+        File directory = temporaryFolder.getRoot();
+        try (RecordStore store = new RecordStore(directory, null)) {
+            store.put("ChIJ1", bytes("first"));
+            store.put("ChIJ2", bytes("second"));
+            store.remove("ChIJ2");
+        }
+
+        try (RecordStore store = new RecordStore(directory, null)) {
+            assertArrayEquals(bytes("first"), store.get("ChIJ1"));
+            assertNull(store.get("ChIJ2"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    public void reopen_withoutIndex_rebuildsFromRecords() throws IOException {
+        File directory = temporaryFolder.getRoot();
+        try (RecordStore store = new RecordStore(directory, null)) {
+            store.put("ChIJ1", bytes("first"));
+            store.put("ChIJ1", bytes("updated"));
+        }
+        assertTrue(new File(directory, RecordStore.INDEX_FILE_NAME).delete());
+
+        try (RecordStore store = new RecordStore(directory, null)) {
+            assertArrayEquals(bytes("updated"), store.get("ChIJ1"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    public void reopen_dropsUncommittedTail() throws IOException {
+        File directory = temporaryFolder.getRoot();
+        try (RecordStore store = new RecordStore(directory, null)) {
+            store.put("ChIJ1", bytes("first"));
+        }
+        // Simulate a record cut short by process death.
+        try (RandomAccessFile data =
+                     new RandomAccessFile(new File(directory, RecordStore.DATA_FILE_NAME), "rw")) {
+            data.seek(data.length());
+            data.writeInt(5);
+        }
+
+        try (RecordStore store = new RecordStore(directory, null)) {
+            assertArrayEquals(bytes("first"), store.get("ChIJ1"));
+            store.put("ChIJ2", bytes("second"));
+            assertArrayEquals(bytes("second"), store.get("ChIJ2"));
+        }
+    }
+
+    @Test
+    public void manyKeys_growIndex() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            for (int i = 0; i < 1000; i++) {
+                store.put("place" + i, bytes("value" + i));
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertArrayEquals(bytes("value" + i), store.get("place" + i));
+            }
+            assertEquals(1000, store.size());
+        }
+    }
+
+    @Test
+    public void compact_reclaimsGarbage() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), null)) {
+            for (int i = 0; i < 100; i++) {
+                store.put("ChIJ1", bytes("value" + i));
+            }
+            store.put("ChIJ2", bytes("other"));
+            store.remove("ChIJ2");
+            long lengthBefore = store.getDataLength();
+
+            store.compact();
+
+            assertTrue(store.getDataLength() < lengthBefore);
+            assertEquals(0, store.getGarbageBytes());
+            assertArrayEquals(bytes("value99"), store.get("ChIJ1"));
+            assertNull(store.get("ChIJ2"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    public void compaction_runsOnExecutorOnceGarbageDominates() throws IOException {
+        try (RecordStore store = new RecordStore(temporaryFolder.getRoot(), Runnable::run)) {
+            byte[] value = new byte[1024];
+            for (int i = 0; i < 200; i++) {
+                store.put("ChIJ1", value);
+            }
+
+            // Without compaction the record file would hold all 200 copies.
+            assertTrue(store.getDataLength() < 100 * value.length);
+            assertArrayEquals(value, store.get("ChIJ1"));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/** Local unit tests for {@link ReusePool}, with plain buffers standing in for bitmaps. */
+public class ReusePoolTest {
+
+    private final ReusePool<Buffer> pool =
+            new ReusePool<>(1000, buffer -> buffer.bytes, buffer -> buffer.mutable);
+
+    @Test
+    public void release_poolsBufferNotInMemory() {
+        Buffer buffer = new Buffer(100);
+        pool.checkOut(buffer);
+
+        pool.release(buffer);
+
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(1, pool.getPooledCount());
+        assertEquals(100, pool.getPooledBytes());
+    }
+
+    @Test
+    public void release_keepsBufferStillHeldByMemoryTier() {
+        Buffer buffer = new Buffer(100);
+        pool.onCached(buffer);
+        pool.checkOut(buffer);
+
+        pool.release(buffer);
+        assertEquals(0, pool.getPooledCount());
+
+        pool.onUncached(buffer);
+        assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test
+    public void evictionWhileInUse_poolsOnlyAfterRelease() {
+        Buffer buffer = new Buffer(100);
+        pool.onCached(buffer);
+        pool.checkOut(buffer);
+
+        pool.onUncached(buffer);
+        assertEquals(0, pool.getPooledCount());
+
+        pool.release(buffer);
+        assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test
+    public void release_waitsForEveryCheckOut() {
+        Buffer buffer = new Buffer(100);
+        pool.checkOut(buffer);
+        pool.checkOut(buffer);
+
+        pool.release(buffer);
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(0, pool.getPooledCount());
+
+        pool.release(buffer);
+        assertEquals(0, pool.getInUseCount());
+        assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test
+    public void release_ignoresUnknownAndRepeatedReleases() {
+        Buffer buffer = new Buffer(100);
+        pool.release(buffer);
+        assertEquals(0, pool.getPooledCount());
+
+        pool.checkOut(buffer);
+        pool.release(buffer);
+        pool.release(buffer);
+        assertEquals(1, pool.getPooledCount());
+        assertEquals(100, pool.getPooledBytes());
+    }
+
+    @Test
+    public void replacedEntry_keepsBufferCachedUnderAnotherKey() {
+        Buffer buffer = new Buffer(100);
+        pool.onCached(buffer);
+        pool.onCached(buffer);
+
+        pool.onUncached(buffer);
+        assertEquals(0, pool.getPooledCount());
+
+        pool.onUncached(buffer);
+        assertEquals(1, pool.getPooledCount());
+    }
+
+    @Test
+    public void immutableBuffers_areNeverPooled() {
+        Buffer buffer = new Buffer(100, false);
+        pool.checkOut(buffer);
+
+        pool.release(buffer);
+
+        assertEquals(0, pool.getPooledCount());
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void pool_dropsOldestBuffersOverBudget() {
+        Buffer first = new Buffer(400);
+        Buffer second = new Buffer(400);
+        Buffer third = new Buffer(400);
+        for (Buffer buffer : new Buffer[]{first, second, third}) {
+            pool.checkOut(buffer);
+            pool.release(buffer);
+        }
+
+        assertEquals(2, pool.getPooledCount());
+        assertEquals(800, pool.getPooledBytes());
+        assertSame(second, pool.take(400));
+        assertSame(third, pool.take(400));
+        assertNull(pool.take(400));
+    }
+
+    @Test
+    public void take_returnsSmallestLargeEnoughBuffer() {
+        Buffer small = new Buffer(100);
+        Buffer medium = new Buffer(300);
+        Buffer large = new Buffer(500);
+        for (Buffer buffer : new Buffer[]{large, small, medium}) {
+            pool.checkOut(buffer);
+            pool.release(buffer);
+        }
+
+        assertSame(medium, pool.take(200));
+        assertEquals(2, pool.getPooledCount());
+        assertEquals(600, pool.getPooledBytes());
+        assertNull(pool.take(600));
+        assertSame(large, pool.take(400));
+        assertSame(small, pool.take(1));
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    private static final class Buffer {
+        final int bytes;
+        final boolean mutable;
+
+        Buffer(int bytes) {
+            this(bytes, true);
+        }
+
+        Buffer(int bytes, boolean mutable) {
+            this.bytes = bytes;
+            this.mutable = mutable;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Local unit tests for {@link TaskCoalescer}. */
+public class TaskCoalescerTest {
+
+    private final TaskCoalescer<String> coalescer = new TaskCoalescer<>();
+    private final List<TaskCompletionSource<String>> started = new ArrayList<>();
+
+    @Test
+    public void coalesce_sameKeyInFlight_joinsTask() {
+        Task<String> first = coalescer.coalesce("place", this::start);
+        Task<String> second = coalescer.coalesce("place", this::start);
+
+        assertSame(first, second);
+        assertEquals(1, started.size());
+        assertEquals(1, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void coalesce_otherKey_startsOwnTask() {
+        Task<String> first = coalescer.coalesce("place", this::start);
+        Task<String> second = coalescer.coalesce("other place", this::start);
+
+        assertNotSame(first, second);
+        assertEquals(2, started.size());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void coalesce_afterSuccess_startsNewTask() {
+        Task<String> first = coalescer.coalesce("place", this::start);
+        started.get(0).setResult("Pizzeria Locale");
+
+        Task<String> second = coalescer.coalesce("place", this::start);
+
+        assertNotSame(first, second);
+        assertEquals(2, started.size());
+    }
+
+    @Test
+    public void coalesce_afterFailure_startsNewTask() {
+        Task<String> first = coalescer.coalesce("place", this::start);
+        started.get(0).setException(new IOException("timeout"));
+
+        Task<String> second = coalescer.coalesce("place", this::start);
+
+        assertNotSame(first, second);
+        assertEquals(2, started.size());
+        assertEquals(0, coalescer.getCollapsedCount());
+    }
+
+    @Test
+    public void coalesce_completedTask_isNotShared() {
+        Task<String> done = Tasks.forResult("Pizzeria Locale");
+        coalescer.coalesce("place", () -> done);
+
+        Task<String> next = coalescer.coalesce("place", this::start);
+
+        assertNotSame(done, next);
+        assertEquals(1, started.size());
+    }
+
+    private Task<String> start() {
+        TaskCompletionSource<String> source = new TaskCompletionSource<>();
+        started.add(source);
+        return source.getTask();
+    }
+}
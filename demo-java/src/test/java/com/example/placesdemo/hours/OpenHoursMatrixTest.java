@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local unit tests for {@link OpenHoursMatrix}. Its throughput is measured by
+ * {@code OpenHoursMatrixBenchmark} in the {@code :benchmark} module.
+ */
+public class OpenHoursMatrixTest {
+
+    private static final int DAY = OpeningHoursTable.MINUTES_PER_DAY;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    /** 2026-03-01, a Sunday. */
+    private static final long SUNDAY_EPOCH_DAY = OpeningHoursTable.epochDay(2026, 3, 1);
+    /** 2026-03-01T00:00Z. */
+    private static final long SUNDAY_UTC_MILLIS = SUNDAY_EPOCH_DAY * DAY * 60_000L;
+
+    @Test
+    public void overnightPeriod_isOpenOnBothDays() {
+        // Friday 20:00 to Saturday 02:00, UTC.
+        OpenHoursMatrix matrix = weekOf(new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(5 * DAY + 20 * 60, 6 * DAY + 2 * 60)
+                .setUtcOffsetMinutes(0)
+                .build());
+
+        assertOpenHours(matrix, 140, 141, 142, 143, 144, 145);
+    }
+
+    @Test
+    public void exceptionDay_replacesRegularHours() {
+        // Monday to Friday 09:00 to 17:00, but only 10:00 to 14:00 on Wednesday 2026-03-04.
+        OpeningHoursTable.Builder builder = new OpeningHoursTable.Builder().setUtcOffsetMinutes(0);
+        for (int day = 1; day <= 5; day++) {
+            builder.addWeeklyPeriod(day * DAY + 9 * 60, day * DAY + 17 * 60);
+        }
+        long wednesday = SUNDAY_EPOCH_DAY + 3;
+        builder.addExceptionDay(wednesday)
+                .addExceptionPeriod(wednesday * DAY + 10 * 60, wednesday * DAY + 14 * 60);
+
+        OpenHoursMatrix matrix = weekOf(builder.build());
+
+        // Tuesday keeps its regular hours.
+        assertFalse(matrix.isOpen(0, 2 * 24 + 8));
+        assertTrue(matrix.isOpen(0, 2 * 24 + 9));
+        assertTrue(matrix.isOpen(0, 2 * 24 + 16));
+        assertFalse(matrix.isOpen(0, 2 * 24 + 17));
+        // Wednesday opens an hour late and closes at 14:00.
+        assertFalse(matrix.isOpen(0, 3 * 24 + 9));
+        assertTrue(matrix.isOpen(0, 3 * 24 + 10));
+        assertTrue(matrix.isOpen(0, 3 * 24 + 13));
+        assertFalse(matrix.isOpen(0, 3 * 24 + 14));
+        assertEquals(4 * 8 + 4, matrix.getOpenInstants(0).cardinality());
+    }
+
+    @Test
+    public void utcOffset_shiftsLocalHoursAcrossUtcMidnight() {
+        // Sunday 18:00 to 23:00 at UTC-5, which is Sunday 23:00 to Monday 04:00 UTC.
+        OpenHoursMatrix matrix = weekOf(new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(18 * 60, 23 * 60)
+                .setUtcOffsetMinutes(-5 * 60)
+                .build());
+
+        assertOpenHours(matrix, 23, 24, 25, 26, 27);
+    }
+
+    @Test
+    public void unknownDay_isUnknownForThatDayOnly() {
+        // Thursday 2026-03-05 has special hours that were not provided.
+        OpenHoursMatrix matrix = weekOf(new OpeningHoursTable.Builder()
+                .setAlwaysOpen()
+                .addUnknownDay(SUNDAY_EPOCH_DAY + 4)
+                .setUtcOffsetMinutes(0)
+                .build());
+
+        assertTrue(matrix.isKnown(0, 4 * 24 - 1));
+        assertTrue(matrix.isOpen(0, 4 * 24 - 1));
+        for (int hour = 4 * 24; hour < 5 * 24; hour++) {
+            assertFalse(matrix.isKnown(0, hour));
+            assertFalse(matrix.isOpen(0, hour));
+        }
+        assertTrue(matrix.isKnown(0, 5 * 24));
+        assertTrue(matrix.isOpen(0, 5 * 24));
+        assertEquals(6 * 24, matrix.getOpenInstants(0).cardinality());
+    }
+
+    @Test
+    public void nullTable_leavesRowUnknown() {
+        OpeningHoursTable alwaysOpen =
+                new OpeningHoursTable.Builder().setAlwaysOpen().setUtcOffsetMinutes(0).build();
+
+        OpenHoursMatrix matrix = OpenHoursMatrix.computeFromTables(
+                Arrays.asList(alwaysOpen, null), SUNDAY_UTC_MILLIS, HOUR_MILLIS, 100);
+
+        assertTrue(matrix.isOpen(0, 99));
+        assertFalse(matrix.isOpen(1, 99));
+        assertFalse(matrix.isKnown(1, 99));
+        assertEquals(100, matrix.getOpenInstants(0).cardinality());
+        BitSet openPlaces = matrix.getOpenPlaces(50);
+        assertTrue(openPlaces.get(0));
+        assertFalse(openPlaces.get(1));
+    }
+
+    /** Evaluates {@code table} at every hour of the week that starts Sunday 2026-03-01 UTC. */
+    private static OpenHoursMatrix weekOf(OpeningHoursTable table) {
+        return OpenHoursMatrix.computeFromTables(
+                Collections.singletonList(table), SUNDAY_UTC_MILLIS, HOUR_MILLIS, 7 * 24);
+    }
+
+    /** Asserts that the only row of {@code matrix} is known and open exactly at {@code hours}. */
+    private static void assertOpenHours(OpenHoursMatrix matrix, int... hours) {
+        BitSet expected = new BitSet();
+        for (int hour : hours) {
+            expected.set(hour);
+        }
+        assertEquals(expected, matrix.getOpenInstants(0));
+        for (int hour = 0; hour < matrix.getInstantCount(); hour++) {
+            assertTrue(matrix.isKnown(0, hour));
+        }
+    }
+}
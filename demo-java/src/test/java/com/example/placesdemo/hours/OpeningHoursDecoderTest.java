@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.libraries.places.api.model.DayOfWeek;
+import com.google.android.libraries.places.api.model.LocalTime;
+import com.google.android.libraries.places.api.model.OpeningHours;
+import com.google.android.libraries.places.api.model.Period;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.TimeOfWeek;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/** Local unit tests for {@link OpeningHoursDecoder}. */
+public class OpeningHoursDecoderTest {
+
+    /** 2026-03-02, a Monday. */
+    private static final long MONDAY_MINUTE =
+            OpeningHoursTable.epochDay(2026, 3, 2) * OpeningHoursTable.MINUTES_PER_DAY;
+
+    @Test
+    public void decode_openSundayMidnightWithoutClose_isAlwaysOpen() {
+        OpeningHoursTable table = OpeningHoursDecoder.decode(
+                placeWith(period(DayOfWeek.SUNDAY, 0, null)));
+
+        assertTrue(table.isOpenAtLocalMinute(MONDAY_MINUTE));
+        assertTrue(table.isOpenAtLocalMinute(MONDAY_MINUTE + 3 * 24 * 60 + 17 * 60));
+    }
+
+    @Test
+    public void decode_otherPeriodWithoutClose_cannotBeEvaluated() {
+        assertNull(OpeningHoursDecoder.decode(placeWith(period(DayOfWeek.MONDAY, 9, null))));
+        assertNull(OpeningHoursDecoder.decode(placeWith(
+                period(DayOfWeek.SUNDAY, 0, null),
+                period(DayOfWeek.MONDAY, 9, DayOfWeek.MONDAY))));
+    }
+
+    @Test
+    public void decode_periodsWithClose_areOpenOnlyInside() {
+        OpeningHoursTable table = OpeningHoursDecoder.decode(
+                placeWith(period(DayOfWeek.MONDAY, 9, DayOfWeek.MONDAY)));
+
+        assertFalse(table.isOpenAtLocalMinute(MONDAY_MINUTE + 8 * 60));
+        assertTrue(table.isOpenAtLocalMinute(MONDAY_MINUTE + 9 * 60));
+        assertFalse(table.isOpenAtLocalMinute(MONDAY_MINUTE + 17 * 60));
+    }
+
+    private static Place placeWith(Period... periods) {
+        return Place.builder()
+                .setOpeningHours(OpeningHours.builder().setPeriods(Arrays.asList(periods)).build())
+                .setUtcOffsetMinutes(0)
+                .build();
+    }
+
+    /** Returns a period opening at {@code openHour} that closes at 17:00 on {@code closeDay}. */
+    private static Period period(DayOfWeek openDay, int openHour, DayOfWeek closeDay) {
+        Period.Builder builder = Period.builder()
+                .setOpen(TimeOfWeek.newInstance(openDay, LocalTime.newInstance(openHour, 0)));
+        if (closeDay != null) {
+            builder.setClose(TimeOfWeek.newInstance(closeDay, LocalTime.newInstance(17, 0)));
+        }
+        return builder.build();
+    }
+}
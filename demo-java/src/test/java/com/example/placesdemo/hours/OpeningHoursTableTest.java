@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.hours;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+/** Local unit tests for {@link OpeningHoursTable}. */
+public class OpeningHoursTableTest {
+
+    private static final int DAY = OpeningHoursTable.MINUTES_PER_DAY;
+    private static final int SUNDAY = 0;
+    private static final int MONDAY = 1;
+    private static final int TUESDAY = 2;
+    private static final int SATURDAY = 6;
+
+    /** 2026-03-02, a Monday. */
+    private static final long MONDAY_EPOCH_DAY = OpeningHoursTable.epochDay(2026, 3, 2);
+
+    @Test
+    public void epochDay_matchesKnownDates() {
+        assertEquals(0, OpeningHoursTable.epochDay(1970, 1, 1));
+        assertEquals(-1, OpeningHoursTable.epochDay(1969, 12, 31));
+        assertEquals(11016, OpeningHoursTable.epochDay(2000, 2, 29));
+        assertEquals(MONDAY * DAY, OpeningHoursTable.minuteOfWeek(MONDAY_EPOCH_DAY * DAY));
+    }
+
+    @Test
+    public void weeklyPeriod_openOnlyInsideRange() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(MONDAY, 9, 0), at(MONDAY, 17, 0))
+                .build();
+
+        assertFalse(table.isOpenAtLocalMinute(monday(8, 59)));
+        assertTrue(table.isOpenAtLocalMinute(monday(9, 0)));
+        assertTrue(table.isOpenAtLocalMinute(monday(16, 59)));
+        assertFalse(table.isOpenAtLocalMinute(monday(17, 0)));
+        assertFalse(table.isOpenAtLocalMinute(monday(12, 0) + DAY));
+    }
+
+    @Test
+    public void periodPastEndOfWeek_wrapsToSunday() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(SATURDAY, 22, 0), at(SUNDAY, 2, 0))
+                .build();
+
+        long saturday = (MONDAY_EPOCH_DAY - 2) * DAY;
+        assertTrue(table.isOpenAtLocalMinute(saturday + 23 * 60));
+        assertTrue(table.isOpenAtLocalMinute(saturday + DAY + 60));
+        assertFalse(table.isOpenAtLocalMinute(saturday + DAY + 2 * 60));
+    }
+
+    @Test
+    public void overlappingPeriods_areMerged() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(MONDAY, 12, 0), at(MONDAY, 18, 0))
+                .addWeeklyPeriod(at(MONDAY, 9, 0), at(MONDAY, 14, 0))
+                .build();
+
+        assertTrue(table.isOpenAtLocalMinute(monday(9, 30)));
+        assertTrue(table.isOpenAtLocalMinute(monday(17, 30)));
+        assertEquals("OpeningHoursTable{weeklyRanges=1, overnightRanges=0, exceptionRanges=0, "
+                + "exceptionDays=0, unknownDays=0, utcOffsetMinutes=null}", table.toString());
+    }
+
+    @Test
+    public void exceptionDay_replacesRegularHours() {
+        long holiday = MONDAY_EPOCH_DAY * DAY;
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(MONDAY, 9, 0), at(MONDAY, 17, 0))
+                .addExceptionDay(MONDAY_EPOCH_DAY)
+                .addExceptionPeriod(holiday + 20 * 60, holiday + DAY + 60)
+                .build();
+
+        assertFalse(table.isOpenAtLocalMinute(monday(10, 0)));
+        assertTrue(table.isOpenAtLocalMinute(monday(21, 0)));
+        // The exceptional range runs past midnight into a regular day.
+        assertTrue(table.isOpenAtLocalMinute(monday(0, 30) + DAY));
+        // The next Monday is a regular day again.
+        assertTrue(table.isOpenAtLocalMinute(monday(10, 0) + 7 * DAY));
+    }
+
+    @Test
+    public void overnightPeriod_runsIntoExceptionDay() {
+        long holiday = MONDAY_EPOCH_DAY * DAY;
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(SUNDAY, 20, 0), at(MONDAY, 2, 0))
+                .addWeeklyPeriod(at(MONDAY, 20, 0), at(TUESDAY, 2, 0))
+                .addExceptionDay(MONDAY_EPOCH_DAY)
+                .addExceptionPeriod(holiday + 10 * 60, holiday + 14 * 60)
+                .build();
+
+        // Sunday kept its regular hours, so its period still closes at 02:00 on the holiday.
+        assertTrue(table.isOpenAtLocalMinute(monday(1, 59)));
+        assertFalse(table.isOpenAtLocalMinute(monday(2, 0)));
+        assertTrue(table.isOpenAtLocalMinute(monday(10, 0)));
+        // Monday's own regular period is replaced, including the part after midnight.
+        assertFalse(table.isOpenAtLocalMinute(monday(21, 0)));
+        assertFalse(table.isOpenAtLocalMinute(monday(1, 0) + DAY));
+        // A week later Monday is a regular day again.
+        assertTrue(table.isOpenAtLocalMinute(monday(1, 0) + 8 * DAY));
+    }
+
+    @Test
+    public void overnightPeriod_afterUnknownDay_cannotBeAnswered() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(MONDAY, 20, 0), at(TUESDAY, 2, 0))
+                .addWeeklyPeriod(at(TUESDAY, 9, 0), at(TUESDAY, 17, 0))
+                .addUnknownDay(MONDAY_EPOCH_DAY)
+                .build();
+
+        assertNull(table.isOpenAtLocalMinute(monday(1, 0) + DAY));
+        // Tuesday's own hours do not depend on Monday.
+        assertTrue(table.isOpenAtLocalMinute(monday(10, 0) + DAY));
+        assertFalse(table.isOpenAtLocalMinute(monday(3, 0) + DAY));
+    }
+
+    @Test
+    public void unknownDay_cannotBeAnswered() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .setAlwaysOpen()
+                .addUnknownDay(MONDAY_EPOCH_DAY)
+                .build();
+
+        assertNull(table.isOpenAtLocalMinute(monday(12, 0)));
+        assertTrue(table.isOpenAtLocalMinute(monday(12, 0) + DAY));
+    }
+
+    @Test
+    public void isOpen_convertsInstantToPlaceLocalTime() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder()
+                .addWeeklyPeriod(at(MONDAY, 9, 0), at(MONDAY, 17, 0))
+                .setUtcOffsetMinutes(-8 * 60)
+                .build();
+        // Monday 16:30 UTC is Monday 08:30 at UTC-8.
+        long utcMillis = monday(16, 30) * 60_000L;
+
+        assertFalse(table.isOpen(utcMillis));
+        assertTrue(table.isOpen(utcMillis + 60 * 60_000L));
+        assertTrue(table.isOpen(utcMillis, TimeZone.getTimeZone("UTC")));
+    }
+
+    @Test
+    public void isOpen_withoutUtcOffset_cannotBeAnswered() {
+        OpeningHoursTable table = new OpeningHoursTable.Builder().setAlwaysOpen().build();
+
+        assertNull(table.isOpen(0));
+        assertTrue(table.isOpen(0, TimeZone.getTimeZone("UTC")));
+    }
+
+    private static int at(int day, int hours, int minutes) {
+        return day * DAY + hours * 60 + minutes;
+    }
+
+    private static long monday(int hours, int minutes) {
+        return MONDAY_EPOCH_DAY * DAY + hours * 60 + minutes;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** Local unit tests for {@link LatencyHistogram}. */
+public class LatencyHistogramTest {
+
+    @Test
+    public void buckets_coverEveryValueOnce() {
+        // Each bucket starts right after the previous one ends.
+        long expectedLow = 0;
+        for (int index = 0; index <= LatencyHistogram.indexOf(LatencyHistogram.MAX_VALUE_MICROS);
+                index++) {
+            assertEquals(index, LatencyHistogram.indexOf(expectedLow));
+            long high = LatencyHistogram.highestValueAt(index);
+            assertEquals(index, LatencyHistogram.indexOf(high));
+            assertTrue("bucket " + index + " is too wide",
+                    high - expectedLow <= Math.max(0, expectedLow / 64));
+            expectedLow = high + 1;
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE_MICROS + 1, expectedLow);
+    }
+
+    @Test
+    public void percentiles_areWithinTwoPercentOfExact() {
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal around 100 ms, like network latencies.
+            values[i] = (long) (100_000 * Math.exp(random.nextGaussian()));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{50, 95, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getValueAtPercentile(percentile);
+            assertTrue("p" + percentile + " " + estimate + " vs " + exact,
+                    estimate >= exact && estimate <= exact * 1.02);
+        }
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+        assertEquals(values[0], histogram.getMinMicros());
+        assertEquals(values.length, histogram.getTotalCount());
+    }
+
+    @Test
+    public void outOfRangeValues_areClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getMinMicros());
+        assertEquals(LatencyHistogram.MAX_VALUE_MICROS, histogram.getMaxMicros());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void add_mergesCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(1_000);
+        b.record(2_000);
+
+        a.add(b);
+
+        assertEquals(3, a.getTotalCount());
+        assertEquals(10, a.getMinMicros());
+        assertEquals(2_000, a.getMaxMicros());
+        assertEquals(1_003, a.getMeanMicros());
+
+        a.reset();
+        assertEquals(0, a.getTotalCount());
+        assertEquals(0, a.getValueAtPercentile(99));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.example.placesdemo.metrics.PlacesClientMetrics.MethodSnapshot;
+import com.google.android.gms.common.api.ApiException;
+import com.google.android.gms.common.api.Status;
+import com.google.android.libraries.places.api.net.PlacesStatusCodes;
+
+import org.junit.Test;
+
+import java.util.List;
+
+/** Local unit tests for {@link PlacesClientMetrics}. */
+public class PlacesClientMetricsTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    public void snapshot_countsCallsErrorsAndPayload() {
+        PlacesClientMetrics metrics = new PlacesClientMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordSuccess("fetchPlace", i * MILLIS, 3, 1);
+        }
+        metrics.recordFailure("fetchPlace", 500 * MILLIS, 3, PlacesStatusCodes.NOT_FOUND);
+        metrics.recordFailure("fetchPlace", 600 * MILLIS, 3, PlacesStatusCodes.NOT_FOUND);
+        metrics.recordFailure("fetchPlace", 700 * MILLIS, 3, PlacesClientMetrics.STATUS_OTHER);
+
+        MethodSnapshot snapshot = metrics.getSnapshot("fetchPlace");
+
+        assertEquals(103, snapshot.count);
+        assertEquals(3, snapshot.errorCount);
+        assertEquals(Long.valueOf(2), snapshot.errorsByStatus.get(PlacesStatusCodes.NOT_FOUND));
+        assertEquals(Long.valueOf(1),
+                snapshot.errorsByStatus.get(PlacesClientMetrics.STATUS_OTHER));
+        assertEquals(309, snapshot.fieldsRequested);
+        assertEquals(100, snapshot.resultsReturned);
+        assertEquals(52_000, snapshot.p50Micros, 52_000 * 0.02);
+        assertEquals(700_000, snapshot.maxMicros);
+        assertTrue(snapshot.p50Micros <= snapshot.p95Micros);
+        assertTrue(snapshot.p95Micros <= snapshot.p99Micros);
+        assertNull(metrics.getSnapshot("isOpen"));
+    }
+
+    @Test
+    public void snapshots_areInOrderOfFirstCall() {
+        PlacesClientMetrics metrics = new PlacesClientMetrics();
+        metrics.recordSuccess("isOpen", MILLIS, 0, 1);
+        metrics.recordSuccess("fetchPlace", MILLIS, 1, 1);
+        metrics.recordSuccess("isOpen", MILLIS, 0, 1);
+
+        List<MethodSnapshot> snapshots = metrics.getSnapshots();
+
+        assertEquals(2, snapshots.size());
+        assertEquals("isOpen", snapshots.get(0).method);
+        assertEquals("fetchPlace", snapshots.get(1).method);
+
+        metrics.reset();
+        assertTrue(metrics.getSnapshots().isEmpty());
+    }
+
+    @Test
+    public void dump_listsMethodsAndErrorStatuses() {
+        PlacesClientMetrics metrics = new PlacesClientMetrics();
+        metrics.recordSuccess("findAutocompletePredictions", 120 * MILLIS, 0, 5);
+        metrics.recordFailure("findAutocompletePredictions", 40 * MILLIS, 0,
+                PlacesStatusCodes.OVER_QUERY_LIMIT);
+
+        String dump = metrics.toString();
+
+        assertTrue(dump, dump.contains("findAutocompletePredictions"));
+        assertTrue(dump, dump.contains("(" + PlacesStatusCodes.OVER_QUERY_LIMIT + "): 1"));
+        assertTrue(new PlacesClientMetrics().toString().startsWith("No PlacesClient calls"));
+    }
+
+    @Test
+    public void statusCode_readsApiExceptions() {
+        assertEquals(PlacesStatusCodes.INVALID_REQUEST, InstrumentedPlacesClient.statusCode(
+                new ApiException(new Status(PlacesStatusCodes.INVALID_REQUEST))));
+        assertEquals(PlacesClientMetrics.STATUS_OTHER,
+                InstrumentedPlacesClient.statusCode(new IllegalStateException()));
+        assertEquals(PlacesClientMetrics.STATUS_OTHER, InstrumentedPlacesClient.statusCode(null));
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+/** Local unit tests for the wire name lookups of {@link AddressType} and {@link LocationType}. */
+public class AddressTypeTest {
+
+    @Test
+    public void fromWireName_findsEveryType() {
+        for (AddressType type : AddressType.values()) {
+            assertEquals(type, AddressType.fromWireName(type.toString()));
+        }
+        for (LocationType type : LocationType.values()) {
+            assertEquals(type, LocationType.fromWireName(type.name()));
+        }
+    }
+
+    @Test
+    public void fromWireName_unknownString_isUnknown() {
+        assertEquals(AddressType.UNKNOWN, AddressType.fromWireName("not_a_real_type"));
+        assertEquals(AddressType.UNKNOWN, AddressType.fromWireName(null));
+        assertEquals(AddressType.UNKNOWN, AddressType.fromWireName("STREET_ADDRESS"));
+        assertEquals(LocationType.UNKNOWN, LocationType.fromWireName("rooftop"));
+        assertEquals(LocationType.UNKNOWN, LocationType.fromWireName(null));
+    }
+
+    @Test
+    public void setOf_collectsEveryType() {
+        EnumSet<AddressType> types =
+                AddressType.setOf(Arrays.asList("locality", "political", "locality", "new_type"));
+
+        assertEquals(EnumSet.of(AddressType.LOCALITY, AddressType.POLITICAL, AddressType.UNKNOWN),
+                types);
+        assertTrue(AddressType.setOf(null).isEmpty());
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local unit tests for {@link GeocodingResultCodec}. Its speed against Java serialization and Gson
+ * is measured by {@code GeocodingResultCodecBenchmark} in the {@code :benchmark} module.
+ */
+public class GeocodingResultCodecTest {
+
+    @Test
+    public void roundTrip_keepsEveryField() {
+        GeocodingResult result = sydneyOperaHouse();
+
+        GeocodingResult decoded = GeocodingResultCodec.decode(GeocodingResultCodec.encode(result));
+
+        assertEquals(result.placeId, decoded.placeId);
+        assertEquals(result.formattedAddress, decoded.formattedAddress);
+        assertArrayEquals(result.postcodeLocalities, decoded.postcodeLocalities);
+        assertArrayEquals(result.types, decoded.types);
+        assertTrue(decoded.partialMatch);
+        assertEquals(result.geometry.location, decoded.geometry.location);
+        assertEquals(LocationType.ROOFTOP, decoded.geometry.locationType);
+        assertEquals(result.geometry.viewport.northeast, decoded.geometry.viewport.northeast);
+        assertEquals(result.geometry.viewport.southwest, decoded.geometry.viewport.southwest);
+        assertEquals(result.geometry.bounds.southwest, decoded.geometry.bounds.southwest);
+        assertEquals(result.plusCode.globalCode, decoded.plusCode.globalCode);
+        assertEquals(result.plusCode.compoundCode, decoded.plusCode.compoundCode);
+    }
+
+    @Test
+    public void roundTrip_keepsNulls() {
+        GeocodingResult result = new GeocodingResult();
+        result.geometry = new Geometry();
+        result.geometry.viewport = new Bounds();
+        result.plusCode = new PlusCode();
+
+        GeocodingResult decoded = GeocodingResultCodec.decode(GeocodingResultCodec.encode(result));
+
+        assertNull(decoded.placeId);
+        assertNull(decoded.postcodeLocalities);
+        assertNull(decoded.types);
+        assertFalse(decoded.partialMatch);
+        assertNull(decoded.geometry.location);
+        assertNull(decoded.geometry.locationType);
+        assertNull(decoded.geometry.bounds);
+        assertNull(decoded.geometry.viewport.northeast);
+        assertNull(decoded.plusCode.globalCode);
+    }
+
+    @Test
+    public void sizeOf_isExact() {
+        GeocodingResult result = sydneyOperaHouse();
+        result.formattedAddress = "Zürich, 東京 🗼, unpaired \uD800 surrogate";
+
+        assertEquals(GeocodingResultCodec.sizeOf(result), GeocodingResultCodec.encode(result).length);
+        ByteBuffer tooSmall = ByteBuffer.allocate(GeocodingResultCodec.sizeOf(result) - 1);
+        try {
+            GeocodingResultCodec.write(result, tooSmall);
+            fail("Wrote past the end of the buffer");
+        } catch (BufferOverflowException expected) {
+        }
+    }
+
+    @Test
+    public void write_streamsResultsBackToBack() {
+        GeocodingResult first = sydneyOperaHouse();
+        GeocodingResult second = new GeocodingResult();
+        second.placeId = "second";
+        ByteBuffer buffer = ByteBuffer.allocateDirect(
+                GeocodingResultCodec.sizeOf(first) + GeocodingResultCodec.sizeOf(second));
+
+        GeocodingResultCodec.write(first, buffer);
+        GeocodingResultCodec.write(second, buffer);
+        buffer.flip();
+
+        assertEquals(first.placeId, GeocodingResultCodec.read(buffer).placeId);
+        assertEquals("second", GeocodingResultCodec.read(buffer).placeId);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void decode_rejectsTruncatedAndForeignBytes() {
+        byte[] encoded = GeocodingResultCodec.encode(sydneyOperaHouse());
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(encoded, 0, truncated, 0, length);
+            try {
+                GeocodingResultCodec.decode(truncated);
+                fail("Decoded " + length + " of " + encoded.length + " bytes");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+
+        encoded[0] ^= 1;
+        try {
+            GeocodingResultCodec.decode(encoded);
+            fail("Decoded bytes with a different schema fingerprint");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    /**
+     * The codec must stay smaller than the formats it replaces. {@link LatLng} is not
+     * {@code Serializable}, so Java serialization is given the result without a geometry.
+     */
+    @Test
+    public void encoded_isSmallerThanSerializableAndGson() throws Exception {
+        GeocodingResult result = sydneyOperaHouse();
+        GeocodingResult withoutGeometry = sydneyOperaHouse();
+        withoutGeometry.geometry = null;
+
+        int codecBytes = GeocodingResultCodec.encode(result).length;
+        int serializedBytes = serialize(withoutGeometry).length;
+        int jsonBytes = new Gson().toJson(result).getBytes(StandardCharsets.UTF_8).length;
+
+        assertTrue(codecBytes + " >= " + serializedBytes, codecBytes < serializedBytes);
+        assertTrue(codecBytes + " >= " + jsonBytes, codecBytes < jsonBytes);
+    }
+
+    private static GeocodingResult sydneyOperaHouse() {
+        GeocodingResult result = new GeocodingResult();
+        result.placeId = "ChIJ3S-JXmauEmsRUcIaWtf4MzE";
+        result.formattedAddress = "Bennelong Point, Sydney NSW 2000, Australia";
+        result.postcodeLocalities = new String[]{"Sydney", "The Rocks"};
+        result.types = new AddressType[]{AddressType.ESTABLISHMENT, AddressType.POINT_OF_INTEREST,
+                AddressType.TOURIST_ATTRACTION};
+        result.partialMatch = true;
+        result.geometry = new Geometry();
+        result.geometry.location = new LatLng(-33.8567844, 151.2152967);
+        result.geometry.locationType = LocationType.ROOFTOP;
+        result.geometry.viewport = new Bounds();
+        result.geometry.viewport.northeast = new LatLng(-33.8554354, 151.2166456);
+        result.geometry.viewport.southwest = new LatLng(-33.8581334, 151.2139477);
+        result.geometry.bounds = new Bounds();
+        result.geometry.bounds.northeast = new LatLng(-33.8559, 151.2161);
+        result.geometry.bounds.southwest = new LatLng(-33.8575, 151.2144);
+        result.plusCode = new PlusCode();
+        result.plusCode.globalCode = "4RRH46R7+83";
+        result.plusCode.compoundCode = "46R7+83 Sydney NSW, Australia";
+        return result;
+    }
+
+    private static byte[] serialize(GeocodingResult result) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(result);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.placesdemo.programmatic_autocomplete.AdaptiveDebouncer.Decision;
+import com.example.placesdemo.programmatic_autocomplete.AdaptiveDebouncer.Reason;
+
+import org.junit.Test;
+
+import java.util.List;
+
+/** Local unit tests of the delay policy of {@link AdaptiveDebouncer}. */
+public class AdaptiveDebouncerTest {
+
+    @Test
+    public void firstKeystroke_usesDefaultDelay() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+
+        assertEquals(AdaptiveDebouncer.DEFAULT_DELAY_MILLIS, debouncer.onQueryChanged("p", 0));
+        assertEquals(Reason.DEFAULT, lastDecision(debouncer).reason);
+    }
+
+    @Test
+    public void steadyCadence_waitsOneAndAHalfKeystrokeGaps() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+
+        long delay = type(debouncer, "pizzeria", 0, 200);
+
+        assertEquals(300, delay);
+        assertEquals(Reason.CADENCE, lastDecision(debouncer).reason);
+        assertEquals(200, lastDecision(debouncer).keystrokeIntervalMillis);
+    }
+
+    @Test
+    public void cadence_followsTypingSpeed() {
+        AdaptiveDebouncer fast = new AdaptiveDebouncer();
+        AdaptiveDebouncer slow = new AdaptiveDebouncer();
+
+        long fastDelay = type(fast, "pizzeria", 0, 80);
+        long slowDelay = type(slow, "pizzeria", 0, 300);
+
+        assertEquals(120, fastDelay);
+        assertEquals(450, slowDelay);
+    }
+
+    @Test
+    public void cadence_isClampedToBounds() {
+        AdaptiveDebouncer fast = new AdaptiveDebouncer();
+        AdaptiveDebouncer slow = new AdaptiveDebouncer();
+
+        assertEquals(AdaptiveDebouncer.MIN_DELAY_MILLIS, type(fast, "pizzeria", 0, 20));
+        assertEquals(AdaptiveDebouncer.MAX_DELAY_MILLIS, type(slow, "pizzeria", 0, 1000));
+    }
+
+    @Test
+    public void pause_doesNotChangeCadence() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        long time = 7 * 200;
+        type(debouncer, "pizzeria", 0, 200);
+
+        long delay = debouncer.onQueryChanged("pizzerias", time + 10_000);
+
+        assertEquals(300, delay);
+        assertEquals(200, lastDecision(debouncer).keystrokeIntervalMillis);
+    }
+
+    @Test
+    public void p50Latency_isAddedToCadence() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        debouncer.recordLatency(400);
+        debouncer.recordLatency(100);
+        debouncer.recordLatency(200);
+
+        long delay = type(debouncer, "pizzeria", 0, 200);
+
+        // 1.5 * 200 + 0.25 * 200
+        assertEquals(350, delay);
+        assertEquals(200, lastDecision(debouncer).p50LatencyMillis);
+    }
+
+    @Test
+    public void p50Latency_coversOnlyRecentRequests() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        assertEquals(-1, debouncer.p50LatencyMillis());
+
+        for (int i = 0; i < 16; i++) {
+            debouncer.recordLatency(1000);
+        }
+        for (int i = 0; i < 9; i++) {
+            debouncer.recordLatency(100);
+        }
+
+        assertEquals(100, debouncer.p50LatencyMillis());
+    }
+
+    @Test
+    public void wordBoundary_firesEarly() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        type(debouncer, "pizza", 0, 300);
+
+        assertEquals(AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+                debouncer.onQueryChanged("pizza ", 5 * 300));
+        assertEquals(Reason.WORD_BOUNDARY, lastDecision(debouncer).reason);
+        assertEquals(AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+                debouncer.onQueryChanged("pizza,", 6 * 300));
+    }
+
+    @Test
+    public void wordBoundary_firesEarlyBeforeCadenceIsKnown() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+
+        assertEquals(AdaptiveDebouncer.WORD_BOUNDARY_DELAY_MILLIS,
+                debouncer.onQueryChanged("pizza ", 0));
+    }
+
+    @Test
+    public void leadingSpace_isNotAWordBoundary() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+
+        assertEquals(AdaptiveDebouncer.DEFAULT_DELAY_MILLIS, debouncer.onQueryChanged(" ", 0));
+    }
+
+    @Test
+    public void decisions_areKeptOldestFirstAndBounded() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        for (int i = 0; i < 300; i++) {
+            debouncer.onQueryChanged("p", i * 100L);
+        }
+
+        List<Decision> decisions = debouncer.getDecisions();
+
+        assertEquals(256, decisions.size());
+        assertEquals(44 * 100L, decisions.get(0).timeMillis);
+        assertEquals(299 * 100L, decisions.get(255).timeMillis);
+    }
+
+    @Test
+    public void dumpDecisions_writesOneCsvLinePerDecision() {
+        AdaptiveDebouncer debouncer = new AdaptiveDebouncer();
+        debouncer.onQueryChanged("p", 0);
+        debouncer.onQueryChanged("pi", 200);
+
+        String[] lines = debouncer.dumpDecisions().split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("timeMillis,"));
+        assertEquals("0,1,-1,-1,300,DEFAULT", lines[1]);
+        assertEquals("200,2,200,-1,300,CADENCE", lines[2]);
+    }
+
+    /** Types {@code text} one character every {@code gapMillis} and returns the last delay. */
+    private static long type(AdaptiveDebouncer debouncer, String text, long startMillis,
+                             long gapMillis) {
+        long delay = -1;
+        for (int i = 1; i <= text.length(); i++) {
+            long nowMillis = startMillis + (i - 1) * gapMillis;
+            delay = debouncer.onQueryChanged(text.substring(0, i), nowMillis);
+        }
+        return delay;
+    }
+
+    private static Decision lastDecision(AdaptiveDebouncer debouncer) {
+        List<Decision> decisions = debouncer.getDecisions();
+        return decisions.get(decisions.size() - 1);
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.Response;
+import com.example.placesdemo.model.GeocodingResult;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/** Local unit tests of how {@link GeocodingRequest} delivers and caches each response status. */
+public class GeocodingRequestTest {
+
+    private static final long CACHE_TTL_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    @Test
+    public void parseNetworkResponse_ok_isCachedForTheTtl() {
+        long before = System.currentTimeMillis();
+
+        Response<GeocodingResult> response = parse("{\"results\":[{\"place_id\":\"a\"}],"
+                + "\"status\":\"OK\"}");
+
+        assertTrue(response.isSuccess());
+        assertEquals("a", response.result.placeId);
+        assertNotNull(response.cacheEntry);
+        assertTrue(response.cacheEntry.ttl >= before + CACHE_TTL_MILLIS);
+        assertTrue(response.cacheEntry.softTtl >= before + CACHE_TTL_MILLIS);
+    }
+
+    @Test
+    public void parseNetworkResponse_errorStatus_isNotCached() {
+        for (String status : new String[]{"REQUEST_DENIED", "OVER_QUERY_LIMIT", "UNKNOWN_ERROR",
+                "INVALID_REQUEST"}) {
+            Response<GeocodingResult> response = parse("{\"error_message\":\"Denied.\","
+                    + "\"results\":[],\"status\":\"" + status + "\"}");
+
+            assertFalse(status, response.isSuccess());
+            assertNull(status, response.cacheEntry);
+        }
+    }
+
+    @Test
+    public void parseNetworkResponse_zeroResults_isCachedOnlyAsHeadersAllow() {
+        Response<GeocodingResult> response =
+                parse("{\"results\":[],\"status\":\"ZERO_RESULTS\"}");
+
+        assertTrue(response.isSuccess());
+        assertNull(response.result);
+        // Without cache headers the entry is already stale, not stretched to the TTL.
+        assertTrue(response.cacheEntry == null
+                || response.cacheEntry.ttl < System.currentTimeMillis() + CACHE_TTL_MILLIS / 2);
+    }
+
+    @Test
+    public void parseNetworkResponse_malformed_isAnError() {
+        Response<GeocodingResult> response = parse("{\"results\":[{\"place_id\":");
+
+        assertFalse(response.isSuccess());
+        assertNull(response.cacheEntry);
+    }
+
+    private static Response<GeocodingResult> parse(String body) {
+        GeocodingRequest request = new GeocodingRequest("a", "https://example.com", result -> {
+        }, null).setCacheTtlMillis(CACHE_TTL_MILLIS);
+        return request.parseNetworkResponse(
+                new NetworkResponse(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.example.placesdemo.model.AddressType;
+import com.example.placesdemo.model.GeocodingResult;
+import com.example.placesdemo.model.LocationType;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local unit tests for {@link GeocodingResultAdapter}. Its parse speed is measured by
+ * {@code GeocodingParseBenchmark} in the {@code :benchmark} module.
+ */
+public class GeocodingResultAdapterTest {
+
+    private static final String RESULT = "{"
+            + "\"address_components\":["
+            + "{\"long_name\":\"Sydney Opera House\",\"short_name\":\"Sydney Opera House\","
+            + "\"types\":[\"establishment\",\"point_of_interest\"]},"
+            + "{\"long_name\":\"2\",\"short_name\":\"2\",\"types\":[\"street_number\"]},"
+            + "{\"long_name\":\"Macquarie Street\",\"short_name\":\"Macquarie St\","
+            + "\"types\":[\"route\"]},"
+            + "{\"long_name\":\"Sydney\",\"short_name\":\"Sydney\","
+            + "\"types\":[\"locality\",\"political\"]},"
+            + "{\"long_name\":\"New South Wales\",\"short_name\":\"NSW\","
+            + "\"types\":[\"administrative_area_level_1\",\"political\"]},"
+            + "{\"long_name\":\"Australia\",\"short_name\":\"AU\","
+            + "\"types\":[\"country\",\"political\"]},"
+            + "{\"long_name\":\"2000\",\"short_name\":\"2000\",\"types\":[\"postal_code\"]}],"
+            + "\"formatted_address\":\"Bennelong Point, Sydney NSW 2000, Australia\","
+            + "\"geometry\":{"
+            + "\"location\":{\"lat\":-33.8567844,\"lng\":151.2152967},"
+            + "\"location_type\":\"ROOFTOP\","
+            + "\"viewport\":{\"northeast\":{\"lat\":-33.8554354,\"lng\":151.2166456},"
+            + "\"southwest\":{\"lat\":-33.8581334,\"lng\":151.2139477}}},"
+            + "\"navigation_points\":[{\"location\":{\"latitude\":-33.857,\"longitude\":151.215}}],"
+            + "\"place_id\":\"ChIJ3S-JXmauEmsRUcIaWtf4MzE\","
+            + "\"plus_code\":{\"compound_code\":\"46R7+83 Sydney NSW, Australia\","
+            + "\"global_code\":\"4RRH46R7+83\"},"
+            + "\"types\":[\"establishment\",\"point_of_interest\",\"tourist_attraction\","
+            + "\"not_a_real_type\"]"
+            + "}";
+
+    private static final String RESPONSE =
+            "{\"results\":[" + RESULT + "," + RESULT + "," + RESULT + "],\"status\":\"OK\"}";
+
+    @Test
+    public void readFirstResult_readsWireNames() throws Exception {
+        GeocodingResult result = parse(RESPONSE);
+
+        assertEquals("ChIJ3S-JXmauEmsRUcIaWtf4MzE", result.placeId);
+        assertEquals("Bennelong Point, Sydney NSW 2000, Australia", result.formattedAddress);
+        assertEquals(new LatLng(-33.8567844, 151.2152967), result.geometry.location);
+        assertEquals(LocationType.ROOFTOP, result.geometry.locationType);
+        assertEquals(new LatLng(-33.8554354, 151.2166456), result.geometry.viewport.northeast);
+        assertNull(result.geometry.bounds);
+        assertEquals("4RRH46R7+83", result.plusCode.globalCode);
+        assertEquals("46R7+83 Sydney NSW, Australia", result.plusCode.compoundCode);
+        assertArrayEquals(new AddressType[]{AddressType.ESTABLISHMENT,
+                AddressType.POINT_OF_INTEREST, AddressType.TOURIST_ATTRACTION,
+                AddressType.UNKNOWN}, result.types);
+        assertFalse(result.partialMatch);
+    }
+
+    @Test
+    public void readFirstResult_withoutResults_returnsNull() throws Exception {
+        assertNull(parse("{\"results\":[],\"status\":\"ZERO_RESULTS\"}"));
+        assertNull(parse("{\"error_message\":\"The provided API key is invalid.\","
+                + "\"results\":[],\"status\":\"REQUEST_DENIED\"}"));
+        assertNull(parse("{\"status\":\"INVALID_REQUEST\"}"));
+    }
+
+    @Test
+    public void readFirstResultAndStatus_readsStatus() throws Exception {
+        assertEquals(GeocodingResultAdapter.STATUS_OK, parseStatus(RESPONSE));
+        assertEquals("REQUEST_DENIED", parseStatus("{\"error_message\":\"Invalid key.\","
+                + "\"results\":[],\"status\":\"REQUEST_DENIED\"}"));
+        assertEquals("OVER_QUERY_LIMIT", parseStatus(
+                "{\"status\":\"OVER_QUERY_LIMIT\",\"results\":[]}"));
+        assertNull(parseStatus("{\"results\":[]}"));
+    }
+
+    @Test
+    public void readFirstResult_skipsFieldsBeforeResults() throws Exception {
+        GeocodingResult result = parse("{\"plus_code\":{\"global_code\":\"4RRH\"},"
+                + "\"results\":[{\"partial_match\":true,\"place_id\":\"a\"}],\"status\":\"OK\"}");
+
+        assertEquals("a", result.placeId);
+        assertTrue(result.partialMatch);
+    }
+
+    @Test
+    public void readFirstResult_stopsAfterFirstResult() throws Exception {
+        // Anything after the first result, even malformed JSON, is never read.
+        GeocodingResult result = parse("{\"results\":[" + RESULT + ", this is not JSON");
+
+        assertEquals("ChIJ3S-JXmauEmsRUcIaWtf4MzE", result.placeId);
+    }
+
+    @Test
+    public void registerTo_parsesResultsWithGson() {
+        Gson gson = GeocodingResultAdapter.registerTo(new GsonBuilder()).create();
+
+        GeocodingResult result = gson.fromJson(RESULT, GeocodingResult.class);
+
+        assertEquals("ChIJ3S-JXmauEmsRUcIaWtf4MzE", result.placeId);
+        assertEquals(LocationType.ROOFTOP, result.geometry.locationType);
+        assertEquals(AddressType.ROUTE, gson.fromJson("\"route\"", AddressType.class));
+        assertEquals("\"postal_code\"", gson.toJson(AddressType.POSTAL_CODE));
+    }
+
+    @Test
+    public void registerTo_writesResultsThatReadBack() {
+        Gson gson = GeocodingResultAdapter.registerTo(new GsonBuilder()).create();
+        GeocodingResult result = gson.fromJson(RESULT, GeocodingResult.class);
+
+        GeocodingResult copy = gson.fromJson(gson.toJson(result), GeocodingResult.class);
+
+        assertEquals(result.placeId, copy.placeId);
+        assertEquals(result.formattedAddress, copy.formattedAddress);
+        assertArrayEquals(result.types, copy.types);
+        assertFalse(copy.partialMatch);
+        assertEquals(result.geometry.location, copy.geometry.location);
+        assertEquals(LocationType.ROOFTOP, copy.geometry.locationType);
+        assertEquals(result.geometry.viewport.northeast, copy.geometry.viewport.northeast);
+        assertEquals(result.geometry.viewport.southwest, copy.geometry.viewport.southwest);
+        assertNull(copy.geometry.bounds);
+        assertEquals(result.plusCode.globalCode, copy.plusCode.globalCode);
+        assertEquals(result.plusCode.compoundCode, copy.plusCode.compoundCode);
+    }
+
+    @Test
+    public void write_usesWireNamesAndOmitsNulls() {
+        GeocodingResult result = new GeocodingResult();
+        result.placeId = "ChIJ1";
+        result.partialMatch = true;
+        result.postcodeLocalities = new String[]{"Sydney"};
+        result.types = new AddressType[]{AddressType.ROUTE};
+
+        String json = new GeocodingResultAdapter().toJson(result);
+
+        assertEquals("{\"postcode_localities\":[\"Sydney\"],\"types\":[\"route\"],"
+                + "\"partial_match\":true,\"place_id\":\"ChIJ1\"}", json);
+        assertEquals("null", new GeocodingResultAdapter().toJson(null));
+    }
+
+    private static GeocodingResult parse(String json) throws Exception {
+        return GeocodingRequest.parse(json.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)
+                .result;
+    }
+
+    private static String parseStatus(String json) throws Exception {
+        return GeocodingRequest.parse(json.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)
+                .status;
+    }
+}
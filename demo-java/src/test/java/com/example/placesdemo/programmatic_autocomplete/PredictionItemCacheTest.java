@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import android.graphics.Typeface;
+import android.text.style.StyleSpan;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Local unit tests for {@link PredictionItemCache}. {@link PlacePredictionAdapter} treats a reused
+ * item as an unchanged row, so these pin down when an item is reused and when it is rebuilt.
+ */
+public class PredictionItemCacheTest {
+
+    private final PredictionItemCache cache =
+            new PredictionItemCache(2, new StyleSpan(Typeface.BOLD));
+
+    @Test
+    public void getAll_unchangedPrediction_reusesItem() {
+        PredictionItem first = getOne(prediction("ChIJ1", "Pizzeria Locale", "Boulder, CO"));
+
+        PredictionItem second = getOne(prediction("ChIJ1", "Pizzeria Locale", "Boulder, CO"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void getAll_changedPrediction_rebuildsItem() {
+        PredictionItem first = getOne(prediction("ChIJ1", "Pizzeria Locale", "Boulder, CO"));
+
+        AutocompletePrediction moved = prediction("ChIJ1", "Pizzeria Locale", "Denver, CO");
+
+        PredictionItem second = getOne(moved);
+
+        assertNotSame(first, second);
+        assertSame(moved, second.prediction);
+        // The rebuilt item replaces the old one.
+        assertSame(second, getOne(prediction("ChIJ1", "Pizzeria Locale", "Denver, CO")));
+    }
+
+    @Test
+    public void getAll_keepsOrderOfPredictions() {
+        List<PredictionItem> items = cache.getAll(Arrays.asList(
+                prediction("ChIJ2", "Snooze", "Boulder, CO"),
+                prediction("ChIJ1", "Pizzeria Locale", "Boulder, CO")));
+
+        assertEquals("ChIJ2", items.get(0).getPlaceId());
+        assertEquals("ChIJ1", items.get(1).getPlaceId());
+    }
+
+    @Test
+    public void getAll_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        AutocompletePrediction first = prediction("ChIJ1", "Pizzeria Locale", "Boulder, CO");
+        AutocompletePrediction second = prediction("ChIJ2", "Snooze", "Boulder, CO");
+        PredictionItem firstItem = getOne(first);
+        PredictionItem secondItem = getOne(second);
+        // Reading the first place makes the second the least recently used.
+        getOne(first);
+
+        getOne(prediction("ChIJ3", "Frasca", "Boulder, CO"));
+
+        assertSame(firstItem, getOne(first));
+        assertNotSame(secondItem, getOne(second));
+    }
+
+    private PredictionItem getOne(AutocompletePrediction prediction) {
+        return cache.getAll(Collections.singletonList(prediction)).get(0);
+    }
+
+    private static AutocompletePrediction prediction(
+            String placeId, String primaryText, String secondaryText) {
+        return AutocompletePrediction.builder(placeId)
+                .setPrimaryText(primaryText)
+                .setSecondaryText(secondaryText)
+                .setFullText(primaryText + ", " + secondaryText)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** Local unit tests for {@link PredictionPrefixCache}. */
+public class PredictionPrefixCacheTest {
+
+    @Test
+    public void get_withoutAncestor_misses() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("pizza", predictions("Pizza Colore, Boulder, CO"));
+
+        assertNull(cache.get("star"));
+        assertNull(cache.get("piz"));
+    }
+
+    @Test
+    public void get_storedQuery_returnsStoredPredictions() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        List<AutocompletePrediction> stored =
+                predictions("Starbucks, Pearl Street, Boulder, CO", "Star Bar, Denver, CO");
+        cache.put("star", stored);
+
+        assertEquals(stored, cache.get("star"));
+    }
+
+    @Test
+    public void get_descendant_filtersAncestorPredictions() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("star", predictions(
+                "Starbucks, Pearl Street, Boulder, CO",
+                "Star Bar, Denver, CO",
+                "Stardust Lounge, Longmont, CO"));
+
+        assertEquals(Arrays.asList("Starbucks, Pearl Street, Boulder, CO"),
+                fullTexts(cache.get("starbu")));
+        assertEquals(Arrays.asList("Starbucks, Pearl Street, Boulder, CO", "Star Bar, Denver, CO"),
+                fullTexts(cache.get("star b")));
+    }
+
+    @Test
+    public void get_usesDeepestAncestor() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("s", predictions("Sunflower Farm, Longmont, CO", "Starbucks, Boulder, CO"));
+        cache.put("sta", predictions("Stadium Grill, Denver, CO"));
+
+        // "star" is filtered from the "sta" predictions only, so Starbucks is not found there
+        assertTrue(cache.get("star").isEmpty());
+    }
+
+    @Test
+    public void get_matchesWordPrefixesAnywhereInFullText() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("cafe", predictions(
+                "Cafe Aion, University Hill, Boulder, CO",
+                "Cafe Sole, Denver, CO",
+                "Cafeteria Nueva, Golden, CO"));
+
+        assertEquals(Arrays.asList("Cafe Aion, University Hill, Boulder, CO"),
+                fullTexts(cache.get("cafe boul")));
+        assertEquals(Arrays.asList("Cafe Sole, Denver, CO"), fullTexts(cache.get("cafe den")));
+    }
+
+    @Test
+    public void get_doesNotMatchInsideWords() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("s", predictions("Best Buy, Boulder, CO", "Stop Shop, Denver, CO"));
+
+        // "Best" contains "st", but only a word that starts with it matches
+        assertEquals(Arrays.asList("Stop Shop, Denver, CO"), fullTexts(cache.get("st")));
+    }
+
+    @Test
+    public void get_normalizesCaseAndPunctuation() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("Star", predictions("Star-Bar, Denver, CO", "Starbucks, Longmont, CO"));
+
+        assertEquals(Arrays.asList("Star-Bar, Denver, CO"), fullTexts(cache.get("STAR  b")));
+    }
+
+    @Test
+    public void get_completeAncestorWithoutMatches_answersEmpty() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("star", predictions("Starbucks, Boulder, CO", "Star Bar, Denver, CO"));
+
+        List<AutocompletePrediction> result = cache.get("starz");
+
+        // The server returned everything it had for "star", so nothing can match "starz" either
+        assertTrue(result.isEmpty());
+        assertEquals(1, cache.getAvoidedRequestCount());
+    }
+
+    @Test
+    public void get_fullAncestorWithoutMatches_misses() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("star", fullPage("Starbucks"));
+
+        // The list for "star" was truncated, so the server may know matches for "starz"
+        assertNull(cache.get("starz"));
+        assertEquals(0, cache.getAvoidedRequestCount());
+    }
+
+    @Test
+    public void get_fullAncestorWithMatches_hits() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("star", fullPage("Starbucks"));
+
+        assertEquals(PredictionPrefixCache.MAX_RESULTS_PER_REQUEST, cache.get("starb").size());
+    }
+
+    @Test
+    public void metrics_countLookupsAndAvoidedRequests() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        assertNull(cache.get("s"));
+        cache.put("s", predictions("Starbucks, Boulder, CO"));
+        cache.get("st");
+        cache.get("sta");
+        assertNull(cache.get("x"));
+
+        assertEquals(4, cache.getLookupCount());
+        assertEquals(2, cache.getAvoidedRequestCount());
+        assertEquals(0.5, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void clear_dropsPredictionsAndMetrics() {
+        PredictionPrefixCache cache = new PredictionPrefixCache();
+        cache.put("star", predictions("Starbucks, Boulder, CO"));
+        cache.get("starb");
+
+        cache.clear();
+
+        assertEquals(0, cache.getLookupCount());
+        assertEquals(0, cache.getAvoidedRequestCount());
+        assertNull(cache.get("starb"));
+    }
+
+    private static List<AutocompletePrediction> predictions(String... fullTexts) {
+        List<AutocompletePrediction> predictions = new ArrayList<>();
+        for (String fullText : fullTexts) {
+            int comma = fullText.indexOf(", ");
+            predictions.add(AutocompletePrediction.builder("id:" + fullText)
+                    .setPrimaryText(fullText.substring(0, comma))
+                    .setSecondaryText(fullText.substring(comma + 2))
+                    .setFullText(fullText)
+                    .build());
+        }
+        return predictions;
+    }
+
+    /** Returns as many predictions as one response can hold, all starting with {@code name}. */
+    private static List<AutocompletePrediction> fullPage(String name) {
+        String[] fullTexts = new String[PredictionPrefixCache.MAX_RESULTS_PER_REQUEST];
+        for (int i = 0; i < fullTexts.length; i++) {
+            fullTexts[i] = name + ", Store " + i + ", Boulder, CO";
+        }
+        return predictions(fullTexts);
+    }
+
+    private static List<String> fullTexts(List<AutocompletePrediction> predictions) {
+        List<String> fullTexts = new ArrayList<>();
+        for (AutocompletePrediction prediction : predictions) {
+            fullTexts.add(prediction.getFullText(null).toString());
+        }
+        return fullTexts;
+    }
+}
@@ -33,6 +33,13 @@ android {
         multiDexEnabled = true
     }
 
+    buildTypes {
+        // Installs next to demo-java's benchmark build, which has the same application ID.
+        getByName("benchmark") {
+            applicationIdSuffix = ".kotlin"
+        }
+    }
+
     buildFeatures {
         viewBinding = true
         buildConfig = true
@@ -50,6 +57,8 @@ android {
 }
 
 dependencies {
+    implementation(project(":debouncer"))
+
     implementation(libs.appcompat)
     implementation(libs.core.ktx)
     implementation(libs.material)
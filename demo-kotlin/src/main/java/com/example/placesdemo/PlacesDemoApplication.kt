@@ -16,12 +16,32 @@ package com.example.placesdemo
 
 import android.app.Application
 import android.widget.Toast
+import com.example.placesdemo.programmatic_autocomplete.GeocodingQueue
+import com.example.placesdemo.programmatic_autocomplete.GeocodingResultCache
 import com.google.android.libraries.places.api.Places
+import java.io.File
+import java.util.concurrent.TimeUnit
 
 class PlacesDemoApplication : Application() {
+
+    /** The [GeocodingQueue] shared by all activities in this app. */
+    lateinit var geocodingQueue: GeocodingQueue
+        private set
+
+    /** The [GeocodingResultCache] shared by all activities in this app. */
+    val geocodingResultCache =
+        GeocodingResultCache(GEOCODING_RESULT_CACHE_SIZE, GEOCODING_CACHE_TTL_MILLIS)
+
     override fun onCreate() {
         super.onCreate()
 
+        geocodingQueue = GeocodingQueue(
+            File(cacheDir, "geocoding"),
+            GEOCODING_DISK_CACHE_BYTES,
+            GEOCODING_THREAD_POOL_SIZE,
+            GEOCODING_CACHE_TTL_MILLIS
+        )
+
         val apiKey = BuildConfig.PLACES_API_KEY
         if (apiKey.isEmpty()) {
             Toast.makeText(this, getString(R.string.error_api_key), Toast.LENGTH_LONG).show()
@@ -30,4 +50,11 @@ class PlacesDemoApplication : Application() {
 
         Places.initializeWithNewPlacesApiEnabled(applicationContext, BuildConfig.PLACES_API_KEY)
     }
+
+    companion object {
+        private const val GEOCODING_DISK_CACHE_BYTES = 5 * 1024 * 1024
+        private const val GEOCODING_THREAD_POOL_SIZE = 2
+        private val GEOCODING_CACHE_TTL_MILLIS = TimeUnit.DAYS.toMillis(1)
+        private const val GEOCODING_RESULT_CACHE_SIZE = 100
+    }
 }
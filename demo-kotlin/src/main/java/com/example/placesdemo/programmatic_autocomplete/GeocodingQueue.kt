@@ -0,0 +1,157 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete
+
+import android.os.SystemClock
+import androidx.annotation.MainThread
+import androidx.lifecycle.Lifecycle
+import androidx.lifecycle.LifecycleEventObserver
+import androidx.lifecycle.LifecycleOwner
+import com.android.volley.Request
+import com.android.volley.RequestQueue
+import com.android.volley.toolbox.BasicNetwork
+import com.android.volley.toolbox.DiskBasedCache
+import com.android.volley.toolbox.HurlStack
+import java.io.File
+import java.util.IdentityHashMap
+import java.util.WeakHashMap
+
+/**
+ * An application-scoped Volley [RequestQueue] for Geocoding API requests.
+ *
+ * All activities share one set of network dispatcher threads and one size-bounded disk cache, in
+ * which [GeocodingRequest] keys responses by place ID. Requests added for a [LifecycleOwner] are
+ * cancelled when it is destroyed. The queue also tracks how many requests are in flight and how
+ * long they wait before a dispatcher picks them up.
+ *
+ * @param cacheDirectory directory of the shared disk cache.
+ * @param maxCacheBytes size of the disk cache before least recently used entries are evicted.
+ * @param threadPoolSize number of network dispatcher threads.
+ * @param cacheTtlMillis how long a geocoding result is served from the cache.
+ */
+class GeocodingQueue(
+    cacheDirectory: File,
+    maxCacheBytes: Int,
+    threadPoolSize: Int,
+    private val cacheTtlMillis: Long
+) {
+    private val queue = RequestQueue(
+        DiskBasedCache(cacheDirectory, maxCacheBytes),
+        BasicNetwork(HurlStack()),
+        threadPoolSize
+    )
+    private val observers = WeakHashMap<LifecycleOwner, LifecycleEventObserver>()
+    private val queuedAtMillis = IdentityHashMap<Request<*>, Long>()
+
+    private var totalWaitMillis = 0L
+    private var networkCount = 0L
+
+    /** The number of requests added and not yet finished. */
+    @get:Synchronized
+    var depth = 0
+        private set
+
+    @get:Synchronized
+    var maxDepth = 0
+        private set
+
+    @get:Synchronized
+    var requestCount = 0L
+        private set
+
+    /** How many requests were answered from the disk cache without the network. */
+    @get:Synchronized
+    var cacheHitCount = 0L
+        private set
+
+    @get:Synchronized
+    var maxWaitMillis = 0L
+        private set
+
+    /** The mean time requests that went to the network waited for a dispatcher, in milliseconds. */
+    val meanWaitMillis: Long
+        @Synchronized get() = if (networkCount == 0L) 0 else totalWaitMillis / networkCount
+
+    init {
+        queue.addRequestEventListener(::onRequestEvent)
+        queue.start()
+    }
+
+    /**
+     * Adds [request] at [priority]. It is cancelled, and its listeners are not called, once [owner]
+     * is destroyed.
+     */
+    @MainThread
+    fun add(owner: LifecycleOwner, request: GeocodingRequest, priority: Request.Priority) {
+        if (owner.lifecycle.currentState == Lifecycle.State.DESTROYED) {
+            return
+        }
+        if (!observers.containsKey(owner)) {
+            val observer = LifecycleEventObserver { source, event ->
+                if (event == Lifecycle.Event.ON_DESTROY) {
+                    observers.remove(source)
+                    queue.cancelAll(source)
+                }
+            }
+            observers[owner] = observer
+            owner.lifecycle.addObserver(observer)
+        }
+        request.setPriority(priority)
+        request.cacheTtlMillis = cacheTtlMillis
+        request.tag = owner
+        queue.add(request)
+    }
+
+    /** Cancels every request added for [owner]. */
+    fun cancelAll(owner: LifecycleOwner) = queue.cancelAll(owner)
+
+    /** Stops the dispatcher threads. Requests already added are not delivered. */
+    fun stop() = queue.stop()
+
+    private fun onRequestEvent(request: Request<*>, event: Int) {
+        val now = SystemClock.elapsedRealtime()
+        synchronized(this) {
+            when (event) {
+                RequestQueue.RequestEvent.REQUEST_QUEUED -> {
+                    queuedAtMillis[request] = now
+                    requestCount++
+                    depth++
+                    maxDepth = maxOf(maxDepth, depth)
+                }
+                RequestQueue.RequestEvent.REQUEST_NETWORK_DISPATCH_STARTED -> {
+                    queuedAtMillis.remove(request)?.let { queuedAt ->
+                        networkCount++
+                        val waitMillis = now - queuedAt
+                        totalWaitMillis += waitMillis
+                        maxWaitMillis = maxOf(maxWaitMillis, waitMillis)
+                    }
+                }
+                RequestQueue.RequestEvent.REQUEST_FINISHED -> {
+                    // A request that never reached a network dispatcher was answered by the
+                    // cache, unless it was cancelled first.
+                    if (queuedAtMillis.remove(request) != null && !request.isCanceled) {
+                        cacheHitCount++
+                    }
+                    depth--
+                }
+            }
+        }
+    }
+
+    @Synchronized
+    override fun toString(): String =
+        "GeocodingQueue{depth=$depth, maxDepth=$maxDepth, requests=$requestCount, " +
+            "cacheHits=$cacheHitCount, meanWaitMillis=$meanWaitMillis, maxWaitMillis=$maxWaitMillis}"
+}
@@ -0,0 +1,91 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete
+
+import com.android.volley.Cache
+import com.android.volley.NetworkResponse
+import com.android.volley.Response
+import com.android.volley.VolleyError
+import com.android.volley.toolbox.HttpHeaderParser
+import com.android.volley.toolbox.JsonObjectRequest
+import org.json.JSONObject
+
+/**
+ * A Geocoding API request whose response is cached by place ID rather than by URL, so the API key
+ * and other query parameters do not split the cache. `OK` responses are kept for at least
+ * [cacheTtlMillis] whatever the response headers say.
+ */
+class GeocodingRequest(
+    val placeId: String,
+    url: String,
+    listener: Response.Listener<JSONObject>,
+    errorListener: Response.ErrorListener?
+) : JsonObjectRequest(Method.GET, url, null, listener, errorListener) {
+
+    private var requestPriority = Priority.NORMAL
+
+    /** How long a response is served from the cache without going back to the network. */
+    var cacheTtlMillis = 0L
+
+    override fun getCacheKey(): String = "geocode:$placeId"
+
+    override fun getPriority(): Priority = requestPriority
+
+    fun setPriority(priority: Priority): GeocodingRequest {
+        requestPriority = priority
+        return this
+    }
+
+    /**
+     * Delivers `OK` responses, kept for at least [cacheTtlMillis], and `ZERO_RESULTS` responses,
+     * cached only as their headers allow. Any other status, such as `OVER_QUERY_LIMIT` or
+     * `REQUEST_DENIED`, arrives as HTTP 200 but is delivered as an error, so it is never cached.
+     */
+    override fun parseNetworkResponse(response: NetworkResponse): Response<JSONObject> {
+        val parsed = super.parseNetworkResponse(response)
+        if (!parsed.isSuccess) {
+            return parsed
+        }
+        return when (val status = parsed.result.optString("status")) {
+            STATUS_OK -> if (cacheTtlMillis <= 0) {
+                parsed
+            } else {
+                Response.success(parsed.result, cacheEntry(response, parsed.cacheEntry))
+            }
+            STATUS_ZERO_RESULTS -> parsed
+            else -> Response.error(VolleyError("Geocoding API status $status"))
+        }
+    }
+
+    /** Returns the cache entry for [response], fresh for at least [cacheTtlMillis]. */
+    private fun cacheEntry(response: NetworkResponse, parsed: Cache.Entry?): Cache.Entry {
+        val expiresAtMillis = System.currentTimeMillis() + cacheTtlMillis
+        // With no entry the server asked not to cache; geocoding results for a place ID rarely
+        // change.
+        val entry = parsed ?: Cache.Entry().apply {
+            data = response.data
+            responseHeaders = response.headers
+            allResponseHeaders = response.allHeaders
+        }
+        entry.softTtl = maxOf(entry.softTtl, expiresAtMillis)
+        entry.ttl = maxOf(entry.ttl, expiresAtMillis)
+        return entry
+    }
+
+    private companion object {
+        const val STATUS_OK = "OK"
+        const val STATUS_ZERO_RESULTS = "ZERO_RESULTS"
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.programmatic_autocomplete
+
+import android.os.SystemClock
+import android.util.LruCache
+import com.example.placesdemo.model.GeocodingResult
+
+/**
+ * A size-bounded, in-memory LRU cache of parsed Geocoding API results, keyed by place ID, so
+ * geocoding a place a second time costs a map lookup instead of a network round trip.
+ *
+ * @param maxEntries the maximum number of results to keep before evicting the least recently used.
+ * @param ttlMillis how long a result stays valid, in milliseconds.
+ */
+class GeocodingResultCache(maxEntries: Int, private val ttlMillis: Long) {
+
+    private class Entry(val result: GeocodingResult, val fetchedAtMillis: Long)
+
+    private val entries = LruCache<String, Entry>(maxEntries)
+
+    /** Returns the cached result for [placeId] if it is still fresh, or `null` otherwise. */
+    operator fun get(placeId: String): GeocodingResult? {
+        val entry = entries[placeId] ?: return null
+        if (SystemClock.elapsedRealtime() - entry.fetchedAtMillis > ttlMillis) {
+            entries.remove(placeId)
+            return null
+        }
+        return entry.result
+    }
+
+    fun put(placeId: String, result: GeocodingResult) {
+        entries.put(placeId, Entry(result, SystemClock.elapsedRealtime()))
+    }
+
+    override fun toString(): String =
+        "GeocodingResultCache{size=${entries.size()}, hits=${entries.hitCount()}, " +
+            "misses=${entries.missCount()}}"
+}
@@ -14,47 +14,106 @@
 
 package com.example.placesdemo.programmatic_autocomplete
 
+import android.os.Handler
+import android.os.Looper
+import android.text.style.CharacterStyle
 import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
 import android.widget.TextView
+import androidx.annotation.MainThread
+import androidx.recyclerview.widget.AsyncDifferConfig
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.ListAdapter
 import androidx.recyclerview.widget.RecyclerView
 import androidx.recyclerview.widget.RecyclerView.ViewHolder
 import com.example.placesdemo.R
 import com.example.placesdemo.programmatic_autocomplete.PlacePredictionAdapter.PlacePredictionViewHolder
 import com.google.android.libraries.places.api.model.AutocompletePrediction
-import java.util.*
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
 
 /**
  * A [RecyclerView.Adapter] for a [com.google.android.libraries.places.api.model.AutocompletePrediction].
+ *
+ * Each new list of predictions is turned into [PredictionItem]s, whose highlighted text is built
+ * once per place and cached, and then diffed against the current list, keyed by place ID. Both
+ * steps run on a background thread, and only the rows that changed are bound again. Work for a list
+ * that was replaced by a newer one before it finished is dropped. Rows also have stable IDs, so a
+ * prediction that survives from one keystroke to the next keeps its view holder.
+ *
+ * @param matchStyle the style applied to the parts of each prediction that match the query.
  */
-class PlacePredictionAdapter : RecyclerView.Adapter<PlacePredictionViewHolder>() {
-    private val predictions: MutableList<AutocompletePrediction> = ArrayList()
+class PlacePredictionAdapter(matchStyle: CharacterStyle) :
+    ListAdapter<PredictionItem, PlacePredictionViewHolder>(
+        AsyncDifferConfig.Builder(DIFF_CALLBACK)
+            .setBackgroundThreadExecutor(BACKGROUND_EXECUTOR)
+            .build()
+    ) {
+
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private val itemCache = PredictionItemCache(ITEM_CACHE_SIZE, matchStyle)
+    private var generation = 0
+
+    // Place IDs are strings, so stable IDs are handed out in order of first appearance. Only the
+    // places in the current list keep theirs; the counter never repeats an ID.
+    private val itemIds = HashMap<String, Long>()
+    private var nextItemId = 0L
+
     var onPlaceClickListener: ((AutocompletePrediction) -> Unit)? = null
 
+    init {
+        setHasStableIds(true)
+    }
+
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): PlacePredictionViewHolder {
         val inflater = LayoutInflater.from(parent.context)
-        return PlacePredictionViewHolder(
+        val holder = PlacePredictionViewHolder(
             inflater.inflate(R.layout.place_prediction_item, parent, false))
+        // Look the prediction up on click: a holder that was not bound again after a diff still
+        // shows the same place, but the list holds the latest prediction for it.
+        holder.itemView.setOnClickListener {
+            val position = holder.bindingAdapterPosition
+            if (position != RecyclerView.NO_POSITION) {
+                onPlaceClickListener?.invoke(getItem(position).prediction)
+            }
+        }
+        return holder
     }
 
     override fun onBindViewHolder(holder: PlacePredictionViewHolder, position: Int) {
-        val place = predictions[position]
-        holder.setPrediction(place)
-        holder.itemView.setOnClickListener {
-            onPlaceClickListener?.invoke(place)
-        }
+        holder.setPrediction(getItem(position))
     }
 
-    override fun getItemCount(): Int {
-        return predictions.size
+    override fun getItemId(position: Int): Long =
+        itemIds.getOrPut(getItem(position).placeId) { nextItemId++ }
+
+    override fun onCurrentListChanged(
+        previousList: List<PredictionItem>,
+        currentList: List<PredictionItem>
+    ) {
+        // Forget the IDs of places that left the list, so the map stays as small as the list.
+        val placeIds = currentList.mapTo(HashSet()) { it.placeId }
+        itemIds.keys.retainAll(placeIds)
     }
 
+    /**
+     * Shows [predictions]. Their text is built and diffed against the current list off the main
+     * thread, so the list shown changes once that completes.
+     */
+    @MainThread
     fun setPredictions(predictions: List<AutocompletePrediction>?) {
-        if (predictions != null) {
-            this.predictions.clear()
-            this.predictions.addAll(predictions)
-            notifyDataSetChanged()
+        if (predictions == null) {
+            return
+        }
+        val submitted = ++generation
+        BACKGROUND_EXECUTOR.execute {
+            val items = itemCache.getAll(predictions)
+            mainHandler.post {
+                if (submitted == generation) {
+                    submitList(items)
+                }
+            }
         }
     }
 
@@ -62,9 +121,30 @@ class PlacePredictionAdapter : RecyclerView.Adapter<PlacePredictionViewHolder>()
         private val title: TextView = itemView.findViewById(R.id.text_view_title)
         private val address: TextView = itemView.findViewById(R.id.text_view_address)
 
-        fun setPrediction(prediction: AutocompletePrediction) {
-            title.text = prediction.getPrimaryText(null)
-            address.text = prediction.getSecondaryText(null)
+        fun setPrediction(item: PredictionItem) {
+            title.text = item.primaryText
+            address.text = item.secondaryText
+        }
+    }
+
+    private companion object {
+        const val ITEM_CACHE_SIZE = 100
+
+        /** Shared by every adapter, like the default [AsyncDifferConfig] diff executor. */
+        val BACKGROUND_EXECUTOR: Executor = Executors.newSingleThreadExecutor()
+
+        val DIFF_CALLBACK = object : DiffUtil.ItemCallback<PredictionItem>() {
+            override fun areItemsTheSame(
+                oldItem: PredictionItem,
+                newItem: PredictionItem
+            ): Boolean = oldItem.placeId == newItem.placeId
+
+            // The item cache hands back the same instance until the text or its highlighting
+            // changes.
+            override fun areContentsTheSame(
+                oldItem: PredictionItem,
+                newItem: PredictionItem
+            ): Boolean = oldItem === newItem
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.example.placesdemo.programmatic_autocomplete
+
+import android.text.SpannedString
+import android.text.style.CharacterStyle
+import com.google.android.libraries.places.api.model.AutocompletePrediction
+
+/**
+ * The text of an [AutocompletePrediction] as it is shown in the prediction list, with the parts
+ * that match the query highlighted.
+ *
+ * The text is built once, off the main thread, by [PredictionItemCache]. It is held as
+ * [SpannedString], which [android.widget.TextView.setText] keeps without copying its spans, so
+ * binding a row allocates nothing.
+ */
+class PredictionItem internal constructor(
+    val prediction: AutocompletePrediction,
+    matchStyle: CharacterStyle
+) {
+    val primaryText: CharSequence = SpannedString(prediction.getPrimaryText(matchStyle))
+    val secondaryText: CharSequence = SpannedString(prediction.getSecondaryText(matchStyle))
+
+    val placeId: String
+        get() = prediction.placeId
+}
@@ -0,0 +1,63 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package com.example.placesdemo.programmatic_autocomplete
+
+import android.text.style.CharacterStyle
+import androidx.annotation.WorkerThread
+import com.google.android.libraries.places.api.model.AutocompletePrediction
+
+/**
+ * A size-bounded LRU cache of [PredictionItem]s, keyed by place ID.
+ *
+ * As the query grows, the same places keep coming back. An item is reused as long as its
+ * prediction is equal to the new one, which includes the matched parts of the text, so only places
+ * that are new or matched differently have their text and spans built again. Reusing the instance
+ * also lets the list diff see that the row has not changed.
+ *
+ * @param maxEntries the maximum number of places to keep before evicting the least recently used
+ * one.
+ * @param matchStyle the style applied to the parts of the text that match the query.
+ */
+internal class PredictionItemCache(
+    private val maxEntries: Int,
+    private val matchStyle: CharacterStyle
+) {
+    // An access-ordered LinkedHashMap keeps the least recently used entry at the head.
+    private val items = object : LinkedHashMap<String, PredictionItem>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, PredictionItem>) =
+            size > maxEntries
+    }
+
+    private var hitCount = 0L
+    private var missCount = 0L
+
+    /** Returns the items for [predictions], in order, building those not cached. */
+    @WorkerThread
+    @Synchronized
+    fun getAll(predictions: List<AutocompletePrediction>): List<PredictionItem> =
+        predictions.map { prediction ->
+            val cached = items[prediction.placeId]
+            if (cached != null && cached.prediction == prediction) {
+                hitCount++
+                cached
+            } else {
+                missCount++
+                PredictionItem(prediction, matchStyle).also { items[prediction.placeId] = it }
+            }
+        }
+
+    @Synchronized
+    override fun toString() =
+        "PredictionItemCache{size=${items.size}, hits=$hitCount, misses=$missCount}"
+}
@@ -16,11 +16,14 @@ package com.example.placesdemo.programmatic_autocomplete
 
 import com.google.android.material.search.SearchView
 import android.content.Context
+import android.graphics.Typeface
 import android.os.Bundle
 import android.os.Handler
 import android.os.Looper
+import android.os.SystemClock
 import android.text.Editable
 import android.text.TextWatcher
+import android.text.style.StyleSpan
 import android.util.Log
 import android.util.TypedValue
 import android.view.Menu
@@ -32,13 +35,12 @@ import androidx.appcompat.app.AlertDialog
 import androidx.recyclerview.widget.DividerItemDecoration
 import androidx.recyclerview.widget.LinearLayoutManager
 import com.android.volley.Request
-import com.android.volley.RequestQueue
-import com.android.volley.toolbox.JsonObjectRequest
-import com.android.volley.toolbox.Volley
 import com.example.placesdemo.BaseActivity
 import com.example.placesdemo.BuildConfig
+import com.example.placesdemo.PlacesDemoApplication
 import com.example.placesdemo.R
 import com.example.placesdemo.databinding.ActivityProgrammaticAutocompleteBinding
+import com.example.placesdemo.debouncer.AdaptiveDebouncer
 import com.example.placesdemo.model.GeocodingResult
 import com.google.android.gms.common.api.ApiException
 import com.google.android.gms.maps.model.LatLng
@@ -77,11 +79,13 @@ fun Context.getColorFromTheme(@AttrRes colorAttributeResId: Int): Int {
 class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
 
     private val handler = Handler(Looper.getMainLooper())
-    private val adapter = PlacePredictionAdapter()
+    private val adapter = PlacePredictionAdapter(StyleSpan(Typeface.BOLD))
+    private val debouncer = AdaptiveDebouncer()
     private val gson =
         GsonBuilder().registerTypeAdapter(LatLng::class.java, LatLngAdapter()).create()
 
-    private lateinit var queue: RequestQueue
+    private lateinit var queue: GeocodingQueue
+    private lateinit var geocodingCache: GeocodingResultCache
     private lateinit var placesClient: PlacesClient
     private var sessionToken: AutocompleteSessionToken? = null
     private lateinit var binding: ActivityProgrammaticAutocompleteBinding
@@ -105,12 +109,23 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
 
         // Initialize members
         placesClient = Places.createClient(this)
-        queue = Volley.newRequestQueue(this)
+        val app = application as PlacesDemoApplication
+        queue = app.geocodingQueue
+        geocodingCache = app.geocodingResultCache
         initRecyclerView()
 
         colorOnPrimary = this.getColorFromTheme(com.google.android.material.R.attr.colorOnPrimary)
     }
 
+    override fun onStop() {
+        super.onStop()
+        // Export the delay decisions so debounce policies can be compared offline. One line per
+        // log call, since logcat truncates long messages.
+        debouncer.dumpDecisions().lineSequence()
+            .filter { it.isNotEmpty() }
+            .forEach { Log.d(TAG, it) }
+    }
+
     override fun onCreateOptionsMenu(menu: Menu): Boolean {
         menuInflater.inflate(R.menu.menu, menu)
         val searchView =
@@ -141,12 +156,13 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
                 handler.removeCallbacksAndMessages(null)
 
 
-                // Start a new place prediction request after a 300ms delay
+                // Start a new place prediction request after a delay adapted to the typing speed
+                val delayMillis = debouncer.onQueryChanged(query, SystemClock.elapsedRealtime())
                 handler.postDelayed({
                         if (query.isNotEmpty()) binding.progressBar.visibility = View.VISIBLE
                         getPlacePredictions(query)
                     },
-                    300
+                    delayMillis
                 )
             }
 
@@ -196,8 +212,10 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
             .build()
 
         // Perform autocomplete predictions request
+        val requestStartMillis = SystemClock.elapsedRealtime()
         placesClient.findAutocompletePredictions(newRequest)
             .addOnSuccessListener { response ->
+                debouncer.recordLatency(SystemClock.elapsedRealtime() - requestStartMillis)
                 val predictions = response.autocompletePredictions
                 adapter.setPredictions(predictions)
                 binding.progressBar.visibility = View.INVISIBLE
@@ -218,13 +236,19 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
      * @see https://developers.google.com/places/android-sdk/autocomplete#get_place_predictions_programmatically
      */
     private fun geocodePlaceAndDisplay(placePrediction: AutocompletePrediction) {
+        // A place that was geocoded before is answered from memory without a network round trip
+        geocodingCache[placePrediction.placeId]?.let {
+            displayDialog(placePrediction, it)
+            return
+        }
+
         // Construct the request URL
         val apiKey = BuildConfig.PLACES_API_KEY
         val requestURL =
             "https://maps.googleapis.com/maps/api/geocode/json?place_id=${placePrediction.placeId}&key=$apiKey"
 
         // Use the HTTP request URL for Geocoding API to get geographic coordinates for the place
-        val request = JsonObjectRequest(Request.Method.GET, requestURL, null, { response ->
+        val request = GeocodingRequest(placePrediction.placeId, requestURL, { response ->
             try {
                 val status: String = response.getString("status")
                 if (status != "OK") {
@@ -235,12 +259,13 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
                 val results: JSONArray = response.getJSONArray("results")
                 if (results.length() == 0) {
                     Log.w(TAG, "No results from geocoding request.")
-                    return@JsonObjectRequest
+                    return@GeocodingRequest
                 }
 
                 // Use Gson to convert the response JSON object to a POJO
                 val result: GeocodingResult =
                     gson.fromJson(results.getString(0), GeocodingResult::class.java)
+                geocodingCache.put(placePrediction.placeId, result)
                 displayDialog(placePrediction, result)
             } catch (e: JSONException) {
                 e.printStackTrace()
@@ -249,8 +274,9 @@ class ProgrammaticAutocompleteGeocodingActivity : BaseActivity() {
             Log.e(TAG, "Request failed", error)
         })
 
-        // Add the request to the Request queue.
-        queue.add(request)
+        // Add the request to the shared queue. The user is waiting on it, so it goes ahead of any
+        // background work, and it is cancelled if this activity is destroyed first.
+        queue.add(this, request, Request.Priority.HIGH)
     }
 
     private fun displayDialog(place: AutocompletePrediction, result: GeocodingResult) {
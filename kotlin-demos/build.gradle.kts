@@ -31,6 +31,28 @@ android {
         versionCode = 1
         versionName = "1.0"
         multiDexEnabled = true
+
+        // Record Places traffic for the replay demo, for example
+        // ./gradlew :kotlin-demos:installDebug -PrecordPlacesTraffic=true
+        buildConfigField("boolean", "RECORD_PLACES_TRAFFIC",
+            (findProperty("recordPlacesTraffic") ?: "false").toString())
+
+        // Run against the :places-fixtures module instead of the Places API, for example
+        // ./gradlew :kotlin-demos:installDebug -PfakePlacesClient=true
+        buildConfigField("boolean", "FAKE_PLACES_CLIENT",
+            (findProperty("fakePlacesClient") ?: "false").toString())
+        buildConfigField("long", "FAKE_PLACES_LATENCY_MILLIS",
+            "${findProperty("fakePlacesLatencyMillis") ?: "150"}L")
+        buildConfigField("long", "FAKE_PLACES_JITTER_MILLIS",
+            "${findProperty("fakePlacesJitterMillis") ?: "50"}L")
+        buildConfigField("double", "FAKE_PLACES_FAILURE_RATE",
+            (findProperty("fakePlacesFailureRate") ?: "0").toString())
+    }
+
+    sourceSets {
+        // Debug and benchmark builds create the fake client from src/fake; release has a stub.
+        getByName("debug").java.srcDir("src/fake/java")
+        getByName("benchmark").java.srcDir("src/fake/java")
     }
 
     buildFeatures {
@@ -38,8 +60,20 @@ android {
         compose = true
     }
 
+    testOptions {
+        // Lets JVM tests call Log and SystemClock, which android.jar only stubs. Tests that need
+        // real framework values, such as Uri, run on Robolectric.
+        unitTests.isReturnDefaultValues = true
+    }
+
     buildTypes {
+        // Benchmarks run against the bundled fixtures, so network latency does not skew them.
+        getByName("benchmark") {
+            buildConfigField("boolean", "FAKE_PLACES_CLIENT", "true")
+        }
+        // Release builds leave the fixtures out, so they always use the Places API.
         release {
+            buildConfigField("boolean", "FAKE_PLACES_CLIENT", "false")
             isMinifyEnabled = false
             proguardFiles(getDefaultProguardFile("proguard-android-optimize.txt"), "proguard-rules.pro")
         }
@@ -60,6 +94,8 @@ demoApp {
 }
 
 dependencies {
+    implementation(project(":debouncer"))
+
     implementation(platform(libs.androidx.compose.bom))
 
     // Core Compose libraries
@@ -91,6 +127,13 @@ dependencies {
     implementation(libs.coil.compose)
 
     implementation(libs.places)
+    implementation(libs.kotlinx.coroutines.play.services)
+
+    debugImplementation(project(":places-fixtures"))
+    "benchmarkImplementation"(project(":places-fixtures"))
+
+    testImplementation(libs.junit)
+    testImplementation(libs.robolectric)
 }
 
 
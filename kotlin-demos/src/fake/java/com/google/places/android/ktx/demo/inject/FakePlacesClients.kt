@@ -0,0 +1,34 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo.inject
+
+import android.content.Context
+import com.example.placesdemo.fake.FakePlacesClient
+import com.example.placesdemo.fake.PlaceFixtures
+import com.google.android.libraries.places.api.net.PlacesClient
+import com.google.places.android.ktx.demo.BuildConfig
+
+/**
+ * Creates the [FakePlacesClient] for debug and benchmark builds, which include the
+ * `:places-fixtures` module. Release builds have a version of this function that throws instead.
+ */
+internal fun createFakePlacesClient(context: Context): PlacesClient =
+    FakePlacesClient(
+        PlaceFixtures.fromAssets(context.assets),
+        FakePlacesClient.Config()
+            .setLatencyMillis(BuildConfig.FAKE_PLACES_LATENCY_MILLIS)
+            .setJitterMillis(BuildConfig.FAKE_PLACES_JITTER_MILLIS)
+            .setFailureRate(BuildConfig.FAKE_PLACES_FAILURE_RATE)
+    )
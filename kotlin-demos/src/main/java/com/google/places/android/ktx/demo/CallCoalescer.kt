@@ -0,0 +1,60 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo
+
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.async
+
+/**
+ * Shares one in-flight call between concurrent callers that ask for the same key.
+ *
+ * The first caller for a key starts the call in [scope]; callers that arrive while it is still
+ * running await the same [Deferred] instead of starting their own. Because the call belongs to
+ * [scope] rather than to any caller, a cancelled caller stops waiting without cancelling the call
+ * for the others. Once the call completes, successfully or not, the key is forgotten, so later
+ * callers start a fresh call.
+ */
+internal class CallCoalescer(private val scope: CoroutineScope) {
+    private val inFlight = HashMap<Any, Deferred<Any>>()
+
+    /** The number of calls that were answered by an identical call already in flight. */
+    @Volatile
+    var collapsedCount: Long = 0
+        private set
+
+    /**
+     * Returns the result of the in-flight call for [key], or of a new one made with [block].
+     *
+     * @param key identifies calls that are interchangeable; must implement `equals` and `hashCode`.
+     */
+    @Suppress("UNCHECKED_CAST")
+    suspend fun <T : Any> coalesce(key: Any, block: suspend () -> T): T {
+        val deferred = synchronized(inFlight) {
+            inFlight[key]?.let {
+                collapsedCount++
+                it
+            } ?: scope.async { block() }.also { started ->
+                inFlight[key] = started
+                started.invokeOnCompletion {
+                    synchronized(inFlight) {
+                        if (inFlight[key] === started) inFlight.remove(key)
+                    }
+                }
+            }
+        }
+        return deferred.await() as T
+    }
+}
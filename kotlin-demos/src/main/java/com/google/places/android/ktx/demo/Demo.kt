@@ -16,6 +16,7 @@ package com.google.places.android.ktx.demo
 
 import android.app.Activity
 import androidx.annotation.StringRes
+import com.google.places.android.ktx.demo.replay.TrafficReplayActivity
 
 enum class Demo(
     @StringRes val title: Int,
@@ -36,5 +37,10 @@ enum class Demo(
         R.string.places_photo_demo_title,
         R.string.places_photo_demo_description,
         PlacesPhotoDemoActivity::class.java
+    ),
+    TRAFFIC_REPLAY_DEMO(
+        R.string.traffic_replay_demo_title,
+        R.string.traffic_replay_demo_description,
+        TrafficReplayActivity::class.java
     )
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.google.places.android.ktx.demo
 
 import android.app.Application
+import android.util.Log
 import com.google.android.libraries.places.api.Places
 import dagger.hilt.android.HiltAndroidApp
 
@@ -30,6 +31,16 @@ class DemoApplication : Application() {
         // See API Key Best Practices for more information on how to secure your API key:
         // https://developers.google.com/maps/api-key-best-practices
         // Initialize the Places SDK with the new API engine enabled
+        if (BuildConfig.FAKE_PLACES_CLIENT && BuildConfig.PLACES_API_KEY.isEmpty()) {
+            // The fake PlacesClient needs no key. The autocomplete widget still calls the API
+            // itself, so it only works if a key is configured as well.
+            Log.i(TAG, "Answering PlacesClient calls from the bundled fixtures")
+            return
+        }
         Places.initializeWithNewPlacesApiEnabled(this, BuildConfig.PLACES_API_KEY)
     }
+
+    private companion object {
+        const val TAG = "DemoApplication"
+    }
 }
@@ -0,0 +1,84 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo
+
+import android.net.Uri
+import android.os.SystemClock
+import com.google.android.libraries.places.api.model.PhotoMetadata
+
+/**
+ * Caches resolved photo URIs keyed by [PhotoMetadata] and requested dimensions, so that showing
+ * the same photo again goes straight to Coil, which usually has the image cached already.
+ *
+ * Resolved URIs stop working after a while: entries expire after [lifetimeMillis], and a URI that
+ * Coil fails to load should be dropped with [invalidate].
+ */
+class PhotoUriCache(
+    private val lifetimeMillis: Long,
+    private val clock: () -> Long,
+    private val fetch: suspend (PhotoMetadata, Int?, Int?) -> Uri?
+) {
+    /** Resolves misses through [coalescer], so concurrent misses for one photo share a call. */
+    constructor(coalescer: PlacesRequestCoalescer, lifetimeMillis: Long) : this(
+        lifetimeMillis,
+        SystemClock::elapsedRealtime,
+        { photoMetadata, maxWidth, maxHeight ->
+            coalescer.fetchResolvedPhotoUri(photoMetadata, maxWidth, maxHeight).uri
+        }
+    )
+
+    private class Entry(val uri: Uri, val expiresAtMillis: Long)
+
+    private val entries = object : LinkedHashMap<List<Any?>, Entry>(16, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<List<Any?>, Entry>) =
+            size > MAX_ENTRIES
+    }
+
+    /**
+     * Returns the resolved URI for [photoMetadata], from the cache when a fresh entry exists and
+     * from the Places API otherwise.
+     */
+    suspend fun resolve(
+        photoMetadata: PhotoMetadata,
+        maxWidth: Int? = null,
+        maxHeight: Int? = null
+    ): Uri? {
+        val key = listOf(photoMetadata, maxWidth, maxHeight)
+        synchronized(entries) {
+            val entry = entries[key]
+            if (entry != null && clock() < entry.expiresAtMillis) {
+                return entry.uri
+            }
+            entries.remove(key)
+        }
+
+        val uri = fetch(photoMetadata, maxWidth, maxHeight)
+        if (uri != null) {
+            synchronized(entries) {
+                entries[key] = Entry(uri, clock() + lifetimeMillis)
+            }
+        }
+        return uri
+    }
+
+    /** Drops every entry that resolved to [uri]. Returns whether one was removed. */
+    fun invalidate(uri: Uri): Boolean = synchronized(entries) {
+        entries.values.removeAll { it.uri == uri }
+    }
+
+    internal companion object {
+        const val MAX_ENTRIES = 64
+    }
+}
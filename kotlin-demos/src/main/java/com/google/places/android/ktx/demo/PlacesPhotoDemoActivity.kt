@@ -14,6 +14,7 @@
 
 package com.google.places.android.ktx.demo
 
+import android.net.Uri
 import android.os.Bundle
 import androidx.activity.ComponentActivity
 import androidx.activity.compose.setContent
@@ -149,7 +150,8 @@ fun PlacesPhotoScreen(
                     // When a photo is being fetched or displayed, show the PhotoDisplay.
                     PhotoDisplay(
                         state = photoState,
-                        onBackPressed = { viewModel.onSearchQueryChanged(searchQuery) }
+                        onBackPressed = { viewModel.onSearchQueryChanged(searchQuery) },
+                        onPhotoLoadFailed = viewModel::onPhotoLoadFailed
                     )
                 } else {
                     // Otherwise, show the interactive list of autocomplete predictions.
@@ -282,11 +284,13 @@ fun SearchResultsList(
  *
  * @param state The current [PhotoState] containing the URI, loading status, or error.
  * @param onBackPressed Callback to return to search results.
+ * @param onPhotoLoadFailed Callback when Coil cannot load the URI, e.g. because it expired.
  */
 @Composable
 fun PhotoDisplay(
     state: PhotoState,
-    onBackPressed: () -> Unit
+    onBackPressed: () -> Unit,
+    onPhotoLoadFailed: (Uri) -> Unit = {}
 ) {
     Column(
         modifier = Modifier
@@ -325,7 +329,8 @@ fun PhotoDisplay(
                     .fillMaxWidth()
                     .height(300.dp)
                     .background(Color.LightGray, MaterialTheme.shapes.medium),
-                contentScale = ContentScale.Crop
+                contentScale = ContentScale.Crop,
+                onError = { state.uri?.let(onPhotoLoadFailed) }
             )
 
             Button(onClick = onBackPressed, Modifier.padding(top = 24.dp)) {
@@ -15,9 +15,11 @@
 package com.google.places.android.ktx.demo
 
 import android.net.Uri
+import android.os.SystemClock
 import android.util.Log
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
+import com.example.placesdemo.debouncer.AdaptiveDebouncer
 import com.google.android.libraries.places.api.model.AutocompletePrediction
 import com.google.android.libraries.places.api.model.AutocompleteSessionToken
 import com.google.android.libraries.places.api.model.Place
@@ -74,7 +76,9 @@ data class PhotoState(
 @OptIn(ExperimentalCoroutinesApi::class, FlowPreview::class)
 @HiltViewModel
 class PlacesPhotoViewModel @Inject constructor(
-    private val placesClient: PlacesClient
+    private val placesClient: PlacesClient,
+    private val coalescer: PlacesRequestCoalescer,
+    private val photoUriCache: PhotoUriCache
 ) : ViewModel() {
 
     // Internal state for the search query, used to drive the searchResults flow.
@@ -83,18 +87,24 @@ class PlacesPhotoViewModel @Inject constructor(
     // An autocomplete session token used to group multiple requests into a single billing session.
     private var sessionToken: AutocompleteSessionToken? = null
 
+    // Picks the debounce delay from typing cadence and recent autocomplete latency.
+    private val debouncer = AdaptiveDebouncer()
+
     // State for the photo fetching phase.
     private val _photoState = MutableStateFlow(PhotoState())
     val photoState: StateFlow<PhotoState> = _photoState
 
+    // The metadata behind the photo on screen, kept to re-resolve it if its cached URI is stale.
+    private var displayedMetadata: PhotoMetadata? = null
+
     /**
      * A [StateFlow] exposing the search results based on the current query.
      *
-     * This flow uses [debounce] to avoid flooding the API while the user is typing,
-     * and [mapLatest] to ensure that if a new search starts, the previous one is cancelled.
+     * This flow uses [debounce] with an [AdaptiveDebouncer] delay to avoid flooding the API while
+     * the user is typing, and [mapLatest] to ensure that if a new search starts, the previous one is cancelled.
      */
     val searchResults: StateFlow<PhotoDemoEvent> = _searchQuery
-        .debounce(300)
+        .debounce { query -> debouncer.onQueryChanged(query, SystemClock.elapsedRealtime()) }
         .distinctUntilChanged()
         .mapLatest { query ->
             if (query.isBlank()) return@mapLatest PhotoDemoEventIdle
@@ -106,10 +116,12 @@ class PlacesPhotoViewModel @Inject constructor(
                 }
 
                 // Call the Places KTX suspending extension for autocomplete.
+                val requestStartMillis = SystemClock.elapsedRealtime()
                 val response = placesClient.awaitFindAutocompletePredictions {
                     sessionToken = this@PlacesPhotoViewModel.sessionToken
                     this.query = query
                 }
+                debouncer.recordLatency(SystemClock.elapsedRealtime() - requestStartMillis)
                 PhotoDemoEventResults(response.autocompletePredictions)
             } catch (e: Exception) {
                 // Standard coroutine cancellation must be propagated.
@@ -147,13 +159,13 @@ class PlacesPhotoViewModel @Inject constructor(
             try {
                 val currentToken = sessionToken
                 // 1. Fetch place details to get photo metadata.
-                // We request only the PHOTO_METADATAS field to minimize data usage.
-                val placeResponse = placesClient.awaitFetchPlace(
+                // We request only the PHOTO_METADATAS field to minimize data usage. Repeated taps
+                // on the same prediction share the request that is already in flight.
+                val placeResponse = coalescer.fetchPlace(
                     prediction.placeId,
-                    listOf(Place.Field.PHOTO_METADATAS)
-                ) {
-                    sessionToken = currentToken
-                }
+                    listOf(Place.Field.PHOTO_METADATAS),
+                    currentToken
+                )
 
                 val metadata = placeResponse.place.photoMetadatas?.firstOrNull()
                 if (metadata == null) {
@@ -163,10 +175,12 @@ class PlacesPhotoViewModel @Inject constructor(
 
                 // 2. Fetch the resolved photo URI using the new KTX extension.
                 // This API returns a Uri that can be directly used by image loading libraries like Coil.
-                val photoResponse = placesClient.awaitFetchResolvedPhotoUri(metadata)
-                _photoState.value = PhotoState(uri = photoResponse.uri)
+                // A photo shown before is resolved from the cache without a round trip.
+                val photoUri = photoUriCache.resolve(metadata)
+                displayedMetadata = metadata
+                _photoState.value = PhotoState(uri = photoUri)
 
-                Log.d("PlacesPhotoViewModel", "Successfully fetched photo URI: ${photoResponse.uri}")
+                Log.d("PlacesPhotoViewModel", "Successfully fetched photo URI: $photoUri")
             } catch (e: Exception) {
                 if (e is CancellationException) throw e
                 Log.e("PlacesPhotoViewModel", "Error fetching photo", e)
@@ -217,10 +231,11 @@ class PlacesPhotoViewModel @Inject constructor(
                 }
 
                 // Resolve the photo URI
-                val photoResponse = placesClient.awaitFetchResolvedPhotoUri(metadata)
-                _photoState.value = PhotoState(uri = photoResponse.uri)
+                val photoUri = photoUriCache.resolve(metadata)
+                displayedMetadata = metadata
+                _photoState.value = PhotoState(uri = photoUri)
                 
-                Log.d("PlacesPhotoViewModel", "Successfully found nearby place and fetched photo URI: ${photoResponse.uri}")
+                Log.d("PlacesPhotoViewModel", "Successfully found nearby place and fetched photo URI: $photoUri")
             } catch (e: Exception) {
                 if (e is CancellationException) throw e
                 Log.e("PlacesPhotoViewModel", "Error searching nearby", e)
@@ -228,4 +243,36 @@ class PlacesPhotoViewModel @Inject constructor(
             }
         }
     }
+
+    /**
+     * Called when the image loader could not load [uri]. The URI is dropped from the cache and,
+     * if it came from there, resolved once more in case it had simply expired.
+     */
+    fun onPhotoLoadFailed(uri: Uri) {
+        val metadata = displayedMetadata
+        displayedMetadata = null
+        if (!photoUriCache.invalidate(uri) || metadata == null) {
+            _photoState.value = PhotoState(error = "Failed to load photo.")
+            return
+        }
+        viewModelScope.launch {
+            _photoState.value = PhotoState(isLoading = true)
+            try {
+                _photoState.value = PhotoState(uri = photoUriCache.resolve(metadata))
+            } catch (e: Exception) {
+                if (e is CancellationException) throw e
+                Log.e("PlacesPhotoViewModel", "Error resolving photo again", e)
+                _photoState.value = PhotoState(error = "Failed to fetch photo: ${e.message}")
+            }
+        }
+    }
+
+    override fun onCleared() {
+        // Export the delay decisions so debounce policies can be compared offline. One line per
+        // log call, since logcat truncates long messages.
+        debouncer.dumpDecisions().lineSequence()
+            .filter { it.isNotEmpty() }
+            .forEach { Log.d("PlacesPhotoViewModel", it) }
+        Log.d("PlacesPhotoViewModel", "Requests joined to one in flight: ${coalescer.collapsedCount}")
+    }
 }
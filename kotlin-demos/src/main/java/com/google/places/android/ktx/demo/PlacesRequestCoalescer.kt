@@ -0,0 +1,111 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo
+
+import com.google.android.libraries.places.api.model.AutocompleteSessionToken
+import com.google.android.libraries.places.api.model.PhotoMetadata
+import com.google.android.libraries.places.api.model.Place
+import com.google.android.libraries.places.api.net.FetchPhotoRequest
+import com.google.android.libraries.places.api.net.FetchPhotoResponse
+import com.google.android.libraries.places.api.net.FetchPlaceResponse
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse
+import com.google.android.libraries.places.api.net.IsOpenRequest
+import com.google.android.libraries.places.api.net.IsOpenResponse
+import com.google.android.libraries.places.api.net.PlacesClient
+import com.google.android.libraries.places.api.net.kotlin.awaitFetchPlace
+import com.google.android.libraries.places.api.net.kotlin.awaitFetchResolvedPhotoUri
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.tasks.await
+import java.util.EnumSet
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * A single-flight layer around [PlacesClient]: concurrent identical requests share one call, so
+ * repeated taps on the same prediction cost one network call and every caller gets the same
+ * result.
+ *
+ * The shared call runs in this object's own scope and its request carries no cancellation token,
+ * so a caller that is cancelled (for example by [kotlinx.coroutines.flow.mapLatest] or a finished
+ * ViewModel) does not cancel the call for the other callers still waiting on it. Session tokens
+ * are not part of the comparison; the call is billed to the session of the caller that started it.
+ * It covers the same four calls as the Java demo's coalescer: fetchPlace, fetchPhoto,
+ * fetchResolvedPhotoUri and isOpen.
+ */
+@Singleton
+class PlacesRequestCoalescer internal constructor(
+    private val placesClient: PlacesClient,
+    scope: CoroutineScope
+) {
+    @Inject
+    constructor(placesClient: PlacesClient) :
+        this(placesClient, CoroutineScope(SupervisorJob() + Dispatchers.Main.immediate))
+
+    private val calls = CallCoalescer(scope)
+
+    /** The number of calls that were answered by an identical call already in flight. */
+    val collapsedCount: Long
+        get() = calls.collapsedCount
+
+    /**
+     * Fetches a place, sharing the call with identical ones in flight. There is deliberately no
+     * cancellation token parameter: cancelling the shared call would cancel it for every caller.
+     */
+    suspend fun fetchPlace(
+        placeId: String,
+        placeFields: List<Place.Field>,
+        sessionToken: AutocompleteSessionToken? = null
+    ): FetchPlaceResponse {
+        val fields = EnumSet.noneOf(Place.Field::class.java).apply { addAll(placeFields) }
+        return calls.coalesce(listOf("fetchPlace", placeId, fields)) {
+            placesClient.awaitFetchPlace(placeId, placeFields) {
+                this.sessionToken = sessionToken
+            }
+        }
+    }
+
+    suspend fun fetchPhoto(
+        photoMetadata: PhotoMetadata,
+        maxWidth: Int? = null,
+        maxHeight: Int? = null
+    ): FetchPhotoResponse =
+        calls.coalesce(listOf("fetchPhoto", photoMetadata, maxWidth, maxHeight)) {
+            val request = FetchPhotoRequest.builder(photoMetadata)
+                .setMaxWidth(maxWidth)
+                .setMaxHeight(maxHeight)
+                .build()
+            placesClient.fetchPhoto(request).await()
+        }
+
+    suspend fun fetchResolvedPhotoUri(
+        photoMetadata: PhotoMetadata,
+        maxWidth: Int? = null,
+        maxHeight: Int? = null
+    ): FetchResolvedPhotoUriResponse =
+        calls.coalesce(listOf("fetchResolvedPhotoUri", photoMetadata, maxWidth, maxHeight)) {
+            placesClient.awaitFetchResolvedPhotoUri(photoMetadata) {
+                maxWidth?.let { setMaxWidth(it) }
+                maxHeight?.let { setMaxHeight(it) }
+            }
+        }
+
+    /** Asks whether the place with [placeId] is open at [utcTimeMillis]. */
+    suspend fun isOpen(placeId: String, utcTimeMillis: Long): IsOpenResponse =
+        calls.coalesce(listOf("isOpen", placeId, utcTimeMillis)) {
+            placesClient.isOpen(IsOpenRequest.newInstance(placeId, utcTimeMillis)).await()
+        }
+}
@@ -14,9 +14,11 @@
 
 package com.google.places.android.ktx.demo
 
+import android.os.SystemClock
 import android.util.Log
 import androidx.lifecycle.ViewModel
 import androidx.lifecycle.viewModelScope
+import com.example.placesdemo.debouncer.AdaptiveDebouncer
 import com.google.android.gms.maps.model.LatLng
 import com.google.android.libraries.places.api.model.AutocompletePrediction
 import com.google.android.libraries.places.api.model.AutocompleteSessionToken
@@ -25,7 +27,6 @@ import com.google.android.libraries.places.api.model.Place
 import com.google.android.libraries.places.api.model.PlaceTypes
 import com.google.android.libraries.places.api.model.RectangularBounds
 import com.google.android.libraries.places.api.net.PlacesClient
-import com.google.android.libraries.places.api.net.kotlin.awaitFetchPlace
 import com.google.android.libraries.places.api.net.kotlin.awaitFindAutocompletePredictions
 import dagger.hilt.android.lifecycle.HiltViewModel
 import kotlinx.coroutines.ExperimentalCoroutinesApi
@@ -44,19 +45,21 @@ import javax.inject.Inject
 @OptIn(ExperimentalCoroutinesApi::class, FlowPreview::class)
 @HiltViewModel
 class PlacesSearchViewModel @Inject constructor(
-    private val placesClient: PlacesClient
+    private val placesClient: PlacesClient,
+    private val coalescer: PlacesRequestCoalescer
 ) : ViewModel() {
 
     private val _searchQuery = MutableStateFlow("")
     private var sessionToken: AutocompleteSessionToken? = null
+    private val debouncer = AdaptiveDebouncer()
 
     /**
      * Exposes a StateFlow of [PlacesSearchEvent] based on the current search query.
-     * Uses [debounce(300)] to strike a balance between real-time feedback and
-     * minimizing redundant network calls (and costs) while the user is typing.
+     * Uses [debounce] with an [AdaptiveDebouncer] delay to strike a balance between real-time
+     * feedback and minimizing redundant network calls (and costs) while the user is typing.
      */
     val searchEvents: StateFlow<PlacesSearchEvent> = _searchQuery
-        .debounce(300)
+        .debounce { query -> debouncer.onQueryChanged(query, SystemClock.elapsedRealtime()) }
         .distinctUntilChanged()
         .mapLatest { query ->
             if (query.isBlank()) {
@@ -75,6 +78,7 @@ class PlacesSearchViewModel @Inject constructor(
                 }
 
                 // Using the official SDK-provided awaitFindAutocompletePredictions extension
+                val requestStartMillis = SystemClock.elapsedRealtime()
                 val response = placesClient.awaitFindAutocompletePredictions {
                     locationBias = bias
                     typesFilter = listOf(PlaceTypes.ESTABLISHMENT)
@@ -82,6 +86,7 @@ class PlacesSearchViewModel @Inject constructor(
                     this.query = query
                     countries = listOf("US")
                 }
+                debouncer.recordLatency(SystemClock.elapsedRealtime() - requestStartMillis)
 
                 PlacesSearchEventFound(response.autocompletePredictions)
             } catch (e: Exception) {
@@ -106,18 +111,18 @@ class PlacesSearchViewModel @Inject constructor(
         viewModelScope.launch {
             try {
                 val currentToken = sessionToken
-                // Using the official SDK-provided awaitFetchPlace extension
-                val response = placesClient.awaitFetchPlace(
+                // Uses the SDK-provided awaitFetchPlace extension, shared with any identical
+                // request already in flight
+                val response = coalescer.fetchPlace(
                     prediction.placeId,
                     listOf(
                         Place.Field.DISPLAY_NAME,
                         Place.Field.FORMATTED_ADDRESS,
                         Place.Field.LOCATION,
                         Place.Field.BUSINESS_STATUS
-                    )
-                ) {
-                    sessionToken = currentToken
-                }
+                    ),
+                    currentToken
+                )
 
                 Log.d("PlacesSearchViewModel", "Got place ${response.place}")
             } catch (e: Exception) {
@@ -134,4 +139,13 @@ class PlacesSearchViewModel @Inject constructor(
     fun clearTransientError() {
         _transientError.value = null
     }
+
+    override fun onCleared() {
+        // Export the delay decisions so debounce policies can be compared offline. One line per
+        // log call, since logcat truncates long messages.
+        debouncer.dumpDecisions().lineSequence()
+            .filter { it.isNotEmpty() }
+            .forEach { Log.d("PlacesSearchViewModel", it) }
+        Log.d("PlacesSearchViewModel", "Requests joined to one in flight: ${coalescer.collapsedCount}")
+    }
 }
\ No newline at end of file
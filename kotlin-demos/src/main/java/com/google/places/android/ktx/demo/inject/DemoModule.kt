@@ -17,11 +17,17 @@ package com.google.places.android.ktx.demo.inject
 import android.content.Context
 import com.google.android.libraries.places.api.Places
 import com.google.android.libraries.places.api.net.PlacesClient
+import com.google.places.android.ktx.demo.BuildConfig
+import com.google.places.android.ktx.demo.PhotoUriCache
+import com.google.places.android.ktx.demo.PlacesRequestCoalescer
+import com.google.places.android.ktx.demo.replay.RecordingPlacesClient
+import com.google.places.android.ktx.demo.replay.TrafficLog
 import dagger.Module
 import dagger.Provides
 import dagger.hilt.InstallIn
 import dagger.hilt.android.qualifiers.ApplicationContext
 import dagger.hilt.components.SingletonComponent
+import java.util.concurrent.TimeUnit
 import javax.inject.Singleton
 
 @Module
@@ -30,6 +36,22 @@ object DemoModule {
 
     @Singleton
     @Provides
-    fun providePlacesClient(@ApplicationContext context: Context): PlacesClient =
-        Places.createClient(context)
+    fun providePlacesClient(@ApplicationContext context: Context): PlacesClient {
+        val placesClient = if (BuildConfig.FAKE_PLACES_CLIENT) {
+            // Answers from the bundled fixtures, so the search and photo demos run offline.
+            createFakePlacesClient(context)
+        } else {
+            Places.createClient(context)
+        }
+        if (!BuildConfig.RECORD_PLACES_TRAFFIC) {
+            return placesClient
+        }
+        return RecordingPlacesClient(placesClient, TrafficLog.newWriter(context))
+    }
+
+    // Resolved photo URIs are short-lived, so they are reused for a few minutes only.
+    @Singleton
+    @Provides
+    fun providePhotoUriCache(coalescer: PlacesRequestCoalescer): PhotoUriCache =
+        PhotoUriCache(coalescer, TimeUnit.MINUTES.toMillis(10))
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.os.SystemClock
+import android.util.Log
+import com.google.android.gms.common.api.ApiException
+import com.google.android.gms.common.api.CommonStatusCodes
+import com.google.android.gms.tasks.Task
+import com.google.android.libraries.places.api.model.AutocompleteSessionToken
+import com.google.android.libraries.places.api.model.PhotoMetadata
+import com.google.android.libraries.places.api.model.Place
+import com.google.android.libraries.places.api.net.FetchPlaceRequest
+import com.google.android.libraries.places.api.net.FetchPlaceResponse
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriRequest
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse
+import com.google.android.libraries.places.api.net.PlacesClient
+import java.io.IOException
+import java.util.IdentityHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+
+/**
+ * A [PlacesClient] that records the autocomplete, place details and photo URI calls made through
+ * it, with their timings and results, to a [TrafficLog.Writer]. Other calls go straight to
+ * [delegate] unrecorded.
+ *
+ * Events are written on a background thread when the call completes, so recording adds no I/O to
+ * the thread the results are delivered on.
+ */
+class RecordingPlacesClient(
+    private val delegate: PlacesClient,
+    private val writer: TrafficLog.Writer
+) : PlacesClient by delegate {
+
+    private val startMillis = SystemClock.elapsedRealtime()
+    private val writeExecutor = Executors.newSingleThreadExecutor()
+    private val sessionIds = IdentityHashMap<AutocompleteSessionToken, Int>()
+
+    override fun findAutocompletePredictions(
+        request: FindAutocompletePredictionsRequest
+    ): Task<FindAutocompletePredictionsResponse> {
+        val atMillis = elapsedMillis()
+        val sessionId = sessionId(request.sessionToken)
+        return record(delegate.findAutocompletePredictions(request)) { latency, status, response ->
+            AutocompleteEvent(
+                atMillis, latency, status,
+                query = request.query.orEmpty(),
+                sessionId = sessionId,
+                predictions = response?.autocompletePredictions.orEmpty().map {
+                    RecordedPrediction(
+                        it.placeId,
+                        it.getPrimaryText(null).toString(),
+                        it.getSecondaryText(null).toString()
+                    )
+                }
+            )
+        }
+    }
+
+    override fun fetchPlace(request: FetchPlaceRequest): Task<FetchPlaceResponse> {
+        val atMillis = elapsedMillis()
+        val sessionId = sessionId(request.sessionToken)
+        return record(delegate.fetchPlace(request)) { latency, status, response ->
+            FetchPlaceEvent(
+                atMillis, latency, status,
+                placeId = request.placeId,
+                fields = request.placeFields.toList(),
+                sessionId = sessionId,
+                place = response?.place?.let(::recordedPlace)
+            )
+        }
+    }
+
+    override fun fetchResolvedPhotoUri(
+        request: FetchResolvedPhotoUriRequest
+    ): Task<FetchResolvedPhotoUriResponse> {
+        val atMillis = elapsedMillis()
+        return record(delegate.fetchResolvedPhotoUri(request)) { latency, status, response ->
+            ResolvePhotoEvent(
+                atMillis, latency, status,
+                photo = recordedPhoto(request.photoMetadata),
+                maxWidth = request.maxWidth,
+                maxHeight = request.maxHeight,
+                uri = response?.uri?.toString()
+            )
+        }
+    }
+
+    /** Finishes the recording. Calls already completed are still written. */
+    fun close() {
+        writeExecutor.execute {
+            try {
+                writer.close()
+            } catch (e: IOException) {
+                Log.w(TAG, "Failed to close traffic recording", e)
+            }
+        }
+        writeExecutor.shutdown()
+    }
+
+    private fun <T> record(
+        task: Task<T>,
+        event: (latencyMillis: Long, statusCode: Int, response: T?) -> TrafficEvent
+    ): Task<T> {
+        val startedAtMillis = SystemClock.elapsedRealtime()
+        task.addOnCompleteListener(DIRECT_EXECUTOR) {
+            val latencyMillis = SystemClock.elapsedRealtime() - startedAtMillis
+            val recorded = if (it.isSuccessful) {
+                event(latencyMillis, TrafficEvent.STATUS_OK, it.result)
+            } else {
+                event(latencyMillis, statusCode(it), null)
+            }
+            writeExecutor.execute {
+                try {
+                    writer.write(recorded)
+                } catch (e: IOException) {
+                    Log.w(TAG, "Failed to record ${recorded.kind}", e)
+                }
+            }
+        }
+        return task
+    }
+
+    private fun elapsedMillis() = SystemClock.elapsedRealtime() - startMillis
+
+    /** Numbers session tokens in the order they are first seen; 0 means no token. */
+    private fun sessionId(token: AutocompleteSessionToken?): Int {
+        if (token == null) return 0
+        return synchronized(sessionIds) { sessionIds.getOrPut(token) { sessionIds.size + 1 } }
+    }
+
+    private companion object {
+        const val TAG = "RecordingPlacesClient"
+        val DIRECT_EXECUTOR = Executor { it.run() }
+
+        fun statusCode(task: Task<*>): Int = when (val exception = task.exception) {
+            null -> CommonStatusCodes.CANCELED
+            is ApiException -> exception.statusCode
+            else -> TrafficEvent.STATUS_OTHER
+        }
+
+        fun recordedPlace(place: Place) = RecordedPlace(
+            id = place.id,
+            displayName = place.displayName,
+            formattedAddress = place.formattedAddress,
+            latitude = place.location?.latitude,
+            longitude = place.location?.longitude,
+            businessStatus = place.businessStatus?.name,
+            photos = place.photoMetadatas?.map(::recordedPhoto)
+        )
+
+        fun recordedPhoto(photo: PhotoMetadata) = RecordedPhoto(
+            reference = photo.photoReference,
+            width = photo.width,
+            height = photo.height,
+            attributions = photo.attributions
+        )
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.net.Uri
+import com.google.android.gms.common.api.ApiException
+import com.google.android.gms.common.api.Status
+import com.google.android.gms.maps.model.LatLng
+import com.google.android.gms.tasks.Task
+import com.google.android.gms.tasks.TaskCompletionSource
+import com.google.android.libraries.places.api.model.AutocompletePrediction
+import com.google.android.libraries.places.api.model.PhotoMetadata
+import com.google.android.libraries.places.api.model.Place
+import com.google.android.libraries.places.api.net.FetchPlaceRequest
+import com.google.android.libraries.places.api.net.FetchPlaceResponse
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriRequest
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse
+import com.google.android.libraries.places.api.net.PlacesClient
+import com.google.android.libraries.places.api.net.PlacesStatusCodes
+import java.lang.reflect.Proxy
+import java.util.EnumMap
+import java.util.EnumSet
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * A [PlacesClient] that answers autocomplete, place details and photo URI calls with the outcomes
+ * in a recording, after the recorded latency scaled to [speed]. It stands in for the Places API
+ * when a recording is replayed, and counts how many calls reach it: the requests that would have
+ * gone to the network.
+ *
+ * Calls are matched to a recorded outcome by query, by place ID and fields, or by photo and size.
+ * A call with no recorded outcome fails with [PlacesStatusCodes.NOT_FOUND] and is counted in
+ * [unmatchedCount]. Every other [PlacesClient] method throws [UnsupportedOperationException].
+ */
+class ReplayPlacesClient(
+    events: List<TrafficEvent>,
+    private val speed: ReplaySpeed
+) : PlacesClient by unsupportedClient() {
+
+    private val predictions = HashMap<String, AutocompleteEvent>()
+    private val places = HashMap<Pair<String, Set<Place.Field>>, FetchPlaceEvent>()
+    private val photoUris = HashMap<Triple<String, Int?, Int?>, ResolvePhotoEvent>()
+
+    private val requestCounts = EnumMap<TrafficKind, AtomicLong>(TrafficKind::class.java)
+    private val unmatched = AtomicLong()
+    private val executor = Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "ReplayPlacesClient").apply { isDaemon = true }
+    }
+
+    init {
+        // The first outcome of identical calls is kept, like a response the app could reuse.
+        for (event in events) {
+            when (event) {
+                is AutocompleteEvent -> predictions.putIfAbsent(event.query, event)
+                is FetchPlaceEvent ->
+                    places.putIfAbsent(event.placeId to fieldSet(event.fields), event)
+                is ResolvePhotoEvent -> photoUris.putIfAbsent(
+                    Triple(event.photo.reference, event.maxWidth, event.maxHeight), event
+                )
+            }
+        }
+        TrafficKind.entries.forEach { requestCounts[it] = AtomicLong() }
+    }
+
+    /** Returns how many [kind] calls reached this client. */
+    fun requestCount(kind: TrafficKind): Long = requestCounts.getValue(kind).get()
+
+    /** Returns how many calls had no recorded outcome. */
+    val unmatchedCount: Long
+        get() = unmatched.get()
+
+    override fun findAutocompletePredictions(
+        request: FindAutocompletePredictionsRequest
+    ): Task<FindAutocompletePredictionsResponse> =
+        answer(TrafficKind.AUTOCOMPLETE, predictions[request.query.orEmpty()]) { event ->
+            FindAutocompletePredictionsResponse.newInstance(event.predictions.map {
+                AutocompletePrediction.builder(it.placeId)
+                    .setPrimaryText(it.primaryText)
+                    .setSecondaryText(it.secondaryText)
+                    .setFullText("${it.primaryText}, ${it.secondaryText}")
+                    .build()
+            })
+        }
+
+    override fun fetchPlace(request: FetchPlaceRequest): Task<FetchPlaceResponse> =
+        answer(TrafficKind.FETCH_PLACE, places[request.placeId to fieldSet(request.placeFields)]) {
+            FetchPlaceResponse.newInstance(place(checkNotNull(it.place)))
+        }
+
+    override fun fetchResolvedPhotoUri(
+        request: FetchResolvedPhotoUriRequest
+    ): Task<FetchResolvedPhotoUriResponse> {
+        val key = Triple(request.photoMetadata.photoReference, request.maxWidth, request.maxHeight)
+        return answer(TrafficKind.RESOLVE_PHOTO, photoUris[key]) { event ->
+            FetchResolvedPhotoUriResponse.newInstance(event.uri?.let(Uri::parse))
+        }
+    }
+
+    /** Stops answering calls. Calls still waiting for their latency never complete. */
+    fun shutdown() {
+        executor.shutdownNow()
+    }
+
+    private fun <E : TrafficEvent, T> answer(
+        kind: TrafficKind,
+        event: E?,
+        response: (E) -> T
+    ): Task<T> {
+        requestCounts.getValue(kind).incrementAndGet()
+        val source = TaskCompletionSource<T>()
+        if (event == null) {
+            unmatched.incrementAndGet()
+            source.setException(
+                ApiException(Status(PlacesStatusCodes.NOT_FOUND, "No recorded $kind outcome"))
+            )
+            return source.task
+        }
+        val complete = Runnable {
+            if (event.statusCode == TrafficEvent.STATUS_OK) {
+                source.setResult(response(event))
+            } else {
+                source.setException(ApiException(Status(event.statusCode)))
+            }
+        }
+        val delayMillis = speed.scale(event.latencyMillis)
+        if (delayMillis > 0) {
+            executor.schedule(complete, delayMillis, TimeUnit.MILLISECONDS)
+        } else {
+            executor.execute(complete)
+        }
+        return source.task
+    }
+
+    private companion object {
+        fun fieldSet(fields: List<Place.Field>): Set<Place.Field> =
+            EnumSet.noneOf(Place.Field::class.java).apply { addAll(fields) }
+
+        fun place(recorded: RecordedPlace): Place = Place.builder()
+            .setId(recorded.id)
+            .setDisplayName(recorded.displayName)
+            .setFormattedAddress(recorded.formattedAddress)
+            .setLocation(recorded.latitude?.let { latitude ->
+                recorded.longitude?.let { LatLng(latitude, it) }
+            })
+            .setBusinessStatus(recorded.businessStatus?.let { Place.BusinessStatus.valueOf(it) })
+            .setPhotoMetadatas(recorded.photos?.map { it.toPhotoMetadata() })
+            .build()
+
+        fun unsupportedClient(): PlacesClient = Proxy.newProxyInstance(
+            PlacesClient::class.java.classLoader,
+            arrayOf(PlacesClient::class.java)
+        ) { _, method, _ ->
+            throw UnsupportedOperationException("${method.name} is not recorded")
+        } as PlacesClient
+    }
+}
+
+/** Returns the [PhotoMetadata] this photo was recorded from. */
+internal fun RecordedPhoto.toPhotoMetadata(): PhotoMetadata =
+    PhotoMetadata.builder(reference)
+        .setWidth(width)
+        .setHeight(height)
+        .setAttributions(attributions)
+        .build()
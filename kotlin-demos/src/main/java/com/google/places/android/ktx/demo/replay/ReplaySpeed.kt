@@ -0,0 +1,29 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+/**
+ * How fast a recording is replayed. Gaps between calls and the recorded latency of each call are
+ * divided by [factor]; at [MAX] every call is issued at once and answered without waiting.
+ */
+enum class ReplaySpeed(val factor: Double) {
+    REALTIME(1.0),
+    FAST(10.0),
+    MAX(Double.POSITIVE_INFINITY);
+
+    /** Returns [millis] of recorded time scaled to this speed. */
+    fun scale(millis: Long): Long = (millis / factor).toLong()
+}
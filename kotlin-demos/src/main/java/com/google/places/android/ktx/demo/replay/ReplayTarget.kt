@@ -0,0 +1,114 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import com.google.android.libraries.places.api.model.AutocompleteSessionToken
+import com.google.android.libraries.places.api.model.PhotoMetadata
+import com.google.android.libraries.places.api.model.Place
+import com.google.android.libraries.places.api.net.PlacesClient
+import com.google.android.libraries.places.api.net.kotlin.awaitFetchPlace
+import com.google.android.libraries.places.api.net.kotlin.awaitFetchResolvedPhotoUri
+import com.google.android.libraries.places.api.net.kotlin.awaitFindAutocompletePredictions
+import com.google.places.android.ktx.demo.PhotoUriCache
+import com.google.places.android.ktx.demo.PlacesRequestCoalescer
+import java.util.concurrent.TimeUnit
+
+/** The code a recording is replayed through, issuing its calls to a [PlacesClient]. */
+interface ReplayTarget {
+    val name: String
+
+    suspend fun findAutocompletePredictions(query: String, sessionToken: AutocompleteSessionToken?)
+
+    suspend fun fetchPlace(
+        placeId: String,
+        placeFields: List<Place.Field>,
+        sessionToken: AutocompleteSessionToken?
+    )
+
+    suspend fun fetchResolvedPhotoUri(photoMetadata: PhotoMetadata, maxWidth: Int?, maxHeight: Int?)
+}
+
+/** Calls the [PlacesClient] directly, so every call is a request: the baseline. */
+class DirectReplayTarget(private val placesClient: PlacesClient) : ReplayTarget {
+    override val name = "direct"
+
+    override suspend fun findAutocompletePredictions(
+        query: String,
+        sessionToken: AutocompleteSessionToken?
+    ) {
+        placesClient.awaitFindAutocompletePredictions {
+            this.query = query
+            this.sessionToken = sessionToken
+        }
+    }
+
+    override suspend fun fetchPlace(
+        placeId: String,
+        placeFields: List<Place.Field>,
+        sessionToken: AutocompleteSessionToken?
+    ) {
+        placesClient.awaitFetchPlace(placeId, placeFields) { this.sessionToken = sessionToken }
+    }
+
+    override suspend fun fetchResolvedPhotoUri(
+        photoMetadata: PhotoMetadata,
+        maxWidth: Int?,
+        maxHeight: Int?
+    ) {
+        placesClient.awaitFetchResolvedPhotoUri(photoMetadata) {
+            maxWidth?.let { setMaxWidth(it) }
+            maxHeight?.let { setMaxHeight(it) }
+        }
+    }
+}
+
+/**
+ * Makes calls the way the demos do: place details through a [PlacesRequestCoalescer] and photo
+ * URIs through a [PhotoUriCache] configured as in
+ * [com.google.places.android.ktx.demo.inject.DemoModule]. Autocomplete calls go to the client.
+ */
+class AppReplayTarget(private val placesClient: PlacesClient) : ReplayTarget {
+    override val name = "app"
+
+    private val coalescer = PlacesRequestCoalescer(placesClient)
+    private val photoUriCache = PhotoUriCache(coalescer, TimeUnit.MINUTES.toMillis(10))
+
+    override suspend fun findAutocompletePredictions(
+        query: String,
+        sessionToken: AutocompleteSessionToken?
+    ) {
+        placesClient.awaitFindAutocompletePredictions {
+            this.query = query
+            this.sessionToken = sessionToken
+        }
+    }
+
+    override suspend fun fetchPlace(
+        placeId: String,
+        placeFields: List<Place.Field>,
+        sessionToken: AutocompleteSessionToken?
+    ) {
+        coalescer.fetchPlace(placeId, placeFields, sessionToken)
+    }
+
+    override suspend fun fetchResolvedPhotoUri(
+        photoMetadata: PhotoMetadata,
+        maxWidth: Int?,
+        maxHeight: Int?
+    ) {
+        photoUriCache.resolve(photoMetadata, maxWidth, maxHeight)
+    }
+}
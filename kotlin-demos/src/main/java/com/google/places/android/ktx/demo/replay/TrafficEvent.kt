@@ -0,0 +1,106 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import com.google.android.libraries.places.api.model.Place
+
+/**
+ * One recorded Places call: when it started, relative to the start of the recording, how long it
+ * took, and what it returned. A [statusCode] of [STATUS_OK] means it succeeded; anything else is
+ * the `ApiException` status code it failed with, or [STATUS_OTHER].
+ */
+sealed interface TrafficEvent {
+    val kind: TrafficKind
+    val atMillis: Long
+    val latencyMillis: Long
+    val statusCode: Int
+
+    companion object {
+        const val STATUS_OK = 0
+        const val STATUS_OTHER = -1
+    }
+}
+
+enum class TrafficKind {
+    AUTOCOMPLETE,
+    FETCH_PLACE,
+    RESOLVE_PHOTO
+}
+
+/**
+ * An autocomplete request for [query]. Requests with the same non-zero [sessionId] shared an
+ * autocomplete session token.
+ */
+data class AutocompleteEvent(
+    override val atMillis: Long,
+    override val latencyMillis: Long,
+    override val statusCode: Int,
+    val query: String,
+    val sessionId: Int,
+    val predictions: List<RecordedPrediction>
+) : TrafficEvent {
+    override val kind get() = TrafficKind.AUTOCOMPLETE
+}
+
+/** A place details request, as sent when a prediction is clicked. */
+data class FetchPlaceEvent(
+    override val atMillis: Long,
+    override val latencyMillis: Long,
+    override val statusCode: Int,
+    val placeId: String,
+    val fields: List<Place.Field>,
+    val sessionId: Int,
+    val place: RecordedPlace?
+) : TrafficEvent {
+    override val kind get() = TrafficKind.FETCH_PLACE
+}
+
+/** A photo URI resolve request. */
+data class ResolvePhotoEvent(
+    override val atMillis: Long,
+    override val latencyMillis: Long,
+    override val statusCode: Int,
+    val photo: RecordedPhoto,
+    val maxWidth: Int?,
+    val maxHeight: Int?,
+    val uri: String?
+) : TrafficEvent {
+    override val kind get() = TrafficKind.RESOLVE_PHOTO
+}
+
+data class RecordedPrediction(
+    val placeId: String,
+    val primaryText: String,
+    val secondaryText: String
+)
+
+/** The fields of a fetched place that the demos read; fields not requested are `null`. */
+data class RecordedPlace(
+    val id: String?,
+    val displayName: String?,
+    val formattedAddress: String?,
+    val latitude: Double?,
+    val longitude: Double?,
+    val businessStatus: String?,
+    val photos: List<RecordedPhoto>?
+)
+
+data class RecordedPhoto(
+    val reference: String,
+    val width: Int,
+    val height: Int,
+    val attributions: String
+)
@@ -0,0 +1,325 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.content.Context
+import com.google.android.libraries.places.api.model.Place
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.Closeable
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.EOFException
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+
+/**
+ * The on-disk format of a traffic recording: a four-byte header, then one record per
+ * [TrafficEvent] in the order the calls completed.
+ *
+ * Records are small because everything repeats: numbers are varints, start times are deltas from
+ * the previous record, and every string, such as a place ID, a query or a field name, is written
+ * in full once and then referred to by its index. A keystroke that returns five known predictions
+ * takes about twenty bytes.
+ *
+ * Field names are written rather than ordinals, and a name this build of the Places SDK does not
+ * know is skipped on read, so recordings can be replayed across SDK versions.
+ */
+object TrafficLog {
+
+    private val MAGIC = byteArrayOf('P'.code.toByte(), 'T'.code.toByte(), 'L'.code.toByte())
+    private const val VERSION: Byte = 1
+    private const val EXTENSION = ".pltr"
+
+    private const val KIND_AUTOCOMPLETE = 1
+    private const val KIND_FETCH_PLACE = 2
+    private const val KIND_RESOLVE_PHOTO = 3
+
+    // String references: 0 is null, 1 is a new string that follows, n is the (n - 2)th string.
+    private const val STRING_NULL = 0
+    private const val STRING_NEW = 1
+
+    private val FIELDS_BY_NAME = Place.Field.entries.associateBy { it.name }
+
+    /** Reads every event of the recording in [file], ordered by start time. */
+    fun read(file: File): List<TrafficEvent> =
+        BufferedInputStream(FileInputStream(file)).use { read(it) }
+
+    /**
+     * Reads every event from [input], ordered by start time. A record cut short, as the last one
+     * is if the app was killed while writing, ends the recording.
+     */
+    fun read(input: InputStream): List<TrafficEvent> {
+        val data = DataInputStream(input)
+        val header = ByteArray(MAGIC.size)
+        data.readFully(header)
+        if (!header.contentEquals(MAGIC)) throw IOException("Not a traffic recording")
+        val version = data.readByte()
+        if (version != VERSION) throw IOException("Unsupported recording version $version")
+
+        val reader = Reader(data)
+        val events = ArrayList<TrafficEvent>()
+        try {
+            while (true) {
+                val kind = data.read()
+                if (kind < 0) break
+                events += reader.readEvent(kind)
+            }
+        } catch (_: EOFException) {
+            // A truncated last record.
+        }
+        return events.sortedBy { it.atMillis }
+    }
+
+    /** Returns the directory recordings of this app are kept in. */
+    fun directory(context: Context): File = File(context.filesDir, "traffic")
+
+    /** Returns the recordings in [directory], newest first. */
+    fun list(context: Context): List<File> =
+        directory(context).listFiles { file -> file.name.endsWith(EXTENSION) }
+            ?.sortedByDescending { it.lastModified() }
+            .orEmpty()
+
+    /** Starts a new recording in [directory], named after the current time. */
+    fun newWriter(context: Context): Writer =
+        newWriter(File(directory(context), "${System.currentTimeMillis()}$EXTENSION"))
+
+    /** Starts a recording in [file], replacing any previous one. */
+    fun newWriter(file: File): Writer {
+        file.parentFile?.mkdirs()
+        return Writer(BufferedOutputStream(FileOutputStream(file)))
+    }
+
+    /** Appends events to a recording. It is safe to call from any thread. */
+    class Writer(output: OutputStream) : Closeable {
+        private val out = DataOutputStream(output)
+        private val strings = HashMap<String, Int>()
+        private var previousAtMillis = 0L
+
+        init {
+            out.write(MAGIC)
+            out.writeByte(VERSION.toInt())
+        }
+
+        @Synchronized
+        @Throws(IOException::class)
+        fun write(event: TrafficEvent) {
+            when (event) {
+                is AutocompleteEvent -> out.writeByte(KIND_AUTOCOMPLETE)
+                is FetchPlaceEvent -> out.writeByte(KIND_FETCH_PLACE)
+                is ResolvePhotoEvent -> out.writeByte(KIND_RESOLVE_PHOTO)
+            }
+            writeSignedVarint(event.atMillis - previousAtMillis)
+            previousAtMillis = event.atMillis
+            writeVarint(event.latencyMillis)
+            writeSignedVarint(event.statusCode.toLong())
+            when (event) {
+                is AutocompleteEvent -> {
+                    writeString(event.query)
+                    writeVarint(event.sessionId.toLong())
+                    writeVarint(event.predictions.size.toLong())
+                    for (prediction in event.predictions) {
+                        writeString(prediction.placeId)
+                        writeString(prediction.primaryText)
+                        writeString(prediction.secondaryText)
+                    }
+                }
+                is FetchPlaceEvent -> {
+                    writeString(event.placeId)
+                    writeVarint(event.fields.size.toLong())
+                    event.fields.forEach { writeString(it.name) }
+                    writeVarint(event.sessionId.toLong())
+                    writePlace(event.place)
+                }
+                is ResolvePhotoEvent -> {
+                    writePhoto(event.photo)
+                    writeOptionalInt(event.maxWidth)
+                    writeOptionalInt(event.maxHeight)
+                    writeString(event.uri)
+                }
+            }
+            // Flushed per event so a recording survives the process being killed.
+            out.flush()
+        }
+
+        private fun writePlace(place: RecordedPlace?) {
+            if (place == null) {
+                out.writeByte(0)
+                return
+            }
+            val latitude = place.latitude
+            val longitude = place.longitude
+            val hasLocation = latitude != null && longitude != null
+            out.writeByte(if (hasLocation) 2 else 1)
+            writeString(place.id)
+            writeString(place.displayName)
+            writeString(place.formattedAddress)
+            if (latitude != null && longitude != null) {
+                out.writeDouble(latitude)
+                out.writeDouble(longitude)
+            }
+            writeString(place.businessStatus)
+            writeVarint(place.photos?.let { it.size + 1L } ?: 0L)
+            place.photos?.forEach { writePhoto(it) }
+        }
+
+        private fun writePhoto(photo: RecordedPhoto) {
+            writeString(photo.reference)
+            writeVarint(photo.width.toLong())
+            writeVarint(photo.height.toLong())
+            writeString(photo.attributions)
+        }
+
+        private fun writeOptionalInt(value: Int?) = writeVarint(value?.let { it + 1L } ?: 0L)
+
+        private fun writeString(value: String?) {
+            if (value == null) {
+                writeVarint(STRING_NULL.toLong())
+                return
+            }
+            val index = strings[value]
+            if (index != null) {
+                writeVarint(index + 2L)
+                return
+            }
+            strings[value] = strings.size
+            writeVarint(STRING_NEW.toLong())
+            val bytes = value.toByteArray(Charsets.UTF_8)
+            writeVarint(bytes.size.toLong())
+            out.write(bytes)
+        }
+
+        private fun writeSignedVarint(value: Long) = writeVarint((value shl 1) xor (value shr 63))
+
+        private fun writeVarint(value: Long) {
+            var remaining = value
+            while (remaining and 0x7FL.inv() != 0L) {
+                out.writeByte(((remaining and 0x7F) or 0x80).toInt())
+                remaining = remaining ushr 7
+            }
+            out.writeByte(remaining.toInt())
+        }
+
+        @Synchronized
+        override fun close() = out.close()
+    }
+
+    private class Reader(private val input: DataInputStream) {
+        private val strings = ArrayList<String>()
+        private var previousAtMillis = 0L
+
+        fun readEvent(kind: Int): TrafficEvent {
+            val atMillis = previousAtMillis + readSignedVarint()
+            previousAtMillis = atMillis
+            val latencyMillis = readVarint()
+            val statusCode = readSignedVarint().toInt()
+            return when (kind) {
+                KIND_AUTOCOMPLETE -> AutocompleteEvent(
+                    atMillis, latencyMillis, statusCode,
+                    query = readRequiredString("query"),
+                    sessionId = readVarint().toInt(),
+                    predictions = List(readVarint().toInt()) {
+                        RecordedPrediction(
+                            readRequiredString("prediction place ID"),
+                            readRequiredString("prediction primary text"),
+                            readRequiredString("prediction secondary text")
+                        )
+                    }
+                )
+                KIND_FETCH_PLACE -> FetchPlaceEvent(
+                    atMillis, latencyMillis, statusCode,
+                    placeId = readRequiredString("place ID"),
+                    fields = readFields(),
+                    sessionId = readVarint().toInt(),
+                    place = readPlace()
+                )
+                KIND_RESOLVE_PHOTO -> ResolvePhotoEvent(
+                    atMillis, latencyMillis, statusCode,
+                    photo = readPhoto(),
+                    maxWidth = readOptionalInt(),
+                    maxHeight = readOptionalInt(),
+                    uri = readString()
+                )
+                else -> throw IOException("Unknown record kind $kind")
+            }
+        }
+
+        private fun readPlace(): RecordedPlace? {
+            val flags = input.readUnsignedByte()
+            if (flags == 0) return null
+            val id = readString()
+            val displayName = readString()
+            val formattedAddress = readString()
+            val latitude = if (flags == 2) input.readDouble() else null
+            val longitude = if (flags == 2) input.readDouble() else null
+            val businessStatus = readString()
+            val photoCount = readVarint().toInt()
+            val photos = if (photoCount == 0) null else List(photoCount - 1) { readPhoto() }
+            return RecordedPlace(
+                id, displayName, formattedAddress, latitude, longitude, businessStatus, photos
+            )
+        }
+
+        /** Reads the requested field names, dropping any this SDK version does not know. */
+        private fun readFields(): List<Place.Field> =
+            List(readVarint().toInt()) { readRequiredString("field name") }
+                .mapNotNull { FIELDS_BY_NAME[it] }
+
+        private fun readPhoto() = RecordedPhoto(
+            reference = readRequiredString("photo reference"),
+            width = readVarint().toInt(),
+            height = readVarint().toInt(),
+            attributions = readString() ?: ""
+        )
+
+        private fun readOptionalInt(): Int? =
+            readVarint().toInt().let { if (it == 0) null else it - 1 }
+
+        private fun readString(): String? {
+            return when (val ref = readVarint().toInt()) {
+                STRING_NULL -> null
+                STRING_NEW -> {
+                    val bytes = ByteArray(readVarint().toInt())
+                    input.readFully(bytes)
+                    String(bytes, Charsets.UTF_8).also { strings += it }
+                }
+                else -> strings.getOrNull(ref - 2)
+                    ?: throw IOException("Bad string reference $ref")
+            }
+        }
+
+        private fun readRequiredString(what: String): String =
+            readString() ?: throw IOException("Corrupt recording: missing $what")
+
+        private fun readSignedVarint(): Long = readVarint().let { (it ushr 1) xor -(it and 1) }
+
+        private fun readVarint(): Long {
+            var result = 0L
+            var shift = 0
+            while (shift < 64) {
+                val b = input.readUnsignedByte()
+                result = result or ((b and 0x7F).toLong() shl shift)
+                if (b and 0x80 == 0) return result
+                shift += 7
+            }
+            throw IOException("Malformed varint")
+        }
+    }
+}
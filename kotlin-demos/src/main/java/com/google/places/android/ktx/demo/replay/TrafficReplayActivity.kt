@@ -0,0 +1,154 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.os.Bundle
+import androidx.activity.ComponentActivity
+import androidx.activity.compose.setContent
+import androidx.activity.viewModels
+import androidx.compose.foundation.layout.Arrangement
+import androidx.compose.foundation.layout.Column
+import androidx.compose.foundation.layout.Row
+import androidx.compose.foundation.layout.fillMaxSize
+import androidx.compose.foundation.layout.fillMaxWidth
+import androidx.compose.foundation.layout.padding
+import androidx.compose.foundation.lazy.LazyColumn
+import androidx.compose.foundation.lazy.items
+import androidx.compose.material.icons.Icons
+import androidx.compose.material.icons.automirrored.filled.ArrowBack
+import androidx.compose.material.icons.filled.Refresh
+import androidx.compose.material3.Card
+import androidx.compose.material3.ExperimentalMaterial3Api
+import androidx.compose.material3.Icon
+import androidx.compose.material3.IconButton
+import androidx.compose.material3.MaterialTheme
+import androidx.compose.material3.OutlinedButton
+import androidx.compose.material3.Scaffold
+import androidx.compose.material3.Text
+import androidx.compose.material3.TopAppBar
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.getValue
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.res.stringResource
+import androidx.compose.ui.text.font.FontFamily
+import androidx.compose.ui.unit.dp
+import androidx.lifecycle.compose.collectAsStateWithLifecycle
+import com.google.places.android.ktx.demo.R
+import com.google.places.android.ktx.demo.ui.DemoTheme
+import dagger.hilt.android.AndroidEntryPoint
+import java.io.File
+
+/**
+ * Lists the traffic recordings on the device and replays them at 1x, 10x or full speed, showing
+ * for each the requests the app's coalescing and caching avoided and the latency callers saw.
+ */
+@AndroidEntryPoint
+class TrafficReplayActivity : ComponentActivity() {
+
+    private val viewModel: TrafficReplayViewModel by viewModels()
+
+    override fun onCreate(savedInstanceState: Bundle?) {
+        super.onCreate(savedInstanceState)
+        setContent {
+            DemoTheme {
+                TrafficReplayScreen(viewModel = viewModel, onBackPressed = { finish() })
+            }
+        }
+    }
+}
+
+@OptIn(ExperimentalMaterial3Api::class)
+@Composable
+fun TrafficReplayScreen(viewModel: TrafficReplayViewModel, onBackPressed: () -> Unit) {
+    val state by viewModel.state.collectAsStateWithLifecycle()
+
+    Scaffold(
+        topBar = {
+            TopAppBar(
+                title = { Text(stringResource(R.string.traffic_replay_demo_title)) },
+                navigationIcon = {
+                    IconButton(onClick = onBackPressed) {
+                        Icon(Icons.AutoMirrored.Filled.ArrowBack, contentDescription = "Back")
+                    }
+                },
+                actions = {
+                    IconButton(onClick = viewModel::refresh) {
+                        Icon(Icons.Default.Refresh, contentDescription = "Refresh")
+                    }
+                }
+            )
+        }
+    ) { padding ->
+        LazyColumn(
+            modifier = Modifier
+                .fillMaxSize()
+                .padding(padding),
+            verticalArrangement = Arrangement.spacedBy(8.dp)
+        ) {
+            item {
+                val status = state.running?.let { "Replaying $it..." }
+                    ?: state.error
+                    ?: if (state.recordings.isEmpty()) {
+                        "No recordings. Install with -PrecordPlacesTraffic=true and use the " +
+                            "search and photo demos to record some."
+                    } else {
+                        null
+                    }
+                status?.let { Text(it, modifier = Modifier.padding(16.dp)) }
+            }
+            items(state.reports) { report ->
+                Text(
+                    report.toString(),
+                    modifier = Modifier.padding(horizontal = 16.dp),
+                    fontFamily = FontFamily.Monospace,
+                    style = MaterialTheme.typography.bodySmall
+                )
+            }
+            items(state.recordings) { recording ->
+                RecordingCard(
+                    recording = recording,
+                    enabled = state.running == null,
+                    onReplay = { speed -> viewModel.replay(recording, speed) }
+                )
+            }
+        }
+    }
+}
+
+@Composable
+private fun RecordingCard(recording: File, enabled: Boolean, onReplay: (ReplaySpeed) -> Unit) {
+    Card(
+        modifier = Modifier
+            .fillMaxWidth()
+            .padding(horizontal = 16.dp)
+    ) {
+        Column(Modifier.padding(16.dp)) {
+            Text(recording.name, style = MaterialTheme.typography.titleMedium)
+            Text("${recording.length()} bytes", style = MaterialTheme.typography.bodySmall)
+            Row(horizontalArrangement = Arrangement.spacedBy(8.dp)) {
+                OutlinedButton(onClick = { onReplay(ReplaySpeed.REALTIME) }, enabled = enabled) {
+                    Text("1x")
+                }
+                OutlinedButton(onClick = { onReplay(ReplaySpeed.FAST) }, enabled = enabled) {
+                    Text("10x")
+                }
+                OutlinedButton(onClick = { onReplay(ReplaySpeed.MAX) }, enabled = enabled) {
+                    Text("Max")
+                }
+            }
+        }
+    }
+}
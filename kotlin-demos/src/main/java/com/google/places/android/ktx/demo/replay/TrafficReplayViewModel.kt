@@ -0,0 +1,82 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.content.Context
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import dagger.hilt.android.lifecycle.HiltViewModel
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.update
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withContext
+import java.io.File
+import java.io.IOException
+import javax.inject.Inject
+
+data class TrafficReplayState(
+    val recordings: List<File> = emptyList(),
+    val running: String? = null,
+    val reports: List<ReplayReport> = emptyList(),
+    val error: String? = null
+)
+
+/**
+ * Replays a recording made with `-PrecordPlacesTraffic=true` through the demos' request path and,
+ * as a baseline, straight to the client.
+ */
+@HiltViewModel
+class TrafficReplayViewModel @Inject constructor(
+    @ApplicationContext private val context: Context
+) : ViewModel() {
+
+    private val _state = MutableStateFlow(TrafficReplayState())
+    val state: StateFlow<TrafficReplayState> = _state
+    private var replayJob: Job? = null
+
+    init {
+        refresh()
+    }
+
+    fun refresh() {
+        viewModelScope.launch {
+            val recordings = withContext(Dispatchers.IO) { TrafficLog.list(context) }
+            _state.update { it.copy(recordings = recordings) }
+        }
+    }
+
+    fun replay(recording: File, speed: ReplaySpeed) {
+        replayJob?.cancel()
+        _state.update { it.copy(running = "${recording.name} at $speed", reports = emptyList()) }
+        replayJob = viewModelScope.launch {
+            try {
+                val events = withContext(Dispatchers.IO) { TrafficLog.read(recording) }
+                val replayer = TrafficReplayer(events)
+                val reports = listOf(
+                    replayer.replay(speed, ::DirectReplayTarget),
+                    replayer.replay(speed, ::AppReplayTarget)
+                )
+                _state.update { it.copy(running = null, reports = reports, error = null) }
+            } catch (e: IOException) {
+                _state.update { it.copy(running = null, error = e.message) }
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.google.places.android.ktx.demo.replay
+
+import android.os.SystemClock
+import com.google.android.libraries.places.api.model.AutocompleteSessionToken
+import com.google.android.libraries.places.api.net.PlacesClient
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.delay
+import java.util.Locale
+
+/**
+ * Replays a recording through a [ReplayTarget] backed by a [ReplayPlacesClient], issuing each call
+ * at its recorded time scaled to the [ReplaySpeed], and reports how many of them reached the
+ * client and how long callers waited.
+ */
+class TrafficReplayer(private val events: List<TrafficEvent>) {
+
+    /**
+     * Replays the recording through the target [createTarget] returns for the replay client. The
+     * target's coroutines run in the caller's context.
+     */
+    suspend fun replay(
+        speed: ReplaySpeed,
+        createTarget: (PlacesClient) -> ReplayTarget
+    ): ReplayReport = coroutineScope {
+        val client = ReplayPlacesClient(events, speed)
+        val target = createTarget(client)
+        val sessionTokens = HashMap<Int, AutocompleteSessionToken>()
+        val startMillis = SystemClock.elapsedRealtime()
+
+        val outcomes = events.map { event ->
+            val elapsedMillis = SystemClock.elapsedRealtime() - startMillis
+            val waitMillis = speed.scale(event.atMillis) - elapsedMillis
+            if (waitMillis > 0) delay(waitMillis)
+            val sessionToken = sessionToken(sessionTokens, event)
+            async { call(target, event, sessionToken) }
+        }.awaitAll()
+        val durationMillis = SystemClock.elapsedRealtime() - startMillis
+        client.shutdown()
+
+        ReplayReport(
+            targetName = target.name,
+            speed = speed,
+            durationMillis = durationMillis,
+            kinds = TrafficKind.entries.associateWith { kind ->
+                val ofKind = outcomes.filter { it.kind == kind }
+                KindReport(
+                    calls = ofKind.size,
+                    requests = client.requestCount(kind),
+                    errors = ofKind.count { !it.succeeded },
+                    latencyMicros = ofKind.map { it.latencyMicros }.sorted()
+                )
+            },
+            unmatchedCount = client.unmatchedCount
+        )
+    }
+
+    private class Outcome(val kind: TrafficKind, val latencyMicros: Long, val succeeded: Boolean)
+
+    private suspend fun call(
+        target: ReplayTarget,
+        event: TrafficEvent,
+        sessionToken: AutocompleteSessionToken?
+    ): Outcome {
+        val startNanos = System.nanoTime()
+        val succeeded = try {
+            when (event) {
+                is AutocompleteEvent ->
+                    target.findAutocompletePredictions(event.query, sessionToken)
+                is FetchPlaceEvent ->
+                    target.fetchPlace(event.placeId, event.fields, sessionToken)
+                is ResolvePhotoEvent -> target.fetchResolvedPhotoUri(
+                    event.photo.toPhotoMetadata(), event.maxWidth, event.maxHeight
+                )
+            }
+            true
+        } catch (e: Exception) {
+            if (e is CancellationException) throw e
+            false
+        }
+        return Outcome(event.kind, (System.nanoTime() - startNanos) / 1000, succeeded)
+    }
+
+    /** Returns one new token for each recorded session, so replayed calls share them likewise. */
+    private fun sessionToken(
+        tokens: MutableMap<Int, AutocompleteSessionToken>,
+        event: TrafficEvent
+    ): AutocompleteSessionToken? {
+        val sessionId = when (event) {
+            is AutocompleteEvent -> event.sessionId
+            is FetchPlaceEvent -> event.sessionId
+            is ResolvePhotoEvent -> 0
+        }
+        if (sessionId == 0) return null
+        return tokens.getOrPut(sessionId) { AutocompleteSessionToken.newInstance() }
+    }
+}
+
+/** The result of one replay. */
+data class ReplayReport(
+    val targetName: String,
+    val speed: ReplaySpeed,
+    val durationMillis: Long,
+    val kinds: Map<TrafficKind, KindReport>,
+    val unmatchedCount: Long
+) {
+    override fun toString(): String = buildString {
+        append("$targetName at $speed: ${durationMillis}ms")
+        if (unmatchedCount > 0) append(", $unmatchedCount unmatched")
+        for ((kind, report) in kinds) {
+            if (report.calls > 0) append("\n  $kind: $report")
+        }
+    }
+}
+
+/**
+ * The calls of one kind in a replay: how many the target was asked to make, how many reached the
+ * Places client, and how long callers waited for them, in microseconds.
+ */
+data class KindReport(
+    val calls: Int,
+    val requests: Long,
+    val errors: Int,
+    val latencyMicros: List<Long>
+) {
+    /** Calls answered without a request of their own, by a cache or a shared request. */
+    val avoidedRequests: Long
+        get() = (calls - requests).coerceAtLeast(0)
+
+    val hitRate: Double
+        get() = if (calls == 0) 0.0 else avoidedRequests.toDouble() / calls
+
+    val p50Micros: Long get() = percentile(50.0)
+    val p95Micros: Long get() = percentile(95.0)
+    val p99Micros: Long get() = percentile(99.0)
+    val maxMicros: Long get() = latencyMicros.lastOrNull() ?: 0
+
+    /** Returns the nearest-rank [percentile] of the sorted [latencyMicros]. */
+    private fun percentile(percentile: Double): Long {
+        if (latencyMicros.isEmpty()) return 0
+        val rank = Math.ceil(percentile / 100 * latencyMicros.size).toInt()
+        return latencyMicros[(rank - 1).coerceIn(0, latencyMicros.size - 1)]
+    }
+
+    override fun toString(): String = String.format(
+        Locale.US,
+        "%d calls, %d requests, %.0f%% hit rate, %d avoided, %d errors, " +
+            "p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms",
+        calls, requests, hitRate * 100, avoidedRequests, errors,
+        p50Micros / 1000.0, p95Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0
+    )
+}
@@ -0,0 +1,26 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo.inject
+
+import android.content.Context
+import com.google.android.libraries.places.api.net.PlacesClient
+
+/**
+ * Release builds leave out the `:places-fixtures` module, and `FAKE_PLACES_CLIENT` is always false
+ * in them, so this is never called.
+ */
+@Suppress("UNUSED_PARAMETER")
+internal fun createFakePlacesClient(context: Context): PlacesClient =
+    throw IllegalStateException("Release builds do not include the Places fixtures")
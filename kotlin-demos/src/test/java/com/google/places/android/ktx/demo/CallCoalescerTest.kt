@@ -0,0 +1,113 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo
+
+import java.io.IOException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.yield
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Test
+
+/**
+ * Local unit tests for [CallCoalescer]. Calls run unconfined, so each one runs until it waits on
+ * the [CompletableDeferred] that the test completes.
+ */
+class CallCoalescerTest {
+
+    private val coalescer = CallCoalescer(CoroutineScope(SupervisorJob() + Dispatchers.Unconfined))
+    private val response = CompletableDeferred<String>()
+    private var calls = 0
+
+    private suspend fun fetch(): String {
+        calls++
+        return response.await()
+    }
+
+    @Test
+    fun coalesce_sameKeyInFlight_joinsCall() = runBlocking {
+        val first = async { coalescer.coalesce("place") { fetch() } }
+        val second = async { coalescer.coalesce("place") { fetch() } }
+        yield()
+
+        response.complete("Pizzeria Locale")
+
+        assertEquals("Pizzeria Locale", first.await())
+        assertEquals("Pizzeria Locale", second.await())
+        assertEquals(1, calls)
+        assertEquals(1, coalescer.collapsedCount)
+    }
+
+    @Test
+    fun coalesce_otherKey_makesOwnCall() = runBlocking {
+        val first = async { coalescer.coalesce("place") { fetch() } }
+        val second = async { coalescer.coalesce("other place") { fetch() } }
+        yield()
+
+        response.complete("Pizzeria Locale")
+        first.await()
+        second.await()
+
+        assertEquals(2, calls)
+        assertEquals(0, coalescer.collapsedCount)
+    }
+
+    @Test
+    fun coalesce_afterSuccess_makesNewCall() = runBlocking {
+        response.complete("Pizzeria Locale")
+        coalescer.coalesce("place") { fetch() }
+        coalescer.coalesce("place") { fetch() }
+
+        assertEquals(2, calls)
+        assertEquals(0, coalescer.collapsedCount)
+    }
+
+    @Test
+    fun coalesce_afterFailure_makesNewCall() = runBlocking {
+        try {
+            coalescer.coalesce<String>("place") {
+                calls++
+                throw IOException("timeout")
+            }
+            fail("Expected an IOException")
+        } catch (e: IOException) {
+            assertEquals("timeout", e.message)
+        }
+        response.complete("Pizzeria Locale")
+
+        assertEquals("Pizzeria Locale", coalescer.coalesce("place") { fetch() })
+        assertEquals(2, calls)
+    }
+
+    @Test
+    fun cancelledCaller_doesNotCancelSharedCall() = runBlocking {
+        val cancelled = async { coalescer.coalesce("place") { fetch() } }
+        val waiting = async { coalescer.coalesce("place") { fetch() } }
+        yield()
+
+        cancelled.cancel()
+        response.complete("Pizzeria Locale")
+
+        assertEquals("Pizzeria Locale", waiting.await())
+        assertTrue(cancelled.isCancelled)
+        assertEquals(1, calls)
+    }
+}
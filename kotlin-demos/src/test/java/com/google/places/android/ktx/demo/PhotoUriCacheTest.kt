@@ -0,0 +1,115 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo
+
+import android.net.Uri
+import com.google.android.libraries.places.api.model.PhotoMetadata
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/** Local unit tests for [PhotoUriCache]. Robolectric provides a working [Uri]. */
+@RunWith(RobolectricTestRunner::class)
+class PhotoUriCacheTest {
+
+    private var nowMillis = 0L
+    private val fetched = ArrayList<String>()
+    private val cache = PhotoUriCache(LIFETIME_MILLIS, { nowMillis }) { metadata, width, height ->
+        fetched += metadata.photoReference
+        Uri.parse("https://example.com/${metadata.photoReference}/${width}x$height/${fetched.size}")
+    }
+
+    @Test
+    fun resolve_freshEntry_isServedFromCache() = runBlocking {
+        val first = cache.resolve(photo("a"), 400, 300)
+        nowMillis = LIFETIME_MILLIS - 1
+        val second = cache.resolve(photo("a"), 400, 300)
+
+        assertEquals(first, second)
+        assertEquals(listOf("a"), fetched)
+    }
+
+    @Test
+    fun resolve_otherSize_isAnotherEntry() = runBlocking {
+        val large = cache.resolve(photo("a"), 400, 300)
+        val small = cache.resolve(photo("a"), 100, 75)
+
+        assertNotEquals(large, small)
+        assertEquals(listOf("a", "a"), fetched)
+    }
+
+    @Test
+    fun resolve_expiredEntry_isFetchedAgain() = runBlocking {
+        val first = cache.resolve(photo("a"))
+        nowMillis = LIFETIME_MILLIS
+        val second = cache.resolve(photo("a"))
+
+        assertNotEquals(first, second)
+        assertEquals(listOf("a", "a"), fetched)
+    }
+
+    @Test
+    fun resolve_nullUri_isNotCached() = runBlocking {
+        var calls = 0
+        val nullCache = PhotoUriCache(LIFETIME_MILLIS, { nowMillis }) { _, _, _ ->
+            calls++
+            null
+        }
+
+        assertNull(nullCache.resolve(photo("a")))
+        assertNull(nullCache.resolve(photo("a")))
+        assertEquals(2, calls)
+    }
+
+    @Test
+    fun invalidate_dropsEntryForUri() = runBlocking {
+        val uri = cache.resolve(photo("a"))
+
+        assertTrue(cache.invalidate(Uri.parse(uri.toString())))
+        assertFalse(cache.invalidate(Uri.parse(uri.toString())))
+        cache.resolve(photo("a"))
+        assertEquals(listOf("a", "a"), fetched)
+    }
+
+    @Test
+    fun resolve_beyondCapacity_evictsLeastRecentlyUsed() = runBlocking {
+        cache.resolve(photo("first"))
+        for (i in 1 until PhotoUriCache.MAX_ENTRIES) {
+            cache.resolve(photo("photo$i"))
+        }
+        // Touching "first" makes "photo1" the least recently used entry.
+        cache.resolve(photo("first"))
+        cache.resolve(photo("overflow"))
+        fetched.clear()
+
+        cache.resolve(photo("first"))
+        cache.resolve(photo("photo1"))
+
+        assertEquals(listOf("photo1"), fetched)
+    }
+
+    private fun photo(reference: String): PhotoMetadata =
+        PhotoMetadata.builder(reference).setWidth(800).setHeight(600).setAttributions("").build()
+
+    private companion object {
+        const val LIFETIME_MILLIS = 10_000L
+    }
+}
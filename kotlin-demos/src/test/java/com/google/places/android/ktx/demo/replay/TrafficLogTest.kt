@@ -0,0 +1,162 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.places.android.ktx.demo.replay
+
+import com.google.android.libraries.places.api.model.Place
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Test
+
+/** Local unit tests for [TrafficLog], writing recordings to memory and reading them back. */
+class TrafficLogTest {
+
+    @Test
+    fun roundTrip_keepsEveryEvent() {
+        val events = listOf(
+            AutocompleteEvent(
+                atMillis = 0, latencyMillis = 120, statusCode = TrafficEvent.STATUS_OK,
+                query = "piz", sessionId = 1,
+                predictions = listOf(
+                    PIZZERIA_PREDICTION, RecordedPrediction("ChIJ2", "Pizza Hut", "Denver, CO")
+                )
+            ),
+            AutocompleteEvent(
+                atMillis = 180, latencyMillis = 95, statusCode = TrafficEvent.STATUS_OK,
+                query = "pizz", sessionId = 1, predictions = listOf(PIZZERIA_PREDICTION)
+            ),
+            FetchPlaceEvent(
+                atMillis = 900, latencyMillis = 210, statusCode = TrafficEvent.STATUS_OK,
+                placeId = "ChIJ1", fields = listOf(Place.Field.ID, Place.Field.DISPLAY_NAME),
+                sessionId = 1, place = PIZZERIA
+            ),
+            ResolvePhotoEvent(
+                atMillis = 1_300, latencyMillis = 60, statusCode = TrafficEvent.STATUS_OK,
+                photo = PHOTO, maxWidth = 400, maxHeight = null,
+                uri = "https://example.com/photo.jpg"
+            ),
+            FetchPlaceEvent(
+                atMillis = 2_000, latencyMillis = 30, statusCode = 9011,
+                placeId = "ChIJ3", fields = listOf(Place.Field.LOCATION), sessionId = 0,
+                place = null
+            )
+        )
+
+        assertEquals(events, TrafficLog.read(ByteArrayInputStream(record(events))))
+    }
+
+    @Test
+    fun roundTrip_placeWithoutOptionalValues() {
+        val place = RecordedPlace(
+            id = "ChIJ1", displayName = null, formattedAddress = null, latitude = 40.0,
+            longitude = null, businessStatus = null, photos = null
+        )
+        val event = FetchPlaceEvent(0, 10, TrafficEvent.STATUS_OK, "ChIJ1", emptyList(), 0, place)
+
+        val read = TrafficLog.read(ByteArrayInputStream(record(listOf(event))))
+
+        // A place without both coordinates is recorded without a location.
+        assertEquals(listOf(event.copy(place = place.copy(latitude = null))), read)
+    }
+
+    @Test
+    fun read_sortsByStartTime() {
+        val late = AutocompleteEvent(500, 400, TrafficEvent.STATUS_OK, "late", 0, emptyList())
+        val early = AutocompleteEvent(200, 50, TrafficEvent.STATUS_OK, "early", 0, emptyList())
+
+        val read = TrafficLog.read(ByteArrayInputStream(record(listOf(late, early))))
+
+        assertEquals(listOf(early, late), read)
+    }
+
+    @Test
+    fun read_truncatedLastRecord_endsRecording() {
+        val first = AutocompleteEvent(0, 10, TrafficEvent.STATUS_OK, "p", 0, emptyList())
+        val second = AutocompleteEvent(100, 10, TrafficEvent.STATUS_OK, "pi", 0, emptyList())
+        val bytes = record(listOf(first, second))
+
+        val read = TrafficLog.read(ByteArrayInputStream(bytes.copyOf(bytes.size - 2)))
+
+        assertEquals(listOf(first), read)
+    }
+
+    @Test
+    fun read_unknownFieldName_isSkipped() {
+        val event = FetchPlaceEvent(
+            0, 10, TrafficEvent.STATUS_OK, "ChIJ1", listOf(Place.Field.ID, Place.Field.RATING), 0,
+            null
+        )
+        // Stands in for a field written by another version of the Places SDK.
+        val bytes = replace(record(listOf(event)), "RATING", "RAT1NG")
+
+        val read = TrafficLog.read(ByteArrayInputStream(bytes))
+
+        assertEquals(listOf(event.copy(fields = listOf(Place.Field.ID))), read)
+    }
+
+    @Test
+    fun read_missingRequiredString_failsAsCorrupt() {
+        val event = AutocompleteEvent(0, 10, TrafficEvent.STATUS_OK, "p", 0, emptyList())
+        val bytes = record(listOf(event))
+        // The query follows the header and one byte each for kind, time, latency and status.
+        bytes[4 + 4] = 0
+
+        try {
+            TrafficLog.read(ByteArrayInputStream(bytes))
+            fail("Expected an IOException")
+        } catch (e: IOException) {
+            assertTrue(e.message.orEmpty().startsWith("Corrupt recording"))
+        }
+    }
+
+    @Test
+    fun read_otherFile_fails() {
+        try {
+            TrafficLog.read(ByteArrayInputStream("GIF89a".toByteArray()))
+            fail("Expected an IOException")
+        } catch (e: IOException) {
+            assertEquals("Not a traffic recording", e.message)
+        }
+    }
+
+    private fun record(events: List<TrafficEvent>): ByteArray {
+        val output = ByteArrayOutputStream()
+        TrafficLog.Writer(output).use { writer -> events.forEach { writer.write(it) } }
+        return output.toByteArray()
+    }
+
+    private fun replace(bytes: ByteArray, old: String, new: String): ByteArray {
+        val text = String(bytes, Charsets.ISO_8859_1)
+        assertTrue(text.indexOf(old) == text.lastIndexOf(old))
+        return text.replace(old, new).toByteArray(Charsets.ISO_8859_1)
+    }
+
+    private companion object {
+        val PIZZERIA_PREDICTION = RecordedPrediction("ChIJ1", "Pizzeria Locale", "Boulder, CO")
+        val PHOTO = RecordedPhoto("photo-1", 800, 600, "Jane Doe")
+        val PIZZERIA = RecordedPlace(
+            id = "ChIJ1",
+            displayName = "Pizzeria Locale",
+            formattedAddress = "1730 Pearl St, Boulder, CO",
+            latitude = 40.0190,
+            longitude = -105.2747,
+            businessStatus = "OPERATIONAL",
+            photos = listOf(PHOTO, PHOTO.copy(reference = "photo-2"))
+        )
+    }
+}
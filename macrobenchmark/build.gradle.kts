@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+plugins {
+    alias(libs.plugins.android.test)
+    alias(libs.plugins.kotlin.android)
+}
+
+android {
+    namespace = "com.example.placesdemo.macrobenchmark"
+    compileSdk = 36
+
+    defaultConfig {
+        minSdk = 24
+        targetSdk = 36
+        testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+    }
+
+    java {
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(17))
+        }
+    }
+
+    buildTypes {
+        // Matches the benchmark build type of the app under test.
+        create("benchmark") {
+            isDebuggable = true
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+        }
+    }
+
+    targetProjectPath = ":demo-java"
+    experimentalProperties["android.experimental.self-instrumenting"] = true
+}
+
+androidComponents {
+    // Only the benchmark variant measures a release-like build of the app.
+    beforeVariants(selector().all()) {
+        it.enable = it.buildType == "benchmark"
+    }
+}
+
+// Copies the JSON results of each connected run to build/benchmark-results at the root, where
+// trend tracking picks them up.
+val exportBenchmarkResults = tasks.register<Copy>("exportBenchmarkResults") {
+    from(layout.buildDirectory.dir("outputs/connected_android_test_additional_output"))
+    include("**/*benchmarkData.json")
+    into(rootProject.layout.buildDirectory.dir("benchmark-results/macrobenchmark"))
+}
+
+tasks.matching { it.name == "connectedBenchmarkAndroidTest" }.configureEach {
+    finalizedBy(exportBenchmarkResults)
+}
+
+dependencies {
+    implementation(libs.androidx.junit)
+    implementation(libs.androidx.uiautomator)
+    implementation(libs.androidx.benchmark.macro.junit4)
+}
@@ -0,0 +1,81 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.example.placesdemo.macrobenchmark
+
+import android.content.ComponentName
+import android.content.Intent
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Until
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Measures frame timing in the programmatic autocomplete screen while a query is typed one
+ * character at a time, so each keystroke's predictions replace the previous list.
+ *
+ * The benchmark build of demo-java answers from its bundled fixtures with a fixed latency, so the
+ * device needs no network access. Run with
+ * `./gradlew :macrobenchmark:connectedBenchmarkAndroidTest`.
+ */
+@RunWith(AndroidJUnit4::class)
+class AutocompleteTypingBenchmark {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    @Test
+    fun typeQuery() = benchmarkRule.measureRepeated(
+        packageName = TARGET_PACKAGE,
+        metrics = listOf(FrameTimingMetric()),
+        compilationMode = CompilationMode.Partial(),
+        iterations = 5,
+        setupBlock = { openSearch() }
+    ) {
+        typeQuery(QUERY)
+    }
+
+    private fun MacrobenchmarkScope.openSearch() {
+        pressHome()
+        startActivityAndWait(Intent().setComponent(ComponentName(TARGET_PACKAGE, TARGET_ACTIVITY)))
+        device.findObject(By.res(TARGET_PACKAGE, "search")).click()
+        device.wait(Until.hasObject(By.res("android", "search_src_text")), TIMEOUT_MILLIS)
+    }
+
+    private fun MacrobenchmarkScope.typeQuery(query: String) {
+        val searchText = device.findObject(By.res("android", "search_src_text"))
+        for (length in 1..query.length) {
+            searchText.text = query.substring(0, length)
+            // Roughly the pace of a fast typist, so some responses arrive mid-word.
+            Thread.sleep(KEYSTROKE_INTERVAL_MILLIS)
+        }
+        device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "text_view_title")), TIMEOUT_MILLIS)
+        device.waitForIdle()
+    }
+
+    private companion object {
+        const val TARGET_PACKAGE = "com.example.placesdemo"
+        const val TARGET_ACTIVITY =
+            "$TARGET_PACKAGE.programmatic_autocomplete.ProgrammaticAutocompleteToolbarActivity"
+        const val QUERY = "Pearl Street Mall"
+        const val KEYSTROKE_INTERVAL_MILLIS = 120L
+        const val TIMEOUT_MILLIS = 5_000L
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.macrobenchmark
+
+import androidx.benchmark.macro.MacrobenchmarkScope
+
+/**
+ * The demo apps the benchmarks start, by the application ID of their benchmark build. Install
+ * them with `./gradlew installBenchmark` before running :macrobenchmark, which only installs
+ * demo-java itself.
+ */
+enum class DemoApp(val packageName: String) {
+    DEMO_JAVA("com.example.placesdemo"),
+    // demo-kotlin shares demo-java's application ID; its benchmark build adds a suffix.
+    DEMO_KOTLIN("com.example.placesdemo.kotlin"),
+    KOTLIN_DEMOS("com.google.maps.android.ktx.demo"),
+    PLACE_DETAILS_COMPOSE("com.example.placedetailscompose"),
+    PLACE_DETAILS_UIKIT("com.example.placedetailsuikit"),
+    PLACES_UIKIT_3D("com.example.placesuikit3d")
+}
+
+/**
+ * Grants the target app location access up front, so no permission dialog covers the screen
+ * being measured. Apps that do not declare the permissions ignore it.
+ */
+fun MacrobenchmarkScope.grantLocationPermissions() {
+    for (permission in LOCATION_PERMISSIONS) {
+        device.executeShellCommand("pm grant $packageName $permission")
+    }
+}
+
+private val LOCATION_PERMISSIONS = listOf(
+    "android.permission.ACCESS_FINE_LOCATION",
+    "android.permission.ACCESS_COARSE_LOCATION"
+)
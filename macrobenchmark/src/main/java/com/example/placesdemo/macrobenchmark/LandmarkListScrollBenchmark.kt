@@ -0,0 +1,84 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.macrobenchmark
+
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Direction
+import androidx.test.uiautomator.Until
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Measures frame timing in PlacesUIKit3D while the `LandmarkList` in its bottom sheet is flung
+ * down and back up.
+ *
+ * The landmarks are bundled with the app, but the 3D map behind the sheet still loads from the
+ * network. Install the app with `./gradlew :PlacesUIKit3D:installBenchmark` first.
+ */
+@RunWith(AndroidJUnit4::class)
+class LandmarkListScrollBenchmark {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    @Test
+    fun scroll() = benchmarkRule.measureRepeated(
+        packageName = DemoApp.PLACES_UIKIT_3D.packageName,
+        metrics = listOf(FrameTimingMetric()),
+        compilationMode = CompilationMode.Partial(),
+        startupMode = StartupMode.WARM,
+        iterations = 5,
+        setupBlock = {
+            grantLocationPermissions()
+            pressHome()
+            startActivityAndWait()
+            expandSheet()
+        }
+    ) {
+        val list = device.findObject(By.res(LANDMARK_LIST))
+        // Keeps the gestures clear of the system gesture areas at the edges.
+        list.setGestureMargin(device.displayWidth / 5)
+        repeat(FLINGS) {
+            list.fling(Direction.DOWN)
+            list.fling(Direction.UP)
+        }
+        device.waitForIdle()
+    }
+
+    /** Drags the bottom sheet up from its peek height so the whole list is on screen. */
+    private fun MacrobenchmarkScope.expandSheet() {
+        device.wait(Until.hasObject(By.res(LANDMARK_LIST)), TIMEOUT_MILLIS)
+        val header = device.findObject(By.text(SHEET_TITLE)).visibleCenter
+        device.swipe(header.x, header.y, header.x, device.displayHeight / 4, SWIPE_STEPS)
+        device.waitForIdle()
+    }
+
+    private companion object {
+        // The test tag LandmarkList exposes as a resource ID.
+        const val LANDMARK_LIST = "landmark_list"
+        const val SHEET_TITLE = "Locations"
+        const val FLINGS = 3
+        const val SWIPE_STEPS = 20
+        const val TIMEOUT_MILLIS = 10_000L
+    }
+}
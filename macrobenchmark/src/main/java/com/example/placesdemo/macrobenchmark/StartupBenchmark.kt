@@ -0,0 +1,61 @@
+// Copyright 2026 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package com.example.placesdemo.macrobenchmark
+
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.StartupTimingMetric
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * Measures the time from launch to the first frame of each demo app's launcher activity, in cold,
+ * warm and hot starts.
+ *
+ * Run with `./gradlew installBenchmark :macrobenchmark:connectedBenchmarkAndroidTest`.
+ */
+@RunWith(Parameterized::class)
+class StartupBenchmark(private val app: DemoApp, private val startupMode: StartupMode) {
+
+    @get:Rule
+    val benchmarkRule = MacrobenchmarkRule()
+
+    @Test
+    fun startup() = benchmarkRule.measureRepeated(
+        packageName = app.packageName,
+        metrics = listOf(StartupTimingMetric()),
+        compilationMode = CompilationMode.Partial(),
+        startupMode = startupMode,
+        iterations = 10,
+        setupBlock = {
+            grantLocationPermissions()
+            pressHome()
+        }
+    ) {
+        startActivityAndWait()
+    }
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "{0}_{1}")
+        fun parameters(): List<Array<Any>> = DemoApp.entries.flatMap { app ->
+            listOf(StartupMode.COLD, StartupMode.WARM, StartupMode.HOT).map { arrayOf(app, it) }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// A PlacesClient that answers from bundled fixtures, for running the demos offline. Apps depend on
+// it from their debug and benchmark builds only, so release builds never ship the fixtures.
+plugins {
+    alias(libs.plugins.android.library)
+}
+
+android {
+    namespace = "com.example.placesdemo.fake"
+    compileSdk = 36
+
+    defaultConfig {
+        minSdk = 24
+    }
+
+    testOptions {
+        // Lets JVM tests build fake responses that touch Bitmap and Color, which android.jar
+        // only stubs.
+        unitTests.isReturnDefaultValues = true
+    }
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(17))
+    }
+}
+
+dependencies {
+    api(libs.places)
+
+    testImplementation(libs.junit)
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.fake;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.placesdemo.fake.PlaceFixtures.PhotoFixture;
+import com.google.android.gms.common.api.ApiException;
+import com.google.android.gms.common.api.CommonStatusCodes;
+import com.google.android.gms.common.api.Status;
+import com.google.android.gms.tasks.CancellationToken;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.PlaceLikelihood;
+import com.google.android.libraries.places.api.net.FetchPhotoRequest;
+import com.google.android.libraries.places.api.net.FetchPhotoResponse;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriRequest;
+import com.google.android.libraries.places.api.net.FetchResolvedPhotoUriResponse;
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest;
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsResponse;
+import com.google.android.libraries.places.api.net.FindCurrentPlaceRequest;
+import com.google.android.libraries.places.api.net.FindCurrentPlaceResponse;
+import com.google.android.libraries.places.api.net.IsOpenRequest;
+import com.google.android.libraries.places.api.net.IsOpenResponse;
+import com.google.android.libraries.places.api.net.PlacesClient;
+import com.google.android.libraries.places.api.net.PlacesStatusCodes;
+import com.google.android.libraries.places.api.net.SearchByTextRequest;
+import com.google.android.libraries.places.api.net.SearchByTextResponse;
+import com.google.android.libraries.places.api.net.SearchNearbyRequest;
+import com.google.android.libraries.places.api.net.SearchNearbyResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in-process {@link PlacesClient} that answers from {@link PlaceFixtures} after a scripted
+ * delay, so every screen can run, and be measured, without an API key or a network.
+ *
+ * <p>Each call completes on a background thread after {@link Config#setLatencyMillis(long)} plus or
+ * minus up to {@link Config#setJitterMillis(long)}, and fails with an {@link ApiException} at
+ * {@link Config#setFailureRate(double)}. Unknown place IDs fail with
+ * {@link PlacesStatusCodes#NOT_FOUND}, as they do against the API. Calls whose cancellation token
+ * is cancelled complete as cancelled. With the same {@link Config#setSeed(long) seed}, the same
+ * sequence of calls sees the same delays and failures.
+ */
+public final class FakePlacesClient implements PlacesClient {
+
+    private static final int MAX_PREDICTIONS = 5;
+    private static final int MAX_SEARCH_RESULTS = 20;
+    private static final String PLACEHOLDER_PHOTO_URI =
+            "file:///android_asset/" + PlaceFixtures.ASSET_DIRECTORY + "/photo.png";
+
+    /** The scripted behavior of a {@link FakePlacesClient}. */
+    public static final class Config {
+        private long latencyMillis = 150;
+        private long jitterMillis = 50;
+        private double failureRate;
+        private int failureStatusCode = CommonStatusCodes.NETWORK_ERROR;
+        private long seed = 1;
+
+        /** Sets the mean time before a call completes. Defaults to 150 ms. */
+        public Config setLatencyMillis(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+            return this;
+        }
+
+        /** Sets how far one call's delay may be from the mean, either way. Defaults to 50 ms. */
+        public Config setJitterMillis(long jitterMillis) {
+            this.jitterMillis = jitterMillis;
+            return this;
+        }
+
+        /** Sets the fraction of calls, from 0 to 1, that fail. Defaults to none. */
+        public Config setFailureRate(double failureRate) {
+            this.failureRate = failureRate;
+            return this;
+        }
+
+        /** Sets the status code of scripted failures. Defaults to a network error. */
+        public Config setFailureStatusCode(int failureStatusCode) {
+            this.failureStatusCode = failureStatusCode;
+            return this;
+        }
+
+        /** Sets the seed of the delays and failures. */
+        public Config setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+    }
+
+    private final PlaceFixtures fixtures;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private final int failureStatusCode;
+    private final Random random;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "FakePlacesClient");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public FakePlacesClient(@NonNull PlaceFixtures fixtures, @NonNull Config config) {
+        this.fixtures = fixtures;
+        this.latencyMillis = config.latencyMillis;
+        this.jitterMillis = config.jitterMillis;
+        this.failureRate = config.failureRate;
+        this.failureStatusCode = config.failureStatusCode;
+        this.random = new Random(config.seed);
+    }
+
+    @NonNull
+    public PlaceFixtures getFixtures() {
+        return fixtures;
+    }
+
+    /** Stops the completion thread. Calls still pending never complete. */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchPhotoResponse> fetchPhoto(@NonNull FetchPhotoRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            PhotoFixture photo = photo(request.getPhotoMetadata().getPhotoReference());
+            int[] size = fit(photo, request.getMaxWidth(), request.getMaxHeight());
+            Bitmap bitmap = Bitmap.createBitmap(size[0], size[1], Bitmap.Config.RGB_565);
+            bitmap.eraseColor(photo.color == null ? Color.GRAY : Color.parseColor(photo.color));
+            return FetchPhotoResponse.newInstance(bitmap);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchPlaceResponse> fetchPlace(@NonNull FetchPlaceRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            Place place = fixtures.getPlace(request.getPlaceId(), request.getPlaceFields());
+            if (place == null) {
+                throw notFound(request.getPlaceId());
+            }
+            return FetchPlaceResponse.newInstance(place);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<FetchResolvedPhotoUriResponse> fetchResolvedPhotoUri(
+            @NonNull FetchResolvedPhotoUriRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            photo(request.getPhotoMetadata().getPhotoReference());
+            // Every fixture photo resolves to the same bundled image.
+            return FetchResolvedPhotoUriResponse.newInstance(Uri.parse(PLACEHOLDER_PHOTO_URI));
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<FindAutocompletePredictionsResponse> findAutocompletePredictions(
+            @NonNull FindAutocompletePredictionsRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            String query = request.getQuery() == null ? "" : request.getQuery();
+            return FindAutocompletePredictionsResponse.newInstance(
+                    fixtures.findPredictions(query, MAX_PREDICTIONS));
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<FindCurrentPlaceResponse> findCurrentPlace(
+            @NonNull FindCurrentPlaceRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            // Likelihoods fall off with fixture order and add up to one.
+            List<Place> places = fixtures.getPlaces(request.getPlaceFields());
+            double total = 0;
+            for (int i = 0; i < places.size(); i++) {
+                total += 1.0 / (i + 1);
+            }
+            List<PlaceLikelihood> likelihoods = new ArrayList<>(places.size());
+            for (int i = 0; i < places.size(); i++) {
+                likelihoods.add(PlaceLikelihood.newInstance(places.get(i), 1.0 / (i + 1) / total));
+            }
+            return FindCurrentPlaceResponse.newInstance(likelihoods);
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<IsOpenResponse> isOpen(@NonNull IsOpenRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            String placeId = request.getPlaceId() != null
+                    ? request.getPlaceId() : request.getPlace().getId();
+            if (placeId == null || !fixtures.hasPlace(placeId)) {
+                throw notFound(placeId);
+            }
+            return IsOpenResponse.newInstance(fixtures.isOpen(placeId));
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<SearchByTextResponse> searchByText(@NonNull SearchByTextRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            List<Place> places = fixtures.searchPlaces(request.getTextQuery(),
+                    request.getPlaceFields());
+            return SearchByTextResponse.newInstance(limit(places, request.getMaxResultCount()));
+        });
+    }
+
+    @NonNull
+    @Override
+    public Task<SearchNearbyResponse> searchNearby(@NonNull SearchNearbyRequest request) {
+        return respond(request.getCancellationToken(), () -> {
+            List<Place> places = fixtures.getPlaces(request.getPlaceFields());
+            return SearchNearbyResponse.newInstance(limit(places, request.getMaxResultCount()));
+        });
+    }
+
+    /**
+     * Returns a task that completes with {@code response} after the scripted delay, or fails with
+     * a scripted or thrown exception.
+     */
+    private <R> Task<R> respond(@Nullable CancellationToken token, Callable<R> response) {
+        TaskCompletionSource<R> source =
+                token == null ? new TaskCompletionSource<>() : new TaskCompletionSource<>(token);
+        long delayMillis;
+        boolean fail;
+        synchronized (random) {
+            long jitter = jitterMillis <= 0
+                    ? 0 : (long) ((random.nextDouble() * 2 - 1) * jitterMillis);
+            delayMillis = Math.max(0, latencyMillis + jitter);
+            fail = random.nextDouble() < failureRate;
+        }
+        scheduler.schedule(() -> {
+            if (fail) {
+                source.trySetException(new ApiException(new Status(failureStatusCode)));
+                return;
+            }
+            try {
+                source.trySetResult(response.call());
+            } catch (Exception e) {
+                source.trySetException(e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        return source.getTask();
+    }
+
+    private PhotoFixture photo(String reference) throws ApiException {
+        PhotoFixture photo = fixtures.getPhoto(reference);
+        if (photo == null) {
+            throw notFound(reference);
+        }
+        return photo;
+    }
+
+    /** Returns the size of {@code photo} scaled down to fit the bounds, keeping its shape. */
+    private static int[] fit(PhotoFixture photo, @Nullable Integer maxWidth,
+                             @Nullable Integer maxHeight) {
+        double scale = 1;
+        if (maxWidth != null && maxWidth < photo.width) {
+            scale = Math.min(scale, (double) maxWidth / photo.width);
+        }
+        if (maxHeight != null && maxHeight < photo.height) {
+            scale = Math.min(scale, (double) maxHeight / photo.height);
+        }
+        return new int[]{
+                Math.max(1, (int) Math.round(photo.width * scale)),
+                Math.max(1, (int) Math.round(photo.height * scale))};
+    }
+
+    private static List<Place> limit(List<Place> places, @Nullable Integer maxResultCount) {
+        int max = maxResultCount == null || maxResultCount <= 0
+                ? MAX_SEARCH_RESULTS : maxResultCount;
+        return places.size() <= max ? places : new ArrayList<>(places.subList(0, max));
+    }
+
+    private static ApiException notFound(@Nullable String id) {
+        return new ApiException(new Status(PlacesStatusCodes.NOT_FOUND, "No fixture for " + id));
+    }
+}
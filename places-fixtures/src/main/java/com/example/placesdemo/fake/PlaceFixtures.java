@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.fake;
+
+import android.content.res.AssetManager;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+import com.google.android.libraries.places.api.model.PhotoMetadata;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The places, autocomplete predictions and photos that {@link FakePlacesClient} answers with.
+ *
+ * <p>The fixtures are JSON files in {@code assets/fixtures}. The place IDs are the twenty real
+ * Boulder, Colorado IDs of the snippets' {@code PlaceIdProvider}; names, addresses and everything
+ * else are made up. Places are turned into SDK objects per request, with only the fields the
+ * request asked for, so callers see the same partial places as from the real API.
+ */
+public final class PlaceFixtures {
+
+    static final String ASSET_DIRECTORY = "fixtures";
+
+    /** A place as written in {@code places.json}. */
+    static final class PlaceFixture {
+        String id;
+        String displayName;
+        String formattedAddress;
+        Coordinates location;
+        Double rating;
+        Integer userRatingCount;
+        List<String> types;
+        String websiteUri;
+        String internationalPhoneNumber;
+        String businessStatus;
+        Integer utcOffsetMinutes;
+        Boolean openNow;
+        List<String> photos;
+    }
+
+    /** A place location as written in {@code places.json}. */
+    static final class Coordinates {
+        double lat;
+        double lng;
+    }
+
+    /** An autocomplete prediction as written in {@code predictions.json}. */
+    static final class PredictionFixture {
+        String placeId;
+        String primaryText;
+        String secondaryText;
+        List<String> types;
+        Integer distanceMeters;
+    }
+
+    /** A photo as written in {@code photos.json}. */
+    static final class PhotoFixture {
+        String reference;
+        int width;
+        int height;
+        String color;
+        String attributions;
+    }
+
+    private final Map<String, PlaceFixture> places = new LinkedHashMap<>();
+    private final List<PredictionFixture> predictions;
+    private final Map<String, PhotoFixture> photos = new LinkedHashMap<>();
+
+    PlaceFixtures(@NonNull List<PlaceFixture> places, @NonNull List<PredictionFixture> predictions,
+                  @NonNull List<PhotoFixture> photos) {
+        for (PlaceFixture place : places) {
+            this.places.put(place.id, place);
+        }
+        this.predictions = predictions;
+        for (PhotoFixture photo : photos) {
+            this.photos.put(photo.reference, photo);
+        }
+    }
+
+    /** Reads the fixtures bundled in the app's assets. */
+    @NonNull
+    public static PlaceFixtures fromAssets(@NonNull AssetManager assets) throws IOException {
+        try (Reader places = open(assets, "places.json");
+             Reader predictions = open(assets, "predictions.json");
+             Reader photos = open(assets, "photos.json")) {
+            return read(places, predictions, photos);
+        }
+    }
+
+    private static Reader open(AssetManager assets, String name) throws IOException {
+        return new InputStreamReader(assets.open(ASSET_DIRECTORY + "/" + name),
+                StandardCharsets.UTF_8);
+    }
+
+    /** Reads fixtures from the contents of the three fixture files, in the same order. */
+    @NonNull
+    public static PlaceFixtures read(@NonNull Reader places, @NonNull Reader predictions,
+                                     @NonNull Reader photos) {
+        Gson gson = new Gson();
+        return new PlaceFixtures(
+                gson.fromJson(places, new TypeToken<List<PlaceFixture>>() {}.getType()),
+                gson.fromJson(predictions, new TypeToken<List<PredictionFixture>>() {}.getType()),
+                gson.fromJson(photos, new TypeToken<List<PhotoFixture>>() {}.getType()));
+    }
+
+    /** Returns the IDs of every place, in fixture order. */
+    @NonNull
+    public List<String> getPlaceIds() {
+        return Collections.unmodifiableList(new ArrayList<>(places.keySet()));
+    }
+
+    public boolean hasPlace(@NonNull String placeId) {
+        return places.containsKey(placeId);
+    }
+
+    /**
+     * Returns the place with {@code placeId} holding only {@code fields}, or {@code null} if there
+     * is no such place.
+     */
+    @Nullable
+    public Place getPlace(@NonNull String placeId, @NonNull Collection<Field> fields) {
+        PlaceFixture fixture = places.get(placeId);
+        return fixture == null ? null : toPlace(fixture, fields);
+    }
+
+    /** Returns every place holding only {@code fields}, in fixture order. */
+    @NonNull
+    public List<Place> getPlaces(@NonNull Collection<Field> fields) {
+        List<Place> result = new ArrayList<>(places.size());
+        for (PlaceFixture fixture : places.values()) {
+            result.add(toPlace(fixture, fields));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the places whose name or address contains every word of {@code query}, holding only
+     * {@code fields}, in fixture order.
+     */
+    @NonNull
+    public List<Place> searchPlaces(@NonNull String query, @NonNull Collection<Field> fields) {
+        List<Place> result = new ArrayList<>();
+        for (PlaceFixture fixture : places.values()) {
+            if (matches(query, fixture.displayName + " " + fixture.formattedAddress)) {
+                result.add(toPlace(fixture, fields));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the predictions with a word starting with each word of {@code query}, at most
+     * {@code limit} of them, in fixture order.
+     */
+    @NonNull
+    public List<AutocompletePrediction> findPredictions(@NonNull String query, int limit) {
+        List<AutocompletePrediction> result = new ArrayList<>();
+        for (PredictionFixture fixture : predictions) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (matchesWordPrefixes(query, fixture.primaryText + " " + fixture.secondaryText)) {
+                result.add(AutocompletePrediction.builder(fixture.placeId)
+                        .setPrimaryText(fixture.primaryText)
+                        .setSecondaryText(fixture.secondaryText)
+                        .setFullText(fixture.primaryText + ", " + fixture.secondaryText)
+                        .setPlaceTypes(fixture.types == null
+                                ? Collections.emptyList() : fixture.types)
+                        .setDistanceMeters(fixture.distanceMeters)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    /** Returns whether the place is open now, or {@code null} if it has no hours. */
+    @Nullable
+    public Boolean isOpen(@NonNull String placeId) {
+        PlaceFixture fixture = places.get(placeId);
+        return fixture == null ? null : fixture.openNow;
+    }
+
+    @Nullable
+    PhotoFixture getPhoto(@NonNull String reference) {
+        return photos.get(reference);
+    }
+
+    private Place toPlace(PlaceFixture fixture, Collection<Field> fields) {
+        Place.Builder builder = Place.builder();
+        for (Field field : fields) {
+            switch (field) {
+                case ID:
+                    builder.setId(fixture.id);
+                    break;
+                case DISPLAY_NAME:
+                    builder.setDisplayName(fixture.displayName);
+                    break;
+                case FORMATTED_ADDRESS:
+                    builder.setFormattedAddress(fixture.formattedAddress);
+                    break;
+                case LOCATION:
+                    builder.setLocation(fixture.location == null
+                            ? null : new LatLng(fixture.location.lat, fixture.location.lng));
+                    break;
+                case RATING:
+                    builder.setRating(fixture.rating);
+                    break;
+                case USER_RATING_COUNT:
+                    builder.setUserRatingCount(fixture.userRatingCount);
+                    break;
+                case TYPES:
+                    builder.setPlaceTypes(fixture.types);
+                    break;
+                case WEBSITE_URI:
+                    builder.setWebsiteUri(
+                            fixture.websiteUri == null ? null : Uri.parse(fixture.websiteUri));
+                    break;
+                case INTERNATIONAL_PHONE_NUMBER:
+                    builder.setInternationalPhoneNumber(fixture.internationalPhoneNumber);
+                    break;
+                case BUSINESS_STATUS:
+                    builder.setBusinessStatus(fixture.businessStatus == null
+                            ? null : Place.BusinessStatus.valueOf(fixture.businessStatus));
+                    break;
+                case UTC_OFFSET:
+                    builder.setUtcOffsetMinutes(fixture.utcOffsetMinutes);
+                    break;
+                case PHOTO_METADATAS:
+                    builder.setPhotoMetadatas(toPhotoMetadatas(fixture.photos));
+                    break;
+                default:
+                    // Not in the fixtures, so left unset as if the place had no value.
+                    break;
+            }
+        }
+        return builder.build();
+    }
+
+    @Nullable
+    private List<PhotoMetadata> toPhotoMetadatas(@Nullable List<String> references) {
+        if (references == null) {
+            return null;
+        }
+        List<PhotoMetadata> metadatas = new ArrayList<>(references.size());
+        for (String reference : references) {
+            PhotoFixture photo = photos.get(reference);
+            if (photo != null) {
+                metadatas.add(PhotoMetadata.builder(reference)
+                        .setWidth(photo.width)
+                        .setHeight(photo.height)
+                        .setAttributions(photo.attributions)
+                        .build());
+            }
+        }
+        return metadatas;
+    }
+
+    private static boolean matches(String query, String text) {
+        String haystack = text.toLowerCase(Locale.ROOT);
+        for (String word : words(query)) {
+            if (!haystack.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesWordPrefixes(String query, String text) {
+        String[] textWords = words(text);
+        for (String word : words(query)) {
+            boolean found = false;
+            for (String textWord : textWords) {
+                if (textWord.startsWith(word)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] words(String text) {
+        String trimmed = text.toLowerCase(Locale.ROOT).replace(',', ' ').trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.fake;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.common.api.ApiException;
+import com.google.android.gms.common.api.CommonStatusCodes;
+import com.google.android.gms.tasks.Task;
+import com.google.android.libraries.places.api.model.Place.Field;
+import com.google.android.libraries.places.api.net.FetchPlaceRequest;
+import com.google.android.libraries.places.api.net.FetchPlaceResponse;
+import com.google.android.libraries.places.api.net.FindAutocompletePredictionsRequest;
+import com.google.android.libraries.places.api.net.PlacesStatusCodes;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local unit tests for {@link FakePlacesClient}.
+ *
+ * <p>Listeners are added with a direct executor: the default one posts to the main thread, which
+ * a JVM test does not have.
+ */
+public class FakePlacesClientTest {
+
+    private static final List<Field> FIELDS = Collections.singletonList(Field.DISPLAY_NAME);
+
+    private FakePlacesClient client;
+
+    @After
+    public void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void fetchPlace_answersFromFixturesAfterTheScriptedLatency() throws Exception {
+        client = newClient(new FakePlacesClient.Config().setLatencyMillis(50).setJitterMillis(0));
+        String placeId = client.getFixtures().getPlaceIds().get(0);
+
+        long start = System.nanoTime();
+        Task<FetchPlaceResponse> task =
+                await(client.fetchPlace(FetchPlaceRequest.newInstance(placeId, FIELDS)));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(task.isSuccessful());
+        assertEquals("Pearl Street Mall", task.getResult().getPlace().getDisplayName());
+        assertTrue("completed after " + elapsedMillis + " ms", elapsedMillis >= 50);
+    }
+
+    @Test
+    public void fetchPlace_unknownId_failsWithNotFound() throws Exception {
+        client = newClient(new FakePlacesClient.Config().setLatencyMillis(0).setJitterMillis(0));
+
+        Task<FetchPlaceResponse> task =
+                await(client.fetchPlace(FetchPlaceRequest.newInstance("not-a-fixture", FIELDS)));
+
+        assertFalse(task.isSuccessful());
+        assertEquals(PlacesStatusCodes.NOT_FOUND,
+                ((ApiException) task.getException()).getStatusCode());
+    }
+
+    @Test
+    public void failureRate_failsThatShareOfCalls() throws Exception {
+        client = newClient(new FakePlacesClient.Config().setLatencyMillis(0).setJitterMillis(0)
+                .setFailureRate(0.25).setFailureStatusCode(CommonStatusCodes.TIMEOUT));
+        int calls = 400;
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(calls);
+
+        for (int i = 0; i < calls; i++) {
+            client.findAutocompletePredictions(
+                            FindAutocompletePredictionsRequest.newInstance("pearl"))
+                    .addOnCompleteListener(Runnable::run, task -> {
+                        if (!task.isSuccessful()) {
+                            assertEquals(CommonStatusCodes.TIMEOUT,
+                                    ((ApiException) task.getException()).getStatusCode());
+                            failures.incrementAndGet();
+                        }
+                        done.countDown();
+                    });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0.25, (double) failures.get() / calls, 0.07);
+    }
+
+    private static FakePlacesClient newClient(FakePlacesClient.Config config) throws IOException {
+        return new FakePlacesClient(PlaceFixturesTest.readBundledFixtures(), config);
+    }
+
+    private static <R> Task<R> await(Task<R> task) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        task.addOnCompleteListener(Runnable::run, completed -> done.countDown());
+        assertTrue("task did not complete", done.await(10, TimeUnit.SECONDS));
+        return task;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.placesdemo.fake;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.libraries.places.api.model.AutocompletePrediction;
+import com.google.android.libraries.places.api.model.PhotoMetadata;
+import com.google.android.libraries.places.api.model.Place;
+import com.google.android.libraries.places.api.model.Place.Field;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** Local unit tests for {@link PlaceFixtures} and the bundled fixture files. */
+public class PlaceFixturesTest {
+
+    private PlaceFixtures fixtures;
+
+    /** Reads the fixtures from the module's assets, the working directory of Gradle unit tests. */
+    static PlaceFixtures readBundledFixtures() throws IOException {
+        File directory = new File("src/main/assets/" + PlaceFixtures.ASSET_DIRECTORY);
+        try (Reader places = open(new File(directory, "places.json"));
+             Reader predictions = open(new File(directory, "predictions.json"));
+             Reader photos = open(new File(directory, "photos.json"))) {
+            return PlaceFixtures.read(places, predictions, photos);
+        }
+    }
+
+    private static Reader open(File file) throws IOException {
+        return new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        fixtures = readBundledFixtures();
+    }
+
+    @Test
+    public void bundledFixtures_coverEveryPlaceIdWithPredictionsAndPhotos() {
+        List<String> placeIds = fixtures.getPlaceIds();
+        assertEquals(20, placeIds.size());
+
+        for (String placeId : placeIds) {
+            Place place = fixtures.getPlace(placeId,
+                    Arrays.asList(Field.ID, Field.DISPLAY_NAME, Field.PHOTO_METADATAS));
+            assertEquals(placeId, place.getId());
+            assertNotNull(place.getDisplayName());
+            // Every photo a place refers to is in photos.json.
+            assertFalse(placeId, place.getPhotoMetadatas().isEmpty());
+            for (PhotoMetadata photo : place.getPhotoMetadatas()) {
+                assertNotNull(fixtures.getPhoto(photo.getPhotoReference()));
+            }
+            assertFalse(placeId, fixtures.findPredictions(place.getDisplayName(), 20).isEmpty());
+        }
+    }
+
+    @Test
+    public void getPlace_setsOnlyRequestedFields() {
+        String placeId = fixtures.getPlaceIds().get(0);
+
+        Place place = fixtures.getPlace(placeId, Collections.singletonList(Field.DISPLAY_NAME));
+
+        assertNotNull(place.getDisplayName());
+        assertNull(place.getId());
+        assertNull(place.getFormattedAddress());
+        assertNull(place.getLocation());
+        assertNull(fixtures.getPlace("not-a-fixture", Collections.singletonList(Field.ID)));
+    }
+
+    @Test
+    public void findPredictions_matchesWordPrefixes() {
+        List<AutocompletePrediction> predictions = fixtures.findPredictions("pearl st", 5);
+
+        assertFalse(predictions.isEmpty());
+        assertTrue(predictions.size() <= 5);
+        for (AutocompletePrediction prediction : predictions) {
+            assertTrue(prediction.getFullText(null).toString().contains("Pearl St"));
+        }
+        assertTrue(fixtures.findPredictions("earl", 5).isEmpty());
+        assertEquals(2, fixtures.findPredictions("", 2).size());
+    }
+
+    @Test
+    public void searchPlaces_matchesNameAndAddress() {
+        List<Place> places = fixtures.searchPlaces("boulder coffee",
+                Collections.singletonList(Field.DISPLAY_NAME));
+
+        assertEquals(1, places.size());
+        assertTrue(places.get(0).getDisplayName().contains("Coffee"));
+    }
+}
@@ -42,7 +42,11 @@ rootProject.name = "Android Places Demos"
 include(":PlaceDetailsCompose")
 include(":PlaceDetailsUIKit")
 include(":PlacesUIKit3D")
+include(":benchmark")
+include(":debouncer")
 include(":demo-java")
 include(":demo-kotlin")
 include(":kotlin-demos")
+include(":macrobenchmark")
+include(":places-fixtures")
 include(":snippets")